@@ -0,0 +1,97 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.SlasSistemaDeLiquidacionDeAportesApplication;
+
+/**
+ * Prueba de carga HTTP de {@code POST /api/slas/cotizacion} con hilos de plataforma y
+ * con hilos virtuales ({@code spring.threads.virtual.enabled}).
+ * <p>
+ * Cada combinación levanta la aplicación en un puerto libre y la somete a
+ * {@link #CONCURRENCIA} clientes simultáneos, más que los 200 hilos por defecto de
+ * Tomcat, de modo que el pool de plataforma se satura y encola. El modo
+ * {@code thrpt} mide solicitudes por segundo y el modo {@code sample} la
+ * distribución de latencia (p50, p99, p99.9).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(CargaHttpBenchmark.CONCURRENCIA)
+public class CargaHttpBenchmark {
+
+    /** Número de clientes concurrentes. */
+    static final int CONCURRENCIA = 256;
+
+    private static final String CUERPO = """
+            {"ingresosMensual": 8000000, "aporteARL": true, "nivelRiesgo": "NIVEL_III",
+             "aportaCCF": true, "porcentajeCCF": 2.0}
+            """;
+
+    @Param({ "false", "true" })
+    public boolean hilosVirtuales;
+
+    private ConfigurableApplicationContext contexto;
+    private HttpClient cliente;
+    private HttpRequest solicitud;
+
+    @Setup
+    public void iniciar() {
+        contexto = new SpringApplication(SlasSistemaDeLiquidacionDeAportesApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + hilosVirtuales,
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN");
+        String puerto = contexto.getEnvironment().getProperty("local.server.port");
+
+        cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        solicitud = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/api/slas/cotizacion"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CUERPO))
+                .build();
+    }
+
+    @TearDown
+    public void detener() {
+        cliente.close();
+        contexto.close();
+    }
+
+    @Benchmark
+    public int cotizacion() throws IOException, InterruptedException {
+        HttpResponse<byte[]> respuesta = cliente.send(solicitud, HttpResponse.BodyHandlers.ofByteArray());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException("Respuesta inesperada: " + respuesta.statusCode());
+        }
+        return respuesta.body().length;
+    }
+}
@@ -0,0 +1,76 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+
+/**
+ * Compara la selección del rango FSP con {@link AportesFondoSolidarioPensionesFSP#ObtenerRango(double)}
+ * (división por SMMLV y cadena de comparaciones) contra {@link TablaFsp}.
+ * <p>
+ * El parámetro {@code tramo} fija el rango de los IBC de entrada: con la cadena de
+ * comparaciones el costo crece con el ingreso, con la tabla debe ser constante.
+ * {@code MIXTO} reparte los IBC entre todos los rangos.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TablaFspBenchmark {
+
+    private static final int TAMANO = 1024;
+    private static final double SMMLV = ConstantesSeguridadSocial.SMMLV;
+
+    @Param({ "BAJO", "MEDIO", "ALTO", "MIXTO" })
+    public String tramo;
+
+    private TablaFsp tabla;
+    private double[] ibcs;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        tabla = new TablaFsp(SMMLV);
+        ibcs = new double[TAMANO];
+        SplittableRandom aleatorio = new SplittableRandom(5);
+        for (int i = 0; i < TAMANO; i++) {
+            double smmlvs = switch (tramo) {
+                case "BAJO" -> aleatorio.nextDouble(1, 4);
+                case "MEDIO" -> aleatorio.nextDouble(16, 17);
+                case "ALTO" -> aleatorio.nextDouble(20, 25);
+                default -> aleatorio.nextDouble(1, 25);
+            };
+            ibcs[i] = Math.round(smmlvs * SMMLV);
+        }
+    }
+
+    private int siguiente() {
+        return indice = (indice + 1) & (TAMANO - 1);
+    }
+
+    @Benchmark
+    public double obtenerRango() {
+        return AportesFondoSolidarioPensionesFSP.ObtenerRango(ibcs[siguiente()] / SMMLV).getPorcentaje();
+    }
+
+    @Benchmark
+    public double tablaFsp() {
+        return tabla.porcentaje(ibcs[siguiente()]);
+    }
+}
@@ -0,0 +1,94 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.DatosBenchmark;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.MetricasLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.RegistroParametros;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.SlasServiceImpl;
+
+/**
+ * Benchmarks de (de)serialización Jackson de los DTO de la API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacionBenchmark {
+
+    private static final int TAMANO = 256;
+
+    private ObjectReader lectorSolicitud;
+    private ObjectReader lectorRespuesta;
+    private ObjectWriter escritor;
+    private LiquidacionResponse[] respuestas;
+    private LiquidacionRequest[] solicitudes;
+    private byte[][] solicitudesJson;
+    private byte[][] respuestasJson;
+    private int indice;
+
+    @Setup
+    public void preparar() throws JsonProcessingException {
+        ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+        lectorSolicitud = mapper.readerFor(LiquidacionRequest.class);
+        lectorRespuesta = mapper.readerFor(LiquidacionResponse.class);
+        escritor = mapper.writer();
+
+        SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), List.of());
+        solicitudes = DatosBenchmark.solicitudesMixtas(TAMANO, 7L);
+        respuestas = new LiquidacionResponse[TAMANO];
+        solicitudesJson = new byte[TAMANO][];
+        respuestasJson = new byte[TAMANO][];
+        for (int i = 0; i < TAMANO; i++) {
+            respuestas[i] = service.calculoSlas(solicitudes[i]);
+            solicitudesJson[i] = escritor.writeValueAsBytes(solicitudes[i]);
+            respuestasJson[i] = escritor.writeValueAsBytes(respuestas[i]);
+        }
+    }
+
+    private int siguiente() {
+        return indice = (indice + 1) % TAMANO;
+    }
+
+    @Benchmark
+    public LiquidacionRequest leerSolicitud() throws Exception {
+        return lectorSolicitud.readValue(solicitudesJson[siguiente()]);
+    }
+
+    @Benchmark
+    public byte[] escribirSolicitud() throws Exception {
+        return escritor.writeValueAsBytes(solicitudes[siguiente()]);
+    }
+
+    @Benchmark
+    public LiquidacionResponse leerRespuesta() throws Exception {
+        return lectorRespuesta.readValue(respuestasJson[siguiente()]);
+    }
+
+    @Benchmark
+    public byte[] escribirRespuesta() throws Exception {
+        return escritor.writeValueAsBytes(respuestas[siguiente()]);
+    }
+}
@@ -0,0 +1,79 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Mide el costo de registrar una liquidación en los acumulados del mes, con 1 y con
+ * 8 hilos escribiendo a la vez sobre los mismos contadores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcumuladoMensualBenchmark {
+
+    private static final int SOLICITUDES = 4_096;
+
+    private LiquidacionRequest[] solicitudes;
+    private LiquidacionResponse[] liquidaciones;
+    private ParametrosAnuales anuales;
+    private AcumuladoMensualServiceImpl acumulado;
+
+    /** Posición de cada hilo en el arreglo de solicitudes. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int siguiente;
+    }
+
+    @Setup
+    public void preparar() {
+        RegistroParametros registro = RegistroParametros.predeterminado();
+        SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+        anuales = registro.buscar(null);
+        solicitudes = DatosBenchmark.solicitudesMixtas(SOLICITUDES, 42);
+        liquidaciones = new LiquidacionResponse[SOLICITUDES];
+        for (int i = 0; i < SOLICITUDES; i++) {
+            liquidaciones[i] = slas.calculoSlas(solicitudes[i]);
+        }
+        acumulado = new AcumuladoMensualServiceImpl(Clock.system(ZoneId.of("America/Bogota")));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void registrar1(Cursor cursor) {
+        registrar(cursor);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void registrar8(Cursor cursor) {
+        registrar(cursor);
+    }
+
+    private void registrar(Cursor cursor) {
+        int i = cursor.siguiente;
+        cursor.siguiente = (i + 1) & (SOLICITUDES - 1);
+        acumulado.liquidada(solicitudes[i], anuales, liquidaciones[i]);
+    }
+}
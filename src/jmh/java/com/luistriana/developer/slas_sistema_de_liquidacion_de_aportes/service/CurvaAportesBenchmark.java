@@ -0,0 +1,83 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CurvaAportesResponse;
+
+/**
+ * Mide una curva de 1.000 ingresos (18.000 puntos con las combinaciones de ARL y CCF).
+ * <p>
+ * {@code columnas} calcula la curva sobre arreglos primitivos, {@code json} la sirve
+ * ya serializada desde la caché y {@code barridoCalculoSlas} reproduce el barrido
+ * anterior de una llamada a {@code calculoSlas} por punto como referencia.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurvaAportesBenchmark {
+
+    private static final long DESDE = 500_000;
+    private static final long HASTA = 50_450_000;
+    private static final long PASO = 50_000;
+    private static final int PUNTOS = 1_000;
+    private static final YearMonth PERIODO = YearMonth.of(2026, 1);
+    private static final Double[] PORCENTAJES_CCF = { null, 0.6, 2.0 };
+
+    private ParametrosAnuales anuales;
+    private CurvaAportesServiceImpl curvas;
+    private SlasServiceImpl slas;
+
+    @Setup
+    public void preparar() {
+        RegistroParametros registro = RegistroParametros.predeterminado();
+        anuales = registro.buscar(PERIODO);
+        curvas = new CurvaAportesServiceImpl(registro, new ObjectMapper(), MetricasLiquidacion.sinRegistro(), 64L << 20);
+        slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+    }
+
+    @Benchmark
+    public CurvaAportesResponse columnas() {
+        return CurvaAportesServiceImpl.calcular(DESDE, PASO, PUNTOS, anuales);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return curvas.curvaJson(DESDE, HASTA, PASO, PERIODO);
+    }
+
+    @Benchmark
+    public void barridoCalculoSlas(Blackhole bh) {
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        for (int nivel = -1; nivel < niveles.length; nivel++) {
+            RiesgoLaboralARL riesgo = nivel < 0 ? null : niveles[nivel];
+            for (Double porcentaje : PORCENTAJES_CCF) {
+                for (int i = 0; i < PUNTOS; i++) {
+                    bh.consume(slas.calculoSlas(new LiquidacionRequest((double) (DESDE + i * PASO), riesgo != null,
+                            porcentaje != null, riesgo, porcentaje, PERIODO)));
+                }
+            }
+        }
+    }
+}
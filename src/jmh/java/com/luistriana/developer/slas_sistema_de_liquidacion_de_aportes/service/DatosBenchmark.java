@@ -0,0 +1,52 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.SplittableRandom;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+/**
+ * Generador de datos deterministas para los benchmarks.
+ * <p>
+ * Las solicitudes cubren todos los rangos de IBC relevantes (piso de 1 SMMLV,
+ * cada rango del FSP y el tope de 25 SMMLV), todos los niveles de
+ * {@link RiesgoLaboralARL} y las dos tarifas de CCF.
+ * </p>
+ */
+public final class DatosBenchmark {
+
+    /** Límites (en SMMLV de IBC) de los tramos que se muestrean de forma uniforme. */
+    private static final double[] TRAMOS_IBC_SMMLV = { 0.5, 1, 4, 16, 17, 18, 19, 20, 25, 40 };
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Genera solicitudes repartidas de forma uniforme entre los tramos de IBC.
+     *
+     * @param cantidad número de solicitudes
+     * @param semilla  semilla del generador pseudoaleatorio
+     * @return arreglo de solicitudes válidas
+     */
+    public static LiquidacionRequest[] solicitudesMixtas(int cantidad, long semilla) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        LiquidacionRequest[] solicitudes = new LiquidacionRequest[cantidad];
+
+        for (int i = 0; i < cantidad; i++) {
+            int tramo = i % (TRAMOS_IBC_SMMLV.length - 1);
+            double ibcSmmlv = aleatorio.nextDouble(TRAMOS_IBC_SMMLV[tramo], TRAMOS_IBC_SMMLV[tramo + 1]);
+            double ingreso = Math.round(ibcSmmlv * ConstantesSeguridadSocial.SMMLV / ConstantesSeguridadSocial.IBC);
+
+            // el nivel "6" representa a quien no aporta a ARL
+            int nivel = i % (niveles.length + 1);
+            boolean aportaArl = nivel < niveles.length;
+            int ccf = i % 3;
+            solicitudes[i] = new LiquidacionRequest(ingreso, aportaArl, ccf != 0,
+                    aportaArl ? niveles[nivel] : null,
+                    ccf == 0 ? null : ccf == 1 ? 0.6 : 2.0);
+        }
+        return solicitudes;
+    }
+}
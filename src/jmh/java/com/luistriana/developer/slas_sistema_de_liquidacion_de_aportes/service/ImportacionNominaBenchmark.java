@@ -0,0 +1,112 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Compara la importación mapeada de un archivo de nómina de {@code filas} líneas
+ * (CSV y ancho fijo) con el endpoint de flujo CSV, que lee línea a línea con
+ * {@code String.split}. Los MB/s salen de dividir el tamaño del archivo entre el
+ * tiempo medio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class ImportacionNominaBenchmark {
+
+    @Param({ "3000000" })
+    private int filas;
+
+    private Path directorio;
+    private Path csv;
+    private Path anchoFijo;
+    private ImportacionNominaServiceImpl importacion;
+    private LiquidacionStreamServiceImpl flujo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("nomina");
+        csv = directorio.resolve("nomina.csv");
+        anchoFijo = directorio.resolve("nomina.txt");
+
+        LiquidacionRequest[] solicitudes = DatosBenchmark.solicitudesMixtas(filas, 42);
+        try (BufferedWriter texto = Files.newBufferedWriter(csv, StandardCharsets.US_ASCII);
+                BufferedWriter fijo = Files.newBufferedWriter(anchoFijo, StandardCharsets.US_ASCII)) {
+            texto.write(LiquidacionStreamServiceImpl.ENCABEZADO_CSV_ENTRADA);
+            texto.write('\n');
+            for (LiquidacionRequest request : solicitudes) {
+                boolean arl = request.getAporteARL();
+                boolean ccf = request.getAportaCCF();
+                // sin notación científica, como la exporta una hoja de cálculo
+                texto.write(BigDecimal.valueOf(request.getIngresosMensual()).toPlainString() + ',' + arl + ',' + ccf + ','
+                        + (arl ? request.getNivelRiesgo().name() : "") + ','
+                        + (ccf ? request.getPorcentajeCCF().toString() : "") + '\n');
+                fijo.write(String.format("%15d%d%03d%n", Math.round(request.getIngresosMensual()),
+                        arl ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo()) : MotorCalculoExacto.SIN_ARL,
+                        ccf ? Math.round(request.getPorcentajeCCF() * 10) : 0));
+            }
+        }
+
+        SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), List.of());
+        importacion = new ImportacionNominaServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), 0, 8 << 20);
+        flujo = new LiquidacionStreamServiceImpl(slas, new ObjectMapper());
+        System.out.printf("%nCSV: %d MB, ancho fijo: %d MB%n", Files.size(csv) >> 20, Files.size(anchoFijo) >> 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() throws IOException {
+        importacion.cerrar();
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(anchoFijo);
+        Files.deleteIfExists(directorio);
+    }
+
+    @Benchmark
+    public TotalesLiquidacionResponse importarCsv() throws IOException {
+        return importacion.importar(csv, FormatoNomina.CSV, null).totales();
+    }
+
+    @Benchmark
+    public TotalesLiquidacionResponse importarAnchoFijo() throws IOException {
+        return importacion.importar(anchoFijo, FormatoNomina.ANCHO_FIJO, null).totales();
+    }
+
+    @Benchmark
+    public TotalesLiquidacionResponse flujoCsv() throws IOException {
+        try (InputStream entrada = Files.newInputStream(csv)) {
+            return flujo.procesarCsv(entrada, OutputStream.nullOutputStream());
+        }
+    }
+}
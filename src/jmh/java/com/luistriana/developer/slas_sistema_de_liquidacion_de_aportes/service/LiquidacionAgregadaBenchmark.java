@@ -0,0 +1,89 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Compara la liquidación agregada por trabajador con la liquidación por fila del
+ * flujo NDJSON sobre la misma entrada de {@code contratos} filas, con
+ * {@code contratosPorTrabajador} contratos intercalados por trabajador.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class LiquidacionAgregadaBenchmark {
+
+    @Param({ "200000" })
+    private int contratos;
+
+    @Param({ "4" })
+    private int contratosPorTrabajador;
+
+    private byte[] entrada;
+    private LiquidacionAgregadaServiceImpl agregada;
+    private LiquidacionStreamServiceImpl porFila;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        int trabajadores = contratos / contratosPorTrabajador;
+        LiquidacionRequest[] solicitudes = DatosBenchmark.solicitudesMixtas(contratos, 42);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (SequenceWriter escritor = mapper.writer().withRootValueSeparator("\n").writeValues(buffer)) {
+            for (int i = 0; i < contratos; i++) {
+                LiquidacionRequest request = solicitudes[i];
+                request.setPeriodo(YearMonth.of(2026, 1));
+                request.setUsuario(new Usuario(TipoDocumento.CC, Integer.toString(i % trabajadores)));
+                escritor.write(request);
+            }
+        }
+        entrada = buffer.toByteArray();
+
+        SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), List.of());
+        agregada = new LiquidacionAgregadaServiceImpl(slas, mapper, RelojConfig.relojPredeterminado());
+        porFila = new LiquidacionStreamServiceImpl(slas, mapper);
+    }
+
+    @Benchmark
+    public TotalesLiquidacionResponse agregadaPorTrabajador() throws IOException {
+        return agregada.procesarNdjson(new ByteArrayInputStream(entrada), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public TotalesLiquidacionResponse porFila() throws IOException {
+        return porFila.procesarNdjson(new ByteArrayInputStream(entrada), OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,118 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosFueraDelHeap;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+/**
+ * Compara un lote de {@code filas} solicitudes en JSON y en formato columnar
+ * binario, de bytes de entrada a bytes de salida.
+ * <p>
+ * {@code json} reproduce {@code /cotizacion/lote} en JSON: lectura con Jackson,
+ * liquidación fila por fila y escritura de la lista de resultados.
+ * {@code jsonLectura} mide solo la lectura con Jackson como referencia, y
+ * {@code columnar} liquida el mismo lote en {@link FormatoColumnar}.
+ * {@code columnarFueraDelHeap} hace lo que hace el endpoint: lee la solicitud de un
+ * flujo, la liquida en un {@link ResultadosFueraDelHeap} y la transfiere a un canal.
+ * Su {@code gc.alloc.rate.norm} no crece con {@code filas}. {@code vectorial} elige
+ * entre el núcleo vectorial y el ciclo escalar; el fork carga
+ * {@code jdk.incubator.vector} para que el núcleo esté disponible.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g", "--add-modules", "jdk.incubator.vector" })
+public class LoteColumnarBenchmark {
+
+    @Param({ "100000" })
+    private int filas;
+
+    /** Liquidación con {@link MotorCalculoVectorial} ({@code slas.vectorial.habilitado}). */
+    @Param({ "true", "false" })
+    private boolean vectorial;
+
+    private ObjectMapper mapper;
+    private ObjectReader lector;
+    private SlasServiceImpl slas;
+    private LoteColumnarServiceImpl columnar;
+    private byte[] cuerpoJson;
+    private byte[] cuerpoColumnar;
+    private WritableByteChannel descarte;
+
+    @Setup
+    public void preparar() throws IOException {
+        RegistroParametros registro = RegistroParametros.predeterminado();
+        slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+        columnar = new LoteColumnarServiceImpl(registro, MetricasLiquidacion.sinRegistro(), 1L << 28, 1L << 30, filas,
+                vectorial);
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        lector = mapper.readerFor(new TypeReference<List<LiquidacionRequest>>() { });
+
+        LiquidacionRequest[] solicitudes = DatosBenchmark.solicitudesMixtas(filas, 42);
+        cuerpoJson = mapper.writeValueAsBytes(solicitudes);
+
+        double[] ingresos = new double[filas];
+        byte[] niveles = new byte[filas];
+        byte[] ccf = new byte[filas];
+        for (int i = 0; i < filas; i++) {
+            LiquidacionRequest request = solicitudes[i];
+            ingresos[i] = request.getIngresosMensual();
+            niveles[i] = (byte) MotorCalculoExacto.codigoNivel(request.getNivelRiesgo());
+            ccf[i] = FormatoColumnar.codigoCcf(request.getPorcentajeCCF());
+        }
+        cuerpoColumnar = FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, null);
+        descarte = Channels.newChannel(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        List<LiquidacionRequest> lote = lector.readValue(cuerpoJson);
+        return mapper.writeValueAsBytes(slas.calculoSlasLote(lote));
+    }
+
+    @Benchmark
+    public List<LiquidacionRequest> jsonLectura() throws IOException {
+        return lector.readValue(cuerpoJson);
+    }
+
+    @Benchmark
+    public byte[] columnar() {
+        return columnar.liquidar(ByteBuffer.wrap(cuerpoColumnar));
+    }
+
+    @Benchmark
+    public long columnarFueraDelHeap() throws IOException {
+        try (ResultadosFueraDelHeap resultados = columnar.liquidar(new ByteArrayInputStream(cuerpoColumnar))) {
+            resultados.transferirA(descarte);
+            return resultados.concepto(resultados.filas() - 1, FormatoColumnar.COLUMNAS_RESULTADO - 1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Compara la liquidación individual directa con la liquidación en micro-lotes.
+ * <p>
+ * Cada método se mide con 1, 16 y 64 hilos cliente, en throughput y en latencia
+ * muestreada (percentiles). Con un solo cliente cada micro-lote tiene una sola
+ * solicitud y solo se paga el traspaso entre hilos; con 16 y 64 clientes se mide
+ * cuánto recupera el agrupamiento cuando el pool de lotes reparte cada micro-lote
+ * entre sus hilos.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MicroloteBenchmark {
+
+    private static final int SOLICITUDES = 4_096;
+
+    private LiquidacionRequest[] solicitudes;
+    private SlasServiceImpl slas;
+    private LoteParaleloExecutor ejecutor;
+    private CoalescedorLiquidaciones coalescedor;
+
+    /** Posición de cada hilo cliente en el arreglo de solicitudes. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int siguiente;
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        solicitudes = DatosBenchmark.solicitudesMixtas(SOLICITUDES, 42);
+        slas = new SlasServiceImpl(RegistroParametros.predeterminado(), MetricasLiquidacion.sinRegistro(), List.of());
+        ejecutor = new LoteParaleloExecutor(slas, 0, 2048);
+        coalescedor = new CoalescedorLiquidaciones(slas, ejecutor, 256, Duration.ofNanos(200_000), 65_536);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        coalescedor.close();
+        ejecutor.cerrar();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public LiquidacionResponse directo1(Cursor cursor) {
+        return slas.calculoSlas(siguiente(cursor));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public LiquidacionResponse microlote1(Cursor cursor) {
+        return coalescedor.liquidar(siguiente(cursor));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public LiquidacionResponse directo16(Cursor cursor) {
+        return slas.calculoSlas(siguiente(cursor));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public LiquidacionResponse microlote16(Cursor cursor) {
+        return coalescedor.liquidar(siguiente(cursor));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public LiquidacionResponse directo64(Cursor cursor) {
+        return slas.calculoSlas(siguiente(cursor));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public LiquidacionResponse microlote64(Cursor cursor) {
+        return coalescedor.liquidar(siguiente(cursor));
+    }
+
+    private LiquidacionRequest siguiente(Cursor cursor) {
+        LiquidacionRequest request = solicitudes[cursor.siguiente];
+        cursor.siguiente = (cursor.siguiente + 1) & (SOLICITUDES - 1);
+        return request;
+    }
+}
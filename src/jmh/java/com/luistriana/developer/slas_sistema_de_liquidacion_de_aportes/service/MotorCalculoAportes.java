@@ -0,0 +1,254 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TablaFsp;
+
+/**
+ * Motor de cálculo de aportes en {@code double}, conservado como referencia de
+ * rendimiento para los benchmarks.
+ * <p>
+ * Contiene las reglas de liquidación (IBC con piso y tope, salud, pensión, FSP,
+ * ARL y CCF) en {@code double} sin validar la entrada ni crear objetos: los
+ * resultados se escriben en un {@link ResultadosLiquidacion} suministrado por quien
+ * llama, que puede reutilizarse entre lotes.
+ * </p>
+ *
+ * <p>
+ * Las liquidaciones del servicio usan {@link MotorCalculoExacto}, que aplica las
+ * mismas reglas en aritmética entera y redondea también el FSP al peso; este motor
+ * deja el FSP con fracciones de peso y puede diferir en un peso cuando el producto
+ * exacto termina en ,5. No forma parte de la aplicación: solo lo usan los
+ * benchmarks para comparar el costo del cálculo en {@code double} con el exacto.
+ * </p>
+ *
+ * <p>
+ * Los valores que cambian cada año (SMMLV, límites del IBC, tarifas de salud y
+ * pensión, rangos del FSP) se reciben en un {@link ParametrosAnuales}.
+ * </p>
+ *
+ * <p>
+ * Usa la codificación primitiva de {@link MotorCalculoExacto}: el nivel ARL como
+ * {@link MotorCalculoExacto#codigoNivel(RiesgoLaboralARL)} y el porcentaje CCF como
+ * {@code 0}, {@code 0.6} o {@code 2.0}.
+ * </p>
+ *
+ * <p>
+ * Esta clase no está diseñada para ser instanciada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResultadosLiquidacion
+ */
+public final class MotorCalculoAportes {
+
+    /**
+     * Porcentaje de cotización ARL indexado por código de nivel.
+     * La posición {@link MotorCalculoExacto#SIN_ARL} vale cero para que el cálculo no necesite ramificarse.
+     */
+    private static final double[] PORCENTAJES_ARL = porcentajesArl();
+
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private MotorCalculoAportes() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    private static double[] porcentajesArl() {
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        double[] porcentajes = new double[niveles.length + 1];
+        for (RiesgoLaboralARL nivel : niveles) {
+            porcentajes[MotorCalculoExacto.codigoNivel(nivel)] = nivel.getPorcentaje();
+        }
+        return porcentajes;
+    }
+
+    /**
+     * Liquida una fila y escribe el resultado en el búfer indicado.
+     *
+     * @param ingreso       ingreso mensual bruto (mayor a cero)
+     * @param nivelArl      código de nivel ARL ({@link MotorCalculoExacto#SIN_ARL} si no aporta)
+     * @param porcentajeCcf porcentaje CCF (0 si no aporta)
+     * @param parametros    parámetros del año gravable
+     * @param destino       búfer de resultados
+     * @param posicion      posición del búfer donde se escribe el resultado
+     */
+    public static void calcular(double ingreso, int nivelArl, double porcentajeCcf, ParametrosAnuales parametros,
+            ResultadosLiquidacion destino, int posicion) {
+
+        double ibc = porcentajeIBC(ingreso, parametros);
+        double salud = porcentajeSalud(ibc, parametros);
+        double pension = porcentajePension(ibc, parametros);
+        double fsp = porcentajeFsp(ibc, parametros);
+        double arl = porcentajeARL(PORCENTAJES_ARL[nivelArl], ibc);
+        double ccf = porcentajeCcf(ibc, porcentajeCcf);
+
+        destino.getIbc()[posicion] = ibc;
+        destino.getSalud()[posicion] = salud;
+        destino.getPension()[posicion] = pension;
+        destino.getFsp()[posicion] = fsp;
+        destino.getArl()[posicion] = arl;
+        destino.getCcf()[posicion] = ccf;
+        destino.getTotal()[posicion] = total(salud, pension, fsp, arl, ccf);
+    }
+
+    /**
+     * Liquida las filas {@code [desde, hasta)} de un lote en columnas primitivas.
+     * El resultado de la fila {@code i} se escribe en la posición {@code i} del destino.
+     *
+     * @param ingresos       ingresos mensuales brutos
+     * @param nivelesArl     códigos de nivel ARL
+     * @param porcentajesCcf porcentajes CCF (0 si no aporta)
+     * @param desde          primera fila (inclusive)
+     * @param hasta          última fila (exclusive)
+     * @param parametros     parámetros del año gravable
+     * @param destino        búfer de resultados con capacidad de al menos {@code hasta}
+     */
+    public static void calcularLote(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf,
+            int desde, int hasta, ParametrosAnuales parametros, ResultadosLiquidacion destino) {
+        for (int i = desde; i < hasta; i++) {
+            calcular(ingresos[i], nivelesArl[i], porcentajesCcf[i], parametros, destino, i);
+        }
+    }
+
+    /**
+     * Calcula el Ingreso Base de Cotización (IBC) aplicando límites legales.
+     * <p>
+     * El IBC se calcula como el 40% del ingreso mensual del trabajador independiente,
+     * con las siguientes restricciones:
+     * </p>
+     * <ul>
+     *   <li>Mínimo: 1 SMMLV (Salario Mínimo Mensual Legal Vigente)</li>
+     *   <li>Máximo: 25 SMMLV</li>
+     * </ul>
+     *
+     * @param ingreso    ingreso mensual bruto del trabajador
+     * @param parametros parámetros del año gravable
+     * @return IBC calculado y redondeado, respetando límites mínimo y máximo
+     * @see ParametrosAnuales#getMinCalculoIbc()
+     * @see ParametrosAnuales#getMaxCalculoIbc()
+     */
+    public static double porcentajeIBC(double ingreso, ParametrosAnuales parametros) {
+
+        // calculo de ibc
+        double ibc = ingreso * parametros.getPorcentajeIbc();
+
+        if (ibc < parametros.getMinCalculoIbc())
+            return parametros.getSmmlv();
+
+        if (ibc > parametros.getMaxCalculoIbc())
+            return parametros.getMaxCalculoIbc();
+
+        return Math.round(ibc);
+    }
+
+    /**
+     * Calcula el aporte obligatorio a salud.
+     * <p>
+     * Aplica el porcentaje legal del 12.5% sobre el IBC.
+     * </p>
+     *
+     * @param ibc        Ingreso Base de Cotización previamente calculado
+     * @param parametros parámetros del año gravable
+     * @return monto del aporte a salud, redondeado
+     * @see ParametrosAnuales#getSalud()
+     */
+    public static double porcentajeSalud(double ibc, ParametrosAnuales parametros) {
+        return Math.round(ibc * parametros.getSalud());
+    }
+
+    /**
+     * Calcula el aporte obligatorio a pensión.
+     * <p>
+     * Aplica el porcentaje legal del 16% sobre el IBC.
+     * </p>
+     *
+     * @param ibc        Ingreso Base de Cotización previamente calculado
+     * @param parametros parámetros del año gravable
+     * @return monto del aporte a pensión, redondeado
+     * @see ParametrosAnuales#getPension()
+     */
+    public static double porcentajePension(double ibc, ParametrosAnuales parametros) {
+        return Math.round(ibc * parametros.getPension());
+    }
+
+    /**
+     * Calcula el aporte al Fondo de Solidaridad Pensional (FSP).
+     * <p>
+     * El FSP es un aporte obligatorio que varía según el IBC expresado en SMMLV:
+     * </p>
+     * <ul>
+     *   <li>0% para IBC menor a 4 SMMLV</li>
+     *   <li>1% para IBC entre 4 y 16 SMMLV</li>
+     *   <li>1.2% para IBC entre 16 y 17 SMMLV</li>
+     *   <li>1.4% para IBC entre 17 y 18 SMMLV</li>
+     *   <li>1.6% para IBC entre 18 y 19 SMMLV</li>
+     *   <li>1.8% para IBC entre 19 y 20 SMMLV</li>
+     *   <li>2% para IBC mayor o igual a 20 SMMLV</li>
+     * </ul>
+     *
+     * <p>
+     * El rango se obtiene de la {@link TablaFsp} precalculada para el SMMLV del año,
+     * sin dividir el IBC por el SMMLV.
+     * </p>
+     *
+     * @param ibc        Ingreso Base de Cotización previamente calculado
+     * @param parametros parámetros del año gravable
+     * @return monto del aporte al FSP
+     * @see TablaFsp#porcentaje(double)
+     */
+    public static double porcentajeFsp(double ibc, ParametrosAnuales parametros) {
+        return Math.round(ibc) * parametros.getTablaFsp().porcentaje(ibc);
+    }
+
+    /**
+     * Calcula el aporte voluntario a ARL (Administradora de Riesgos Laborales).
+     * <p>
+     * Con un porcentaje de cero (quien no aporta a ARL) el resultado es cero.
+     * </p>
+     *
+     * @param porcentaje porcentaje del nivel de riesgo (por ejemplo 0.522 para Nivel I)
+     * @param ibc        Ingreso Base de Cotización previamente calculado
+     * @return monto del aporte a ARL, redondeado
+     * @see RiesgoLaboralARL
+     */
+    public static double porcentajeARL(double porcentaje, double ibc) {
+        return Math.round(ibc * (porcentaje / 100));
+    }
+
+    /**
+     * Calcula el aporte voluntario a CCF (Caja de Compensación Familiar).
+     * <p>
+     * Con un porcentaje de cero (quien no aporta a CCF) el resultado es cero.
+     * </p>
+     *
+     * @param ibc        Ingreso Base de Cotización previamente calculado
+     * @param porcentaje porcentaje de cotización (0.6 o 2.0)
+     * @return monto del aporte a CCF, redondeado
+     */
+    public static double porcentajeCcf(double ibc, double porcentaje) {
+        return Math.round(ibc * (porcentaje / 100));
+    }
+
+    /**
+     * Suma los aportes de una liquidación en un orden fijo, de modo que todos los
+     * caminos de cálculo produzcan exactamente el mismo total.
+     *
+     * @param salud   aporte a salud
+     * @param pension aporte a pensión
+     * @param fsp     aporte al FSP
+     * @param arl     aporte a ARL
+     * @param ccf     aporte a CCF
+     * @return total de aportes
+     */
+    public static double total(double salud, double pension, double fsp, double arl, double ccf) {
+        return pension + salud + arl + fsp + ccf;
+    }
+}
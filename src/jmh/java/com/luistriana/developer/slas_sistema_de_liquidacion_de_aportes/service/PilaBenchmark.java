@@ -0,0 +1,83 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+/**
+ * Mide la exportación a un archivo PILA en disco de un periodo con {@code filas}
+ * liquidaciones registradas en el diario.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class PilaBenchmark {
+
+    private static final YearMonth PERIODO = YearMonth.of(2026, 3);
+
+    @Param({ "1000000" })
+    private int filas;
+
+    private Path directorio;
+    private DiarioLiquidaciones diario;
+    private PilaServiceImpl pila;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("pila");
+        String archivo = directorio.resolve("liquidaciones.diario").toString();
+
+        DiarioLiquidaciones escritura = new DiarioLiquidaciones(archivo, 65_536, 65_536);
+        SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), List.of(escritura));
+        LiquidacionRequest[] solicitudes = DatosBenchmark.solicitudesMixtas(filas, 42);
+        for (int i = 0; i < filas; i++) {
+            LiquidacionRequest request = solicitudes[i];
+            request.setPeriodo(PERIODO);
+            request.setUsuario(new Usuario(TipoDocumento.CC, Integer.toString(1_000_000_000 + i)));
+            slas.calculoSlas(request);
+        }
+        escritura.cerrar();
+
+        diario = new DiarioLiquidaciones(archivo, 1024, 1024);
+        pila = new PilaServiceImpl(diario, 1 << 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() throws IOException {
+        diario.cerrar();
+        Files.deleteIfExists(directorio.resolve("liquidaciones.diario"));
+        Files.deleteIfExists(directorio.resolve("pila.txt"));
+        Files.deleteIfExists(directorio);
+    }
+
+    @Benchmark
+    public long exportarArchivo() throws IOException {
+        return pila.exportar(PERIODO, directorio.resolve("pila.txt"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.ReliquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResumenReliquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+/**
+ * Mide la reliquidación completa de un diario con {@code filas} registros.
+ * <p>
+ * {@code sinCambios} recorre y recalcula todo el diario sin emitir filas;
+ * {@code smmlvCorregido} aplica un SMMLV 2026 mayor, de modo que cambian las filas
+ * cuyo IBC queda bajo el nuevo piso y se serializan a NDJSON.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx2g", "--add-modules", "jdk.incubator.vector" })
+public class ReliquidacionBenchmark {
+
+    private static final ParametrosAnuales CORREGIDO_2026 = new ParametrosAnuales(2026, 1_800_000, 1_800_000,
+            45_000_000, 0.40, 0.125, 0.16);
+
+    @Param({ "1000000" })
+    private int filas;
+
+    /** Liquidación con {@link MotorCalculoVectorial} ({@code slas.vectorial.habilitado}). */
+    @Param({ "true", "false" })
+    private boolean vectorial;
+
+    private Path directorio;
+    private DiarioLiquidaciones diario;
+    private ReliquidacionServiceImpl reliquidacion;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("reliquidacion");
+        String archivo = directorio.resolve("liquidaciones.diario").toString();
+        RegistroParametros registro = RegistroParametros.predeterminado();
+
+        DiarioLiquidaciones escritura = new DiarioLiquidaciones(archivo, 65_536, 65_536);
+        SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of(escritura));
+        LiquidacionRequest[] solicitudes = DatosBenchmark.solicitudesMixtas(filas, 42);
+        for (int i = 0; i < filas; i++) {
+            LiquidacionRequest request = solicitudes[i];
+            request.setPeriodo(YearMonth.of(2026, 1 + i % 12));
+            request.setUsuario(new Usuario(TipoDocumento.CC, Integer.toString(i % 100_000)));
+            slas.calculoSlas(request);
+        }
+        escritura.cerrar();
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        diario = new DiarioLiquidaciones(archivo, 1024, 1024);
+        reliquidacion = new ReliquidacionServiceImpl(diario, registro, mapper, 0, 65_536, vectorial);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() throws IOException {
+        reliquidacion.cerrar();
+        diario.cerrar();
+        Files.deleteIfExists(directorio.resolve("liquidaciones.diario"));
+        Files.deleteIfExists(directorio);
+    }
+
+    @Benchmark
+    public ResumenReliquidacionResponse sinCambios() throws IOException {
+        return reliquidacion.reliquidar(new ReliquidacionRequest(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public ResumenReliquidacionResponse smmlvCorregido() throws IOException {
+        return reliquidacion.reliquidar(new ReliquidacionRequest(null, null, List.of(CORREGIDO_2026)),
+                OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,167 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Benchmarks de la ruta de cálculo de {@link SlasServiceImpl}, de
+ * {@link MotorCalculoAportes} (double) y de {@link MotorCalculoExacto} (long).
+ * <p>
+ * Los métodos individuales recorren un arreglo de solicitudes mixtas para que el
+ * predictor de saltos no se adapte a un único rango de ingreso. Los benchmarks
+ * {@code motor*} escriben en un búfer reutilizable y no deben asignar memoria;
+ * {@code motorExacto*} miden las mismas filas con aritmética entera y
+ * {@code motorVectorialCalcularLote}, con el núcleo SIMD de {@link MotorCalculoVectorial}
+ * (la JVM del benchmark se lanza con {@code --add-modules jdk.incubator.vector}).
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlasServiceBenchmark {
+
+    /** Tamaño del lote; potencia de dos para recorrer el arreglo con una máscara. */
+    static final int TAMANO_LOTE = 1024;
+
+    private SlasServiceImpl service;
+    private SlasServiceConCache serviceConCache;
+    private SlasServiceImpl serviceConMetricas;
+    private ParametrosAnuales parametros;
+    private LiquidacionRequest[] solicitudes;
+    private List<LiquidacionRequest> lote;
+    private double[] ingresos;
+    private double[] ibcs;
+    private byte[] nivelesArl;
+    private double[] porcentajesCcf;
+    private ResultadosLiquidacion resultados;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        RegistroParametros registro = RegistroParametros.predeterminado();
+        service = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+        serviceConMetricas = new SlasServiceImpl(registro,
+                new MetricasLiquidacion(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)), List.of());
+        serviceConCache = new SlasServiceConCache(service, registro, 100_000, Duration.ofMinutes(10),
+                new CompositeMeterRegistry());
+        parametros = ParametrosAnuales.desdeConstantes();
+        solicitudes = DatosBenchmark.solicitudesMixtas(TAMANO_LOTE, 42L);
+        lote = Arrays.asList(solicitudes);
+        ingresos = new double[TAMANO_LOTE];
+        ibcs = new double[TAMANO_LOTE];
+        nivelesArl = new byte[TAMANO_LOTE];
+        porcentajesCcf = new double[TAMANO_LOTE];
+        resultados = new ResultadosLiquidacion(TAMANO_LOTE);
+        for (int i = 0; i < TAMANO_LOTE; i++) {
+            ingresos[i] = solicitudes[i].getIngresosMensual();
+            ibcs[i] = MotorCalculoAportes.porcentajeIBC(ingresos[i], parametros);
+            nivelesArl[i] = (byte) MotorCalculoExacto.codigoNivel(solicitudes[i].getNivelRiesgo());
+            porcentajesCcf[i] = solicitudes[i].getAportaCCF() ? solicitudes[i].getPorcentajeCCF() : 0.0;
+        }
+    }
+
+    private int siguiente() {
+        return indice = (indice + 1) & (TAMANO_LOTE - 1);
+    }
+
+    @Benchmark
+    public LiquidacionResponse calculoSlas() {
+        return service.calculoSlas(solicitudes[siguiente()]);
+    }
+
+    @Benchmark
+    public LiquidacionResponse calculoSlasConMetricas() {
+        return serviceConMetricas.calculoSlas(solicitudes[siguiente()]);
+    }
+
+    @Benchmark
+    public LiquidacionResponse calculoSlasConCache() {
+        return serviceConCache.calculoSlas(solicitudes[siguiente()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANO_LOTE)
+    public List<ResultadoLoteResponse> calculoSlasLote() {
+        return service.calculoSlasLote(lote);
+    }
+
+    @Benchmark
+    public ResultadosLiquidacion motorCalcular() {
+        int i = siguiente();
+        MotorCalculoAportes.calcular(ingresos[i], nivelesArl[i], porcentajesCcf[i], parametros, resultados, i);
+        return resultados;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANO_LOTE)
+    public ResultadosLiquidacion motorCalcularLote() {
+        MotorCalculoAportes.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, TAMANO_LOTE, parametros, resultados);
+        return resultados;
+    }
+
+    @Benchmark
+    public ResultadosLiquidacion motorExactoCalcular() {
+        int i = siguiente();
+        MotorCalculoExacto.calcular(ingresos[i], nivelesArl[i], porcentajesCcf[i], parametros, resultados, i);
+        return resultados;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANO_LOTE)
+    public ResultadosLiquidacion motorExactoCalcularLote() {
+        MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, TAMANO_LOTE, parametros, resultados);
+        return resultados;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAMANO_LOTE)
+    public ResultadosLiquidacion motorVectorialCalcularLote() {
+        MotorCalculoVectorial.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, TAMANO_LOTE, parametros,
+                resultados);
+        return resultados;
+    }
+
+    @Benchmark
+    public double porcentajeIBC() {
+        return MotorCalculoAportes.porcentajeIBC(ingresos[siguiente()], parametros);
+    }
+
+    @Benchmark
+    public double porcentajeFsp() {
+        return MotorCalculoAportes.porcentajeFsp(ibcs[siguiente()], parametros);
+    }
+
+    @Benchmark
+    public AportesFondoSolidarioPensionesFSP obtenerRango() {
+        return AportesFondoSolidarioPensionesFSP.ObtenerRango(ibcs[siguiente()] / ConstantesSeguridadSocial.SMMLV);
+    }
+}
@@ -0,0 +1,77 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+/**
+ * Compara la ruta válida y la ruta de error de la liquidación.
+ * <p>
+ * {@code rechazoConTrazaDePila} reproduce el costo de la ruta de error anterior
+ * (excepción con traza de pila y mensaje concatenado) como referencia.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacionBenchmark {
+
+    private SlasServiceImpl service;
+    private LiquidacionRequest valida;
+    private LiquidacionRequest invalida;
+
+    @Setup
+    public void preparar() {
+        service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+                MetricasLiquidacion.sinRegistro(), List.of());
+        valida = new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0);
+        invalida = new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 1.5);
+    }
+
+    @Benchmark
+    public LiquidacionResponse valida() {
+        return service.calculoSlas(valida);
+    }
+
+    @Benchmark
+    public Object invalidaExcepcion() {
+        try {
+            return service.calculoSlas(invalida);
+        } catch (datosInvalidosException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ResultadoLoteResponse invalidaFila() {
+        return service.calculoSlasFila(0, invalida);
+    }
+
+    @Benchmark
+    public Object rechazoConTrazaDePila() {
+        try {
+            throw new IllegalArgumentException("Porcentaje CCF debe ser 0.6 o 2.0, recibido: " + invalida.getPorcentajeCCF());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
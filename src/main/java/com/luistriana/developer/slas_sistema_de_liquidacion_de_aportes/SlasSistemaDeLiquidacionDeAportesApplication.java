@@ -2,8 +2,10 @@ package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SlasSistemaDeLiquidacionDeAportesApplication {
 
 	public static void main(String[] args) {
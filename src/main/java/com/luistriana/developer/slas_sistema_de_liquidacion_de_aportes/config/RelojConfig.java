@@ -0,0 +1,50 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reloj compartido de la aplicación.
+ * <p>
+ * El mes en curso decide el periodo de una liquidación sin periodo, el año de los
+ * parámetros vigentes y el cambio de mes del acumulado. Todos lo toman de este
+ * {@link Clock}, en la zona {@code slas.zona}, para que no dependan de la zona
+ * horaria del servidor y no haya un par de horas, al cambiar de mes, en que no
+ * coinciden entre sí.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class RelojConfig {
+
+    /** Zona usada cuando no se configura {@code slas.zona}. */
+    public static final ZoneId ZONA_PREDETERMINADA = ZoneId.of("America/Bogota");
+
+    /**
+     * Reloj del sistema en la zona configurada.
+     *
+     * @param zona zona horaria que define el mes y el año en curso
+     * @return reloj compartido
+     */
+    @Bean
+    public Clock reloj(@Value("${slas.zona:America/Bogota}") ZoneId zona) {
+        return Clock.system(zona);
+    }
+
+    /**
+     * Reloj del sistema en la {@link #ZONA_PREDETERMINADA}, para las instancias que se
+     * crean fuera del contenedor.
+     *
+     * @return reloj en la zona predeterminada
+     */
+    public static Clock relojPredeterminado() {
+        return Clock.system(ZONA_PREDETERMINADA);
+    }
+}
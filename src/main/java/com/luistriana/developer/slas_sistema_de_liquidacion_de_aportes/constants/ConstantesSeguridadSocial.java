@@ -16,6 +16,14 @@ package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constant
  *   <li>Límites para el FSP</li>
  * </ul>
  *
+ * <p>
+ * Los cálculos toman estos valores del registro de parámetros por año
+ * ({@code parametros-seguridad-social.json} o el archivo configurado en
+ * {@code slas.parametros.archivo}); aquí se conservan como referencia de la
+ * normativa vigente. Los porcentajes de CCF son la excepción: no cambian por año
+ * y los cálculos los siguen tomando del código (ver {@code ParametrosAnuales}).
+ * </p>
+ *
  * @author Luis Miguel Triana Rueda
  * @version 1.1
  * @since 2026-01-01
@@ -0,0 +1,61 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.AcumuladoMensualResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.AcumuladoMensualService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para consultar los totales en vivo de las liquidaciones
+ * calculadas en el mes.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see AcumuladoMensualService
+ */
+@RestController
+@RequestMapping("/api/slas/acumulado")
+@Tag(name = "Acumulado mensual", description = "Totales por concepto de las liquidaciones calculadas en el mes")
+public class AcumuladoMensualController {
+
+    private final AcumuladoMensualService acumulado;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param acumulado servicio de acumulados en vivo
+     */
+    public AcumuladoMensualController(AcumuladoMensualService acumulado) {
+        this.acumulado = acumulado;
+    }
+
+    /**
+     * Endpoint para consultar los totales del mes en curso.
+     *
+     * @return totales y número de liquidaciones por concepto, nivel ARL y porcentaje CCF
+     */
+    @GetMapping
+    @Operation(summary = "Acumulado del mes en curso", description = "Retorna los totales por concepto de las liquidaciones calculadas en el mes en curso")
+    public AcumuladoMensualResponse mesEnCurso() {
+        return acumulado.mesEnCurso();
+    }
+
+    /**
+     * Endpoint para consultar los totales del mes cerrado más reciente.
+     *
+     * @return totales del mes anterior, o {@code 404} si el servicio no ha cambiado de mes
+     */
+    @GetMapping("/anterior")
+    @Operation(summary = "Acumulado del mes anterior", description = "Retorna los totales del mes cerrado más reciente")
+    public ResponseEntity<AcumuladoMensualResponse> mesAnterior() {
+        AcumuladoMensualResponse anterior = acumulado.mesAnterior();
+        return anterior == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(anterior);
+    }
+}
@@ -0,0 +1,66 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.EstadisticasCacheResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.SlasServiceConCache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para consultar y vaciar la caché de liquidaciones.
+ * <p>
+ * Solo se registra cuando la caché está habilitada ({@code slas.cache.habilitada}).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SlasServiceConCache
+ */
+@RestController
+@RequestMapping("/api/slas/cache")
+@ConditionalOnProperty(name = "slas.cache.habilitada", havingValue = "true")
+@Tag(name = "Caché de liquidaciones", description = "Estadísticas y mantenimiento de la caché de liquidaciones")
+public class CacheLiquidacionController {
+
+    private final SlasServiceConCache cache;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param cache servicio de liquidación con caché
+     */
+    public CacheLiquidacionController(SlasServiceConCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Endpoint para consultar las estadísticas de la caché.
+     *
+     * @return aciertos, fallos, tasa de aciertos, desalojos y tamaño
+     */
+    @GetMapping("/estadisticas")
+    @Operation(summary = "Estadísticas de la caché", description = "Retorna aciertos, fallos, desalojos y tamaño de la caché de liquidaciones")
+    public EstadisticasCacheResponse estadisticas() {
+        return cache.estadisticas();
+    }
+
+    /**
+     * Endpoint para descartar todas las entradas de la caché.
+     *
+     * @return respuesta sin contenido
+     */
+    @DeleteMapping
+    @Operation(summary = "Vaciar la caché", description = "Descarta todas las liquidaciones almacenadas")
+    public ResponseEntity<Void> limpiar() {
+        cache.limpiar();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.CalculoInversoRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CalculoInversoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.CalculoInversoService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para el cálculo inverso: el ingreso mensual que produce un neto
+ * o un total de aportes dado.
+ * <p>
+ * Reemplaza las búsquedas por ensayo y error contra {@code /api/slas/cotizacion}:
+ * el servidor resuelve el objetivo en una sola petición.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see CalculoInversoService
+ */
+@RestController
+@RequestMapping("/api/slas/cotizacion/inversa")
+@Tag(name = "Cálculo inverso", description = "Encuentra el ingreso mensual que produce un neto o un total de aportes")
+public class CalculoInversoController {
+
+    private final CalculoInversoService inverso;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param inverso servicio de cálculo inverso
+     */
+    public CalculoInversoController(CalculoInversoService inverso) {
+        this.inverso = inverso;
+    }
+
+    /**
+     * Endpoint para encontrar el menor ingreso mensual que alcanza un objetivo.
+     *
+     * <p><strong>Ejemplo de request:</strong></p>
+     * <pre>
+     * {
+     *   "objetivo": "NETO",
+     *   "valor": 6000000,
+     *   "aporteARL": true,
+     *   "nivelRiesgo": "NIVEL_I",
+     *   "aportaCCF": false
+     * }
+     * </pre>
+     *
+     * @param request objetivo y aportes voluntarios
+     * @return ingreso encontrado con su liquidación
+     */
+    @PostMapping
+    @Operation(
+        summary = "Calcular el ingreso para un neto o total de aportes",
+        description = "Resuelve en una sola llamada el menor ingreso mensual cuyo neto (ingreso menos aportes) o total de aportes alcanza el valor pedido"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ingreso encontrado"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos u objetivo inalcanzable")
+    })
+    public CalculoInversoResponse resolver(@RequestBody CalculoInversoRequest request) {
+        return inverso.resolver(request);
+    }
+}
@@ -0,0 +1,78 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CurvaAportesResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.CurvaAportesService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para las curvas de aportes: el total de aportes de una grilla de
+ * ingresos para todas las combinaciones de ARL y CCF en una sola respuesta.
+ * <p>
+ * Pensado para simuladores y gráficas que antes llamaban a
+ * {@code /api/slas/cotizacion} una vez por punto.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see CurvaAportesService
+ */
+@RestController
+@RequestMapping("/api/slas/curvas")
+@Tag(name = "Curvas de aportes", description = "Total de aportes sobre una grilla de ingresos")
+public class CurvaAportesController {
+
+    private final CurvaAportesService curvas;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param curvas servicio de curvas de aportes
+     */
+    public CurvaAportesController(CurvaAportesService curvas) {
+        this.curvas = curvas;
+    }
+
+    /**
+     * Endpoint para obtener la curva de aportes de una grilla de ingresos.
+     *
+     * <p><strong>Ejemplo:</strong> {@code GET /api/slas/curvas?desde=1000000&hasta=20000000&paso=50000}</p>
+     *
+     * @param desde   primer ingreso de la grilla, en pesos
+     * @param hasta   último ingreso posible de la grilla (inclusive), en pesos
+     * @param paso    distancia entre ingresos consecutivos, en pesos
+     * @param periodo periodo AAAA-MM cuyos parámetros se aplican (opcional)
+     * @return curva en columnas, serializada en JSON
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Obtener la curva de aportes de una grilla de ingresos",
+        description = "Devuelve en columnas el IBC, los aportes obligatorios y el total de aportes de cada ingreso para las 18 combinaciones de nivel ARL y porcentaje CCF"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Curva calculada",
+            content = @Content(schema = @Schema(implementation = CurvaAportesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Grilla inválida o periodo sin parámetros")
+    })
+    public ResponseEntity<byte[]> curva(@RequestParam long desde, @RequestParam long hasta, @RequestParam long paso,
+            @RequestParam(required = false) YearMonth periodo) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(curvas.curvaJson(desde, hasta, paso, periodo));
+    }
+}
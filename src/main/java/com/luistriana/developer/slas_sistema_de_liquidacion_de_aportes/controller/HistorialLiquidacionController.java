@@ -0,0 +1,73 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RegistroLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para consultar el historial de liquidaciones registradas.
+ * <p>
+ * Las consultas leen el diario en disco a través de su índice, sin recalcular.
+ * Solo se registra cuando el diario está habilitado ({@code slas.diario.habilitado}).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see DiarioLiquidaciones
+ */
+@RestController
+@RequestMapping("/api/slas/historial")
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+@Tag(name = "Historial de liquidaciones", description = "Consulta de liquidaciones registradas por periodo o por trabajador")
+public class HistorialLiquidacionController {
+
+    private final DiarioLiquidaciones diario;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param diario diario de liquidaciones
+     */
+    public HistorialLiquidacionController(DiarioLiquidaciones diario) {
+        this.diario = diario;
+    }
+
+    /**
+     * Endpoint para consultar las liquidaciones registradas de un periodo.
+     *
+     * @param periodo periodo liquidado en formato {@code AAAA-MM}
+     * @return liquidaciones en orden de registro
+     */
+    @GetMapping("/periodo/{periodo}")
+    @Operation(summary = "Historial por periodo", description = "Retorna las liquidaciones registradas para un periodo (AAAA-MM)")
+    public List<RegistroLiquidacion> porPeriodo(@PathVariable YearMonth periodo) {
+        return diario.porPeriodo(periodo);
+    }
+
+    /**
+     * Endpoint para consultar las liquidaciones registradas de un trabajador.
+     *
+     * @param tipoDocumento   tipo de documento del trabajador
+     * @param numeroDocumento número de documento del trabajador
+     * @return liquidaciones en orden de registro
+     */
+    @GetMapping("/trabajador/{tipoDocumento}/{numeroDocumento}")
+    @Operation(summary = "Historial por trabajador", description = "Retorna las liquidaciones registradas para un trabajador")
+    public List<RegistroLiquidacion> porTrabajador(@PathVariable TipoDocumento tipoDocumento,
+            @PathVariable String numeroDocumento) {
+        return diario.porTrabajador(tipoDocumento, numeroDocumento);
+    }
+}
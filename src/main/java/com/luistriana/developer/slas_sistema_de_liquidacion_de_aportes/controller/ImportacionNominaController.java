@@ -0,0 +1,129 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ImportacionNominaResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.ImportacionNominaService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para importar y liquidar archivos de nómina completos.
+ * <p>
+ * El cuerpo se guarda en un archivo temporal para poder mapearlo en memoria; el
+ * archivo se borra al terminar. Con {@code Accept: text/csv} la respuesta es el
+ * resultado de cada fila en CSV; si no, solo los totales en JSON.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ImportacionNominaService
+ */
+@RestController
+@RequestMapping("/api/slas/importaciones")
+@Tag(name = "Importación de nómina", description = "Liquidación masiva de archivos de nómina CSV o de ancho fijo")
+public class ImportacionNominaController {
+
+    /** Tipo de contenido CSV aceptado. */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ImportacionNominaService importacion;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param importacion servicio de importación de nómina
+     */
+    public ImportacionNominaController(ImportacionNominaService importacion) {
+        this.importacion = importacion;
+    }
+
+    /**
+     * Endpoint para importar un archivo de nómina.
+     *
+     * <p><strong>Ejemplo:</strong> {@code POST /api/slas/importaciones?formato=ANCHO_FIJO&periodo=2026-03}</p>
+     *
+     * @param entrada cuerpo de la petición con el archivo
+     * @param formato formato del archivo ({@code CSV} o {@code ANCHO_FIJO})
+     * @param periodo periodo AAAA-MM cuyos parámetros se aplican (opcional)
+     * @return totales por concepto, filas rechazadas y velocidad de lectura
+     * @throws IOException si el archivo no se puede guardar o leer
+     */
+    @PostMapping(consumes = { TEXT_CSV_VALUE, MediaType.TEXT_PLAIN_VALUE })
+    @Operation(summary = "Importar un archivo de nómina", description = "Liquida todas las filas de un archivo CSV o de ancho fijo y retorna los totales por concepto")
+    public ImportacionNominaResponse importar(InputStream entrada,
+            @RequestParam(defaultValue = "CSV") FormatoNomina formato,
+            @RequestParam(required = false) YearMonth periodo) throws IOException {
+        Path archivo = Files.createTempFile("slas-nomina", ".txt");
+        try {
+            Files.copy(entrada, archivo, StandardCopyOption.REPLACE_EXISTING);
+            return importacion.importar(archivo, formato, periodo);
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    /**
+     * Endpoint para importar un archivo de nómina con el resultado de cada fila.
+     * <p>
+     * Se elige con {@code Accept: text/csv}. La salida es el CSV de
+     * {@code /api/slas/cotizacion/stream}: una línea por fila del archivo, en el
+     * mismo orden, y una línea final {@code TOTAL}. Los resultados se escriben en un
+     * archivo temporal que se borra después de enviarlos.
+     * </p>
+     *
+     * <p><strong>Ejemplo:</strong> {@code POST /api/slas/importaciones?formato=CSV} con {@code Accept: text/csv}</p>
+     *
+     * @param entrada cuerpo de la petición con el archivo
+     * @param formato formato del archivo ({@code CSV} o {@code ANCHO_FIJO})
+     * @param periodo periodo AAAA-MM cuyos parámetros se aplican (opcional)
+     * @return CSV con un resultado por fila y los totales al final
+     * @throws IOException si el archivo no se puede guardar o leer
+     */
+    @PostMapping(consumes = { TEXT_CSV_VALUE, MediaType.TEXT_PLAIN_VALUE }, produces = TEXT_CSV_VALUE)
+    @Operation(summary = "Importar un archivo de nómina con resultados por fila", description = "Liquida todas las filas de un archivo CSV o de ancho fijo y retorna el resultado de cada fila en CSV, con los totales al final")
+    public ResponseEntity<StreamingResponseBody> importarConResultados(InputStream entrada,
+            @RequestParam(defaultValue = "CSV") FormatoNomina formato,
+            @RequestParam(required = false) YearMonth periodo) throws IOException {
+        Path archivo = Files.createTempFile("slas-nomina", ".txt");
+        Path resultados = null;
+        try {
+            Files.copy(entrada, archivo, StandardCopyOption.REPLACE_EXISTING);
+            resultados = Files.createTempFile("slas-nomina", ".csv");
+            importacion.importar(archivo, formato, periodo, resultados);
+            Path enviar = resultados;
+            resultados = null;
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                    .contentLength(Files.size(enviar))
+                    .body(salida -> {
+                        try {
+                            Files.copy(enviar, salida);
+                        } finally {
+                            Files.deleteIfExists(enviar);
+                        }
+                    });
+        } finally {
+            Files.deleteIfExists(archivo);
+            if (resultados != null) {
+                Files.deleteIfExists(resultados);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.nio.channels.Channels;
+import java.time.YearMonth;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.PilaService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para descargar la planilla PILA de un periodo.
+ * <p>
+ * Solo se registra cuando el diario está habilitado ({@code slas.diario.habilitado}).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see PilaService
+ */
+@RestController
+@RequestMapping("/api/slas/pila")
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+@Tag(name = "Planilla PILA", description = "Exportación de las liquidaciones registradas en archivo plano de ancho fijo")
+public class PilaController {
+
+    private final PilaService pila;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param pila servicio de exportación PILA
+     */
+    public PilaController(PilaService pila) {
+        this.pila = pila;
+    }
+
+    /**
+     * Endpoint para descargar la planilla de un periodo.
+     *
+     * @param periodo periodo liquidado en formato {@code AAAA-MM}
+     * @return archivo plano de ancho fijo con encabezado, detalles y totales
+     */
+    @GetMapping(value = "/{periodo}", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Planilla PILA por periodo", description = "Genera el archivo plano de ancho fijo con las liquidaciones registradas del periodo (AAAA-MM)")
+    public ResponseEntity<StreamingResponseBody> exportar(@PathVariable YearMonth periodo) {
+        String nombre = "pila-" + periodo.getYear() + String.format("%02d", periodo.getMonthValue()) + ".txt";
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nombre).build()
+                        .toString())
+                .body(salida -> pila.exportar(periodo, Channels.newChannel(salida)));
+    }
+}
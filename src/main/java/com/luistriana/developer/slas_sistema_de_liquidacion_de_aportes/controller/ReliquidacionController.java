@@ -0,0 +1,64 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.ReliquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.ReliquidacionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para reliquidar el historial de liquidaciones con parámetros nuevos.
+ * <p>
+ * Solo se registra cuando el diario está habilitado ({@code slas.diario.habilitado}).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ReliquidacionService
+ */
+@RestController
+@RequestMapping("/api/slas/reliquidacion")
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+@Tag(name = "Reliquidación", description = "Recalcula el historial de liquidaciones y reporta las diferencias")
+public class ReliquidacionController {
+
+    private final ReliquidacionService reliquidacion;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param reliquidacion servicio de reliquidación del historial
+     */
+    public ReliquidacionController(ReliquidacionService reliquidacion) {
+        this.reliquidacion = reliquidacion;
+    }
+
+    /**
+     * Endpoint para reliquidar el historial.
+     * <p>
+     * La salida es NDJSON: una línea por cada liquidación cuyo resultado cambió, en
+     * orden de registro, y una última línea {@code {"resumen":{...}}} con las
+     * diferencias por concepto.
+     * </p>
+     *
+     * @param solicitud rango de periodos y parámetros que reemplazan a los del registro
+     * @return flujo NDJSON con las filas cambiadas y el resumen
+     */
+    @PostMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Reliquidar el historial", description = "Recalcula las liquidaciones registradas y emite solo las que cambiaron, con las diferencias por concepto al final")
+    public ResponseEntity<StreamingResponseBody> reliquidar(@RequestBody ReliquidacionRequest solicitud) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(salida -> reliquidacion.reliquidar(solicitud, salida));
+    }
+}
@@ -1,20 +1,38 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoEjecucionLote;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosFueraDelHeap;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.CoalescedorLiquidaciones;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LiquidacionAgregadaService;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LiquidacionStreamService;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LoteColumnarService;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LoteParaleloExecutor;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.SlasService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controlador REST para la liquidación de aportes a seguridad social.
@@ -36,15 +54,41 @@ import org.springframework.web.bind.annotation.RequestBody;
 @Tag(name = "Liquidación de Aportes", description = "Endpoints para calcular aportes a seguridad social de trabajadores independientes")
 public class SlasLiquidacionController {
 
+    /** Tipo de contenido CSV aceptado y producido por el endpoint de flujo. */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private SlasService slas;
 
+    private LiquidacionStreamService stream;
+
+    private LoteParaleloExecutor lotes;
+
+    private LiquidacionAgregadaService agregada;
+
+    private LoteColumnarService columnar;
+
+    /** Coalescedor de micro-lotes, o {@code null} si está desactivado. */
+    private CoalescedorLiquidaciones microlotes;
+
     /**
      * Constructor con inyección de dependencias.
      *
-     * @param slas servicio de liquidación de aportes
+     * @param slas       servicio de liquidación de aportes
+     * @param stream     servicio de liquidación por flujo (NDJSON/CSV)
+     * @param lotes      ejecutor paralelo de lotes
+     * @param agregada   servicio de liquidación agregada por trabajador
+     * @param columnar   servicio de lotes en formato columnar binario
+     * @param microlotes coalescedor de micro-lotes ({@code slas.microlotes.habilitado})
      */
-    public SlasLiquidacionController(SlasService slas) {
+    public SlasLiquidacionController(SlasService slas, LiquidacionStreamService stream, LoteParaleloExecutor lotes,
+            LiquidacionAgregadaService agregada, LoteColumnarService columnar,
+            Optional<CoalescedorLiquidaciones> microlotes) {
         this.slas = slas;
+        this.stream = stream;
+        this.lotes = lotes;
+        this.agregada = agregada;
+        this.columnar = columnar;
+        this.microlotes = microlotes.orElse(null);
     }
 
     /**
@@ -54,6 +98,11 @@ public class SlasLiquidacionController {
      * calculados (IBC, salud, pensión, FSP, ARL y CCF).
      * </p>
      *
+     * <p>
+     * Con {@code slas.microlotes.habilitado=true} las solicitudes concurrentes se
+     * liquidan juntas en micro-lotes ({@link CoalescedorLiquidaciones}).
+     * </p>
+     *
      * <p><strong>Ejemplo de request:</strong></p>
      * <pre>
      * {
@@ -67,7 +116,8 @@ public class SlasLiquidacionController {
      *
      * @param liquidacion datos del trabajador (ingresos y aportes voluntarios)
      * @return detalle completo de la liquidación calculada
-     * @throws datosInvalidosException si los datos son inválidos o inconsistentes (retorna HTTP 400)
+     * @throws datosInvalidosException si los datos son inválidos o inconsistentes (retorna HTTP 400
+     *         con todas las violaciones, ver {@code ManejadorExcepciones})
      */
     @PostMapping("/cotizacion")
     @Operation(
@@ -78,8 +128,149 @@ public class SlasLiquidacionController {
         @ApiResponse(responseCode = "200", description = "Cálculo exitoso"),
         @ApiResponse(responseCode = "400", description = "Datos inválidos o inconsistentes")
     })
-    public LiquidacionResponse verAportes(@Valid @RequestBody LiquidacionRequest liquidacion) {
-        return slas.calculoSlas(liquidacion);
+    public LiquidacionResponse verAportes(@RequestBody LiquidacionRequest liquidacion) {
+        return microlotes != null ? microlotes.liquidar(liquidacion) : slas.calculoSlas(liquidacion);
+    }
+
+    /**
+     * Endpoint para liquidar un lote de trabajadores en una sola petición.
+     * <p>
+     * Recibe una lista de solicitudes con el mismo formato del endpoint
+     * {@code /cotizacion} y retorna un resultado por cada una, en el mismo orden.
+     * Las filas inválidas se reportan con su mensaje de error sin afectar al resto
+     * del lote.
+     * </p>
+     *
+     * <p>
+     * Los lotes grandes se liquidan en paralelo. El rendimiento del lote se reporta
+     * en las cabeceras {@code X-Slas-Filas-Por-Segundo} y {@code X-Slas-Duracion-Ms}.
+     * </p>
+     *
+     * @param lote lista de solicitudes de liquidación
+     * @return lista de resultados (liquidación o error) por cada solicitud
+     */
+    @PostMapping("/cotizacion/lote")
+    @Operation(
+        summary = "Calcular aportes de un lote de trabajadores",
+        description = "Liquida una lista de solicitudes en una sola petición; cada fila retorna su liquidación o su error de validación"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener filas con error)")
+    })
+    public ResponseEntity<List<ResultadoLoteResponse>> verAportesLote(@RequestBody List<LiquidacionRequest> lote) {
+        ResultadoEjecucionLote ejecucion = lotes.ejecutar(lote);
+        return ResponseEntity.ok()
+                .header("X-Slas-Filas-Por-Segundo", Long.toString(Math.round(ejecucion.filasPorSegundo())))
+                .header("X-Slas-Duracion-Ms", Long.toString(ejecucion.duracionNanos() / 1_000_000))
+                .body(ejecucion.resultados());
+    }
+
+    /**
+     * Endpoint para liquidar un lote en el formato binario en columnas.
+     * <p>
+     * Misma ruta que el lote JSON, seleccionada por {@code Content-Type}
+     * {@value FormatoColumnar#MEDIA_TYPE}: ingresos, niveles ARL y códigos CCF viajan
+     * como arreglos paralelos y el resultado vuelve como columnas de aportes en pesos
+     * con una máscara de motivos por fila (ver {@link FormatoColumnar}). La
+     * solicitud y el resultado se mantienen fuera del heap
+     * ({@link ResultadosFueraDelHeap}) y el resultado se transfiere directamente a
+     * la respuesta.
+     * </p>
+     *
+     * @param entrada cuerpo de la petición en formato columnar
+     * @return resultado en formato columnar
+     * @throws IOException si falla la lectura del cuerpo
+     */
+    @PostMapping(value = "/cotizacion/lote", consumes = FormatoColumnar.MEDIA_TYPE)
+    @Operation(
+        summary = "Calcular aportes de un lote en formato columnar binario",
+        description = "Liquida un lote codificado como columnas binarias (application/vnd.slas.columnas) sin pasar por JSON"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado (la columna de motivos marca las filas con error)"),
+        @ApiResponse(responseCode = "400", description = "Cuerpo fuera de formato o periodo sin parámetros")
+    })
+    public ResponseEntity<StreamingResponseBody> verAportesLoteColumnar(InputStream entrada) throws IOException {
+        ResultadosFueraDelHeap resultados = columnar.liquidar(entrada);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FormatoColumnar.MEDIA_TYPE))
+                .contentLength(resultados.tamanoColumnar())
+                .body(salida -> {
+                    try (resultados) {
+                        resultados.transferirA(Channels.newChannel(salida));
+                    }
+                });
+    }
+
+    /**
+     * Endpoint de liquidación por flujo en formato NDJSON.
+     * <p>
+     * Cada línea de la entrada es un {@link LiquidacionRequest}; cada línea de la
+     * salida es el resultado de la fila correspondiente, escrito tan pronto se
+     * calcula. La última línea contiene los totales por concepto. El consumo de
+     * memoria es constante sin importar el tamaño del flujo.
+     * </p>
+     *
+     * @param entrada cuerpo de la petición en formato NDJSON
+     * @return flujo NDJSON con un resultado por línea y los totales al final
+     */
+    @PostMapping(value = "/cotizacion/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Calcular aportes por flujo NDJSON",
+        description = "Liquida un flujo NDJSON fila por fila con memoria constante y emite los totales al final"
+    )
+    public ResponseEntity<StreamingResponseBody> verAportesStreamNdjson(InputStream entrada) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(salida -> stream.procesarNdjson(entrada, salida));
+    }
+
+    /**
+     * Endpoint de liquidación por flujo en formato CSV.
+     * <p>
+     * Columnas de entrada: {@code ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF}
+     * (encabezado opcional). La salida es CSV con una fila por solicitud y una fila
+     * final {@code TOTAL} con las sumas por concepto.
+     * </p>
+     *
+     * @param entrada cuerpo de la petición en formato CSV
+     * @return flujo CSV con un resultado por fila y los totales al final
+     */
+    @PostMapping(value = "/cotizacion/stream", consumes = TEXT_CSV_VALUE, produces = TEXT_CSV_VALUE)
+    @Operation(
+        summary = "Calcular aportes por flujo CSV",
+        description = "Liquida un flujo CSV fila por fila con memoria constante y emite los totales al final"
+    )
+    public ResponseEntity<StreamingResponseBody> verAportesStreamCsv(InputStream entrada) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                .body(salida -> stream.procesarCsv(entrada, salida));
+    }
+
+    /**
+     * Endpoint de liquidación agregada por trabajador en formato NDJSON.
+     * <p>
+     * Cada línea de la entrada es un contrato ({@link LiquidacionRequest} con
+     * {@code usuario} obligatorio). Los contratos de un mismo trabajador y periodo se
+     * liquidan juntos sobre el ingreso sumado, con el nivel ARL más alto, y cada
+     * concepto se reparte entre los contratos en proporción a su ingreso. La salida
+     * tiene una línea por contrato rechazado, una por trabajador y los totales al final.
+     * </p>
+     *
+     * @param entrada cuerpo de la petición en formato NDJSON (un contrato por línea)
+     * @return flujo NDJSON con una liquidación por trabajador y los totales al final
+     */
+    @PostMapping(value = "/cotizacion/agregada", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Calcular aportes agregados por trabajador",
+        description = "Agrupa los contratos por trabajador y periodo, liquida una vez sobre el ingreso total y reparte cada concepto entre los contratos"
+    )
+    public ResponseEntity<StreamingResponseBody> verAportesAgregados(InputStream entrada) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(salida -> agregada.procesarNdjson(entrada, salida));
     }
 
-}
\ No newline at end of file
+}
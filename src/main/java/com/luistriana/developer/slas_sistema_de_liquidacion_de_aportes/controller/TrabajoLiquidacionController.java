@@ -0,0 +1,152 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TrabajoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.TrabajoLiquidacionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador REST para los trabajos asíncronos de liquidación de archivos grandes.
+ * <p>
+ * El cliente envía el archivo y recibe de inmediato el identificador del trabajo;
+ * luego consulta el avance y descarga el resultado cuando termina, sin mantener
+ * abierta una petición durante toda la liquidación.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TrabajoLiquidacionService
+ */
+@RestController
+@RequestMapping("/api/slas/trabajos")
+@Tag(name = "Trabajos de liquidación", description = "Liquidación asíncrona de archivos grandes (NDJSON o CSV)")
+public class TrabajoLiquidacionController {
+
+    /** Tipo de contenido CSV aceptado al enviar un trabajo. */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final TrabajoLiquidacionService trabajos;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param trabajos servicio de trabajos asíncronos
+     */
+    public TrabajoLiquidacionController(TrabajoLiquidacionService trabajos) {
+        this.trabajos = trabajos;
+    }
+
+    /**
+     * Endpoint para enviar un archivo NDJSON (una solicitud por línea).
+     *
+     * @param entrada cuerpo de la petición
+     * @return HTTP 202 con el estado inicial y la ubicación del trabajo
+     * @throws IOException si el archivo no se puede guardar
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Enviar un archivo NDJSON para liquidación asíncrona",
+        description = "Guarda el archivo y encola su liquidación; responde de inmediato con el identificador del trabajo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Trabajo aceptado"),
+        @ApiResponse(responseCode = "503", description = "Demasiados trabajos pendientes")
+    })
+    public ResponseEntity<TrabajoResponse> enviarNdjson(InputStream entrada) throws IOException {
+        return aceptado(trabajos.enviar(entrada, FormatoTrabajo.NDJSON));
+    }
+
+    /**
+     * Endpoint para enviar un archivo CSV con las columnas del endpoint de flujo.
+     *
+     * @param entrada cuerpo de la petición
+     * @return HTTP 202 con el estado inicial y la ubicación del trabajo
+     * @throws IOException si el archivo no se puede guardar
+     */
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    @Operation(
+        summary = "Enviar un archivo CSV para liquidación asíncrona",
+        description = "Guarda el archivo y encola su liquidación; responde de inmediato con el identificador del trabajo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Trabajo aceptado"),
+        @ApiResponse(responseCode = "503", description = "Demasiados trabajos pendientes")
+    })
+    public ResponseEntity<TrabajoResponse> enviarCsv(InputStream entrada) throws IOException {
+        return aceptado(trabajos.enviar(entrada, FormatoTrabajo.CSV));
+    }
+
+    /**
+     * Endpoint para consultar el avance de un trabajo.
+     *
+     * @param id identificador del trabajo
+     * @return estado del trabajo, o HTTP 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "Consultar el avance de un trabajo",
+        description = "Filas procesadas, filas con error, filas por segundo y partes escritas"
+    )
+    public ResponseEntity<TrabajoResponse> consultar(@PathVariable String id) {
+        return ResponseEntity.of(trabajos.consultar(id));
+    }
+
+    /**
+     * Endpoint para descargar el resultado NDJSON de un trabajo completado.
+     *
+     * @param id identificador del trabajo
+     * @return archivo de resultado; HTTP 409 con el estado si aún no termina, o 404 si no existe
+     */
+    @GetMapping("/{id}/resultado")
+    @Operation(
+        summary = "Descargar el resultado de un trabajo",
+        description = "Un resultado por línea en el orden de la entrada y los totales en la última línea"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado NDJSON"),
+        @ApiResponse(responseCode = "404", description = "Trabajo inexistente"),
+        @ApiResponse(responseCode = "409", description = "El trabajo aún no termina o falló")
+    })
+    public ResponseEntity<?> resultado(@PathVariable String id) {
+        Optional<TrabajoResponse> trabajo = trabajos.consultar(id);
+        if (trabajo.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<Path> resultado = trabajos.resultado(id);
+        if (resultado.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(trabajo.get());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(new FileSystemResource(resultado.get()));
+    }
+
+    private static ResponseEntity<TrabajoResponse> aceptado(TrabajoResponse trabajo) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/slas/trabajos/" + trabajo.id()))
+                .body(trabajo);
+    }
+}
@@ -0,0 +1,118 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ErrorSaturacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ErrorValidacionResponse;
+
+/**
+ * Manejador global de excepciones de la API.
+ * <p>
+ * Convierte los errores de datos en una respuesta HTTP 400 compacta
+ * ({@link ErrorValidacionResponse}), o 413 si el lote es demasiado grande, y la
+ * falta de capacidad en HTTP 503 ({@link ErrorSaturacionResponse}), directamente en el controlador, sin pasar por
+ * el despacho a {@code /error} ni por la página de error por defecto de Spring.
+ * El error siempre se responde en JSON, también en los endpoints que producen
+ * otros formatos (CSV o columnar binario).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see datosInvalidosException
+ */
+@RestControllerAdvice
+public class ManejadorExcepciones {
+
+    /**
+     * Responde una solicitud con datos inválidos o inconsistentes.
+     *
+     * @param e excepción con las violaciones encontradas
+     * @return HTTP 400 con los motivos y el mensaje; HTTP 413 si el motivo es
+     *         {@link MotivoRechazo#LOTE_DEMASIADO_GRANDE}
+     */
+    @ExceptionHandler(datosInvalidosException.class)
+    public ResponseEntity<ErrorValidacionResponse> datosInvalidos(datosInvalidosException e) {
+        HttpStatus estado = e.getMotivo() == MotivoRechazo.LOTE_DEMASIADO_GRANDE ? HttpStatus.PAYLOAD_TOO_LARGE
+                : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(estado)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorValidacionResponse(e.getValidacion().getMotivos(), e.getMessage()));
+    }
+
+    /**
+     * Responde una solicitud cuyo cuerpo no se puede interpretar (JSON mal formado,
+     * tipos o valores de enumeración inválidos).
+     * <p>
+     * Como los errores por fila de los flujos ({@code "JSON inválido: …"}), el
+     * mensaje incluye la causa que reporta Jackson, el campo (por ejemplo
+     * {@code usuario.tipoDocumento} o {@code [3].nivelRiesgo}) y la línea y columna.
+     * </p>
+     *
+     * @param e excepción de lectura del cuerpo
+     * @return HTTP 400 con el motivo {@link MotivoRechazo#DATOS_INVALIDOS}
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorValidacionResponse> cuerpoInvalido(HttpMessageNotReadableException e) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorValidacionResponse(List.of(MotivoRechazo.DATOS_INVALIDOS), mensajeCuerpo(e)));
+    }
+
+    /**
+     * Responde una solicitud que no se puede atender porque un recurso acotado está
+     * ocupado por otras solicitudes.
+     *
+     * @param e excepción con el recurso agotado
+     * @return HTTP 503 con el motivo y {@code Retry-After}
+     */
+    @ExceptionHandler(servicioSaturadoException.class)
+    public ResponseEntity<ErrorSaturacionResponse> servicioSaturado(servicioSaturadoException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorSaturacionResponse(List.of(e.getMotivo()), e.getMessage()));
+    }
+
+    private static String mensajeCuerpo(HttpMessageNotReadableException e) {
+        if (!(e.getCause() instanceof JsonProcessingException causa)) {
+            return "El cuerpo de la solicitud no es un JSON válido";
+        }
+        StringBuilder mensaje = new StringBuilder("JSON inválido: ").append(causa.getOriginalMessage());
+        if (causa instanceof JsonMappingException mapeo && !mapeo.getPath().isEmpty()) {
+            mensaje.append(" en ").append(ruta(mapeo.getPath()));
+        }
+        JsonLocation ubicacion = causa.getLocation();
+        if (ubicacion != null && ubicacion.getLineNr() > 0) {
+            mensaje.append(" (línea ").append(ubicacion.getLineNr())
+                    .append(", columna ").append(ubicacion.getColumnNr()).append(')');
+        }
+        return mensaje.toString();
+    }
+
+    private static String ruta(List<JsonMappingException.Reference> referencias) {
+        StringBuilder ruta = new StringBuilder();
+        for (JsonMappingException.Reference referencia : referencias) {
+            if (referencia.getFieldName() != null) {
+                if (!ruta.isEmpty()) {
+                    ruta.append('.');
+                }
+                ruta.append(referencia.getFieldName());
+            } else {
+                ruta.append('[').append(referencia.getIndex()).append(']');
+            }
+        }
+        return ruta.toString();
+    }
+}
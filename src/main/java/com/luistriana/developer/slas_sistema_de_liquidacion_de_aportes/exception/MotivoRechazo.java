@@ -0,0 +1,84 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
+
+/**
+ * Motivos por los que se rechaza una solicitud de liquidación.
+ * <p>
+ * Cada {@link datosInvalidosException} lleva uno de estos códigos, que se usa como
+ * etiqueta estable en las métricas de rechazos (el mensaje incluye valores
+ * recibidos y no sirve como etiqueta).
+ * </p>
+ *
+ * <p>
+ * El mensaje de cada motivo es constante: validar una solicitud no concatena
+ * cadenas, y el texto de error se arma solo si se va a reportar.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see datosInvalidosException
+ */
+public enum MotivoRechazo {
+
+    /** Faltan ingresosMensual, aporteARL o aportaCCF */
+    CAMPOS_OBLIGATORIOS("Los campos ingresosMensual, aporteARL y aportaCCF son obligatorios"),
+
+    /** El ingreso es menor o igual a cero */
+    INGRESO_NO_POSITIVO("El ingreso debe ser mayor a cero"),
+
+    /** Aporta a CCF pero no especifica el porcentaje */
+    CCF_SIN_PORCENTAJE("Si aporta a CCF, debe especificar porcentaje (0.6 o 2.0)"),
+
+    /** Envía porcentaje CCF sin aportar a CCF */
+    CCF_PORCENTAJE_SIN_APORTE("No puede enviar porcentaje si aportaCCF es false"),
+
+    /** El porcentaje CCF no es 0.6 ni 2.0 */
+    CCF_PORCENTAJE_INVALIDO("Porcentaje CCF debe ser 0.6 o 2.0"),
+
+    /** Aporta a ARL pero no especifica el nivel de riesgo */
+    ARL_SIN_NIVEL("Si aporta a ARL, debe especificar nivel de riesgo"),
+
+    /** Envía nivel de riesgo sin aportar a ARL */
+    ARL_NIVEL_SIN_APORTE("No puede enviar nivel de riesgo si aporteARL es false"),
+
+    /** El usuario no tiene tipo de documento o su número de documento no es válido */
+    USUARIO_INVALIDO("El usuario debe tener tipoDocumento y numeroDocumento de 1 a 16 letras o dígitos"),
+
+    /** El cálculo inverso no indica el tipo de objetivo o su valor está fuera de rango */
+    OBJETIVO_INVALIDO("El cálculo inverso requiere objetivo (NETO o TOTAL_APORTES) y un valor entre 0 y 10^12"),
+
+    /** El total de aportes pedido es mayor que el que produce el tope del IBC */
+    OBJETIVO_INALCANZABLE("El total de aportes objetivo supera el que produce el tope del IBC"),
+
+    /** El rango de ingresos de la curva es inválido o tiene demasiados puntos */
+    CURVA_INVALIDA("La curva requiere 0 < desde <= hasta <= 10^12, paso > 0 y a lo sumo 20000 puntos"),
+
+    /** No hay parámetros de seguridad social para el año del periodo */
+    PERIODO_SIN_PARAMETROS("No hay parámetros de seguridad social para el año del periodo"),
+
+    /** El código de nivel ARL de una fila en formato columnar no existe */
+    ARL_NIVEL_INVALIDO("El código de nivel ARL debe estar entre 0 (sin ARL) y 5"),
+
+    /** El cuerpo en formato columnar binario no respeta la estructura */
+    FORMATO_COLUMNAR_INVALIDO("El cuerpo no es un lote válido en formato columnar (application/vnd.slas.columnas)"),
+
+    /** Una línea de un archivo de nómina no tiene las columnas esperadas */
+    LINEA_ILEGIBLE("La línea no tiene las columnas del formato de nómina"),
+
+    /** El lote en formato columnar supera el máximo de filas por solicitud */
+    LOTE_DEMASIADO_GRANDE("El lote supera el máximo de filas por solicitud (slas.columnar.filas-maximas)"),
+
+    /** Cualquier otro dato inválido */
+    DATOS_INVALIDOS("Datos inválidos");
+
+    /** Mensaje descriptivo del motivo, sin valores de la solicitud. */
+    private final String mensaje;
+
+    MotivoRechazo(String mensaje) {
+        this.mensaje = mensaje;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+}
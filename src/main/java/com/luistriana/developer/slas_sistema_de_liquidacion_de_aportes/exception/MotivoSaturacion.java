@@ -0,0 +1,34 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
+
+/**
+ * Recursos acotados cuya falta de capacidad impide atender una solicitud.
+ * <p>
+ * Cada {@link servicioSaturadoException} lleva uno de estos códigos. Están separados
+ * de {@link MotivoRechazo} porque no son errores de los datos: la misma solicitud
+ * puede atenderse más tarde, y no se cuentan en {@code slas.rechazos}.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see servicioSaturadoException
+ */
+public enum MotivoSaturacion {
+
+    /** Ya hay demasiados trabajos asíncronos pendientes */
+    TRABAJOS_SATURADOS("Hay demasiados trabajos pendientes; intente de nuevo más tarde"),
+
+    /** Los lotes en curso ya ocupan toda la memoria directa permitida */
+    MEMORIA_SATURADA("Hay demasiados lotes en curso; intente de nuevo más tarde");
+
+    /** Mensaje descriptivo del recurso agotado. */
+    private final String mensaje;
+
+    MotivoSaturacion(String mensaje) {
+        this.mensaje = mensaje;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+}
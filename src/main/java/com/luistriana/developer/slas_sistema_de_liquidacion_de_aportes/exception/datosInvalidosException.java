@@ -1,5 +1,7 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
 
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+
 /**
  * Excepción personalizada para indicar datos inválidos o inconsistentes en las solicitudes.
  * <p>
@@ -20,19 +22,75 @@ package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exceptio
  * (unchecked) y no requiere ser declarada en la firma del método.
  * </p>
  *
+ * <p>
+ * Es un error de datos esperado, no un defecto del programa: no captura la traza de
+ * pila ni admite excepciones suprimidas, y cuando se crea a partir de un
+ * {@link ResultadoValidacion} el mensaje se construye solo si se consulta.
+ * </p>
+ *
  * @author Luis Miguel Triana Rueda
  * @version 1.0
  * @since 2025-01-01
  * @see RuntimeException
+ * @see MotivoRechazo
+ * @see ResultadoValidacion
  */
 public class datosInvalidosException extends RuntimeException {
 
+    /** Violaciones que originaron la excepción. */
+    private final transient ResultadoValidacion validacion;
+
     /**
      * Constructor que crea una nueva excepción con el mensaje especificado.
      *
      * @param message mensaje descriptivo del error de validación
      */
     public datosInvalidosException(String message) {
-        super(message);
+        this(MotivoRechazo.DATOS_INVALIDOS, message);
+    }
+
+    /**
+     * Constructor que crea una nueva excepción con su motivo y mensaje.
+     *
+     * @param motivo  código del motivo de rechazo
+     * @param message mensaje descriptivo del error de validación
+     */
+    public datosInvalidosException(MotivoRechazo motivo, String message) {
+        super(message, null, false, false);
+        this.validacion = ResultadoValidacion.de(motivo);
+    }
+
+    /**
+     * Constructor que crea una nueva excepción a partir de un resultado de validación.
+     *
+     * @param validacion resultado con al menos una violación
+     */
+    public datosInvalidosException(ResultadoValidacion validacion) {
+        super(null, null, false, false);
+        this.validacion = validacion;
+    }
+
+    /**
+     * Obtiene el mensaje de error; si no se indicó, lo construye con las violaciones.
+     *
+     * @return mensaje descriptivo del error de validación
+     */
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : validacion.mensaje();
+    }
+
+    /**
+     * Obtiene el primer motivo de rechazo.
+     *
+     * @return motivo de rechazo
+     */
+    public MotivoRechazo getMotivo() {
+        return validacion.getMotivos().get(0);
+    }
+
+    public ResultadoValidacion getValidacion() {
+        return validacion;
     }
 }
@@ -0,0 +1,48 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
+
+/**
+ * Excepción que indica que el servicio no tiene capacidad para atender la solicitud
+ * en este momento.
+ * <p>
+ * Se lanza cuando un recurso acotado (la memoria directa de los lotes, la cola de
+ * trabajos) está ocupado por otras solicitudes. No es un error de los datos: la
+ * misma solicitud puede atenderse más tarde, y {@link ManejadorExcepciones} la
+ * responde con HTTP 503 y {@code Retry-After}.
+ * </p>
+ *
+ * <p>
+ * Como {@link datosInvalidosException}, no captura la traza de pila: bajo carga
+ * se lanza muchas veces y la traza no aporta información.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotivoSaturacion
+ */
+public class servicioSaturadoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Recurso agotado que originó la excepción. */
+    private final MotivoSaturacion motivo;
+
+    /**
+     * Constructor que crea una nueva excepción con el mensaje del motivo.
+     *
+     * @param motivo código del recurso agotado
+     */
+    public servicioSaturadoException(MotivoSaturacion motivo) {
+        super(motivo.getMensaje(), null, false, false);
+        this.motivo = motivo;
+    }
+
+    /**
+     * Obtiene el motivo del rechazo.
+     *
+     * @return recurso agotado
+     */
+    public MotivoSaturacion getMotivo() {
+        return motivo;
+    }
+}
@@ -0,0 +1,85 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Acumulador de totales por concepto para procesos que recorren muchas liquidaciones.
+ * <p>
+ * Mantiene únicamente sumas primitivas, por lo que su consumo de memoria es
+ * constante sin importar cuántas filas se procesen. Las sumas se llevan en centavos
+ * {@code long}: a diferencia de una suma en {@code double}, el total de millones de
+ * filas no acumula error de redondeo. No es seguro para uso concurrente: cada flujo
+ * debe usar su propia instancia.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TotalesLiquidacionResponse
+ */
+public class AcumuladorTotales {
+
+    private long filas;
+    private long filasConError;
+    private long salud;
+    private long pension;
+    private long fsp;
+    private long arl;
+    private long ccf;
+    private long total;
+
+    /**
+     * Suma una liquidación exitosa a los totales.
+     *
+     * @param liquidacion liquidación calculada
+     */
+    public void sumar(LiquidacionResponse liquidacion) {
+        filas++;
+        salud += centavos(liquidacion.salud());
+        pension += centavos(liquidacion.pension());
+        fsp += centavos(liquidacion.fsp());
+        arl += centavos(liquidacion.arl());
+        ccf += centavos(liquidacion.ccf());
+        total += centavos(liquidacion.total());
+    }
+
+    /**
+     * Suma los totales de un conjunto de liquidaciones ya acumulado por separado
+     * (por ejemplo, una parte de un archivo).
+     *
+     * @param parcial totales del conjunto
+     */
+    public void sumar(TotalesLiquidacionResponse parcial) {
+        filas += parcial.filas();
+        filasConError += parcial.filasConError();
+        salud += centavos(parcial.salud());
+        pension += centavos(parcial.pension());
+        fsp += centavos(parcial.fsp());
+        arl += centavos(parcial.arl());
+        ccf += centavos(parcial.ccf());
+        total += centavos(parcial.total());
+    }
+
+    /**
+     * Registra una fila rechazada por validación.
+     */
+    public void registrarError() {
+        filas++;
+        filasConError++;
+    }
+
+    /**
+     * Obtiene una copia inmutable de los totales acumulados hasta el momento.
+     *
+     * @return totales por concepto
+     */
+    public TotalesLiquidacionResponse totales() {
+        return new TotalesLiquidacionResponse(filas, filasConError, salud / 100.0, pension / 100.0, fsp / 100.0,
+                arl / 100.0, ccf / 100.0, total / 100.0);
+    }
+
+    private static long centavos(double pesos) {
+        return Math.round(pesos * 100);
+    }
+}
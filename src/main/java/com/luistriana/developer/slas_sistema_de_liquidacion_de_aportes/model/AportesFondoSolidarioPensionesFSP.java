@@ -24,38 +24,45 @@ package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
  */
 public enum AportesFondoSolidarioPensionesFSP {
     /** Hasta 4 SMMLV - Sin aporte (0%) */
-    HASTA_4_SMMLV(0.0),
+    HASTA_4_SMMLV(0.0, 4),
 
     /** Más de 4 hasta 16 SMMLV - 1% */
-    MAS_DE_4_HASTA_16SMMLV(0.01),
+    MAS_DE_4_HASTA_16SMMLV(0.01, 16),
 
     /** Más de 16 hasta 17 SMMLV - 1.2% */
-    MAS_DE_16_HASTA_17SMMLV(0.012),
+    MAS_DE_16_HASTA_17SMMLV(0.012, 17),
 
     /** Más de 17 hasta 18 SMMLV - 1.4% */
-    MAS_DE_17_HASTA_18SMMLV(0.014),
+    MAS_DE_17_HASTA_18SMMLV(0.014, 18),
 
     /** Más de 18 hasta 19 SMMLV - 1.6% */
-    MAS_DE_18_HASTA_19SMMLV(0.016),
+    MAS_DE_18_HASTA_19SMMLV(0.016, 19),
 
     /** Más de 19 hasta 20 SMMLV - 1.8% */
-    MAS_DE_19_HASTA_20(0.018),
+    MAS_DE_19_HASTA_20(0.018, 20),
 
     /** Más de 20 SMMLV - 2% */
-    MAS_DE_20(0.02);
+    MAS_DE_20(0.02, Double.POSITIVE_INFINITY);
 
     /**
      * Porcentaje de cotización al FSP para este rango.
      */
-    private final Double porcentaje;
+    private final double porcentaje;
+
+    /**
+     * Límite superior (inclusive) del rango, expresado en SMMLV de IBC.
+     */
+    private final double limiteSuperiorSmmlv;
 
     /**
      * Constructor privado del enum.
      *
-     * @param porcentaje porcentaje de cotización para este rango
+     * @param porcentaje          porcentaje de cotización para este rango
+     * @param limiteSuperiorSmmlv límite superior (inclusive) del rango en SMMLV
      */
-    private AportesFondoSolidarioPensionesFSP(Double porcentaje) {
+    private AportesFondoSolidarioPensionesFSP(double porcentaje, double limiteSuperiorSmmlv) {
         this.porcentaje = porcentaje;
+        this.limiteSuperiorSmmlv = limiteSuperiorSmmlv;
     }
 
     /**
@@ -63,10 +70,21 @@ public enum AportesFondoSolidarioPensionesFSP {
      *
      * @return porcentaje de cotización al FSP
      */
-    public Double getPorcentaje() {
+    public double getPorcentaje() {
         return porcentaje;
     }
 
+    /**
+     * Obtiene el límite superior (inclusive) del rango en SMMLV de IBC.
+     * El último rango no tiene límite ({@link Double#POSITIVE_INFINITY}).
+     *
+     * @return límite superior del rango en SMMLV
+     * @see TablaFsp
+     */
+    public double getLimiteSuperiorSmmlv() {
+        return limiteSuperiorSmmlv;
+    }
+
     /**
      * Determina el rango de FSP correspondiente según el IBC en SMMLV.
      * <p>
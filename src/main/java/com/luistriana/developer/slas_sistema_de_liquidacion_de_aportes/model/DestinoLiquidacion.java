@@ -0,0 +1,36 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Destino de las liquidaciones del motor exacto.
+ * <p>
+ * {@code MotorCalculoExacto} liquida cada fila con una sola rutina y entrega los
+ * conceptos en pesos {@code long} a un destino: columnas en el heap
+ * ({@link ResultadosLiquidacion}), columnas fuera del heap
+ * ({@link ResultadosFueraDelHeap}) o acumuladores de quien llama. Así las reglas de
+ * cálculo y de redondeo están en un solo lugar y cada camino solo decide dónde
+ * guardar el resultado.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResultadosLiquidacion
+ * @see ResultadosFueraDelHeap
+ */
+@FunctionalInterface
+public interface DestinoLiquidacion {
+
+    /**
+     * Recibe la liquidación de una fila.
+     *
+     * @param posicion posición de la fila
+     * @param ibc      IBC en pesos
+     * @param salud    aporte a salud en pesos
+     * @param pension  aporte a pensión en pesos
+     * @param fsp      aporte al FSP en pesos
+     * @param arl      aporte a ARL en pesos
+     * @param ccf      aporte a CCF en pesos
+     * @param total    total de aportes en pesos
+     */
+    void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf, long total);
+}
@@ -0,0 +1,29 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Estado de un trabajo asíncrono de liquidación.
+ * <ul>
+ *   <li>{@link #EN_COLA}: el archivo se recibió y espera su turno</li>
+ *   <li>{@link #EN_PROCESO}: las partes del archivo se están liquidando</li>
+ *   <li>{@link #COMPLETADO}: el resultado está listo para descargar</li>
+ *   <li>{@link #FALLIDO}: el trabajo no pudo terminar (error de lectura o escritura)</li>
+ * </ul>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum EstadoTrabajo {
+
+    /** Recibido, esperando turno */
+    EN_COLA,
+
+    /** Liquidando partes */
+    EN_PROCESO,
+
+    /** Resultado disponible */
+    COMPLETADO,
+
+    /** Terminado con error */
+    FALLIDO
+}
@@ -0,0 +1,170 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.YearMonth;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+
+/**
+ * Formato binario en columnas para lotes de liquidación
+ * ({@value #MEDIA_TYPE}).
+ * <p>
+ * Pensado para tráfico entre sistemas: en lugar de un objeto JSON por fila, el lote
+ * viaja como arreglos paralelos de tipos primitivos en orden de bytes
+ * {@link ByteOrder#LITTLE_ENDIAN}. Todas las columnas de 8 bytes quedan alineadas
+ * a 8 bytes.
+ * </p>
+ *
+ * <p><strong>Solicitud</strong> ({@code 16 + 10 * filas} bytes):</p>
+ * <pre>
+ * int    magia            {@value #MAGIA_SOLICITUD} ("SLC1")
+ * int    filas
+ * int    periodo          AAAAMM, o 0 para el año en curso (aplica a todo el lote)
+ * int    reservado        0
+ * double ingresos[filas]  ingreso mensual en pesos
+ * byte   niveles[filas]   0 = sin ARL, 1 a 5 = NIVEL_I a NIVEL_V
+ * byte   ccf[filas]       0 = sin CCF, 1 = 0.6 %, 2 = 2 %
+ * </pre>
+ *
+ * <p><strong>Resultado</strong> ({@code 16 + 60 * filas} bytes):</p>
+ * <pre>
+ * int    magia            {@value #MAGIA_RESULTADO} ("SLR1")
+ * int    filas
+ * int    anio             año de los parámetros aplicados
+ * int    reservado        0
+ * long   ibc[filas], salud[filas], pension[filas], fsp[filas], arl[filas], ccf[filas], total[filas]   en pesos
+ * int    motivos[filas]   0 si la fila es válida; si no, bits 1 &lt;&lt; ordinal() de {@link MotivoRechazo}
+ * </pre>
+ *
+ * <p>
+ * Las columnas de aportes de una fila rechazada valen cero.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FormatoColumnar {
+
+    /** Tipo de contenido del formato. */
+    public static final String MEDIA_TYPE = "application/vnd.slas.columnas";
+
+    /** Orden de bytes de todos los campos. */
+    public static final ByteOrder ORDEN = ByteOrder.LITTLE_ENDIAN;
+
+    /** Marca inicial de una solicitud ("SLC1" leído como entero little-endian). */
+    public static final int MAGIA_SOLICITUD = 0x31434C53;
+
+    /** Marca inicial de un resultado ("SLR1" leído como entero little-endian). */
+    public static final int MAGIA_RESULTADO = 0x31524C53;
+
+    /** Tamaño del encabezado de solicitudes y resultados. */
+    public static final int ENCABEZADO = 16;
+
+    /** Bytes por fila de una solicitud: ingreso, nivel ARL y código CCF. */
+    public static final int BYTES_FILA_SOLICITUD = Double.BYTES + 2;
+
+    /** Columnas de aportes del resultado. */
+    public static final int COLUMNAS_RESULTADO = 7;
+
+    /** Bytes por fila de un resultado: siete aportes y la máscara de motivos. */
+    public static final int BYTES_FILA_RESULTADO = COLUMNAS_RESULTADO * Long.BYTES + Integer.BYTES;
+
+    /** Porcentaje CCF de cada código; el código 0 representa a quien no aporta. */
+    private static final double[] PORCENTAJES_CCF = { 0, 0.6, 2.0 };
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private FormatoColumnar() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Obtiene el tamaño de una solicitud.
+     *
+     * @param filas número de filas
+     * @return tamaño en bytes
+     */
+    public static int tamanoSolicitud(int filas) {
+        return ENCABEZADO + BYTES_FILA_SOLICITUD * filas;
+    }
+
+    /**
+     * Obtiene el tamaño de un resultado.
+     *
+     * @param filas número de filas
+     * @return tamaño en bytes
+     */
+    public static int tamanoResultado(int filas) {
+        return ENCABEZADO + BYTES_FILA_RESULTADO * filas;
+    }
+
+    /**
+     * Obtiene el número de códigos CCF definidos.
+     *
+     * @return códigos CCF válidos ({@code 0} a {@code codigosCcf() - 1})
+     */
+    public static int codigosCcf() {
+        return PORCENTAJES_CCF.length;
+    }
+
+    /**
+     * Obtiene el porcentaje CCF de un código.
+     *
+     * @param codigo código CCF válido
+     * @return porcentaje CCF (0 si no aporta)
+     */
+    public static double porcentajeCcf(int codigo) {
+        return PORCENTAJES_CCF[codigo];
+    }
+
+    /**
+     * Obtiene el código CCF de un porcentaje.
+     *
+     * @param porcentaje porcentaje CCF, o {@code null} si no aporta
+     * @return código CCF
+     * @throws IllegalArgumentException si el porcentaje no es 0.6 ni 2.0
+     */
+    public static byte codigoCcf(Double porcentaje) {
+        if (porcentaje == null) {
+            return 0;
+        }
+        for (int codigo = 1; codigo < PORCENTAJES_CCF.length; codigo++) {
+            if (PORCENTAJES_CCF[codigo] == porcentaje) {
+                return (byte) codigo;
+            }
+        }
+        throw new IllegalArgumentException("Porcentaje CCF sin código columnar: " + porcentaje);
+    }
+
+    /**
+     * Codifica una solicitud a partir de sus columnas.
+     *
+     * @param ingresos   ingresos mensuales en pesos
+     * @param niveles    códigos de nivel ARL (0 = sin ARL)
+     * @param codigosCcf códigos CCF (0 = sin CCF)
+     * @param periodo    periodo del lote, o {@code null} para el año en curso
+     * @return solicitud en formato columnar
+     * @throws IllegalArgumentException si las columnas no tienen el mismo largo
+     */
+    public static byte[] codificarSolicitud(double[] ingresos, byte[] niveles, byte[] codigosCcf, YearMonth periodo) {
+        int filas = ingresos.length;
+        if (niveles.length != filas || codigosCcf.length != filas) {
+            throw new IllegalArgumentException("Las columnas de la solicitud deben tener el mismo largo");
+        }
+        byte[] solicitud = new byte[tamanoSolicitud(filas)];
+        ByteBuffer buffer = ByteBuffer.wrap(solicitud).order(ORDEN);
+        buffer.putInt(MAGIA_SOLICITUD)
+                .putInt(filas)
+                .putInt(periodo == null ? 0 : periodo.getYear() * 100 + periodo.getMonthValue())
+                .putInt(0);
+        buffer.asDoubleBuffer().put(ingresos);
+        buffer.position(ENCABEZADO + Double.BYTES * filas);
+        buffer.put(niveles).put(codigosCcf);
+        return solicitud;
+    }
+}
@@ -0,0 +1,21 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Formato de un archivo de nómina para la importación masiva.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum FormatoNomina {
+
+    /** Columnas ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF (encabezado opcional) */
+    CSV,
+
+    /**
+     * Ancho fijo: ingreso en las posiciones 1-15 (alineado a la derecha), código del
+     * nivel ARL en la 16 (0 sin ARL) y porcentaje CCF en décimas en las 17-19
+     * ({@code 000}, {@code 006} o {@code 020}); las posiciones siguientes se ignoran
+     */
+    ANCHO_FIJO
+}
@@ -0,0 +1,29 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Formato del archivo de entrada de un trabajo asíncrono de liquidación. Cada
+ * formato usa las mismas columnas del endpoint de flujo correspondiente.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum FormatoTrabajo {
+
+    /** Una solicitud JSON por línea */
+    NDJSON("entrada.ndjson"),
+
+    /** Columnas ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF (encabezado opcional) */
+    CSV("entrada.csv");
+
+    /** Nombre del archivo de entrada dentro del directorio del trabajo. */
+    private final String archivo;
+
+    FormatoTrabajo(String archivo) {
+        this.archivo = archivo;
+    }
+
+    public String getArchivo() {
+        return archivo;
+    }
+}
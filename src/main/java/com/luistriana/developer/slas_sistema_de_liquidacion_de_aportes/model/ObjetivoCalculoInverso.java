@@ -0,0 +1,21 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Magnitud que fija el cálculo inverso para encontrar el ingreso mensual.
+ * <ul>
+ *   <li>{@link #NETO}: ingreso mensual menos el total de aportes</li>
+ *   <li>{@link #TOTAL_APORTES}: total de aportes de la liquidación</li>
+ * </ul>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ObjetivoCalculoInverso {
+
+    /** Ingreso neto después de aportes */
+    NETO,
+
+    /** Total de aportes a seguridad social */
+    TOTAL_APORTES
+}
@@ -0,0 +1,154 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+
+/**
+ * Parámetros de liquidación vigentes para un año gravable.
+ * <p>
+ * Agrupa los valores que cambian por decreto cada año (SMMLV, piso y tope del IBC,
+ * porcentaje base del IBC y tarifas de salud y pensión) junto con la
+ * {@link TablaFsp} derivada del SMMLV y las {@link TarifasExactas} (los mismos
+ * valores en enteros). Las instancias son inmutables: una recarga de parámetros
+ * crea instancias nuevas en lugar de modificar las existentes, de modo que un
+ * cálculo en curso siempre ve un conjunto de valores coherente.
+ * </p>
+ *
+ * <p>
+ * Las tarifas de ARL y CCF no están aquí. Las de ARL son fijas por clase de
+ * riesgo ({@link RiesgoLaboralARL}) y no cambian con el decreto anual del salario
+ * mínimo. Las de CCF (0.6% o 2%) son las
+ * dos opciones que elige el trabajador, y forman parte del contrato de la
+ * solicitud: se validan en {@code ValidadorLiquidacion} y se guardan como código
+ * en {@link FormatoColumnar} y en el diario de liquidaciones. Volverlas parámetros
+ * del año obligaría a versionar esos formatos, y los registros ya escritos dejarían
+ * de poder reliquidarse con sus tarifas originales.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ConstantesSeguridadSocial
+ */
+public final class ParametrosAnuales {
+
+    private final int anio;
+    private final double smmlv;
+    private final double minCalculoIbc;
+    private final double maxCalculoIbc;
+    private final double porcentajeIbc;
+    private final double salud;
+    private final double pension;
+    private final TablaFsp tablaFsp;
+    private final TarifasExactas tarifasExactas;
+
+    /**
+     * Constructor con todos los parámetros del año.
+     *
+     * @param anio          año gravable
+     * @param smmlv         Salario Mínimo Mensual Legal Vigente del año
+     * @param minCalculoIbc límite mínimo del IBC (1 SMMLV)
+     * @param maxCalculoIbc límite máximo del IBC (25 SMMLV)
+     * @param porcentajeIbc porcentaje del ingreso que forma el IBC (0.40)
+     * @param salud         tarifa de salud (0.125)
+     * @param pension       tarifa de pensión (0.16)
+     * @throws IllegalArgumentException si algún valor está fuera de rango o una tarifa
+     *         tiene más de seis decimales
+     */
+    @JsonCreator
+    public ParametrosAnuales(@JsonProperty("anio") int anio,
+            @JsonProperty("smmlv") double smmlv,
+            @JsonProperty("minCalculoIbc") double minCalculoIbc,
+            @JsonProperty("maxCalculoIbc") double maxCalculoIbc,
+            @JsonProperty("porcentajeIbc") double porcentajeIbc,
+            @JsonProperty("salud") double salud,
+            @JsonProperty("pension") double pension) {
+        if (anio <= 0 || smmlv <= 0 || minCalculoIbc <= 0 || maxCalculoIbc < minCalculoIbc) {
+            throw new IllegalArgumentException("Parámetros inválidos para el año " + anio
+                    + ": el SMMLV y los límites del IBC deben ser positivos y el mínimo no puede superar el máximo");
+        }
+        if (!esTarifa(porcentajeIbc) || !esTarifa(salud) || !esTarifa(pension)) {
+            throw new IllegalArgumentException("Parámetros inválidos para el año " + anio
+                    + ": las tarifas deben estar entre 0 y 1");
+        }
+        if (!TarifasExactas.esRepresentable(porcentajeIbc) || !TarifasExactas.esRepresentable(salud)
+                || !TarifasExactas.esRepresentable(pension)) {
+            throw new IllegalArgumentException("Parámetros inválidos para el año " + anio
+                    + ": las tarifas admiten a lo sumo seis decimales");
+        }
+        this.anio = anio;
+        this.smmlv = smmlv;
+        this.minCalculoIbc = minCalculoIbc;
+        this.maxCalculoIbc = maxCalculoIbc;
+        this.porcentajeIbc = porcentajeIbc;
+        this.salud = salud;
+        this.pension = pension;
+        this.tablaFsp = new TablaFsp(smmlv);
+        this.tarifasExactas = new TarifasExactas(smmlv, minCalculoIbc, maxCalculoIbc, porcentajeIbc, salud, pension);
+    }
+
+    private static boolean esTarifa(double valor) {
+        return valor > 0 && valor < 1;
+    }
+
+    /**
+     * Construye los parámetros del año a partir de {@link ConstantesSeguridadSocial}.
+     *
+     * @return parámetros de la normativa vigente compilada en la aplicación
+     */
+    public static ParametrosAnuales desdeConstantes() {
+        return new ParametrosAnuales(2026, ConstantesSeguridadSocial.SMMLV,
+                ConstantesSeguridadSocial.MIN_CALCULO_IBC, ConstantesSeguridadSocial.MAX_CALCULO_IBC,
+                ConstantesSeguridadSocial.IBC, ConstantesSeguridadSocial.SALUD, ConstantesSeguridadSocial.PENSION);
+    }
+
+    public int getAnio() {
+        return anio;
+    }
+
+    public double getSmmlv() {
+        return smmlv;
+    }
+
+    public double getMinCalculoIbc() {
+        return minCalculoIbc;
+    }
+
+    public double getMaxCalculoIbc() {
+        return maxCalculoIbc;
+    }
+
+    public double getPorcentajeIbc() {
+        return porcentajeIbc;
+    }
+
+    public double getSalud() {
+        return salud;
+    }
+
+    public double getPension() {
+        return pension;
+    }
+
+    /**
+     * Obtiene la tabla de rangos FSP construida con el SMMLV del año.
+     *
+     * @return tabla FSP del año
+     */
+    @JsonIgnore
+    public TablaFsp getTablaFsp() {
+        return tablaFsp;
+    }
+
+    /**
+     * Obtiene los parámetros del año convertidos a enteros para la aritmética exacta.
+     *
+     * @return tarifas en millonésimas y límites del IBC en pesos
+     */
+    @JsonIgnore
+    public TarifasExactas getTarifasExactas() {
+        return tarifasExactas;
+    }
+}
@@ -0,0 +1,27 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.time.Instant;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Liquidación registrada en el diario de liquidaciones.
+ * <p>
+ * La solicitud se reconstruye desde el diario con el periodo efectivamente liquidado
+ * (el mes de registro si la solicitud original no lo indicaba) y el usuario que la
+ * identificó.
+ * </p>
+ *
+ * @param registrado     instante en que se registró la liquidación (precisión de milisegundos)
+ * @param anioParametros año de los parámetros de seguridad social aplicados
+ * @param solicitud      solicitud liquidada, con periodo y usuario
+ * @param liquidacion    resultado de la liquidación
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record RegistroLiquidacion(Instant registrado, int anioParametros, LiquidacionRequest solicitud,
+        LiquidacionResponse liquidacion) {
+}
@@ -0,0 +1,187 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.concurrent.Semaphore;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+
+/**
+ * Reserva de {@link ByteBuffer} directos reutilizables.
+ * <p>
+ * La memoria de un buffer directo solo vuelve al sistema cuando el recolector
+ * descarta el objeto que la envuelve, y cuando se llega a
+ * {@code -XX:MaxDirectMemorySize} la JVM fuerza una recolección completa para
+ * liberarla. Reservar y soltar buffers grandes en cada lote causa justamente las
+ * pausas que se quieren evitar. Esta reserva guarda los buffers devueltos,
+ * agrupados por tamaño en potencias de dos, y los entrega de nuevo a la siguiente
+ * solicitud del mismo tamaño.
+ * </p>
+ *
+ * <p>
+ * Guarda como máximo {@code bytesRetenidos} bytes; un buffer devuelto que no cabe
+ * se suelta. Los buffers de más de 1 GB no se guardan. Los buffers reutilizados
+ * <strong>no</strong> se limpian: quien toma un buffer debe escribir cada posición
+ * antes de leerla. Es segura para uso concurrente.
+ * </p>
+ *
+ * <p>
+ * Los buffers entregados y todavía no devueltos suman como máximo
+ * {@code bytesMaximos} bytes, contados en páginas de 4 KB con un {@link Semaphore}.
+ * Si una solicitud no cabe, {@link #tomar(int)} no espera: lanza
+ * {@link servicioSaturadoException}, y el lote se reintenta más tarde en lugar de
+ * llevar la JVM a {@code -XX:MaxDirectMemorySize}.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResultadosFueraDelHeap
+ */
+public final class ReservaMemoriaDirecta {
+
+    /** Clase del tamaño mínimo que se reserva (4 KB). */
+    private static final int CLASE_MINIMA = 12;
+
+    /** Clase del tamaño máximo que se guarda (1 GB). */
+    private static final int CLASE_MAXIMA = 30;
+
+    private final long bytesRetenidos;
+
+    /** Páginas de {@code 1 << CLASE_MINIMA} bytes que quedan por entregar. */
+    private final Semaphore paginas;
+
+    /** Buffers libres indexados por clase de tamaño. */
+    private final ArrayDeque<ByteBuffer>[] libres = colas(CLASE_MAXIMA + 1);
+
+    private long retenidos;
+
+    /**
+     * Crea una reserva vacía.
+     *
+     * @param bytesRetenidos bytes máximos que se guardan sin usar (0 = no se guarda nada)
+     * @param bytesMaximos   bytes máximos entregados al mismo tiempo
+     * @throws IllegalArgumentException si {@code bytesRetenidos} es negativo o
+     *                                  {@code bytesMaximos} no es positivo
+     */
+    public ReservaMemoriaDirecta(long bytesRetenidos, long bytesMaximos) {
+        if (bytesRetenidos < 0 || bytesMaximos < 1) {
+            throw new IllegalArgumentException(
+                    "Los bytes retenidos no pueden ser negativos y los bytes máximos deben ser positivos");
+        }
+        this.bytesRetenidos = bytesRetenidos;
+        this.paginas = new Semaphore((int) Math.min(Integer.MAX_VALUE, bytesMaximos >> CLASE_MINIMA));
+        for (int clase = CLASE_MINIMA; clase <= CLASE_MAXIMA; clase++) {
+            libres[clase] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Entrega un buffer directo con posición 0 y límite {@code bytes}. El contenido
+     * es indefinido y el orden de bytes es {@link ByteOrder#BIG_ENDIAN}.
+     *
+     * @param bytes tamaño requerido
+     * @return buffer de al menos {@code bytes} bytes de capacidad
+     * @throws IllegalArgumentException  si {@code bytes} es negativo
+     * @throws servicioSaturadoException si el buffer supera los bytes máximos que
+     *                                   quedan por entregar
+     */
+    public ByteBuffer tomar(int bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Tamaño negativo: " + bytes);
+        }
+        int capacidad = capacidad(bytes);
+        int clase = clase(capacidad);
+        if (!paginas.tryAcquire(paginas(capacidad))) {
+            throw new servicioSaturadoException(MotivoSaturacion.MEMORIA_SATURADA);
+        }
+        ByteBuffer buffer = null;
+        if (clase <= CLASE_MAXIMA) {
+            synchronized (this) {
+                buffer = libres[clase].pollLast();
+                if (buffer != null) {
+                    retenidos -= buffer.capacity();
+                }
+            }
+        }
+        if (buffer == null) {
+            try {
+                buffer = ByteBuffer.allocateDirect(capacidad);
+            } catch (OutOfMemoryError e) {
+                paginas.release(paginas(capacidad));
+                throw e;
+            }
+        }
+        return buffer.clear().limit(bytes).order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Devuelve un buffer entregado por {@link #tomar(int)}. Quien lo devuelve no
+     * debe volver a usarlo.
+     *
+     * @param buffer buffer a devolver
+     */
+    public void devolver(ByteBuffer buffer) {
+        int capacidad = buffer.capacity();
+        paginas.release(paginas(capacidad));
+        int clase = clase(capacidad);
+        if (clase > CLASE_MAXIMA || capacidad != 1 << clase) {
+            return;
+        }
+        synchronized (this) {
+            if (retenidos + capacidad <= bytesRetenidos) {
+                libres[clase].addLast(buffer);
+                retenidos += capacidad;
+            }
+        }
+    }
+
+    /**
+     * Obtiene los bytes guardados sin usar.
+     *
+     * @return bytes retenidos
+     */
+    public synchronized long retenidos() {
+        return retenidos;
+    }
+
+    /**
+     * Obtiene los bytes que todavía se pueden entregar.
+     *
+     * @return bytes disponibles, en múltiplos de 4 KB
+     */
+    public long disponibles() {
+        return (long) paginas.availablePermits() << CLASE_MINIMA;
+    }
+
+    /**
+     * Calcula los bytes que ocupa un buffer de {@code bytes} bytes entregado por
+     * {@link #tomar(int)}: la potencia de dos que lo contiene, o el tamaño exacto
+     * si es de más de 1 GB.
+     *
+     * @param bytes tamaño requerido
+     * @return capacidad del buffer entregado
+     */
+    public static int capacidad(int bytes) {
+        int clase = clase(bytes);
+        return clase > CLASE_MAXIMA ? bytes : 1 << clase;
+    }
+
+    /** Páginas de 4 KB que cubren {@code capacidad} bytes. */
+    private static int paginas(int capacidad) {
+        return (int) (((long) capacidad + (1 << CLASE_MINIMA) - 1) >> CLASE_MINIMA);
+    }
+
+    /** Menor clase {@code c} con {@code 1 << c >= bytes}, sin bajar de {@link #CLASE_MINIMA}. */
+    private static int clase(int bytes) {
+        return bytes <= 1 << CLASE_MINIMA ? CLASE_MINIMA : 32 - Integer.numberOfLeadingZeros(bytes - 1);
+    }
+
+    /** Arreglo de colas de {@code clases} posiciones; los arreglos genéricos solo se crean con conversión. */
+    @SuppressWarnings("unchecked")
+    private static ArrayDeque<ByteBuffer>[] colas(int clases) {
+        return (ArrayDeque<ByteBuffer>[]) new ArrayDeque<?>[clases];
+    }
+}
@@ -0,0 +1,31 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.util.List;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+/**
+ * Resultado de la ejecución de un lote junto con sus métricas de rendimiento.
+ *
+ * @param resultados    un resultado por solicitud, en el mismo orden de la entrada
+ * @param duracionNanos tiempo de cálculo del lote en nanosegundos
+ * @param paralelismo   número de hilos disponibles para el lote
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record ResultadoEjecucionLote(List<ResultadoLoteResponse> resultados, long duracionNanos, int paralelismo) {
+
+    /**
+     * Calcula el rendimiento del lote en filas por segundo.
+     *
+     * @return filas procesadas por segundo (0 si el lote está vacío)
+     */
+    public double filasPorSegundo() {
+        if (resultados.isEmpty() || duracionNanos <= 0) {
+            return 0.0;
+        }
+        return resultados.size() * 1_000_000_000.0 / duracionNanos;
+    }
+}
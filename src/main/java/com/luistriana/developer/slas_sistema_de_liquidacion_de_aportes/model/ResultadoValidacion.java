@@ -0,0 +1,131 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+
+/**
+ * Resultado de validar una solicitud de liquidación.
+ * <p>
+ * Acumula todas las violaciones encontradas en una sola pasada, sin lanzar
+ * excepciones. Las violaciones se guardan como una máscara de bits indexada por
+ * {@code ordinal()} de {@link MotivoRechazo}: una solicitud válida se representa
+ * con la instancia compartida {@link #VALIDO} y no asigna memoria, y los mensajes
+ * solo se construyen cuando se van a reportar.
+ * </p>
+ *
+ * <p>
+ * La clase es inmutable.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotivoRechazo
+ */
+public final class ResultadoValidacion {
+
+    /** Resultado sin violaciones. */
+    public static final ResultadoValidacion VALIDO = new ResultadoValidacion(0);
+
+    private static final MotivoRechazo[] MOTIVOS = MotivoRechazo.values();
+
+    /** Bit {@code 1 << ordinal()} por cada motivo de rechazo encontrado. */
+    private final int motivos;
+
+    private ResultadoValidacion(int motivos) {
+        this.motivos = motivos;
+    }
+
+    /**
+     * Obtiene el resultado que corresponde a una máscara de motivos.
+     *
+     * @param motivos máscara de bits {@code 1 << ordinal()} de los motivos
+     * @return {@link #VALIDO} si la máscara es cero; un resultado con esos motivos en caso contrario
+     */
+    public static ResultadoValidacion de(int motivos) {
+        return motivos == 0 ? VALIDO : new ResultadoValidacion(motivos);
+    }
+
+    /**
+     * Obtiene el resultado con un único motivo de rechazo.
+     *
+     * @param motivo motivo de rechazo
+     * @return resultado inválido
+     */
+    public static ResultadoValidacion de(MotivoRechazo motivo) {
+        return new ResultadoValidacion(bit(motivo));
+    }
+
+    /**
+     * Calcula el bit de un motivo dentro de la máscara.
+     *
+     * @param motivo motivo de rechazo
+     * @return {@code 1 << motivo.ordinal()}
+     */
+    public static int bit(MotivoRechazo motivo) {
+        return 1 << motivo.ordinal();
+    }
+
+    /**
+     * Agrega un motivo de rechazo.
+     *
+     * @param motivo motivo a agregar
+     * @return nuevo resultado con el motivo agregado
+     */
+    public ResultadoValidacion con(MotivoRechazo motivo) {
+        return new ResultadoValidacion(motivos | bit(motivo));
+    }
+
+    public boolean esValido() {
+        return motivos == 0;
+    }
+
+    public boolean contiene(MotivoRechazo motivo) {
+        return (motivos & bit(motivo)) != 0;
+    }
+
+    /**
+     * Obtiene la máscara de bits de los motivos.
+     *
+     * @return máscara {@code 1 << ordinal()} de los motivos encontrados
+     */
+    public int getMascara() {
+        return motivos;
+    }
+
+    /**
+     * Obtiene los motivos de rechazo encontrados, en el orden de {@link MotivoRechazo}.
+     *
+     * @return lista de motivos; vacía si la solicitud es válida
+     */
+    public List<MotivoRechazo> getMotivos() {
+        List<MotivoRechazo> lista = new ArrayList<>(Integer.bitCount(motivos));
+        for (int resto = motivos; resto != 0; resto &= resto - 1) {
+            lista.add(MOTIVOS[Integer.numberOfTrailingZeros(resto)]);
+        }
+        return lista;
+    }
+
+    /**
+     * Construye el mensaje con todas las violaciones, separadas por {@code "; "}.
+     *
+     * @return mensaje de error; vacío si la solicitud es válida
+     */
+    public String mensaje() {
+        StringBuilder mensaje = new StringBuilder();
+        for (int resto = motivos; resto != 0; resto &= resto - 1) {
+            if (!mensaje.isEmpty()) {
+                mensaje.append("; ");
+            }
+            mensaje.append(MOTIVOS[Integer.numberOfTrailingZeros(resto)].getMensaje());
+        }
+        return mensaje.toString();
+    }
+
+    @Override
+    public String toString() {
+        return esValido() ? "VALIDO" : getMotivos().toString();
+    }
+}
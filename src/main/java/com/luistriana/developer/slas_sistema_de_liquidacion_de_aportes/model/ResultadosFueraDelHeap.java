@@ -0,0 +1,250 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Resultados de un lote en columnas primitivas fuera del heap.
+ * <p>
+ * Los conceptos de {@link LiquidacionResponse} (en pesos {@code long}) y la máscara
+ * de motivos de rechazo de cada fila viven en un {@link ByteBuffer} directo que ya
+ * tiene la forma de un resultado en {@link FormatoColumnar}: encabezado, una columna
+ * por concepto y la columna de motivos. En el heap solo queda el objeto que envuelve
+ * el buffer, así que un lote de millones de filas no agrega trabajo al recolector
+ * de basura ni alarga sus pausas, y el resultado se transfiere a un canal tal cual,
+ * sin pasar por arreglos intermedios.
+ * </p>
+ *
+ * <p>
+ * El buffer se toma de una {@link ReservaMemoriaDirecta} y vuelve a ella con
+ * {@link #close()}, así que lotes sucesivos reutilizan la misma memoria nativa. Como
+ * un buffer reutilizado no se limpia, cada fila debe escribirse con
+ * {@link #escribir} o con {@link #rechazar} antes de leerse o transferirse. El
+ * total de memoria directa está limitado por {@code -XX:MaxDirectMemorySize} (por
+ * defecto, el mismo tamaño máximo del heap).
+ * </p>
+ *
+ * <p>
+ * No es seguro para uso concurrente salvo que cada hilo escriba en un rango de
+ * posiciones distinto.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResultadosLiquidacion
+ * @see FormatoColumnar
+ */
+public final class ResultadosFueraDelHeap implements DestinoLiquidacion, AutoCloseable {
+
+    /** Filas máximas: el resultado completo es un solo buffer de hasta 2 GB. */
+    public static final int CAPACIDAD_MAXIMA =
+            (Integer.MAX_VALUE - FormatoColumnar.ENCABEZADO) / FormatoColumnar.BYTES_FILA_RESULTADO;
+
+    private final int filas;
+    private final int anio;
+    private final ReservaMemoriaDirecta reserva;
+    private final ByteBuffer datos;
+
+    /** Bytes de una columna de conceptos. */
+    private final int columna;
+
+    /** Posición de la columna de motivos. */
+    private final int motivos;
+
+    private boolean cerrado;
+
+    /**
+     * Toma de la reserva el buffer de un lote y escribe su encabezado.
+     *
+     * @param filas   número de filas del lote
+     * @param anio    año de los parámetros aplicados
+     * @param reserva reserva de donde se toma el buffer y a donde vuelve al cerrar
+     * @throws IllegalArgumentException si {@code filas} es negativo o mayor que {@link #CAPACIDAD_MAXIMA}
+     */
+    public ResultadosFueraDelHeap(int filas, int anio, ReservaMemoriaDirecta reserva) {
+        if (filas < 0 || filas > CAPACIDAD_MAXIMA) {
+            throw new IllegalArgumentException("Filas fuera de rango: " + filas);
+        }
+        this.filas = filas;
+        this.anio = anio;
+        this.reserva = reserva;
+        this.columna = Long.BYTES * filas;
+        this.motivos = FormatoColumnar.ENCABEZADO + FormatoColumnar.COLUMNAS_RESULTADO * columna;
+        this.datos = reserva.tomar(motivos + Integer.BYTES * filas).order(FormatoColumnar.ORDEN);
+        datos.putInt(0, FormatoColumnar.MAGIA_RESULTADO);
+        datos.putInt(4, filas);
+        datos.putInt(8, anio);
+        datos.putInt(12, 0);
+    }
+
+    /**
+     * Obtiene el número de filas del lote.
+     *
+     * @return filas del lote
+     */
+    public int filas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene el año de los parámetros aplicados.
+     *
+     * @return año gravable
+     */
+    public int anio() {
+        return anio;
+    }
+
+    /**
+     * Escribe la liquidación de una fila válida.
+     *
+     * @param posicion posición de la fila
+     * @param ibc      IBC en pesos
+     * @param salud    aporte a salud en pesos
+     * @param pension  aporte a pensión en pesos
+     * @param fsp      aporte al FSP en pesos
+     * @param arl      aporte a ARL en pesos
+     * @param ccf      aporte a CCF en pesos
+     * @param total    total de aportes en pesos
+     */
+    @Override
+    public void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf, long total) {
+        int indice = FormatoColumnar.ENCABEZADO + Long.BYTES * posicion;
+        datos.putLong(indice, ibc);
+        datos.putLong(indice + columna, salud);
+        datos.putLong(indice + 2 * columna, pension);
+        datos.putLong(indice + 3 * columna, fsp);
+        datos.putLong(indice + 4 * columna, arl);
+        datos.putLong(indice + 5 * columna, ccf);
+        datos.putLong(indice + 6 * columna, total);
+        datos.putInt(motivos + Integer.BYTES * posicion, 0);
+    }
+
+    /**
+     * Escribe como válidas las filas {@code [desde, desde + filas)} con los conceptos
+     * de las posiciones {@code [0, filas)} de un {@link ResultadosLiquidacion}. Se
+     * copia columna por columna, en orden de memoria.
+     *
+     * @param desde  primera fila de destino
+     * @param origen resultados de un tramo, en pesos enteros
+     * @param filas  número de filas a copiar
+     */
+    public void escribir(int desde, ResultadosLiquidacion origen, int filas) {
+        double[][] columnas = { origen.getIbc(), origen.getSalud(), origen.getPension(), origen.getFsp(),
+                origen.getArl(), origen.getCcf(), origen.getTotal() };
+        for (int c = 0; c < columnas.length; c++) {
+            double[] valores = columnas[c];
+            int base = FormatoColumnar.ENCABEZADO + c * columna + Long.BYTES * desde;
+            for (int j = 0; j < filas; j++) {
+                datos.putLong(base + Long.BYTES * j, (long) valores[j]);
+            }
+        }
+        int base = motivos + Integer.BYTES * desde;
+        for (int j = 0; j < filas; j++) {
+            datos.putInt(base + Integer.BYTES * j, 0);
+        }
+    }
+
+    /**
+     * Marca una fila como rechazada. Sus conceptos quedan en cero.
+     *
+     * @param posicion posición de la fila
+     * @param motivos  bits {@code 1 << ordinal()} de los motivos de rechazo
+     */
+    public void rechazar(int posicion, int motivos) {
+        escribir(posicion, 0, 0, 0, 0, 0, 0, 0);
+        datos.putInt(this.motivos + Integer.BYTES * posicion, motivos);
+    }
+
+    /**
+     * Lee un concepto de una fila.
+     *
+     * @param posicion posición de la fila
+     * @param concepto columna en el orden de {@link LiquidacionResponse} (0 = ibc ... 6 = total)
+     * @return valor en pesos
+     */
+    public long concepto(int posicion, int concepto) {
+        return datos.getLong(FormatoColumnar.ENCABEZADO + concepto * columna + Long.BYTES * posicion);
+    }
+
+    /**
+     * Lee la máscara de motivos de rechazo de una fila.
+     *
+     * @param posicion posición de la fila
+     * @return 0 si la fila es válida; si no, bits {@code 1 << ordinal()} de los motivos
+     */
+    public int motivos(int posicion) {
+        return datos.getInt(motivos + Integer.BYTES * posicion);
+    }
+
+    /**
+     * Construye el DTO de respuesta de una fila.
+     *
+     * @param posicion posición de la fila
+     * @return liquidación de la fila
+     */
+    public LiquidacionResponse aResponse(int posicion) {
+        return new LiquidacionResponse(concepto(posicion, 0), concepto(posicion, 1), concepto(posicion, 2),
+                concepto(posicion, 3), concepto(posicion, 4), concepto(posicion, 5), concepto(posicion, 6));
+    }
+
+    /**
+     * Obtiene el tamaño del lote como resultado en {@link FormatoColumnar}.
+     *
+     * @return tamaño en bytes
+     */
+    public int tamanoColumnar() {
+        return datos.limit();
+    }
+
+    /**
+     * Escribe el lote en un canal como resultado en {@link FormatoColumnar}. Los
+     * bytes se escriben desde la memoria nativa sin copiarlos al heap, y se pueden
+     * escribir varias veces.
+     *
+     * @param canal canal de destino
+     * @throws IOException           si el canal falla
+     * @throws IllegalStateException si los resultados ya se cerraron
+     */
+    public void transferirA(WritableByteChannel canal) throws IOException {
+        verificarAbierto();
+        ByteBuffer pendiente = datos.duplicate();
+        while (pendiente.hasRemaining()) {
+            canal.write(pendiente);
+        }
+    }
+
+    /**
+     * Copia el lote a un buffer como resultado en {@link FormatoColumnar}, desde su
+     * posición actual.
+     *
+     * @param destino buffer con al menos {@link #tamanoColumnar()} bytes disponibles
+     * @throws IllegalStateException si los resultados ya se cerraron
+     */
+    public void copiarA(ByteBuffer destino) {
+        verificarAbierto();
+        destino.put(datos.duplicate());
+    }
+
+    /**
+     * Devuelve el buffer a la reserva. Después de cerrar, los resultados no deben
+     * usarse. Cerrar más de una vez no tiene efecto.
+     */
+    @Override
+    public void close() {
+        if (!cerrado) {
+            cerrado = true;
+            reserva.devolver(datos);
+        }
+    }
+
+    private void verificarAbierto() {
+        if (cerrado) {
+            throw new IllegalStateException("Los resultados ya se devolvieron a la reserva");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Búfer reutilizable de resultados de liquidación en formato de columnas
+ * (struct-of-arrays).
+ * <p>
+ * Cada concepto de {@link LiquidacionResponse} se guarda en su propio arreglo
+ * primitivo, de modo que el motor de cálculo puede liquidar millones de filas
+ * escribiendo en el mismo búfer sin crear un objeto por fila. La posición
+ * {@code i} de todas las columnas corresponde a la misma liquidación.
+ * </p>
+ *
+ * <p>
+ * No es seguro para uso concurrente salvo que cada hilo escriba en un rango de
+ * posiciones distinto.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionResponse
+ */
+public class ResultadosLiquidacion implements DestinoLiquidacion {
+
+    private final double[] ibc;
+    private final double[] salud;
+    private final double[] pension;
+    private final double[] fsp;
+    private final double[] arl;
+    private final double[] ccf;
+    private final double[] total;
+
+    /**
+     * Crea un búfer con la capacidad indicada.
+     *
+     * @param capacidad número de liquidaciones que puede contener
+     */
+    public ResultadosLiquidacion(int capacidad) {
+        this.ibc = new double[capacidad];
+        this.salud = new double[capacidad];
+        this.pension = new double[capacidad];
+        this.fsp = new double[capacidad];
+        this.arl = new double[capacidad];
+        this.ccf = new double[capacidad];
+        this.total = new double[capacidad];
+    }
+
+    /**
+     * Obtiene el número de liquidaciones que puede contener el búfer.
+     *
+     * @return capacidad del búfer
+     */
+    public int capacidad() {
+        return total.length;
+    }
+
+    /**
+     * Escribe la liquidación de una posición del búfer.
+     */
+    @Override
+    public void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf,
+            long total) {
+        this.ibc[posicion] = ibc;
+        this.salud[posicion] = salud;
+        this.pension[posicion] = pension;
+        this.fsp[posicion] = fsp;
+        this.arl[posicion] = arl;
+        this.ccf[posicion] = ccf;
+        this.total[posicion] = total;
+    }
+
+    /**
+     * Construye el DTO de respuesta de una posición del búfer.
+     *
+     * @param posicion posición de la liquidación
+     * @return liquidación de la posición indicada
+     */
+    public LiquidacionResponse aResponse(int posicion) {
+        return new LiquidacionResponse(ibc[posicion], salud[posicion], pension[posicion], fsp[posicion],
+                arl[posicion], ccf[posicion], total[posicion]);
+    }
+
+    public double[] getIbc() {
+        return ibc;
+    }
+
+    public double[] getSalud() {
+        return salud;
+    }
+
+    public double[] getPension() {
+        return pension;
+    }
+
+    public double[] getFsp() {
+        return fsp;
+    }
+
+    public double[] getArl() {
+        return arl;
+    }
+
+    public double[] getCcf() {
+        return ccf;
+    }
+
+    public double[] getTotal() {
+        return total;
+    }
+}
@@ -40,14 +40,14 @@ public enum RiesgoLaboralARL {
     /**
      * Porcentaje de cotización asociado al nivel de riesgo.
      */
-    private final Double porcentaje;
+    private final double porcentaje;
 
     /**
      * Constructor privado del enum.
      *
      * @param porcentaje porcentaje de cotización para este nivel de riesgo
      */
-    private RiesgoLaboralARL(Double porcentaje) {
+    private RiesgoLaboralARL(double porcentaje) {
         this.porcentaje = porcentaje;
     }
 
@@ -56,7 +56,7 @@ public enum RiesgoLaboralARL {
      *
      * @return porcentaje de cotización a ARL
      */
-    public Double getPorcentaje() {
+    public double getPorcentaje() {
         return porcentaje;
     }
 
@@ -0,0 +1,116 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Tabla precalculada de rangos del Fondo de Solidaridad Pensional (FSP) para un SMMLV.
+ * <p>
+ * Los rangos de {@link AportesFondoSolidarioPensionesFSP} se precalculan una sola
+ * vez, al construir la tabla, como un arreglo indexado por el número de SMMLV que
+ * alcanza el IBC. Seleccionar el rango de un IBC no requiere dividir por el SMMLV
+ * ni recorrer una cadena de comparaciones: el costo es el mismo para cualquier
+ * ingreso.
+ * </p>
+ *
+ * <p>
+ * La tabla es inmutable. Cada {@link ParametrosAnuales} construye la suya una sola
+ * vez, con el SMMLV del año, y los cálculos la toman de ahí.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see AportesFondoSolidarioPensionesFSP
+ */
+public final class TablaFsp {
+
+    private static final AportesFondoSolidarioPensionesFSP[] RANGOS = AportesFondoSolidarioPensionesFSP.values();
+
+    private final double smmlv;
+
+    /** Inverso del SMMLV, para ubicar el IBC en SMMLV con una multiplicación. */
+    private final double inversoSmmlv;
+
+    /**
+     * Posición del rango indexada por {@code j = ceil(ibc / SMMLV)}, es decir, el
+     * número de SMMLV que alcanza el IBC. La última posición agrupa todos los IBC
+     * que superan el último límite.
+     */
+    private final byte[] rangoPorSmmlv;
+
+    /** Porcentaje de cotización indexado por posición del rango. */
+    private final double[] porcentajes;
+
+    /**
+     * Construye la tabla de rangos para un SMMLV.
+     *
+     * @param smmlv Salario Mínimo Mensual Legal Vigente en pesos
+     */
+    public TablaFsp(double smmlv) {
+        this.smmlv = smmlv;
+        this.inversoSmmlv = 1.0 / smmlv;
+        this.porcentajes = new double[RANGOS.length];
+        for (int i = 0; i < RANGOS.length; i++) {
+            porcentajes[i] = RANGOS[i].getPorcentaje();
+        }
+
+        // los límites de la normativa son múltiplos enteros del SMMLV
+        int ultimoLimite = (int) RANGOS[RANGOS.length - 2].getLimiteSuperiorSmmlv();
+        this.rangoPorSmmlv = new byte[ultimoLimite + 2];
+        for (int j = 0; j < rangoPorSmmlv.length; j++) {
+            int rango = 0;
+            while (j > RANGOS[rango].getLimiteSuperiorSmmlv()) {
+                rango++;
+            }
+            rangoPorSmmlv[j] = (byte) rango;
+        }
+    }
+
+    /**
+     * Calcula la posición del rango FSP de un IBC.
+     * <p>
+     * Se estima {@code j = floor(ibc / SMMLV)} multiplicando por el inverso y se
+     * corrige con una sola comparación contra {@code j * SMMLV} (en pesos), lo que
+     * produce {@code ceil(ibc / SMMLV)} exacto y reproduce la comparación {@code <=}
+     * de {@link AportesFondoSolidarioPensionesFSP#ObtenerRango(double)}. El número
+     * de operaciones es el mismo para cualquier IBC: no hay cadena de comparaciones
+     * ni división.
+     * </p>
+     *
+     * @param ibc Ingreso Base de Cotización en pesos
+     * @return posición del rango, entre 0 y 6
+     */
+    public int indice(double ibc) {
+        int maximo = rangoPorSmmlv.length - 1;
+        int j = Math.min(Math.max((int) (ibc * inversoSmmlv), 0), maximo);
+        j += ibc > j * smmlv ? 1 : 0;
+        return rangoPorSmmlv[Math.min(j, maximo)];
+    }
+
+    /**
+     * Obtiene el porcentaje de cotización al FSP de un IBC.
+     *
+     * @param ibc Ingreso Base de Cotización en pesos
+     * @return porcentaje de cotización (0.0 a 0.02)
+     */
+    public double porcentaje(double ibc) {
+        return porcentajes[indice(ibc)];
+    }
+
+    /**
+     * Obtiene el rango FSP de un IBC.
+     *
+     * @param ibc Ingreso Base de Cotización en pesos
+     * @return rango FSP correspondiente
+     */
+    public AportesFondoSolidarioPensionesFSP rango(double ibc) {
+        return RANGOS[indice(ibc)];
+    }
+
+    /**
+     * Obtiene el SMMLV con el que se construyó la tabla.
+     *
+     * @return SMMLV en pesos
+     */
+    public double getSmmlv() {
+        return smmlv;
+    }
+}
@@ -0,0 +1,127 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Parámetros de un año gravable convertidos a enteros para la aritmética exacta.
+ * <p>
+ * Las tarifas se expresan en millonésimas (partes por millón: la tarifa de salud
+ * 0.125 es {@code 125_000}) y los montos en pesos o centavos {@code long}. El piso y
+ * el tope del IBC se guardan ya multiplicados por la tarifa del IBC, en la misma
+ * unidad que el producto {@code ingresoCentavos × tarifaIbc}, de modo que ubicar un
+ * ingreso frente a los límites no requiere dividir.
+ * </p>
+ *
+ * <p>
+ * La instancia se construye una sola vez junto con su {@link ParametrosAnuales} y es
+ * inmutable.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ParametrosAnuales#getTarifasExactas()
+ */
+public final class TarifasExactas {
+
+    /** Denominador de las tarifas expresadas en millonésimas. */
+    public static final long MILLON = 1_000_000;
+
+    private static final AportesFondoSolidarioPensionesFSP[] RANGOS_FSP = AportesFondoSolidarioPensionesFSP.values();
+
+    private final long smmlv;
+    private final long maxIbc;
+    private final long porcentajeIbc;
+    private final long salud;
+    private final long pension;
+    private final long pisoProducto;
+    private final long topeProducto;
+    private final long ingresoMaximo;
+    private final long[] fsp;
+
+    TarifasExactas(double smmlv, double minCalculoIbc, double maxCalculoIbc, double porcentajeIbc, double salud,
+            double pension) {
+        this.smmlv = Math.round(smmlv);
+        this.maxIbc = Math.round(maxCalculoIbc);
+        this.porcentajeIbc = millonesimas(porcentajeIbc);
+        this.salud = millonesimas(salud);
+        this.pension = millonesimas(pension);
+        // centavos × millonésimas: la misma unidad que ingresoCentavos × porcentajeIbc
+        this.pisoProducto = Math.round(minCalculoIbc * 100) * MILLON;
+        this.topeProducto = Math.round(maxCalculoIbc * 100) * MILLON;
+        // por encima de este ingreso el producto supera el tope (y podría desbordar un long)
+        this.ingresoMaximo = topeProducto / this.porcentajeIbc;
+        this.fsp = new long[RANGOS_FSP.length];
+        for (int i = 0; i < RANGOS_FSP.length; i++) {
+            fsp[i] = millonesimas(RANGOS_FSP[i].getPorcentaje());
+        }
+    }
+
+    /**
+     * Convierte una tarifa en millonésimas.
+     *
+     * @param tarifa tarifa como fracción (por ejemplo 0.125)
+     * @return tarifa en millonésimas (por ejemplo 125000)
+     */
+    public static long millonesimas(double tarifa) {
+        return Math.round(tarifa * MILLON);
+    }
+
+    /**
+     * Indica si una tarifa se representa sin pérdida en millonésimas.
+     *
+     * @param tarifa tarifa como fracción
+     * @return {@code true} si la tarifa tiene a lo sumo seis decimales
+     */
+    static boolean esRepresentable(double tarifa) {
+        return Math.abs(tarifa * MILLON - millonesimas(tarifa)) < 1e-6;
+    }
+
+    /** @return SMMLV en pesos (valor del IBC cuando no alcanza el piso) */
+    public long getSmmlv() {
+        return smmlv;
+    }
+
+    /** @return tope del IBC en pesos */
+    public long getMaxIbc() {
+        return maxIbc;
+    }
+
+    /** @return porcentaje del ingreso que forma el IBC, en millonésimas */
+    public long getPorcentajeIbc() {
+        return porcentajeIbc;
+    }
+
+    /** @return tarifa de salud en millonésimas */
+    public long getSalud() {
+        return salud;
+    }
+
+    /** @return tarifa de pensión en millonésimas */
+    public long getPension() {
+        return pension;
+    }
+
+    /** @return piso del IBC en centavos × millonésimas */
+    public long getPisoProducto() {
+        return pisoProducto;
+    }
+
+    /** @return tope del IBC en centavos × millonésimas */
+    public long getTopeProducto() {
+        return topeProducto;
+    }
+
+    /** @return mayor ingreso en centavos cuyo producto no supera el tope */
+    public long getIngresoMaximo() {
+        return ingresoMaximo;
+    }
+
+    /**
+     * Obtiene la tarifa FSP de una posición de rango.
+     *
+     * @param rango posición del rango según {@link TablaFsp#indice(double)}
+     * @return tarifa FSP en millonésimas
+     */
+    public long fsp(int rango) {
+        return fsp[rango];
+    }
+}
@@ -0,0 +1,40 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+/**
+ * Enumeración de tipos de documento de identificación del trabajador.
+ *
+ * <p><strong>Tipos:</strong></p>
+ * <ul>
+ *   <li>CC: Cédula de ciudadanía</li>
+ *   <li>CE: Cédula de extranjería</li>
+ *   <li>TI: Tarjeta de identidad</li>
+ *   <li>PA: Pasaporte</li>
+ *   <li>PT: Permiso por protección temporal</li>
+ *   <li>NIT: Número de identificación tributaria</li>
+ * </ul>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see Usuario
+ */
+public enum TipoDocumento {
+
+    /** Cédula de ciudadanía */
+    CC,
+
+    /** Cédula de extranjería */
+    CE,
+
+    /** Tarjeta de identidad */
+    TI,
+
+    /** Pasaporte */
+    PA,
+
+    /** Permiso por protección temporal */
+    PT,
+
+    /** Número de identificación tributaria */
+    NIT
+}
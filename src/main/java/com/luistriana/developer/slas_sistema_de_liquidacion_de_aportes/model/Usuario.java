@@ -1,7 +1,102 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import java.util.Objects;
+
 /**
- * encarga de representar los datos de un usuario 
+ * Encarga de representar los datos de un usuario (trabajador independiente).
+ * <p>
+ * El tipo y número de documento identifican al trabajador en el historial de
+ * liquidaciones. El número de documento admite hasta {@link #LONGITUD_MAXIMA_DOCUMENTO}
+ * letras o dígitos ASCII.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TipoDocumento
  */
 public class Usuario {
 
+    /** Número máximo de caracteres del número de documento. */
+    public static final int LONGITUD_MAXIMA_DOCUMENTO = 16;
+
+    /** Tipo de documento de identificación. */
+    private TipoDocumento tipoDocumento;
+
+    /** Número de documento de identificación. */
+    private String numeroDocumento;
+
+    /**
+     * Constructor por defecto.
+     */
+    public Usuario() {
+    }
+
+    /**
+     * Constructor con todos los parámetros.
+     *
+     * @param tipoDocumento   tipo de documento de identificación
+     * @param numeroDocumento número de documento de identificación
+     */
+    public Usuario(TipoDocumento tipoDocumento, String numeroDocumento) {
+        this.tipoDocumento = tipoDocumento;
+        this.numeroDocumento = numeroDocumento;
+    }
+
+    public TipoDocumento getTipoDocumento() {
+        return tipoDocumento;
+    }
+
+    public void setTipoDocumento(TipoDocumento tipoDocumento) {
+        this.tipoDocumento = tipoDocumento;
+    }
+
+    public String getNumeroDocumento() {
+        return numeroDocumento;
+    }
+
+    public void setNumeroDocumento(String numeroDocumento) {
+        this.numeroDocumento = numeroDocumento;
+    }
+
+    /**
+     * Indica si la identificación es completa y tiene un formato válido: tipo
+     * presente y número de 1 a {@link #LONGITUD_MAXIMA_DOCUMENTO} letras o dígitos ASCII.
+     *
+     * @return {@code true} si la identificación es válida
+     */
+    public boolean esIdentificacionValida() {
+        if (tipoDocumento == null || numeroDocumento == null || numeroDocumento.isEmpty()
+                || numeroDocumento.length() > LONGITUD_MAXIMA_DOCUMENTO) {
+            return false;
+        }
+        for (int i = 0; i < numeroDocumento.length(); i++) {
+            char c = numeroDocumento.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Usuario otro)) {
+            return false;
+        }
+        return tipoDocumento == otro.tipoDocumento && Objects.equals(numeroDocumento, otro.numeroDocumento);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tipoDocumento, numeroDocumento);
+    }
+
+    @Override
+    public String toString() {
+        return tipoDocumento + " " + numeroDocumento;
+    }
 }
@@ -0,0 +1,127 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request;
+
+import java.time.YearMonth;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ObjetivoCalculoInverso;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+
+/**
+ * DTO (Data Transfer Object) de solicitud para el cálculo inverso: el ingreso
+ * mensual que produce un neto o un total de aportes dado.
+ * <p>
+ * Los aportes voluntarios (ARL y CCF) y el periodo siguen las mismas reglas de
+ * {@link LiquidacionRequest}; en lugar del ingreso se envía el objetivo.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ObjetivoCalculoInverso
+ */
+public class CalculoInversoRequest {
+
+    /** Magnitud que se fija (NETO o TOTAL_APORTES). */
+    private ObjetivoCalculoInverso objetivo;
+
+    /** Valor objetivo en pesos. */
+    private Double valor;
+
+    /** Indica si el trabajador aporta a ARL. */
+    private Boolean aporteARL;
+
+    /** Indica si el trabajador aporta a CCF. */
+    private Boolean aportaCCF;
+
+    /** Nivel de riesgo ARL (requerido si aporteARL es true). */
+    private RiesgoLaboralARL nivelRiesgo;
+
+    /** Porcentaje CCF, 0.6 o 2.0 (requerido si aportaCCF es true). */
+    private Double porcentajeCCF;
+
+    /** Periodo de cotización (opcional; por defecto, el año en curso). */
+    private YearMonth periodo;
+
+    public ObjetivoCalculoInverso getObjetivo() {
+        return objetivo;
+    }
+
+    public void setObjetivo(ObjetivoCalculoInverso objetivo) {
+        this.objetivo = objetivo;
+    }
+
+    public Double getValor() {
+        return valor;
+    }
+
+    public void setValor(Double valor) {
+        this.valor = valor;
+    }
+
+    public Boolean getAporteARL() {
+        return aporteARL;
+    }
+
+    public void setAporteARL(Boolean aporteARL) {
+        this.aporteARL = aporteARL;
+    }
+
+    public Boolean getAportaCCF() {
+        return aportaCCF;
+    }
+
+    public void setAportaCCF(Boolean aportaCCF) {
+        this.aportaCCF = aportaCCF;
+    }
+
+    public RiesgoLaboralARL getNivelRiesgo() {
+        return nivelRiesgo;
+    }
+
+    public void setNivelRiesgo(RiesgoLaboralARL nivelRiesgo) {
+        this.nivelRiesgo = nivelRiesgo;
+    }
+
+    public Double getPorcentajeCCF() {
+        return porcentajeCCF;
+    }
+
+    public void setPorcentajeCCF(Double porcentajeCCF) {
+        this.porcentajeCCF = porcentajeCCF;
+    }
+
+    public YearMonth getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(YearMonth periodo) {
+        this.periodo = periodo;
+    }
+
+    /**
+     * Constructor con todos los parámetros.
+     *
+     * @param objetivo      magnitud que se fija
+     * @param valor         valor objetivo en pesos
+     * @param aporteARL     indica si aporta a ARL
+     * @param aportaCCF     indica si aporta a CCF
+     * @param nivelRiesgo   nivel de riesgo ARL
+     * @param porcentajeCCF porcentaje CCF
+     * @param periodo       periodo de cotización (opcional)
+     */
+    public CalculoInversoRequest(ObjetivoCalculoInverso objetivo, Double valor, Boolean aporteARL, Boolean aportaCCF,
+            RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF, YearMonth periodo) {
+        this.objetivo = objetivo;
+        this.valor = valor;
+        this.aporteARL = aporteARL;
+        this.aportaCCF = aportaCCF;
+        this.nivelRiesgo = nivelRiesgo;
+        this.porcentajeCCF = porcentajeCCF;
+        this.periodo = periodo;
+    }
+
+    /**
+     * Constructor por defecto.
+     */
+    public CalculoInversoRequest() {
+    }
+}
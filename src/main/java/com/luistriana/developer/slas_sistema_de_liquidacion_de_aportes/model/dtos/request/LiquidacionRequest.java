@@ -1,6 +1,9 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request;
 
+import java.time.YearMonth;
+
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -29,6 +32,10 @@ import jakarta.validation.constraints.Positive;
  * <li>nivelRiesgo: Requerido solo si aporteARL es true</li>
  * <li>porcentajeCCF: Requerido solo si aportaCCF es true (valores: 0.6 o
  * 2.0)</li>
+ * <li>periodo: Opcional, mes liquidado en formato {@code AAAA-MM}; por defecto el
+ * mes en curso. Determina los parámetros anuales (SMMLV, tarifas) aplicados</li>
+ * <li>usuario: Opcional, identificación del trabajador. Si se envía, la
+ * liquidación se registra en el historial del periodo</li>
  * </ul>
  *
  * @author Luis Miguel Triana Rueda
@@ -74,6 +81,18 @@ public class LiquidacionRequest {
      */
     private Double porcentajeCCF;
 
+    /**
+     * Periodo (año y mes) que se liquida, en formato {@code AAAA-MM}.
+     * Este campo es opcional; si se omite se liquida con los parámetros del año en curso.
+     */
+    private YearMonth periodo;
+
+    /**
+     * Trabajador al que corresponde la liquidación.
+     * Este campo es opcional; las cotizaciones sin usuario no se registran en el historial.
+     */
+    private Usuario usuario;
+
     public Double getIngresosMensual() {
         return ingresosMensual;
     }
@@ -114,6 +133,22 @@ public class LiquidacionRequest {
         this.aportaCCF = aportaCCF;
     }
 
+    public YearMonth getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(YearMonth periodo) {
+        this.periodo = periodo;
+    }
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public void setUsuario(Usuario usuario) {
+        this.usuario = usuario;
+    }
+
     /**
      * Constructor con todos los parámetros.
      *
@@ -127,11 +162,27 @@ public class LiquidacionRequest {
      */
     public LiquidacionRequest(Double ingresosMensual, Boolean aporteARL, Boolean aportaCCF,
             RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF) {
+        this(ingresosMensual, aporteARL, aportaCCF, nivelRiesgo, porcentajeCCF, null);
+    }
+
+    /**
+     * Constructor con todos los parámetros, incluido el periodo liquidado.
+     *
+     * @param ingresosMensual ingreso mensual bruto del trabajador
+     * @param aporteARL       indica si aporta a ARL
+     * @param aportaCCF       indica si aporta a CCF
+     * @param nivelRiesgo     nivel de riesgo laboral (opcional)
+     * @param porcentajeCCF   porcentaje CCF (opcional)
+     * @param periodo         periodo liquidado (opcional, por defecto el mes en curso)
+     */
+    public LiquidacionRequest(Double ingresosMensual, Boolean aporteARL, Boolean aportaCCF,
+            RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF, YearMonth periodo) {
         this.ingresosMensual = ingresosMensual;
         this.aporteARL = aporteARL;
         this.aportaCCF = aportaCCF;
         this.nivelRiesgo = nivelRiesgo;
         this.porcentajeCCF = porcentajeCCF;
+        this.periodo = periodo;
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+
+/**
+ * DTO (Data Transfer Object) de solicitud para reliquidar el historial de liquidaciones.
+ * <p>
+ * Todos los campos son opcionales:
+ * </p>
+ * <ul>
+ * <li>desde / hasta: rango de periodos ({@code AAAA-MM}, inclusive) a reliquidar;
+ * sin límites se reliquida todo el diario</li>
+ * <li>parametros: parámetros que reemplazan a los del registro para los años
+ * indicados (por ejemplo, un SMMLV decretado tarde); los demás años se
+ * reliquidan con los parámetros cargados en el registro</li>
+ * </ul>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ParametrosAnuales
+ */
+public class ReliquidacionRequest {
+
+    /** Primer periodo a reliquidar (inclusive). */
+    private YearMonth desde;
+
+    /** Último periodo a reliquidar (inclusive). */
+    private YearMonth hasta;
+
+    /** Parámetros que reemplazan a los del registro para sus años. */
+    private List<ParametrosAnuales> parametros;
+
+    public YearMonth getDesde() {
+        return desde;
+    }
+
+    public void setDesde(YearMonth desde) {
+        this.desde = desde;
+    }
+
+    public YearMonth getHasta() {
+        return hasta;
+    }
+
+    public void setHasta(YearMonth hasta) {
+        this.hasta = hasta;
+    }
+
+    public List<ParametrosAnuales> getParametros() {
+        return parametros;
+    }
+
+    public void setParametros(List<ParametrosAnuales> parametros) {
+        this.parametros = parametros;
+    }
+
+    /**
+     * Constructor con todos los parámetros.
+     *
+     * @param desde      primer periodo a reliquidar (opcional)
+     * @param hasta      último periodo a reliquidar (opcional)
+     * @param parametros parámetros que reemplazan a los del registro (opcional)
+     */
+    public ReliquidacionRequest(YearMonth desde, YearMonth hasta, List<ParametrosAnuales> parametros) {
+        this.desde = desde;
+        this.hasta = hasta;
+        this.parametros = parametros;
+    }
+
+    /**
+     * Constructor por defecto.
+     */
+    public ReliquidacionRequest() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con los totales acumulados de las
+ * liquidaciones calculadas en un mes calendario.
+ *
+ * @param mes           mes calendario en que se calcularon las liquidaciones
+ * @param liquidaciones número de liquidaciones calculadas
+ * @param ibc           suma de los IBC, en pesos
+ * @param salud         suma de aportes a salud, en pesos
+ * @param pension       suma de aportes a pensión, en pesos
+ * @param fsp           suma de aportes al Fondo de Solidaridad Pensional, en pesos
+ * @param arl           suma de aportes a ARL, en pesos
+ * @param ccf           suma de aportes a CCF, en pesos
+ * @param total         suma de todos los aportes, en pesos
+ * @param arlPorNivel   acumulado de ARL por nivel de riesgo
+ * @param ccfPorTarifa  acumulado de CCF por porcentaje
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record AcumuladoMensualResponse(YearMonth mes, long liquidaciones, long ibc, long salud, long pension,
+        long fsp, long arl, long ccf, long total, List<AcumuladoTarifaResponse> arlPorNivel,
+        List<AcumuladoTarifaResponse> ccfPorTarifa) {
+}
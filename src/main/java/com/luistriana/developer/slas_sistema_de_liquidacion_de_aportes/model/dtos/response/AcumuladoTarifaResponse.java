@@ -0,0 +1,23 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con el acumulado del mes de un aporte
+ * voluntario para un nivel ARL o un porcentaje CCF.
+ *
+ * @param nivelRiesgo    nivel ARL acumulado, o {@code null} si es un acumulado de CCF
+ * @param porcentajeCCF  porcentaje CCF acumulado, o {@code null} si es un acumulado de ARL
+ * @param liquidaciones  número de liquidaciones con ese nivel o porcentaje
+ * @param total          suma de los aportes, en pesos
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see AcumuladoMensualResponse
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AcumuladoTarifaResponse(RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF, long liquidaciones,
+        long total) {
+}
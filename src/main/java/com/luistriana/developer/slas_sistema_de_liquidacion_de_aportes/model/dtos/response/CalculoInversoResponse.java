@@ -0,0 +1,17 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+/**
+ * DTO (Data Transfer Object) de respuesta del cálculo inverso.
+ *
+ * @param ingresosMensual menor ingreso mensual, en pesos enteros, que alcanza el objetivo
+ * @param neto            ingreso mensual menos el total de aportes
+ * @param liquidacion     liquidación completa del ingreso encontrado
+ * @param evaluaciones    número de liquidaciones evaluadas para encontrarlo
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record CalculoInversoResponse(double ingresosMensual, double neto, LiquidacionResponse liquidacion,
+        int evaluaciones) {
+}
@@ -0,0 +1,17 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con la parte de la liquidación de un
+ * trabajador que corresponde a uno de sus contratos.
+ *
+ * @param indice          posición del contrato en la entrada (base cero)
+ * @param ingresosMensual ingreso mensual del contrato
+ * @param liquidacion     parte de cada concepto asignada al contrato en proporción a su ingreso
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionTrabajadorResponse
+ */
+public record ContratoLiquidadoResponse(int indice, double ingresosMensual, LiquidacionResponse liquidacion) {
+}
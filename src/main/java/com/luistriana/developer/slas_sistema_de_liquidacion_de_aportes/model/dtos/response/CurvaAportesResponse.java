@@ -0,0 +1,27 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con la curva de aportes de una grilla de
+ * ingresos en formato de columnas.
+ * <p>
+ * Cada arreglo tiene una posición por ingreso de la grilla. El IBC y los aportes
+ * obligatorios (salud, pensión y FSP) no dependen de ARL ni CCF y se envían una sola
+ * vez; cada serie trae solo el total de su combinación de aportes voluntarios.
+ * </p>
+ *
+ * @param anio         año de los parámetros aplicados
+ * @param ingresos     ingresos mensuales de la grilla, en pesos
+ * @param ibc          IBC de cada ingreso, en pesos
+ * @param obligatorios salud + pensión + FSP de cada ingreso, en pesos
+ * @param series       total de aportes por combinación de nivel ARL y porcentaje CCF
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SerieCurvaResponse
+ */
+public record CurvaAportesResponse(int anio, long[] ingresos, long[] ibc, long[] obligatorios,
+        List<SerieCurvaResponse> series) {
+}
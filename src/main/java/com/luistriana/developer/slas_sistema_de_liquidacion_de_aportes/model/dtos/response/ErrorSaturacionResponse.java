@@ -0,0 +1,32 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import java.util.List;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+
+/**
+ * DTO (Data Transfer Object) de respuesta para una solicitud que no se pudo atender
+ * por falta de capacidad (HTTP 503).
+ * <p>
+ * Tiene la misma forma que {@link ErrorValidacionResponse}, así que los clientes leen
+ * el código y el mensaje de la misma manera en ambos casos.
+ * </p>
+ *
+ * <p><strong>Ejemplo:</strong></p>
+ * <pre>
+ * {
+ *   "motivos": ["TRABAJOS_SATURADOS"],
+ *   "mensaje": "Hay demasiados trabajos pendientes; intente de nuevo más tarde"
+ * }
+ * </pre>
+ *
+ * @param motivos código del recurso agotado
+ * @param mensaje descripción del recurso agotado
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotivoSaturacion
+ */
+public record ErrorSaturacionResponse(List<MotivoSaturacion> motivos, String mensaje) {
+}
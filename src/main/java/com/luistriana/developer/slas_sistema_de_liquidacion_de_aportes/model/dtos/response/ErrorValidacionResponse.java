@@ -0,0 +1,31 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import java.util.List;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+
+/**
+ * DTO (Data Transfer Object) de respuesta para una solicitud rechazada (HTTP 400).
+ * <p>
+ * Contiene todas las violaciones encontradas en la solicitud, como códigos estables
+ * y como mensaje legible.
+ * </p>
+ *
+ * <p><strong>Ejemplo:</strong></p>
+ * <pre>
+ * {
+ *   "motivos": ["INGRESO_NO_POSITIVO", "ARL_SIN_NIVEL"],
+ *   "mensaje": "El ingreso debe ser mayor a cero; Si aporta a ARL, debe especificar nivel de riesgo"
+ * }
+ * </pre>
+ *
+ * @param motivos códigos de las violaciones encontradas
+ * @param mensaje descripción de las violaciones, separadas por {@code "; "}
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotivoRechazo
+ */
+public record ErrorValidacionResponse(List<MotivoRechazo> motivos, String mensaje) {
+}
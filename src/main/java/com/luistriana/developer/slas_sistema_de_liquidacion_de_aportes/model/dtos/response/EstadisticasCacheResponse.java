@@ -0,0 +1,19 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con las estadísticas de la caché de
+ * liquidaciones.
+ *
+ * @param aciertos      solicitudes resueltas desde la caché
+ * @param fallos        solicitudes que tuvieron que calcularse
+ * @param tasaAciertos  proporción de aciertos sobre el total (0 a 1)
+ * @param desalojos     entradas desalojadas por tamaño o expiración
+ * @param tamano        número estimado de entradas almacenadas
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record EstadisticasCacheResponse(long aciertos, long fallos, double tasaAciertos, long desalojos,
+        long tamano) {
+}
@@ -0,0 +1,22 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con el resultado de importar y liquidar
+ * un archivo de nómina.
+ *
+ * @param formato             formato del archivo
+ * @param bytes               tamaño del archivo
+ * @param bloques             bloques en que se dividió el archivo
+ * @param milisegundos        tiempo de lectura y liquidación
+ * @param megabytesPorSegundo velocidad de lectura y liquidación (10^6 bytes por segundo)
+ * @param totales             totales por concepto, con las filas leídas y las rechazadas
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record ImportacionNominaResponse(FormatoNomina formato, long bytes, int bloques, long milisegundos,
+        double megabytesPorSegundo, TotalesLiquidacionResponse totales) {
+}
@@ -0,0 +1,36 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con la liquidación consolidada de un
+ * trabajador con varios contratos en un periodo.
+ * <p>
+ * La liquidación se calcula una sola vez sobre el ingreso sumado de todos los
+ * contratos (el tope de 25 SMMLV del IBC se aplica al total) y luego cada concepto se
+ * reparte entre los contratos en proporción a su ingreso.
+ * </p>
+ *
+ * @param usuario         trabajador
+ * @param periodo         periodo liquidado
+ * @param ingresosMensual ingreso mensual sumado de los contratos
+ * @param nivelRiesgo     nivel ARL más alto de los contratos, o {@code null} si ninguno aporta
+ * @param porcentajeCCF   porcentaje CCF más alto de los contratos, o {@code null} si ninguno aporta
+ * @param liquidacion     liquidación consolidada del trabajador
+ * @param contratos       parte de la liquidación de cada contrato
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ContratoLiquidadoResponse
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LiquidacionTrabajadorResponse(Usuario usuario, YearMonth periodo, double ingresosMensual,
+        RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF, LiquidacionResponse liquidacion,
+        List<ContratoLiquidadoResponse> contratos) {
+}
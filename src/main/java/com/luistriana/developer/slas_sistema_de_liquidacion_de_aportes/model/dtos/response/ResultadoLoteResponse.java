@@ -0,0 +1,47 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO (Data Transfer Object) de respuesta para cada elemento de una liquidación por lote.
+ * <p>
+ * Cada elemento conserva la posición que ocupaba la solicitud en el lote recibido
+ * y contiene exactamente uno de dos valores: la liquidación calculada o el mensaje
+ * de error de validación. De esta forma una fila inválida no interrumpe el
+ * procesamiento del resto del lote.
+ * </p>
+ *
+ * @param indice      posición de la solicitud dentro del lote (base cero)
+ * @param liquidacion detalle de la liquidación, o {@code null} si la fila es inválida
+ * @param error       mensaje de validación, o {@code null} si la fila se liquidó
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionResponse
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ResultadoLoteResponse(int indice, LiquidacionResponse liquidacion, String error) {
+
+    /**
+     * Crea el resultado de una fila liquidada correctamente.
+     *
+     * @param indice      posición de la solicitud dentro del lote
+     * @param liquidacion detalle de la liquidación calculada
+     * @return resultado exitoso
+     */
+    public static ResultadoLoteResponse exitoso(int indice, LiquidacionResponse liquidacion) {
+        return new ResultadoLoteResponse(indice, liquidacion, null);
+    }
+
+    /**
+     * Crea el resultado de una fila rechazada por validación.
+     *
+     * @param indice posición de la solicitud dentro del lote
+     * @param error  mensaje descriptivo del error de validación
+     * @return resultado fallido
+     */
+    public static ResultadoLoteResponse fallido(int indice, String error) {
+        return new ResultadoLoteResponse(indice, null, error);
+    }
+}
@@ -0,0 +1,25 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con el resumen de una reliquidación del historial.
+ * <p>
+ * Las sumas por concepto se expresan con la misma estructura de
+ * {@link LiquidacionResponse}: {@code anterior} suma lo registrado, {@code nueva}
+ * lo reliquidado y {@code diferencia} es {@code nueva - anterior} por concepto.
+ * </p>
+ *
+ * @param filas              registros reliquidados (dentro del rango de periodos)
+ * @param filasCambiadas     registros cuyo resultado cambió
+ * @param filasSinParametros registros omitidos por no haber parámetros para su año
+ * @param anterior           sumas por concepto de las liquidaciones registradas
+ * @param nueva              sumas por concepto de las liquidaciones recalculadas
+ * @param diferencia         diferencia por concepto ({@code nueva - anterior})
+ * @param duracionMs         duración de la reliquidación en milisegundos
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record ResumenReliquidacionResponse(long filas, long filasCambiadas, long filasSinParametros,
+        LiquidacionResponse anterior, LiquidacionResponse nueva, LiquidacionResponse diferencia, long duracionMs) {
+}
@@ -0,0 +1,21 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con una serie de la curva de aportes: el
+ * total de aportes de cada ingreso de la grilla para una combinación de ARL y CCF.
+ *
+ * @param nivelRiesgo   nivel ARL de la serie, o {@code null} si no aporta a ARL
+ * @param porcentajeCCF porcentaje CCF de la serie, o {@code null} si no aporta a CCF
+ * @param total         total de aportes en pesos, alineado con {@link CurvaAportesResponse#ingresos()}
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see CurvaAportesResponse
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SerieCurvaResponse(RiesgoLaboralARL nivelRiesgo, Double porcentajeCCF, long[] total) {
+}
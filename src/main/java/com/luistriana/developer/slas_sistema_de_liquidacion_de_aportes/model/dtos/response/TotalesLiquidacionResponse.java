@@ -0,0 +1,25 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+/**
+ * DTO (Data Transfer Object) con los totales acumulados de un conjunto de liquidaciones.
+ * <p>
+ * Se emite al final de los procesos por flujo (NDJSON/CSV) para que el cliente
+ * pueda conciliar el total por concepto sin volver a sumar cada fila.
+ * </p>
+ *
+ * @param filas          número de filas recibidas
+ * @param filasConError  número de filas rechazadas por validación
+ * @param salud          suma de aportes a salud
+ * @param pension        suma de aportes a pensión
+ * @param fsp            suma de aportes al Fondo de Solidaridad Pensional
+ * @param arl            suma de aportes a ARL
+ * @param ccf            suma de aportes a CCF
+ * @param total          suma de todos los aportes
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record TotalesLiquidacionResponse(long filas, long filasConError, double salud, double pension,
+        double fsp, double arl, double ccf, double total) {
+}
@@ -0,0 +1,30 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.EstadoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoTrabajo;
+
+/**
+ * DTO (Data Transfer Object) de respuesta con el estado y el avance de un trabajo
+ * asíncrono de liquidación.
+ *
+ * @param id              identificador del trabajo
+ * @param formato         formato del archivo de entrada
+ * @param estado          estado del trabajo
+ * @param filasProcesadas filas liquidadas o rechazadas hasta el momento (incluye las
+ *                        partes recuperadas de una ejecución anterior)
+ * @param filasConError   filas rechazadas hasta el momento
+ * @param filasPorSegundo filas calculadas por segundo en la ejecución actual
+ * @param partesCompletas partes del archivo ya escritas en disco
+ * @param totales         totales por concepto (solo si el trabajo está completado)
+ * @param error           descripción del error (solo si el trabajo falló)
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TrabajoResponse(String id, FormatoTrabajo formato, EstadoTrabajo estado, long filasProcesadas,
+        long filasConError, double filasPorSegundo, int partesCompletas, TotalesLiquidacionResponse totales,
+        String error) {
+}
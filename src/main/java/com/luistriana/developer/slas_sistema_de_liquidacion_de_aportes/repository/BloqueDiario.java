@@ -0,0 +1,145 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository;
+
+import java.nio.ByteBuffer;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Vista de solo lectura de un rango contiguo de registros del diario.
+ * <p>
+ * Los campos se leen directamente del búfer (normalmente un archivo mapeado en
+ * memoria) como valores primitivos, sin crear un objeto por registro. Las
+ * posiciones son relativas al bloque: la posición {@code i} corresponde al registro
+ * {@code primero() + i} del diario.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see DiarioLiquidaciones#bloque(int, int)
+ */
+public final class BloqueDiario {
+
+    private final ByteBuffer datos;
+    private final int primero;
+    private final int tamano;
+
+    BloqueDiario(ByteBuffer datos, int primero, int tamano) {
+        this.datos = datos;
+        this.primero = primero;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Obtiene el número de registro del diario de la primera posición del bloque.
+     *
+     * @return número del primer registro
+     */
+    public int primero() {
+        return primero;
+    }
+
+    /**
+     * Obtiene el número de registros del bloque.
+     *
+     * @return registros del bloque
+     */
+    public int tamano() {
+        return tamano;
+    }
+
+    /**
+     * Lee el periodo liquidado codificado como {@code AAAAMM}.
+     *
+     * @param i posición en el bloque
+     * @return periodo codificado
+     */
+    public int periodo(int i) {
+        return FormatoDiario.periodo(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Lee el ingreso mensual.
+     *
+     * @param i posición en el bloque
+     * @return ingreso mensual bruto
+     */
+    public double ingreso(int i) {
+        return FormatoDiario.ingreso(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Lee el código de nivel ARL.
+     *
+     * @param i posición en el bloque
+     * @return código de nivel, o {@code MotorCalculoExacto.SIN_ARL} si no aporta
+     */
+    public int nivelArl(int i) {
+        return FormatoDiario.nivelArl(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Lee el porcentaje CCF.
+     *
+     * @param i posición en el bloque
+     * @return porcentaje CCF (0 si no aporta)
+     */
+    public double porcentajeCcf(int i) {
+        return FormatoDiario.porcentajeCcf(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Lee uno de los valores liquidados.
+     *
+     * @param i        posición en el bloque
+     * @param concepto índice del valor en el orden de {@link LiquidacionResponse}
+     *                 (0 = ibc ... 6 = total)
+     * @return valor liquidado
+     */
+    public double concepto(int i, int concepto) {
+        return FormatoDiario.concepto(datos, i * FormatoDiario.TAMANO_REGISTRO, concepto);
+    }
+
+    /**
+     * Decodifica los valores liquidados.
+     *
+     * @param i posición en el bloque
+     * @return resultado de la liquidación registrada
+     */
+    public LiquidacionResponse liquidacion(int i) {
+        return FormatoDiario.liquidacion(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Decodifica el usuario.
+     *
+     * @param i posición en el bloque
+     * @return usuario que identificó la solicitud
+     */
+    public Usuario usuario(int i) {
+        return FormatoDiario.usuario(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Lee el tipo de documento del trabajador.
+     *
+     * @param i posición en el bloque
+     * @return tipo de documento
+     */
+    public TipoDocumento tipoDocumento(int i) {
+        return FormatoDiario.tipoDocumento(datos, i * FormatoDiario.TAMANO_REGISTRO);
+    }
+
+    /**
+     * Copia el número de documento del trabajador en ASCII, sin crear objetos.
+     *
+     * @param i       posición en el bloque
+     * @param destino arreglo de al menos 16 bytes que recibe el número
+     * @return longitud del número de documento
+     */
+    public int numeroDocumento(int i, byte[] destino) {
+        return FormatoDiario.numeroDocumento(datos, i * FormatoDiario.TAMANO_REGISTRO, destino);
+    }
+}
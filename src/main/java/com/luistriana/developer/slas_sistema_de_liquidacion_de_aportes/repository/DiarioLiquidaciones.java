@@ -0,0 +1,459 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RegistroLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.ObservadorLiquidacion;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Diario en disco de las liquidaciones calculadas, de solo anexado.
+ * <p>
+ * Cada liquidación de una solicitud con {@link com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario usuario}
+ * se codifica como un registro de ancho fijo ({@link FormatoDiario}) y se anexa al
+ * archivo {@code slas.diario.archivo} con un {@link FileChannel}. Así las auditorías
+ * consultan liquidaciones pasadas por periodo o por trabajador sin recalcularlas.
+ * </p>
+ *
+ * <p><strong>Confirmación en grupo:</strong></p>
+ * <p>
+ * Los hilos que liquidan solo codifican el registro y lo encolan. Un único hilo
+ * escritor toma de la cola hasta {@code slas.diario.tamano-grupo} registros, los
+ * escribe con una sola llamada y hace un único {@link FileChannel#force(boolean)}
+ * por grupo: con carga alta el costo de sincronizar el disco se reparte entre muchas
+ * liquidaciones. Si la cola ({@code slas.diario.capacidad-cola}) se llena, los hilos
+ * que liquidan esperan a que el escritor la vacíe, pero a lo sumo
+ * {@code slas.diario.espera-cola}: si el disco no responde, el registro se descarta
+ * con una advertencia y su futuro falla con {@link TimeoutException}, en lugar de
+ * dejar bloqueados indefinidamente los hilos que atienden solicitudes.
+ * </p>
+ *
+ * <p>
+ * Un registro solo entra al índice (y es visible en las consultas) después de
+ * confirmarse en disco. Al abrir el diario se recorre el archivo, se reconstruye el
+ * índice y se trunca el grupo final si quedó escrito a medias.
+ * </p>
+ *
+ * <p>
+ * Está deshabilitado por defecto ({@code slas.diario.habilitado}); el archivo vive
+ * bajo el directorio de datos {@code slas.datos.directorio}.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see FormatoDiario
+ * @see IndiceDiario
+ */
+@Repository
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+public class DiarioLiquidaciones implements ObservadorLiquidacion {
+
+    private static final Logger log = LoggerFactory.getLogger(DiarioLiquidaciones.class);
+
+    /** Registros leídos por bloque al reconstruir el índice. */
+    private static final int REGISTROS_POR_BLOQUE = 4096;
+
+    /**
+     * Registro codificado pendiente de escribir.
+     *
+     * @param datos      registro de {@link FormatoDiario#TAMANO_REGISTRO} bytes
+     * @param confirmado se completa con el número de registro al confirmarse en disco
+     */
+    private record Pendiente(byte[] datos, CompletableFuture<Integer> confirmado) {
+    }
+
+    /** Marca de fin que detiene al hilo escritor. */
+    private static final Pendiente FIN = new Pendiente(new byte[0], null);
+
+    private final Path archivo;
+    private final FileChannel canal;
+    private final IndiceDiario indice = new IndiceDiario();
+    private final BlockingQueue<Pendiente> cola;
+    private final int tamanoGrupo;
+    private final long esperaColaNanos;
+    private final Clock reloj;
+    private final Thread escritor;
+
+    /** Registros confirmados; solo lo modifica el hilo escritor. */
+    private volatile int registros;
+
+    /** Grupos escritos desde que se abrió el diario. */
+    private volatile long grupos;
+
+    private volatile boolean cerrado;
+
+    /**
+     * Abre (o crea) un diario con una espera de cola de 5 segundos y el reloj de la
+     * zona predeterminada.
+     *
+     * @param archivo       ruta del archivo del diario
+     * @param capacidadCola registros pendientes que admite la cola antes de esperar
+     * @param tamanoGrupo   registros máximos por escritura y sincronización
+     * @throws UncheckedIOException si el diario no se puede abrir
+     */
+    public DiarioLiquidaciones(String archivo, int capacidadCola, int tamanoGrupo) {
+        this(archivo, capacidadCola, tamanoGrupo, Duration.ofSeconds(5), RelojConfig.relojPredeterminado());
+    }
+
+    /**
+     * Constructor con inyección de dependencias. Abre (o crea) el diario, reconstruye
+     * el índice e inicia el hilo escritor.
+     *
+     * @param archivo       ruta del archivo del diario
+     * @param capacidadCola registros pendientes que admite la cola antes de esperar
+     * @param tamanoGrupo   registros máximos por escritura y sincronización
+     * @param esperaCola    espera máxima por un lugar en la cola llena
+     * @param reloj         reloj que define la fecha de registro y el periodo en curso
+     * @throws IllegalArgumentException si la capacidad, el tamaño de grupo o la espera no son positivos
+     * @throws UncheckedIOException     si el diario no se puede abrir
+     */
+    @Autowired
+    public DiarioLiquidaciones(
+            @Value("${slas.diario.archivo:${slas.datos.directorio:data}/liquidaciones.diario}") String archivo,
+            @Value("${slas.diario.capacidad-cola:65536}") int capacidadCola,
+            @Value("${slas.diario.tamano-grupo:1024}") int tamanoGrupo,
+            @Value("${slas.diario.espera-cola:PT5S}") Duration esperaCola, Clock reloj) {
+        if (capacidadCola < 1 || tamanoGrupo < 1 || esperaCola.isNegative() || esperaCola.isZero()) {
+            throw new IllegalArgumentException(
+                    "slas.diario.capacidad-cola, slas.diario.tamano-grupo y slas.diario.espera-cola deben ser positivos");
+        }
+        this.archivo = Path.of(archivo);
+        this.tamanoGrupo = tamanoGrupo;
+        this.esperaColaNanos = esperaCola.toNanos();
+        this.reloj = reloj;
+        this.cola = new ArrayBlockingQueue<>(capacidadCola);
+        try {
+            Path directorio = this.archivo.toAbsolutePath().getParent();
+            if (directorio != null) {
+                Files.createDirectories(directorio);
+            }
+            this.canal = FileChannel.open(this.archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.registros = recuperar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el diario de liquidaciones " + archivo, e);
+        }
+        this.escritor = Thread.ofPlatform().name("slas-diario").daemon().start(this::escribirGrupos);
+        log.info("Diario de liquidaciones {} abierto con {} registros", this.archivo, registros);
+    }
+
+    /**
+     * Registra en el diario cada liquidación de una solicitud identificada con usuario.
+     * <p>
+     * Las solicitudes sin usuario no se registran. Si la solicitud no indica periodo,
+     * se registra el mes en curso según el reloj de la aplicación.
+     * </p>
+     */
+    @Override
+    public void liquidada(LiquidacionRequest request, ParametrosAnuales parametros, LiquidacionResponse liquidacion) {
+        if (request.getUsuario() != null) {
+            registrar(request, parametros.getAnio(), liquidacion);
+        }
+    }
+
+    /**
+     * Codifica una liquidación y la encola para el hilo escritor.
+     *
+     * @param request        solicitud válida con usuario
+     * @param anioParametros año de los parámetros aplicados
+     * @param liquidacion    resultado de la liquidación
+     * @return futuro que se completa con el número de registro cuando el grupo que lo
+     *         contiene se confirma en disco, o excepcionalmente si la escritura falla o
+     *         la cola sigue llena después de {@code slas.diario.espera-cola}
+     */
+    public CompletableFuture<Integer> registrar(LiquidacionRequest request, int anioParametros,
+            LiquidacionResponse liquidacion) {
+        CompletableFuture<Integer> confirmado = new CompletableFuture<>();
+        if (cerrado) {
+            confirmado.completeExceptionally(new IllegalStateException("El diario de liquidaciones está cerrado"));
+            return confirmado;
+        }
+        YearMonth periodo = request.getPeriodo() != null ? request.getPeriodo() : YearMonth.now(reloj);
+        byte[] datos = new byte[FormatoDiario.TAMANO_REGISTRO];
+        FormatoDiario.escribir(ByteBuffer.wrap(datos), reloj.millis(), periodo, anioParametros, request,
+                liquidacion);
+        try {
+            if (!cola.offer(new Pendiente(datos, confirmado), esperaColaNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("La cola del diario {} sigue llena después de {} ms; se descarta un registro del periodo {}",
+                        archivo, esperaColaNanos / 1_000_000, periodo);
+                confirmado.completeExceptionally(
+                        new TimeoutException("La cola del diario de liquidaciones está llena"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            confirmado.completeExceptionally(e);
+        }
+        return confirmado;
+    }
+
+    /**
+     * Consulta las liquidaciones registradas de un periodo.
+     *
+     * @param periodo periodo liquidado
+     * @return liquidaciones en orden de registro
+     */
+    public List<RegistroLiquidacion> porPeriodo(YearMonth periodo) {
+        return leer(indice.porPeriodo(FormatoDiario.codigoPeriodo(periodo)));
+    }
+
+    /**
+     * Obtiene los números de registro de un periodo sin decodificarlos. Todos son
+     * menores que {@link #registros()}, así que se pueden leer con
+     * {@link #bloque(int, int)}.
+     *
+     * @param periodo periodo liquidado
+     * @return números de registro ordenados de menor a mayor
+     */
+    public int[] registrosPorPeriodo(YearMonth periodo) {
+        return indice.porPeriodo(FormatoDiario.codigoPeriodo(periodo));
+    }
+
+    /**
+     * Consulta las liquidaciones registradas de un trabajador.
+     *
+     * @param tipoDocumento   tipo de documento del trabajador
+     * @param numeroDocumento número de documento del trabajador
+     * @return liquidaciones en orden de registro
+     */
+    public List<RegistroLiquidacion> porTrabajador(TipoDocumento tipoDocumento, String numeroDocumento) {
+        return leer(indice.porTrabajador(FormatoDiario.claveTrabajador(tipoDocumento, numeroDocumento)));
+    }
+
+    /**
+     * Mapea en memoria, en modo de solo lectura, los registros {@code [desde, hasta)}.
+     * <p>
+     * Pensado para recorridos completos del diario (por ejemplo, la reliquidación):
+     * el sistema operativo pagina el archivo bajo demanda y no se copia a la memoria
+     * del proceso. El mapeo sigue siendo válido después de cerrar el diario.
+     * </p>
+     *
+     * @param desde primer registro (inclusive)
+     * @param hasta último registro (exclusive), a lo sumo {@link #registros()}
+     * @return vista primitiva del rango
+     * @throws IllegalArgumentException si el rango no está confirmado en disco
+     * @throws UncheckedIOException     si el archivo no se puede mapear
+     */
+    public BloqueDiario bloque(int desde, int hasta) {
+        if (desde < 0 || desde > hasta || hasta > registros) {
+            throw new IllegalArgumentException(
+                    "Rango [" + desde + ", " + hasta + ") fuera de los " + registros + " registros del diario");
+        }
+        try {
+            ByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY,
+                    (long) desde * FormatoDiario.TAMANO_REGISTRO,
+                    (long) (hasta - desde) * FormatoDiario.TAMANO_REGISTRO);
+            return new BloqueDiario(datos, desde, hasta - desde);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mapear el diario de liquidaciones " + archivo, e);
+        }
+    }
+
+    /**
+     * Obtiene el número de registros confirmados en disco.
+     *
+     * @return registros confirmados
+     */
+    public int registros() {
+        return registros;
+    }
+
+    /**
+     * Obtiene el número de grupos escritos desde que se abrió el diario. Con carga
+     * concurrente es menor que el número de registros escritos.
+     *
+     * @return grupos escritos
+     */
+    public long grupos() {
+        return grupos;
+    }
+
+    /**
+     * Escribe los registros pendientes, detiene el hilo escritor y cierra el archivo.
+     */
+    @PreDestroy
+    public void cerrar() {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            cola.put(FIN);
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // registros encolados en paralelo con el cierre
+        Pendiente pendiente;
+        while ((pendiente = cola.poll()) != null) {
+            if (pendiente != FIN) {
+                pendiente.confirmado().completeExceptionally(
+                        new IllegalStateException("El diario de liquidaciones está cerrado"));
+            }
+        }
+        try {
+            canal.close();
+        } catch (IOException e) {
+            log.error("No se pudo cerrar el diario de liquidaciones {}", archivo, e);
+        }
+    }
+
+    private void escribirGrupos() {
+        ByteBuffer bufer = ByteBuffer.allocateDirect(tamanoGrupo * FormatoDiario.TAMANO_REGISTRO);
+        List<Pendiente> grupo = new ArrayList<>(tamanoGrupo);
+        boolean fin = false;
+        while (!fin) {
+            try {
+                grupo.add(cola.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            cola.drainTo(grupo, tamanoGrupo - 1);
+            fin = grupo.remove(FIN);
+            if (!grupo.isEmpty()) {
+                escribir(grupo, bufer);
+            }
+            grupo.clear();
+        }
+    }
+
+    private void escribir(List<Pendiente> grupo, ByteBuffer bufer) {
+        int primero = registros;
+        long posicion = (long) primero * FormatoDiario.TAMANO_REGISTRO;
+        bufer.clear();
+        for (Pendiente pendiente : grupo) {
+            bufer.put(pendiente.datos());
+        }
+        bufer.flip();
+        try {
+            long destino = posicion;
+            while (bufer.hasRemaining()) {
+                destino += canal.write(bufer, destino);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            log.error("No se pudo escribir un grupo de {} registros en el diario {}", grupo.size(), archivo, e);
+            descartarDesde(posicion);
+            for (Pendiente pendiente : grupo) {
+                pendiente.confirmado().completeExceptionally(e);
+            }
+            return;
+        }
+
+        // primero se publica el total, así todo número del índice es menor que registros()
+        registros = primero + grupo.size();
+        for (int i = 0; i < grupo.size(); i++) {
+            int inicio = i * FormatoDiario.TAMANO_REGISTRO;
+            indice.agregar(primero + i, FormatoDiario.periodo(bufer, inicio),
+                    FormatoDiario.claveTrabajador(bufer, inicio));
+        }
+        grupos++;
+        for (int i = 0; i < grupo.size(); i++) {
+            grupo.get(i).confirmado().complete(primero + i);
+        }
+    }
+
+    /**
+     * Recorre el diario, reconstruye el índice y trunca el final incompleto o
+     * alterado que haya dejado una caída durante la escritura de un grupo.
+     *
+     * @return número de registros válidos
+     */
+    private int recuperar() throws IOException {
+        long tamano = canal.size();
+        long completos = tamano / FormatoDiario.TAMANO_REGISTRO;
+        if (completos > Integer.MAX_VALUE) {
+            throw new IOException("El diario supera el número máximo de registros: " + completos);
+        }
+        ByteBuffer bloque = ByteBuffer.allocateDirect(REGISTROS_POR_BLOQUE * FormatoDiario.TAMANO_REGISTRO);
+        int validos = 0;
+        boolean alterado = false;
+        while (validos < completos && !alterado) {
+            long posicion = (long) validos * FormatoDiario.TAMANO_REGISTRO;
+            int enBloque = (int) Math.min(REGISTROS_POR_BLOQUE, completos - validos);
+            bloque.clear().limit(enBloque * FormatoDiario.TAMANO_REGISTRO);
+            leerCompleto(bloque, posicion);
+            for (int i = 0; i < enBloque; i++) {
+                int inicio = i * FormatoDiario.TAMANO_REGISTRO;
+                if (!FormatoDiario.esValido(bloque, inicio)) {
+                    alterado = true;
+                    break;
+                }
+                indice.agregar(validos, FormatoDiario.periodo(bloque, inicio),
+                        FormatoDiario.claveTrabajador(bloque, inicio));
+                validos++;
+            }
+        }
+        long longitudValida = (long) validos * FormatoDiario.TAMANO_REGISTRO;
+        if (longitudValida < tamano) {
+            log.warn("El diario {} tiene {} bytes incompletos o alterados al final; se descartan", archivo,
+                    tamano - longitudValida);
+            canal.truncate(longitudValida);
+            canal.force(true);
+        }
+        return validos;
+    }
+
+    private void descartarDesde(long posicion) {
+        try {
+            canal.truncate(posicion);
+        } catch (IOException e) {
+            log.error("No se pudo descartar el grupo fallido del diario {}", archivo, e);
+        }
+    }
+
+    private List<RegistroLiquidacion> leer(int[] numeros) {
+        List<RegistroLiquidacion> resultado = new ArrayList<>(numeros.length);
+        ByteBuffer registro = ByteBuffer.allocate(FormatoDiario.TAMANO_REGISTRO);
+        try {
+            for (int numero : numeros) {
+                registro.clear();
+                leerCompleto(registro, (long) numero * FormatoDiario.TAMANO_REGISTRO);
+                resultado.add(FormatoDiario.leer(registro, 0));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el diario de liquidaciones " + archivo, e);
+        }
+        return resultado;
+    }
+
+    private void leerCompleto(ByteBuffer destino, long posicion) throws IOException {
+        long origen = posicion;
+        while (destino.hasRemaining()) {
+            int leidos = canal.read(destino, origen);
+            if (leidos < 0) {
+                throw new IOException("Fin inesperado del diario en la posición " + origen);
+            }
+            origen += leidos;
+        }
+    }
+}
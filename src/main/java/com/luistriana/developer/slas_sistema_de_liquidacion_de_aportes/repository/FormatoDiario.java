@@ -0,0 +1,306 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.zip.CRC32C;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RegistroLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.MotorCalculoExacto;
+
+/**
+ * Codificación binaria de ancho fijo de los registros del diario de liquidaciones.
+ * <p>
+ * Cada registro ocupa {@link #TAMANO_REGISTRO} bytes, de modo que el registro
+ * {@code n} empieza en la posición {@code n * TAMANO_REGISTRO} del archivo:
+ * </p>
+ * <pre>
+ *  0  long    instante de registro (milisegundos desde la época)
+ *  8  int     periodo liquidado (AAAAMM)
+ * 12  short   año de los parámetros aplicados
+ * 14  byte    tipo de documento (ordinal de {@link TipoDocumento})
+ * 15  byte    banderas: bit 0 aporta ARL, bit 1 aporta CCF, bits 2-4 código del
+ *             nivel ARL, bit 5 CCF al 2.0%
+ * 16  16 B    número de documento (ASCII, completado con ceros)
+ * 32  double  ingreso mensual
+ * 40  double  ibc, salud, pensión, fsp, arl, ccf y total (7 valores)
+ * 96  int     CRC32C de los bytes 0 a 95
+ * </pre>
+ * <p>
+ * El CRC permite detectar al abrir el diario un grupo escrito a medias por una
+ * caída del proceso. Esta clase no está diseñada para ser instanciada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see DiarioLiquidaciones
+ */
+final class FormatoDiario {
+
+    /** Tamaño en bytes de cada registro. */
+    static final int TAMANO_REGISTRO = 100;
+
+    private static final int DATOS = 96;
+    private static final int DOCUMENTO = 16;
+
+    private static final int ARL = 1;
+    private static final int CCF = 1 << 1;
+    private static final int DESPLAZAMIENTO_NIVEL = 2;
+    private static final int MASCARA_NIVEL = 0b111;
+    private static final int CCF_DOS = 1 << 5;
+
+    private static final TipoDocumento[] TIPOS = TipoDocumento.values();
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private FormatoDiario() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Codifica un periodo como entero {@code AAAAMM}.
+     *
+     * @param periodo periodo liquidado
+     * @return periodo codificado
+     */
+    static int codigoPeriodo(YearMonth periodo) {
+        return periodo.getYear() * 100 + periodo.getMonthValue();
+    }
+
+    /**
+     * Construye la clave de índice de un trabajador.
+     *
+     * @param tipo   tipo de documento
+     * @param numero número de documento
+     * @return clave {@code TIPO:numero}
+     */
+    static String claveTrabajador(TipoDocumento tipo, String numero) {
+        return tipo.name() + ':' + numero;
+    }
+
+    /**
+     * Escribe un registro a partir de la posición actual del búfer y la avanza
+     * {@link #TAMANO_REGISTRO} bytes.
+     *
+     * @param destino        búfer de destino
+     * @param registrado     instante de registro en milisegundos
+     * @param periodo        periodo liquidado
+     * @param anioParametros año de los parámetros aplicados
+     * @param request        solicitud válida con usuario
+     * @param liquidacion    resultado de la liquidación
+     */
+    static void escribir(ByteBuffer destino, long registrado, YearMonth periodo, int anioParametros,
+            LiquidacionRequest request, LiquidacionResponse liquidacion) {
+        int inicio = destino.position();
+        Usuario usuario = request.getUsuario();
+        boolean aporteArl = request.getAporteARL();
+        boolean aportaCcf = request.getAportaCCF();
+
+        int banderas = 0;
+        if (aporteArl) {
+            banderas |= ARL | MotorCalculoExacto.codigoNivel(request.getNivelRiesgo()) << DESPLAZAMIENTO_NIVEL;
+        }
+        if (aportaCcf) {
+            banderas |= CCF | (request.getPorcentajeCCF() == 2.0 ? CCF_DOS : 0);
+        }
+
+        destino.putLong(registrado)
+                .putInt(codigoPeriodo(periodo))
+                .putShort((short) anioParametros)
+                .put((byte) usuario.getTipoDocumento().ordinal())
+                .put((byte) banderas);
+        String numero = usuario.getNumeroDocumento();
+        for (int i = 0; i < DOCUMENTO; i++) {
+            destino.put(i < numero.length() ? (byte) numero.charAt(i) : 0);
+        }
+        destino.putDouble(request.getIngresosMensual())
+                .putDouble(liquidacion.ibc())
+                .putDouble(liquidacion.salud())
+                .putDouble(liquidacion.pension())
+                .putDouble(liquidacion.fsp())
+                .putDouble(liquidacion.arl())
+                .putDouble(liquidacion.ccf())
+                .putDouble(liquidacion.total());
+        destino.putInt(crc(destino, inicio));
+    }
+
+    /**
+     * Verifica el CRC del registro que empieza en la posición indicada.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return {@code true} si el registro está completo y sin alteraciones
+     */
+    static boolean esValido(ByteBuffer origen, int inicio) {
+        return origen.getInt(inicio + DATOS) == crc(origen, inicio);
+    }
+
+    /**
+     * Lee el periodo codificado ({@code AAAAMM}) de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return periodo codificado
+     */
+    static int periodo(ByteBuffer origen, int inicio) {
+        return origen.getInt(inicio + 8);
+    }
+
+    /**
+     * Lee la clave de índice del trabajador de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return clave {@code TIPO:numero}
+     */
+    static String claveTrabajador(ByteBuffer origen, int inicio) {
+        return claveTrabajador(TIPOS[origen.get(inicio + 14)], numeroDocumento(origen, inicio));
+    }
+
+    /**
+     * Lee el ingreso mensual de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return ingreso mensual bruto
+     */
+    static double ingreso(ByteBuffer origen, int inicio) {
+        return origen.getDouble(inicio + 32);
+    }
+
+    /**
+     * Lee el código de nivel ARL de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return {@link MotorCalculoExacto#SIN_ARL} o el código del nivel
+     */
+    static int nivelArl(ByteBuffer origen, int inicio) {
+        return origen.get(inicio + 15) >> DESPLAZAMIENTO_NIVEL & MASCARA_NIVEL;
+    }
+
+    /**
+     * Lee el porcentaje CCF de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return {@code 0} si no aporta, {@code 0.6} o {@code 2.0} en caso contrario
+     */
+    static double porcentajeCcf(ByteBuffer origen, int inicio) {
+        int banderas = origen.get(inicio + 15);
+        if ((banderas & CCF) == 0) {
+            return 0.0;
+        }
+        return (banderas & CCF_DOS) != 0 ? 2.0 : 0.6;
+    }
+
+    /**
+     * Lee uno de los valores liquidados de un registro.
+     *
+     * @param origen   búfer con el registro
+     * @param inicio   posición absoluta del registro
+     * @param concepto índice del valor en el orden de {@link LiquidacionResponse}
+     *                 (0 = ibc ... 6 = total)
+     * @return valor liquidado
+     */
+    static double concepto(ByteBuffer origen, int inicio, int concepto) {
+        return origen.getDouble(inicio + 40 + concepto * Double.BYTES);
+    }
+
+    /**
+     * Decodifica los valores liquidados de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return resultado de la liquidación registrada
+     */
+    static LiquidacionResponse liquidacion(ByteBuffer origen, int inicio) {
+        return new LiquidacionResponse(concepto(origen, inicio, 0), concepto(origen, inicio, 1),
+                concepto(origen, inicio, 2), concepto(origen, inicio, 3), concepto(origen, inicio, 4),
+                concepto(origen, inicio, 5), concepto(origen, inicio, 6));
+    }
+
+    /**
+     * Decodifica el usuario de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return usuario que identificó la solicitud
+     */
+    static Usuario usuario(ByteBuffer origen, int inicio) {
+        return new Usuario(TIPOS[origen.get(inicio + 14)], numeroDocumento(origen, inicio));
+    }
+
+    /**
+     * Decodifica el registro que empieza en la posición indicada.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return liquidación registrada
+     */
+    static RegistroLiquidacion leer(ByteBuffer origen, int inicio) {
+        int periodo = periodo(origen, inicio);
+        int nivel = nivelArl(origen, inicio);
+        double porcentajeCcf = porcentajeCcf(origen, inicio);
+        boolean aporteArl = nivel != MotorCalculoExacto.SIN_ARL;
+        boolean aportaCcf = porcentajeCcf != 0.0;
+
+        LiquidacionRequest request = new LiquidacionRequest(ingreso(origen, inicio), aporteArl, aportaCcf,
+                aporteArl ? RiesgoLaboralARL.values()[nivel - 1] : null,
+                aportaCcf ? porcentajeCcf : null,
+                YearMonth.of(periodo / 100, periodo % 100));
+        request.setUsuario(usuario(origen, inicio));
+        return new RegistroLiquidacion(Instant.ofEpochMilli(origen.getLong(inicio)), origen.getShort(inicio + 12),
+                request, liquidacion(origen, inicio));
+    }
+
+    /**
+     * Lee el tipo de documento de un registro.
+     *
+     * @param origen búfer con el registro
+     * @param inicio posición absoluta del registro
+     * @return tipo de documento del trabajador
+     */
+    static TipoDocumento tipoDocumento(ByteBuffer origen, int inicio) {
+        return TIPOS[origen.get(inicio + 14)];
+    }
+
+    /**
+     * Copia el número de documento de un registro sin crear un {@link String}.
+     *
+     * @param origen  búfer con el registro
+     * @param inicio  posición absoluta del registro
+     * @param destino arreglo de al menos 16 bytes que recibe el número en ASCII
+     * @return longitud del número de documento
+     */
+    static int numeroDocumento(ByteBuffer origen, int inicio, byte[] destino) {
+        int longitud = 0;
+        byte caracter;
+        while (longitud < DOCUMENTO && (caracter = origen.get(inicio + DOCUMENTO + longitud)) != 0) {
+            destino[longitud++] = caracter;
+        }
+        return longitud;
+    }
+
+    private static String numeroDocumento(ByteBuffer origen, int inicio) {
+        byte[] numero = new byte[DOCUMENTO];
+        int longitud = numeroDocumento(origen, inicio, numero);
+        return new String(numero, 0, longitud, StandardCharsets.US_ASCII);
+    }
+
+    private static int crc(ByteBuffer origen, int inicio) {
+        CRC32C crc = new CRC32C();
+        crc.update(origen.slice(inicio, DATOS));
+        return (int) crc.getValue();
+    }
+}
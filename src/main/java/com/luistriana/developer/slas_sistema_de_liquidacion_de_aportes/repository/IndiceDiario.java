@@ -0,0 +1,79 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Índice en memoria del diario de liquidaciones por periodo y por trabajador.
+ * <p>
+ * Cada entrada guarda los números de registro (posición en el archivo dividida por
+ * {@link FormatoDiario#TAMANO_REGISTRO}) en orden de escritura, en arreglos de
+ * enteros que crecen al doble. El índice solo contiene registros ya confirmados en
+ * disco; se reconstruye al abrir el diario.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see DiarioLiquidaciones
+ */
+final class IndiceDiario {
+
+    /** Lista de números de registro que crece al doble. */
+    private static final class Registros {
+
+        private int[] numeros = new int[4];
+        private int tamano;
+
+        void agregar(int numero) {
+            if (tamano == numeros.length) {
+                numeros = Arrays.copyOf(numeros, tamano * 2);
+            }
+            numeros[tamano++] = numero;
+        }
+
+        int[] copia() {
+            return Arrays.copyOf(numeros, tamano);
+        }
+    }
+
+    private static final int[] VACIO = new int[0];
+
+    private final Map<Integer, Registros> porPeriodo = new HashMap<>();
+    private final Map<String, Registros> porTrabajador = new HashMap<>();
+
+    /**
+     * Agrega un registro confirmado al índice.
+     *
+     * @param numero     número de registro
+     * @param periodo    periodo codificado ({@code AAAAMM})
+     * @param trabajador clave del trabajador ({@code TIPO:numero})
+     */
+    synchronized void agregar(int numero, int periodo, String trabajador) {
+        porPeriodo.computeIfAbsent(periodo, p -> new Registros()).agregar(numero);
+        porTrabajador.computeIfAbsent(trabajador, t -> new Registros()).agregar(numero);
+    }
+
+    /**
+     * Obtiene los registros de un periodo.
+     *
+     * @param periodo periodo codificado ({@code AAAAMM})
+     * @return números de registro en orden de escritura
+     */
+    synchronized int[] porPeriodo(int periodo) {
+        Registros registros = porPeriodo.get(periodo);
+        return registros == null ? VACIO : registros.copia();
+    }
+
+    /**
+     * Obtiene los registros de un trabajador.
+     *
+     * @param trabajador clave del trabajador ({@code TIPO:numero})
+     * @return números de registro en orden de escritura
+     */
+    synchronized int[] porTrabajador(String trabajador) {
+        Registros registros = porTrabajador.get(trabajador);
+        return registros == null ? VACIO : registros.copia();
+    }
+}
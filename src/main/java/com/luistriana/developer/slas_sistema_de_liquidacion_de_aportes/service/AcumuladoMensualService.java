@@ -0,0 +1,28 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.AcumuladoMensualResponse;
+
+/**
+ * Servicio de acumulados en vivo: totales por concepto de las liquidaciones
+ * calculadas en el mes en curso.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface AcumuladoMensualService {
+
+    /**
+     * Obtiene los totales del mes en curso hasta el momento de la consulta.
+     *
+     * @return acumulado del mes en curso
+     */
+    AcumuladoMensualResponse mesEnCurso();
+
+    /**
+     * Obtiene los totales del mes cerrado más reciente.
+     *
+     * @return acumulado del mes anterior, o {@code null} si el servicio no ha cambiado de mes
+     */
+    AcumuladoMensualResponse mesAnterior();
+}
@@ -0,0 +1,173 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.AcumuladoMensualResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.AcumuladoTarifaResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Implementación del servicio de acumulados en vivo.
+ * <p>
+ * Recibe cada liquidación como {@link ObservadorLiquidacion} y la suma en contadores
+ * {@link LongAdder}: cada hilo escribe en su propia celda y las celdas solo se suman
+ * al consultar, de modo que el registro no toma bloqueos ni compite por la misma
+ * línea de caché. Los aportes son pesos enteros, así que las sumas son exactas.
+ * </p>
+ *
+ * <p>
+ * Los contadores de cada mes calendario (en la zona {@code slas.zona})
+ * viven en un objeto propio. Al pasar el fin de mes, el primer registro del mes
+ * nuevo lo reemplaza con una operación compare-and-set y el mes cerrado queda
+ * disponible como mes anterior; un registro que tomó la referencia justo antes del
+ * cambio se suma al mes cerrado.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see AcumuladoMensualService
+ */
+@Service
+public class AcumuladoMensualServiceImpl implements AcumuladoMensualService, ObservadorLiquidacion {
+
+    /** Contadores de un mes calendario. */
+    private static final class Mes {
+
+        final YearMonth mes;
+        final long finMillis;
+        final LongAdder liquidaciones = new LongAdder();
+        final LongAdder ibc = new LongAdder();
+        final LongAdder salud = new LongAdder();
+        final LongAdder pension = new LongAdder();
+        final LongAdder fsp = new LongAdder();
+        final LongAdder arl = new LongAdder();
+        final LongAdder ccf = new LongAdder();
+
+        /** Por código de nivel ARL ({@link MotorCalculoExacto#codigoNivel(RiesgoLaboralARL)}). */
+        final LongAdder[] arlPorNivel = adders(RiesgoLaboralARL.values().length + 1);
+        final LongAdder[] liquidacionesPorNivel = adders(RiesgoLaboralARL.values().length + 1);
+
+        /** Por código CCF ({@link FormatoColumnar#codigoCcf(Double)}). */
+        final LongAdder[] ccfPorTarifa = adders(FormatoColumnar.codigosCcf());
+        final LongAdder[] liquidacionesPorTarifa = adders(FormatoColumnar.codigosCcf());
+
+        Mes(YearMonth mes, ZoneId zona) {
+            this.mes = mes;
+            this.finMillis = mes.plusMonths(1).atDay(1).atStartOfDay(zona).toInstant().toEpochMilli();
+        }
+
+        private static LongAdder[] adders(int cantidad) {
+            LongAdder[] adders = new LongAdder[cantidad];
+            for (int i = 0; i < cantidad; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+
+    private final Clock reloj;
+    private final AtomicReference<Mes> actual;
+    private volatile Mes anterior;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param reloj reloj de la aplicación, que define el mes en curso y su zona horaria
+     */
+    public AcumuladoMensualServiceImpl(Clock reloj) {
+        this.reloj = reloj;
+        this.actual = new AtomicReference<>(new Mes(YearMonth.now(reloj), reloj.getZone()));
+    }
+
+    /**
+     * Suma la liquidación a los contadores del mes en curso.
+     *
+     * @param request     solicitud válida
+     * @param parametros  parámetros del año aplicados
+     * @param liquidacion resultado de la liquidación
+     */
+    @Override
+    public void liquidada(LiquidacionRequest request, ParametrosAnuales parametros, LiquidacionResponse liquidacion) {
+        Mes mes = mesVigente();
+        mes.liquidaciones.increment();
+        mes.ibc.add((long) liquidacion.ibc());
+        mes.salud.add((long) liquidacion.salud());
+        mes.pension.add((long) liquidacion.pension());
+        mes.fsp.add((long) liquidacion.fsp());
+        if (request.getAporteARL()) {
+            int nivel = MotorCalculoExacto.codigoNivel(request.getNivelRiesgo());
+            mes.arl.add((long) liquidacion.arl());
+            mes.arlPorNivel[nivel].add((long) liquidacion.arl());
+            mes.liquidacionesPorNivel[nivel].increment();
+        }
+        if (request.getAportaCCF()) {
+            int tarifa = FormatoColumnar.codigoCcf(request.getPorcentajeCCF());
+            mes.ccf.add((long) liquidacion.ccf());
+            mes.ccfPorTarifa[tarifa].add((long) liquidacion.ccf());
+            mes.liquidacionesPorTarifa[tarifa].increment();
+        }
+    }
+
+    @Override
+    public AcumuladoMensualResponse mesEnCurso() {
+        return resumen(mesVigente());
+    }
+
+    @Override
+    public AcumuladoMensualResponse mesAnterior() {
+        mesVigente();
+        Mes mes = anterior;
+        return mes == null ? null : resumen(mes);
+    }
+
+    /**
+     * Obtiene los contadores del mes en curso y, si el reloj ya pasó el fin de mes,
+     * los reemplaza por los del mes nuevo.
+     */
+    private Mes mesVigente() {
+        Mes mes = actual.get();
+        if (reloj.millis() < mes.finMillis) {
+            return mes;
+        }
+        Mes nuevo = new Mes(YearMonth.now(reloj), reloj.getZone());
+        if (actual.compareAndSet(mes, nuevo)) {
+            anterior = mes;
+            return nuevo;
+        }
+        return actual.get();
+    }
+
+    private static AcumuladoMensualResponse resumen(Mes mes) {
+        List<AcumuladoTarifaResponse> arlPorNivel = new ArrayList<>();
+        for (RiesgoLaboralARL nivel : RiesgoLaboralARL.values()) {
+            int codigo = MotorCalculoExacto.codigoNivel(nivel);
+            arlPorNivel.add(new AcumuladoTarifaResponse(nivel, null, mes.liquidacionesPorNivel[codigo].sum(),
+                    mes.arlPorNivel[codigo].sum()));
+        }
+        List<AcumuladoTarifaResponse> ccfPorTarifa = new ArrayList<>();
+        for (int codigo = 1; codigo < FormatoColumnar.codigosCcf(); codigo++) {
+            ccfPorTarifa.add(new AcumuladoTarifaResponse(null, FormatoColumnar.porcentajeCcf(codigo),
+                    mes.liquidacionesPorTarifa[codigo].sum(), mes.ccfPorTarifa[codigo].sum()));
+        }
+        long salud = mes.salud.sum();
+        long pension = mes.pension.sum();
+        long fsp = mes.fsp.sum();
+        long arl = mes.arl.sum();
+        long ccf = mes.ccf.sum();
+        return new AcumuladoMensualResponse(mes.mes, mes.liquidaciones.sum(), mes.ibc.sum(), salud, pension, fsp,
+                arl, ccf, salud + pension + fsp + arl + ccf, arlPorNivel, ccfPorTarifa);
+    }
+}
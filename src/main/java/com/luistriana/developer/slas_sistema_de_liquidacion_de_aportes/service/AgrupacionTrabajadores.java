@@ -0,0 +1,207 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+
+/**
+ * Agrupación de contratos por trabajador y periodo sobre arreglos primitivos.
+ * <p>
+ * La clave de cada trabajador ({@code TIPO:numero:AAAAMM}) se resuelve con una
+ * tabla hash de direccionamiento abierto (sondeo lineal, capacidad potencia de dos,
+ * factor de carga de 1/2) que guarda el índice denso del trabajador. Los acumulados
+ * (ingreso sumado, nivel ARL más alto y porcentaje CCF más alto) y las columnas de
+ * los contratos viven en arreglos paralelos indexados por ese índice denso: no hay
+ * un objeto por entrada ni valores encajados, y el costo de agrupar no crece con el
+ * número de trabajadores más allá de la duplicación ocasional de los arreglos.
+ * </p>
+ *
+ * <p>
+ * Los trabajadores conservan el orden de su primera aparición. No es seguro para
+ * uso concurrente.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionAgregadaServiceImpl
+ */
+final class AgrupacionTrabajadores {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /** Índice denso + 1 de cada ranura; 0 indica ranura vacía. */
+    private int[] tabla = new int[CAPACIDAD_INICIAL * 2];
+
+    private String[] claves = new String[CAPACIDAD_INICIAL];
+    private int[] hashes = new int[CAPACIDAD_INICIAL];
+    private Usuario[] usuarios = new Usuario[CAPACIDAD_INICIAL];
+    private YearMonth[] periodos = new YearMonth[CAPACIDAD_INICIAL];
+    private double[] ingresos = new double[CAPACIDAD_INICIAL];
+    private byte[] niveles = new byte[CAPACIDAD_INICIAL];
+    private double[] porcentajesCcf = new double[CAPACIDAD_INICIAL];
+    private int[] contratosPorTrabajador = new int[CAPACIDAD_INICIAL];
+    private int trabajadores;
+
+    private int[] trabajadorDeContrato = new int[CAPACIDAD_INICIAL];
+    private int[] indicesContrato = new int[CAPACIDAD_INICIAL];
+    private double[] ingresosContrato = new double[CAPACIDAD_INICIAL];
+    private int contratos;
+
+    /**
+     * Agrega un contrato al acumulado de su trabajador en el periodo.
+     *
+     * @param usuario       trabajador
+     * @param periodo       periodo liquidado
+     * @param indice        posición del contrato en la entrada
+     * @param ingreso       ingreso mensual del contrato
+     * @param nivelArl      código de nivel ARL del contrato ({@link MotorCalculoExacto#SIN_ARL} si no aporta)
+     * @param porcentajeCcf porcentaje CCF del contrato (0 si no aporta)
+     * @return índice denso del trabajador
+     */
+    int agregar(Usuario usuario, YearMonth periodo, int indice, double ingreso, int nivelArl, double porcentajeCcf) {
+        String clave = usuario.getTipoDocumento().name() + ':' + usuario.getNumeroDocumento() + ':'
+                + (periodo.getYear() * 100 + periodo.getMonthValue());
+        int trabajador = buscarOInsertar(clave, usuario, periodo);
+
+        ingresos[trabajador] += ingreso;
+        niveles[trabajador] = (byte) Math.max(niveles[trabajador], nivelArl);
+        porcentajesCcf[trabajador] = Math.max(porcentajesCcf[trabajador], porcentajeCcf);
+        contratosPorTrabajador[trabajador]++;
+
+        if (contratos == trabajadorDeContrato.length) {
+            int capacidad = contratos * 2;
+            trabajadorDeContrato = Arrays.copyOf(trabajadorDeContrato, capacidad);
+            indicesContrato = Arrays.copyOf(indicesContrato, capacidad);
+            ingresosContrato = Arrays.copyOf(ingresosContrato, capacidad);
+        }
+        trabajadorDeContrato[contratos] = trabajador;
+        indicesContrato[contratos] = indice;
+        ingresosContrato[contratos] = ingreso;
+        contratos++;
+        return trabajador;
+    }
+
+    /**
+     * Ordena los contratos por trabajador (ordenamiento por conteo, estable).
+     * <p>
+     * Los contratos del trabajador {@code t} quedan en las posiciones
+     * {@code [inicio[t], inicio[t + 1])} del arreglo {@code orden}, en el orden de la entrada.
+     * </p>
+     *
+     * @param inicio arreglo de {@code trabajadores() + 1} posiciones que recibe los inicios
+     * @return números de contrato agrupados por trabajador
+     */
+    int[] contratosAgrupados(int[] inicio) {
+        for (int t = 0; t < trabajadores; t++) {
+            inicio[t + 1] = inicio[t] + contratosPorTrabajador[t];
+        }
+        int[] siguiente = Arrays.copyOf(inicio, trabajadores);
+        int[] orden = new int[contratos];
+        for (int c = 0; c < contratos; c++) {
+            orden[siguiente[trabajadorDeContrato[c]]++] = c;
+        }
+        return orden;
+    }
+
+    int trabajadores() {
+        return trabajadores;
+    }
+
+    int contratos() {
+        return contratos;
+    }
+
+    Usuario usuario(int trabajador) {
+        return usuarios[trabajador];
+    }
+
+    YearMonth periodo(int trabajador) {
+        return periodos[trabajador];
+    }
+
+    double ingreso(int trabajador) {
+        return ingresos[trabajador];
+    }
+
+    int nivelArl(int trabajador) {
+        return niveles[trabajador];
+    }
+
+    double porcentajeCcf(int trabajador) {
+        return porcentajesCcf[trabajador];
+    }
+
+    int indiceContrato(int contrato) {
+        return indicesContrato[contrato];
+    }
+
+    double ingresoContrato(int contrato) {
+        return ingresosContrato[contrato];
+    }
+
+    private int buscarOInsertar(String clave, Usuario usuario, YearMonth periodo) {
+        int hash = dispersar(clave.hashCode());
+        int mascara = tabla.length - 1;
+        int ranura = hash & mascara;
+        int ocupante;
+        while ((ocupante = tabla[ranura]) != 0) {
+            int trabajador = ocupante - 1;
+            if (hashes[trabajador] == hash && claves[trabajador].equals(clave)) {
+                return trabajador;
+            }
+            ranura = (ranura + 1) & mascara;
+        }
+
+        if (trabajadores == claves.length) {
+            crecer();
+        }
+        int trabajador = trabajadores++;
+        claves[trabajador] = clave;
+        hashes[trabajador] = hash;
+        usuarios[trabajador] = usuario;
+        periodos[trabajador] = periodo;
+        if (trabajadores * 2 > tabla.length) {
+            redimensionarTabla();
+        } else {
+            tabla[ranura] = trabajador + 1;
+        }
+        return trabajador;
+    }
+
+    private void crecer() {
+        int capacidad = claves.length * 2;
+        claves = Arrays.copyOf(claves, capacidad);
+        hashes = Arrays.copyOf(hashes, capacidad);
+        usuarios = Arrays.copyOf(usuarios, capacidad);
+        periodos = Arrays.copyOf(periodos, capacidad);
+        ingresos = Arrays.copyOf(ingresos, capacidad);
+        niveles = Arrays.copyOf(niveles, capacidad);
+        porcentajesCcf = Arrays.copyOf(porcentajesCcf, capacidad);
+        contratosPorTrabajador = Arrays.copyOf(contratosPorTrabajador, capacidad);
+    }
+
+    /**
+     * Duplica la tabla y vuelve a ubicar a todos los trabajadores con los hash
+     * guardados, sin recalcular el hash de las claves.
+     */
+    private void redimensionarTabla() {
+        int[] nueva = new int[tabla.length * 2];
+        int mascara = nueva.length - 1;
+        for (int trabajador = 0; trabajador < trabajadores; trabajador++) {
+            int ranura = hashes[trabajador] & mascara;
+            while (nueva[ranura] != 0) {
+                ranura = (ranura + 1) & mascara;
+            }
+            nueva[ranura] = trabajador + 1;
+        }
+        tabla = nueva;
+    }
+
+    /** Mezcla los bits altos del hash para que el sondeo lineal con máscara no agrupe claves. */
+    private static int dispersar(int hash) {
+        int mezclado = hash * 0x9E3779B9;
+        return mezclado ^ (mezclado >>> 16);
+    }
+}
@@ -0,0 +1,26 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.CalculoInversoRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CalculoInversoResponse;
+
+/**
+ * Servicio de cálculo inverso: encuentra el ingreso mensual que produce un neto o un
+ * total de aportes dado, en una sola llamada.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface CalculoInversoService {
+
+    /**
+     * Encuentra el menor ingreso mensual, en pesos enteros, cuyo neto (o total de
+     * aportes) es mayor o igual al objetivo.
+     *
+     * @param request objetivo y aportes voluntarios
+     * @return ingreso encontrado con su liquidación
+     * @throws datosInvalidosException si la solicitud es inválida o el objetivo es inalcanzable
+     */
+    CalculoInversoResponse resolver(CalculoInversoRequest request);
+}
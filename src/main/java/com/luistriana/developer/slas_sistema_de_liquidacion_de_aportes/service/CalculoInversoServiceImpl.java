@@ -0,0 +1,263 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.function.LongPredicate;
+
+import org.springframework.stereotype.Service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.DestinoLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ObjetivoCalculoInverso;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TarifasExactas;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.CalculoInversoRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CalculoInversoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Implementación del cálculo inverso sobre la estructura por tramos de la liquidación.
+ * <p>
+ * Con los aportes voluntarios fijos, el total de aportes depende del ingreso solo a
+ * través del IBC: es constante bajo el piso de 1 SMMLV, constante sobre el tope, y
+ * entre ambos crece de forma lineal con una pendiente que cambia únicamente cuando el
+ * IBC entra a un nuevo rango del FSP. El servicio ubica por bisección los ingresos
+ * donde empieza cada rango del FSP y el tope (el IBC es monótono en el ingreso) y
+ * luego resuelve el objetivo dentro de cada tramo:
+ * </p>
+ * <ul>
+ *   <li>{@link ObjetivoCalculoInverso#TOTAL_APORTES}: el total nunca decrece con el
+ *       ingreso, así que basta una bisección entre 1 peso y el tope</li>
+ *   <li>{@link ObjetivoCalculoInverso#NETO}: el neto cae al entrar a un rango del FSP
+ *       (la tarifa nueva se aplica a todo el IBC), de modo que se recorre tramo por
+ *       tramo y se bisecta en el primero que alcanza el objetivo; sobre el tope el
+ *       neto es {@code ingreso - total} con total constante y se despeja directamente</li>
+ * </ul>
+ *
+ * <p>
+ * Dentro de un tramo el redondeo al peso de cada concepto hace que el neto pueda
+ * bajar unos pocos pesos entre ingresos consecutivos; tras la bisección se revisan
+ * los {@link #VENTANA} ingresos anteriores para garantizar que el resultado es el
+ * menor. Cada evaluación usa {@link MotorCalculoExacto}, las mismas reglas de
+ * {@link SlasServiceImpl}; una solicitud típica evalúa el total de menos de 150
+ * ingresos y se resuelve en unas decenas de microsegundos.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see CalculoInversoService
+ */
+@Service
+public class CalculoInversoServiceImpl implements CalculoInversoService {
+
+    /**
+     * Ingresos anteriores al resultado de una bisección que se revisan uno a uno. El
+     * redondeo desvía el neto de su recta a lo sumo unos 3 pesos y la recta sube más
+     * de medio peso por peso de ingreso, así que ningún ingreso más lejano alcanza el
+     * objetivo si el anterior a la bisección no lo alcanza.
+     */
+    static final int VENTANA = 16;
+
+    /**
+     * Valor máximo del objetivo en pesos, el mismo ingreso máximo de las curvas. Con
+     * él, el ingreso resultante en centavos queda lejos del límite de un {@code long}.
+     */
+    static final long OBJETIVO_MAXIMO = CurvaAportesServiceImpl.INGRESO_MAXIMO;
+
+    private final RegistroParametros parametros;
+
+    private final MetricasLiquidacion metricas;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param parametros registro de parámetros por año gravable
+     * @param metricas   métricas de rechazos
+     */
+    public CalculoInversoServiceImpl(RegistroParametros parametros, MetricasLiquidacion metricas) {
+        this.parametros = parametros;
+        this.metricas = metricas;
+    }
+
+    @Override
+    public CalculoInversoResponse resolver(CalculoInversoRequest request) {
+        // los aportes voluntarios se validan con las reglas de una liquidación cualquiera
+        LiquidacionRequest voluntarios = new LiquidacionRequest(1.0, request.getAporteARL(), request.getAportaCCF(),
+                request.getNivelRiesgo(), request.getPorcentajeCCF(), request.getPeriodo());
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(voluntarios);
+        if (request.getObjetivo() == null || request.getValor() == null || !(request.getValor() >= 0)
+                || request.getValor() > OBJETIVO_MAXIMO) {
+            validacion = validacion.con(MotivoRechazo.OBJETIVO_INVALIDO);
+        }
+        ParametrosAnuales anuales = validacion.esValido() ? parametros.buscar(request.getPeriodo()) : null;
+        if (anuales == null) {
+            throw rechazar(validacion.esValido() ? validacion.con(MotivoRechazo.PERIODO_SIN_PARAMETROS) : validacion);
+        }
+
+        Evaluador evaluador = new Evaluador(anuales,
+                request.getAporteARL() ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                        : MotorCalculoExacto.SIN_ARL,
+                request.getAportaCCF() ? MotorCalculoExacto.tarifaPorcentual(request.getPorcentajeCCF()) : 0);
+        // el objetivo se compara en pesos enteros, como los aportes
+        long objetivo = (long) Math.ceil(request.getValor());
+        long ingreso = request.getObjetivo() == ObjetivoCalculoInverso.TOTAL_APORTES
+                ? resolverTotal(evaluador, objetivo)
+                : resolverNeto(evaluador, objetivo);
+        if (ingreso < 0) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.OBJETIVO_INALCANZABLE));
+        }
+        LiquidacionResponse liquidacion = evaluador.liquidar(ingreso);
+        return new CalculoInversoResponse(ingreso, ingreso - liquidacion.total(), liquidacion,
+                evaluador.evaluaciones);
+    }
+
+    private datosInvalidosException rechazar(ResultadoValidacion validacion) {
+        metricas.rechazo(validacion);
+        return new datosInvalidosException(validacion);
+    }
+
+    /**
+     * Menor ingreso cuyo total de aportes alcanza el objetivo.
+     *
+     * @return ingreso en pesos, o {@code -1} si el objetivo supera el total del tope
+     */
+    static long resolverTotal(Evaluador evaluador, long objetivo) {
+        long tope = evaluador.ingresoTope();
+        if (evaluador.total(tope) < objetivo) {
+            return -1;
+        }
+        return primero(1, tope, x -> evaluador.total(x) >= objetivo);
+    }
+
+    /**
+     * Menor ingreso cuyo neto alcanza el objetivo, recorriendo los tramos del FSP.
+     *
+     * @return ingreso en pesos
+     */
+    static long resolverNeto(Evaluador evaluador, long objetivo) {
+        LongPredicate alcanza = x -> x - evaluador.total(x) >= objetivo;
+        long tope = evaluador.ingresoTope();
+        long desde = 1;
+        for (long hasta : evaluador.iniciosDeTramo(tope)) {
+            if (hasta > desde) {
+                long ingreso = primeroEnTramo(desde, hasta - 1, alcanza);
+                if (ingreso > 0) {
+                    return ingreso;
+                }
+                desde = hasta;
+            }
+        }
+        // desde el tope el total es constante: neto = ingreso - total
+        return Math.max(desde, Math.addExact(objetivo, evaluador.total(tope)));
+    }
+
+    /**
+     * Menor ingreso de {@code [desde, hasta]} que cumple el predicado dentro de un tramo
+     * donde el predicado es monótono salvo por el redondeo al peso.
+     *
+     * @return ingreso en pesos, o {@code -1} si ninguno del tramo lo cumple
+     */
+    private static long primeroEnTramo(long desde, long hasta, LongPredicate predicado) {
+        long cumple = -1;
+        for (long x = hasta; x >= Math.max(desde, hasta - VENTANA); x--) {
+            if (predicado.test(x)) {
+                cumple = x;
+                break;
+            }
+        }
+        if (cumple < 0) {
+            return -1;
+        }
+        long ingreso = primero(desde, cumple, predicado);
+        for (long x = ingreso - 1; x >= Math.max(desde, ingreso - VENTANA); x--) {
+            if (predicado.test(x)) {
+                ingreso = x;
+            }
+        }
+        return ingreso;
+    }
+
+    /**
+     * Bisección: primer valor de {@code [desde, hasta]} que cumple el predicado,
+     * suponiendo que {@code hasta} lo cumple y que el predicado es monótono.
+     */
+    private static long primero(long desde, long hasta, LongPredicate predicado) {
+        while (desde < hasta) {
+            long medio = (desde + hasta) >>> 1;
+            if (predicado.test(medio)) {
+                hasta = medio;
+            } else {
+                desde = medio + 1;
+            }
+        }
+        return hasta;
+    }
+
+    /**
+     * Evalúa el total de aportes de un ingreso con los aportes voluntarios fijos y
+     * cuenta las evaluaciones.
+     */
+    static final class Evaluador implements DestinoLiquidacion {
+
+        private final ParametrosAnuales anuales;
+        private final TarifasExactas tarifas;
+        private final int nivelArl;
+        private final long tarifaCcf;
+        private int evaluaciones;
+
+        /** Total de la última evaluación. */
+        private long total;
+
+        Evaluador(ParametrosAnuales anuales, int nivelArl, long tarifaCcf) {
+            this.anuales = anuales;
+            this.tarifas = anuales.getTarifasExactas();
+            this.nivelArl = nivelArl;
+            this.tarifaCcf = tarifaCcf;
+        }
+
+        long ibc(long ingreso) {
+            return MotorCalculoExacto.ibc(Math.multiplyExact(ingreso, 100L), tarifas);
+        }
+
+        long total(long ingreso) {
+            evaluaciones++;
+            MotorCalculoExacto.liquidar(Math.multiplyExact(ingreso, 100L), nivelArl, tarifaCcf, anuales, this, 0);
+            return total;
+        }
+
+        @Override
+        public void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf,
+                long total) {
+            this.total = total;
+        }
+
+        LiquidacionResponse liquidar(long ingreso) {
+            return MotorCalculoExacto.liquidar(Math.multiplyExact(ingreso, 100L), nivelArl, tarifaCcf, anuales);
+        }
+
+        /** Primer ingreso en pesos cuyo IBC es el tope. */
+        long ingresoTope() {
+            long maxIbc = tarifas.getMaxIbc();
+            return primero(1, tarifas.getIngresoMaximo() / 100 + 1, x -> ibc(x) >= maxIbc);
+        }
+
+        /**
+         * Primer ingreso de cada rango del FSP a partir del segundo, seguido del
+         * ingreso del tope; los rangos que empiezan después del tope se omiten.
+         */
+        long[] iniciosDeTramo(long tope) {
+            int rangos = AportesFondoSolidarioPensionesFSP.values().length;
+            long[] inicios = new long[rangos];
+            for (int rango = 1; rango < rangos; rango++) {
+                int buscado = rango;
+                long inicio = primero(1, tope, x -> anuales.getTablaFsp().indice(ibc(x)) >= buscado);
+                inicios[rango - 1] = anuales.getTablaFsp().indice(ibc(inicio)) >= buscado ? inicio : tope;
+            }
+            inicios[rangos - 1] = tope;
+            return inicios;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Agrupa en micro-lotes las liquidaciones individuales que llegan al mismo tiempo.
+ * <p>
+ * Cada llamada a {@link #liquidar(LiquidacionRequest)} encola su solicitud y espera
+ * su resultado. Un hilo despachador toma la primera solicitud pendiente, sigue
+ * recogiendo las que lleguen durante {@code slas.microlotes.ventana} o hasta juntar
+ * {@code slas.microlotes.tamano-maximo}, y entrega el lote a
+ * {@link LoteParaleloExecutor#enviar}, que reparte sus filas entre los hilos del pool
+ * de lotes. Cada fila se liquida con {@link SlasService#calculoSlas(LiquidacionRequest)}:
+ * las reglas, las métricas y el diario son los mismos del endpoint individual. Al
+ * liquidar cada fila se completa el futuro de su llamada; una solicitud inválida
+ * recibe su {@link datosInvalidosException}.
+ * </p>
+ *
+ * <p>
+ * Mientras el pool liquida un lote, el despachador ya arma el siguiente. Se liquidan
+ * a la vez a lo sumo dos lotes por hilo del pool; con más, el despachador espera, la
+ * cola se llena y las llamadas nuevas esperan lugar.
+ * </p>
+ *
+ * <p>
+ * La cola admite {@code slas.microlotes.capacidad-cola} solicitudes; con la cola
+ * llena las llamadas esperan. Sin carga, cada solicitud espera a lo sumo una
+ * ventana adicional.
+ * </p>
+ *
+ * <p>
+ * Se activa con {@code slas.microlotes.habilitado=true}; está desactivado por
+ * defecto porque la liquidación es tan barata que el traspaso entre hilos cuesta más
+ * que el cálculo (ver {@code MicroloteBenchmark}).
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SlasService
+ */
+@Component
+@ConditionalOnProperty(name = "slas.microlotes.habilitado", havingValue = "true")
+public class CoalescedorLiquidaciones implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescedorLiquidaciones.class);
+
+    /** Solicitud encolada y el futuro de quien la espera. */
+    private record Pendiente(LiquidacionRequest request, CompletableFuture<LiquidacionResponse> resultado) {
+    }
+
+    private final SlasService slas;
+    private final LoteParaleloExecutor ejecutor;
+    private final Semaphore lotesEnCurso;
+    private final int tamanoMaximo;
+    private final long ventanaNanos;
+    private final BlockingQueue<Pendiente> cola;
+    private final Thread despachador;
+
+    private volatile boolean cerrado;
+
+    /** Lotes despachados; solo lo modifica el hilo despachador. */
+    private volatile long lotes;
+
+    /** Solicitudes despachadas; solo lo modifica el hilo despachador. */
+    private volatile long solicitudes;
+
+    /**
+     * Constructor con inyección de dependencias y configuración. Inicia el hilo despachador.
+     *
+     * @param slas          servicio de liquidación de aportes
+     * @param ejecutor      pool donde se liquidan los lotes
+     * @param tamanoMaximo  solicitudes máximas por lote
+     * @param ventana       tiempo máximo que se espera para completar un lote
+     * @param capacidadCola solicitudes pendientes que admite la cola antes de esperar
+     */
+    public CoalescedorLiquidaciones(SlasService slas, LoteParaleloExecutor ejecutor,
+            @Value("${slas.microlotes.tamano-maximo:256}") int tamanoMaximo,
+            @Value("${slas.microlotes.ventana:PT0.0002S}") Duration ventana,
+            @Value("${slas.microlotes.capacidad-cola:65536}") int capacidadCola) {
+        if (tamanoMaximo < 1 || ventana.isNegative() || capacidadCola < 1) {
+            throw new IllegalArgumentException("slas.microlotes.tamano-maximo y slas.microlotes.capacidad-cola "
+                    + "deben ser >= 1 y slas.microlotes.ventana no puede ser negativa");
+        }
+        this.slas = slas;
+        this.ejecutor = ejecutor;
+        this.lotesEnCurso = new Semaphore(2 * ejecutor.paralelismo());
+        this.tamanoMaximo = tamanoMaximo;
+        this.ventanaNanos = ventana.toNanos();
+        this.cola = new ArrayBlockingQueue<>(capacidadCola);
+        this.despachador = Thread.ofPlatform().name("slas-microlotes").daemon().start(this::despachar);
+        log.info("Micro-lotes activos: hasta {} solicitudes o {} µs por lote", tamanoMaximo, ventanaNanos / 1_000);
+    }
+
+    /**
+     * Liquida una solicitud dentro del próximo micro-lote y espera su resultado.
+     *
+     * @param request objeto con los datos del trabajador
+     * @return detalle completo de la liquidación
+     * @throws datosInvalidosException si los datos de entrada son inconsistentes o inválidos
+     */
+    public LiquidacionResponse liquidar(LiquidacionRequest request) {
+        if (cerrado) {
+            return slas.calculoSlas(request);
+        }
+        Pendiente pendiente = new Pendiente(request, new CompletableFuture<>());
+        try {
+            cola.put(pendiente);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando lugar en la cola de micro-lotes", e);
+        }
+        if (cerrado && cola.remove(pendiente)) {
+            // se cerró entre la verificación y el encolado; nadie más la va a despachar
+            return slas.calculoSlas(request);
+        }
+        try {
+            return pendiente.resultado().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene el número de lotes despachados.
+     *
+     * @return lotes despachados desde el inicio
+     */
+    long lotes() {
+        return lotes;
+    }
+
+    /**
+     * Obtiene el número de solicitudes despachadas.
+     *
+     * @return solicitudes despachadas desde el inicio
+     */
+    long solicitudes() {
+        return solicitudes;
+    }
+
+    /**
+     * Detiene el despachador después de liquidar las solicitudes pendientes. Las
+     * llamadas posteriores se liquidan directamente.
+     * <p>
+     * Una llamada que verificó el cierre justo antes puede encolar su solicitud
+     * cuando el despachador ya terminó: las que queden en la cola se liquidan aquí, y
+     * la llamada que encola después de este vaciado retira su propia solicitud.
+     * </p>
+     */
+    @Override
+    public void close() {
+        cerrado = true;
+        despachador.interrupt();
+        try {
+            despachador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Pendiente> restantes = new ArrayList<>();
+        cola.drainTo(restantes);
+        restantes.forEach(this::liquidar);
+    }
+
+    /**
+     * Ciclo del hilo despachador: arma cada lote y lo entrega al pool.
+     */
+    private void despachar() {
+        while (!cerrado || !cola.isEmpty()) {
+            List<Pendiente> lote = new ArrayList<>(tamanoMaximo);
+            try {
+                Pendiente primera = cola.poll(100, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                long limite = System.nanoTime() + ventanaNanos;
+                while (lote.size() < tamanoMaximo) {
+                    if (cola.drainTo(lote, tamanoMaximo - lote.size()) > 0) {
+                        continue;
+                    }
+                    long restante = limite - System.nanoTime();
+                    Pendiente siguiente = restante > 0 ? cola.poll(restante, TimeUnit.NANOSECONDS) : null;
+                    if (siguiente == null) {
+                        break;
+                    }
+                    lote.add(siguiente);
+                }
+            } catch (InterruptedException e) {
+                // cierre: se liquida lo que ya está en el lote y se vacía la cola
+                cola.drainTo(lote);
+            }
+            liquidarLote(lote);
+        }
+    }
+
+    /**
+     * Entrega el lote al pool. Si ya hay demasiados lotes en curso, espera; si el
+     * coalescedor se cierra mientras espera, liquida el lote en el hilo despachador.
+     */
+    private void liquidarLote(List<Pendiente> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        lotes++;
+        solicitudes += lote.size();
+        try {
+            lotesEnCurso.acquire();
+        } catch (InterruptedException e) {
+            lote.forEach(this::liquidar);
+            return;
+        }
+        ejecutor.enviar(lote.size(), i -> liquidar(lote.get(i)))
+                .whenComplete((ignorado, error) -> lotesEnCurso.release());
+    }
+
+    private void liquidar(Pendiente pendiente) {
+        try {
+            pendiente.resultado().complete(slas.calculoSlas(pendiente.request()));
+        } catch (RuntimeException e) {
+            pendiente.resultado().completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.YearMonth;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CurvaAportesResponse;
+
+/**
+ * Servicio de curvas de aportes: el total de aportes de una grilla de ingresos para
+ * todas las combinaciones de nivel ARL y porcentaje CCF.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface CurvaAportesService {
+
+    /**
+     * Calcula la curva de la grilla {@code desde, desde + paso, ...} hasta {@code hasta}.
+     *
+     * @param desde   primer ingreso de la grilla, en pesos
+     * @param hasta   último ingreso posible de la grilla (inclusive), en pesos
+     * @param paso    distancia entre ingresos consecutivos, en pesos
+     * @param periodo periodo cuyos parámetros se aplican (opcional; por defecto, el año en curso)
+     * @return curva en columnas
+     * @throws datosInvalidosException si la grilla es inválida o no hay parámetros para el periodo
+     */
+    CurvaAportesResponse curva(long desde, long hasta, long paso, YearMonth periodo);
+
+    /**
+     * Obtiene la curva ya serializada en JSON. Las curvas se guardan en caché por
+     * parámetros del año y grilla, de modo que repetir una consulta no recalcula ni
+     * vuelve a serializar.
+     *
+     * @param desde   primer ingreso de la grilla, en pesos
+     * @param hasta   último ingreso posible de la grilla (inclusive), en pesos
+     * @param paso    distancia entre ingresos consecutivos, en pesos
+     * @param periodo periodo cuyos parámetros se aplican (opcional)
+     * @return bytes JSON de {@link CurvaAportesResponse}
+     * @throws datosInvalidosException si la grilla es inválida o no hay parámetros para el periodo
+     */
+    byte[] curvaJson(long desde, long hasta, long paso, YearMonth periodo);
+}
@@ -0,0 +1,205 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.DestinoLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CurvaAportesResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.SerieCurvaResponse;
+
+/**
+ * Implementación de las curvas de aportes sobre columnas de arreglos primitivos.
+ * <p>
+ * El IBC y los aportes obligatorios se calculan una vez por ingreso de la grilla con
+ * {@link MotorCalculoExacto}; luego se calcula una columna de ARL por nivel y una de
+ * CCF por porcentaje, y cada una de las 18 series (sin ARL o los 5 niveles, por sin
+ * CCF, 0.6% o 2%) es la suma elemento a elemento de tres columnas: bucles planos sobre
+ * {@code long[]} que el compilador JIT vectoriza. Los valores coinciden al peso con
+ * {@code /api/slas/cotizacion} para cada punto.
+ * </p>
+ *
+ * <p>
+ * Las curvas ya serializadas se guardan en una caché Caffeine de hasta
+ * {@code slas.curvas.cache-bytes} bytes de JSON, con clave en la instancia de
+ * {@link ParametrosAnuales} y la grilla: una recarga de parámetros crea instancias
+ * nuevas, así que las curvas anteriores dejan de consultarse y salen de la caché
+ * por tamaño. Cada curva pesa lo que mide su JSON, desde unos cientos de bytes hasta
+ * unos 3 MB, así que el límite se fija en bytes y no en número de curvas.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see CurvaAportesService
+ */
+@Service
+public class CurvaAportesServiceImpl implements CurvaAportesService {
+
+    /** Máximo de ingresos por curva (18 series de 20.000 puntos, unos 3 MB de JSON). */
+    static final int MAXIMO_PUNTOS = 20_000;
+
+    /** Mayor ingreso admitido en la grilla, en pesos; mantiene los centavos dentro de {@code long}. */
+    static final long INGRESO_MAXIMO = 1_000_000_000_000L;
+
+    /** Porcentajes CCF de las series; {@code 0} representa a quien no aporta. */
+    private static final double[] PORCENTAJES_CCF = { 0, 0.6, 2.0 };
+
+    private final RegistroParametros parametros;
+
+    private final ObjectMapper mapper;
+
+    private final MetricasLiquidacion metricas;
+
+    private final Cache<Clave, byte[]> cache;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param parametros registro de parámetros por año gravable
+     * @param mapper     serializador JSON de la aplicación
+     * @param metricas   métricas de rechazos
+     * @param cacheBytes máximo de bytes de JSON de las curvas en caché
+     * @throws IllegalArgumentException si {@code cacheBytes} es negativo
+     */
+    public CurvaAportesServiceImpl(RegistroParametros parametros, ObjectMapper mapper, MetricasLiquidacion metricas,
+            @Value("${slas.curvas.cache-bytes:67108864}") long cacheBytes) {
+        if (cacheBytes < 0) {
+            throw new IllegalArgumentException("slas.curvas.cache-bytes debe ser >= 0");
+        }
+        this.parametros = parametros;
+        this.mapper = mapper;
+        this.metricas = metricas;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheBytes)
+                .weigher((Clave clave, byte[] json) -> json.length)
+                .build();
+    }
+
+    @Override
+    public CurvaAportesResponse curva(long desde, long hasta, long paso, YearMonth periodo) {
+        return calcular(desde, paso, puntos(desde, hasta, paso), anuales(periodo));
+    }
+
+    @Override
+    public byte[] curvaJson(long desde, long hasta, long paso, YearMonth periodo) {
+        int puntos = puntos(desde, hasta, paso);
+        ParametrosAnuales anuales = anuales(periodo);
+        return cache.get(new Clave(anuales, desde, paso, puntos), clave -> {
+            try {
+                return mapper.writeValueAsBytes(calcular(desde, paso, puntos, anuales));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Obtiene los bytes de JSON de las curvas en caché, después de aplicar los
+     * desalojos pendientes.
+     *
+     * @return bytes en caché
+     */
+    long bytesEnCache() {
+        cache.cleanUp();
+        return cache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+    }
+
+    /**
+     * Calcula las columnas de una grilla ya validada.
+     *
+     * @param desde   primer ingreso, en pesos
+     * @param paso    distancia entre ingresos, en pesos
+     * @param puntos  número de ingresos
+     * @param anuales parámetros del año
+     * @return curva en columnas
+     */
+    static CurvaAportesResponse calcular(long desde, long paso, int puntos, ParametrosAnuales anuales) {
+        long[] ingresos = new long[puntos];
+        long[] ibc = new long[puntos];
+        long[] obligatorios = new long[puntos];
+        // sin aportes voluntarios el total de la fila es la suma de los obligatorios
+        DestinoLiquidacion base = (i, ibcFila, salud, pension, fsp, arl, ccf, total) -> {
+            ibc[i] = ibcFila;
+            obligatorios[i] = total;
+        };
+        for (int i = 0; i < puntos; i++) {
+            long ingreso = desde + i * paso;
+            ingresos[i] = ingreso;
+            MotorCalculoExacto.liquidar(ingreso * 100, MotorCalculoExacto.SIN_ARL, 0, anuales, base, i);
+        }
+
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        long[][] arl = new long[niveles.length + 1][];
+        for (int nivel = 0; nivel < arl.length; nivel++) {
+            arl[nivel] = columna(ibc, MotorCalculoExacto.tarifaArl(nivel));
+        }
+        long[][] ccf = new long[PORCENTAJES_CCF.length][];
+        for (int c = 0; c < ccf.length; c++) {
+            ccf[c] = columna(ibc, MotorCalculoExacto.tarifaPorcentual(PORCENTAJES_CCF[c]));
+        }
+
+        List<SerieCurvaResponse> series = new ArrayList<>(arl.length * ccf.length);
+        for (int nivel = 0; nivel < arl.length; nivel++) {
+            for (int c = 0; c < ccf.length; c++) {
+                long[] columnaArl = arl[nivel];
+                long[] columnaCcf = ccf[c];
+                long[] total = new long[puntos];
+                for (int i = 0; i < puntos; i++) {
+                    total[i] = obligatorios[i] + columnaArl[i] + columnaCcf[i];
+                }
+                series.add(new SerieCurvaResponse(
+                        nivel == MotorCalculoExacto.SIN_ARL ? null : niveles[nivel - 1],
+                        PORCENTAJES_CCF[c] == 0 ? null : PORCENTAJES_CCF[c], total));
+            }
+        }
+        return new CurvaAportesResponse(anuales.getAnio(), ingresos, ibc, obligatorios, series);
+    }
+
+    /** Aporte de una tarifa para cada IBC de la columna. */
+    private static long[] columna(long[] ibc, long tarifa) {
+        long[] aportes = new long[ibc.length];
+        for (int i = 0; i < ibc.length; i++) {
+            aportes[i] = MotorCalculoExacto.aporte(ibc[i], tarifa);
+        }
+        return aportes;
+    }
+
+    private int puntos(long desde, long hasta, long paso) {
+        if (desde <= 0 || hasta < desde || hasta > INGRESO_MAXIMO || paso <= 0
+                || (hasta - desde) / paso >= MAXIMO_PUNTOS) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.CURVA_INVALIDA));
+        }
+        return (int) ((hasta - desde) / paso) + 1;
+    }
+
+    private ParametrosAnuales anuales(YearMonth periodo) {
+        ParametrosAnuales anuales = parametros.buscar(periodo);
+        if (anuales == null) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.PERIODO_SIN_PARAMETROS));
+        }
+        return anuales;
+    }
+
+    private datosInvalidosException rechazar(ResultadoValidacion validacion) {
+        metricas.rechazo(validacion);
+        return new datosInvalidosException(validacion);
+    }
+
+    /** Clave de caché: parámetros del año (por identidad del registro vigente) y grilla. */
+    private record Clave(ParametrosAnuales parametros, long desde, long paso, int puntos) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Escritor de archivos planos de ancho fijo al estilo de la PILA (Planilla
+ * Integrada de Liquidación de Aportes) para el operador de pago.
+ * <p>
+ * Todas las líneas miden {@link #ANCHO_LINEA} caracteres ASCII más {@code CRLF}. Los
+ * valores en pesos van alineados a la derecha y completados con ceros; los textos,
+ * alineados a la izquierda y completados con espacios. Las posiciones empiezan en 1:
+ * </p>
+ * <pre>
+ * Encabezado (tipo 01)
+ *   1-2    "01"
+ *   3      tipo de planilla ("I": independientes)
+ *   4-9    periodo AAAAMM
+ *
+ * Detalle (tipo 02), una línea por liquidación
+ *   1-2    "02"
+ *   3-10   secuencia
+ *   11-12  tipo de documento (CC, CE, TI, PA, PT)
+ *   13-28  número de documento
+ *   29-34  periodo AAAAMM
+ *   35-46  ingreso mensual (redondeado al peso)
+ *   47-58  IBC
+ *   59-70  pensión
+ *   71-82  salud
+ *   83-94  FSP
+ *   95     clase de riesgo ARL (0 si no aporta)
+ *   96-102 tarifa ARL (0.00522)
+ *   103-114 ARL
+ *   115-121 tarifa CCF (0.02000)
+ *   122-133 CCF
+ *   134-145 total de aportes
+ *
+ * Totales (tipo 03)
+ *   1-2    "03"
+ *   3-10   número de detalles
+ *   11-25  IBC, 26-40 pensión, 41-55 salud, 56-70 FSP, 71-85 ARL, 86-100 CCF,
+ *   101-115 total (15 posiciones cada uno)
+ * </pre>
+ *
+ * <p>
+ * Los números se escriben dígito a dígito en un arreglo de bytes reutilizado, sin
+ * {@code String.format} ni objetos por línea, y el arreglo se vacía al canal cuando
+ * se llena. No es seguro para uso concurrente.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see PilaServiceImpl
+ */
+final class EscritorPila implements Closeable {
+
+    /** Caracteres de cada línea, sin el fin de línea. */
+    static final int ANCHO_LINEA = 145;
+
+    /** Longitud máxima del número de documento. */
+    static final int ANCHO_DOCUMENTO = 16;
+
+    private static final int ANCHO_VALOR = 12;
+    private static final int ANCHO_TOTAL = 15;
+    private static final int ANCHO_SECUENCIA = 8;
+    private static final int LINEA = ANCHO_LINEA + 2;
+
+    private static final byte[][] TIPOS_DOCUMENTO = new byte[TipoDocumento.values().length][];
+
+    /** Tarifa ARL en milésimas de punto porcentual, por código de nivel. */
+    private static final long[] TARIFAS_ARL = new long[RiesgoLaboralARL.values().length + 1];
+
+    static {
+        for (TipoDocumento tipo : TipoDocumento.values()) {
+            TIPOS_DOCUMENTO[tipo.ordinal()] = tipo.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (RiesgoLaboralARL nivel : RiesgoLaboralARL.values()) {
+            TARIFAS_ARL[MotorCalculoExacto.codigoNivel(nivel)] = Math.round(nivel.getPorcentaje() * 1000);
+        }
+    }
+
+    private final WritableByteChannel canal;
+    private final byte[] bufer;
+    private final ByteBuffer envoltura;
+    private final byte[] documento = new byte[ANCHO_DOCUMENTO];
+    private int posicion;
+
+    private final int periodo;
+    private long detalles;
+    private long ibc;
+    private long pension;
+    private long salud;
+    private long fsp;
+    private long arl;
+    private long ccf;
+    private long total;
+
+    /**
+     * Crea un escritor y escribe el encabezado del periodo.
+     *
+     * @param canal       canal de destino (por ejemplo, un {@link java.nio.channels.FileChannel})
+     * @param periodo     periodo de la planilla
+     * @param tamanoBufer bytes del búfer reutilizado; se ajusta a líneas completas
+     */
+    EscritorPila(WritableByteChannel canal, YearMonth periodo, int tamanoBufer) {
+        this.canal = canal;
+        this.bufer = new byte[Math.max(1, tamanoBufer / LINEA) * LINEA];
+        this.envoltura = ByteBuffer.wrap(bufer);
+        this.periodo = periodo.getYear() * 100 + periodo.getMonthValue();
+
+        int inicio = posicion;
+        texto((byte) '0', (byte) '1');
+        bufer[posicion++] = 'I';
+        numero(this.periodo, 6);
+        terminarLinea(inicio);
+    }
+
+    /**
+     * Escribe el detalle de una liquidación con usuario.
+     *
+     * @param request     solicitud válida con usuario
+     * @param liquidacion resultado de la liquidación
+     * @throws IOException              si el canal falla
+     * @throws IllegalArgumentException si un valor no cabe en su campo
+     */
+    void detalle(LiquidacionRequest request, LiquidacionResponse liquidacion) throws IOException {
+        String numero = request.getUsuario().getNumeroDocumento();
+        int longitud = numero.length();
+        if (longitud > ANCHO_DOCUMENTO) {
+            throw new IllegalArgumentException("Número de documento de más de " + ANCHO_DOCUMENTO + " caracteres");
+        }
+        for (int i = 0; i < longitud; i++) {
+            documento[i] = (byte) numero.charAt(i);
+        }
+        detalle(request.getUsuario().getTipoDocumento(), documento, longitud, request.getIngresosMensual(),
+                request.getAporteARL() ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                        : MotorCalculoExacto.SIN_ARL,
+                request.getAportaCCF() ? request.getPorcentajeCCF() : 0.0,
+                liquidacion.ibc(), liquidacion.salud(), liquidacion.pension(), liquidacion.fsp(), liquidacion.arl(),
+                liquidacion.ccf(), liquidacion.total());
+    }
+
+    /**
+     * Escribe el detalle de una liquidación a partir de sus valores primitivos.
+     *
+     * @param tipo          tipo de documento del trabajador
+     * @param numero        número de documento en ASCII
+     * @param longitud      bytes válidos de {@code numero}
+     * @param ingreso       ingreso mensual
+     * @param nivelArl      código del nivel ARL ({@link MotorCalculoExacto#SIN_ARL} si no aporta)
+     * @param porcentajeCcf porcentaje CCF (0 si no aporta)
+     * @param ibc           IBC en pesos
+     * @param salud         aporte a salud en pesos
+     * @param pension       aporte a pensión en pesos
+     * @param fsp           aporte al FSP en pesos
+     * @param arl           aporte a ARL en pesos
+     * @param ccf           aporte a CCF en pesos
+     * @param total         total de aportes en pesos
+     * @throws IOException              si el canal falla
+     * @throws IllegalArgumentException si un valor no cabe en su campo
+     */
+    void detalle(TipoDocumento tipo, byte[] numero, int longitud, double ingreso, int nivelArl, double porcentajeCcf,
+            double ibc, double salud, double pension, double fsp, double arl, double ccf, double total)
+            throws IOException {
+        if (posicion + LINEA > bufer.length) {
+            vaciar();
+        }
+        long ibcPesos = (long) ibc;
+        long saludPesos = (long) salud;
+        long pensionPesos = (long) pension;
+        long fspPesos = (long) fsp;
+        long arlPesos = (long) arl;
+        long ccfPesos = (long) ccf;
+        long totalPesos = (long) total;
+
+        int inicio = posicion;
+        try {
+            texto((byte) '0', (byte) '2');
+            numero(detalles + 1, ANCHO_SECUENCIA);
+            byte[] codigo = TIPOS_DOCUMENTO[tipo.ordinal()];
+            texto(codigo[0], codigo[1]);
+            if (longitud > ANCHO_DOCUMENTO) {
+                throw new IllegalArgumentException("Número de documento de más de " + ANCHO_DOCUMENTO + " caracteres");
+            }
+            System.arraycopy(numero, 0, bufer, posicion, longitud);
+            for (int i = longitud; i < ANCHO_DOCUMENTO; i++) {
+                bufer[posicion + i] = ' ';
+            }
+            posicion += ANCHO_DOCUMENTO;
+            numero(periodo, 6);
+            numero(Math.round(ingreso), ANCHO_VALOR);
+            numero(ibcPesos, ANCHO_VALOR);
+            numero(pensionPesos, ANCHO_VALOR);
+            numero(saludPesos, ANCHO_VALOR);
+            numero(fspPesos, ANCHO_VALOR);
+            numero(nivelArl, 1);
+            tarifa(TARIFAS_ARL[nivelArl]);
+            numero(arlPesos, ANCHO_VALOR);
+            tarifa(Math.round(porcentajeCcf * 1000));
+            numero(ccfPesos, ANCHO_VALOR);
+            numero(totalPesos, ANCHO_VALOR);
+            terminarLinea(inicio);
+        } catch (IllegalArgumentException e) {
+            // descarta la línea a medias
+            posicion = inicio;
+            throw e;
+        }
+
+        detalles++;
+        this.ibc += ibcPesos;
+        this.salud += saludPesos;
+        this.pension += pensionPesos;
+        this.fsp += fspPesos;
+        this.arl += arlPesos;
+        this.ccf += ccfPesos;
+        this.total += totalPesos;
+    }
+
+    /**
+     * Obtiene el número de detalles escritos.
+     *
+     * @return detalles escritos
+     */
+    long detalles() {
+        return detalles;
+    }
+
+    /**
+     * Escribe la línea de totales y vacía el búfer al canal. No cierra el canal.
+     *
+     * @throws IOException si el canal falla
+     */
+    @Override
+    public void close() throws IOException {
+        if (posicion + LINEA > bufer.length) {
+            vaciar();
+        }
+        int inicio = posicion;
+        texto((byte) '0', (byte) '3');
+        numero(detalles, ANCHO_SECUENCIA);
+        numero(ibc, ANCHO_TOTAL);
+        numero(pension, ANCHO_TOTAL);
+        numero(salud, ANCHO_TOTAL);
+        numero(fsp, ANCHO_TOTAL);
+        numero(arl, ANCHO_TOTAL);
+        numero(ccf, ANCHO_TOTAL);
+        numero(total, ANCHO_TOTAL);
+        terminarLinea(inicio);
+        vaciar();
+    }
+
+    private void texto(byte primero, byte segundo) {
+        bufer[posicion++] = primero;
+        bufer[posicion++] = segundo;
+    }
+
+    /** Escribe {@code valor} alineado a la derecha y completado con ceros en {@code ancho} posiciones. */
+    private void numero(long valor, int ancho) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("Valor negativo en la planilla: " + valor);
+        }
+        long restante = valor;
+        for (int i = posicion + ancho - 1; i >= posicion; i--) {
+            bufer[i] = (byte) ('0' + restante % 10);
+            restante /= 10;
+        }
+        if (restante != 0) {
+            throw new IllegalArgumentException("El valor " + valor + " no cabe en " + ancho + " posiciones");
+        }
+        posicion += ancho;
+    }
+
+    /** Escribe una tarifa dada en milésimas de punto porcentual como fracción {@code 0.ddddd}. */
+    private void tarifa(long milesimas) {
+        texto((byte) '0', (byte) '.');
+        numero(milesimas, 5);
+    }
+
+    /** Completa la línea con espacios hasta {@link #ANCHO_LINEA} y agrega {@code CRLF}. */
+    private void terminarLinea(int inicio) {
+        int fin = inicio + ANCHO_LINEA;
+        while (posicion < fin) {
+            bufer[posicion++] = ' ';
+        }
+        texto((byte) '\r', (byte) '\n');
+    }
+
+    private void vaciar() throws IOException {
+        envoltura.limit(posicion).position(0);
+        while (envoltura.hasRemaining()) {
+            canal.write(envoltura);
+        }
+        envoltura.clear();
+        posicion = 0;
+    }
+}
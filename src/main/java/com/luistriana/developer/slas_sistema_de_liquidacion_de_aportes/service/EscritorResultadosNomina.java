@@ -0,0 +1,136 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+
+/**
+ * Escritor de los resultados por fila de una importación de nómina, en el CSV de
+ * {@code /api/slas/cotizacion/stream}
+ * ({@value LiquidacionStreamServiceImpl#ENCABEZADO_CSV_SALIDA}).
+ * <p>
+ * Cada bloque de la importación escribe sus filas en su propio canal, numeradas a
+ * partir del índice de su primera fila. Como en {@link EscritorPila}, los números
+ * se escriben dígito a dígito en un búfer de bytes reutilizado que se vacía por el
+ * canal: una fila liquidada no crea objetos. El encabezado y la línea de totales
+ * los escribe quien une los bloques.
+ * </p>
+ *
+ * <p>
+ * No es seguro para uso concurrente.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ImportacionNominaServiceImpl
+ */
+final class EscritorResultadosNomina implements Closeable {
+
+    /** Bytes del búfer reutilizado. */
+    private static final int TAMANO_BUFER = 65_536;
+
+    /** Bytes máximos de una fila liquidada: índice y siete valores de hasta 20 caracteres, comas y fin de línea. */
+    private static final int FILA_MAXIMA = 8 * 21 + 2;
+
+    private final WritableByteChannel canal;
+    private final byte[] bufer = new byte[TAMANO_BUFER];
+    private final ByteBuffer envoltura = ByteBuffer.wrap(bufer);
+    private int posicion;
+    private long indice;
+
+    /**
+     * Crea un escritor de las filas de un bloque.
+     *
+     * @param canal        canal de destino; no se cierra
+     * @param primerIndice índice de la primera fila del bloque en el archivo
+     */
+    EscritorResultadosNomina(WritableByteChannel canal, long primerIndice) {
+        this.canal = canal;
+        this.indice = primerIndice;
+    }
+
+    /**
+     * Escribe la liquidación de la siguiente fila.
+     *
+     * @throws IOException si el canal falla
+     */
+    void liquidada(long ibc, long salud, long pension, long fsp, long arl, long ccf, long total) throws IOException {
+        if (posicion + FILA_MAXIMA > bufer.length) {
+            vaciar();
+        }
+        numero(indice++);
+        separado(ibc);
+        separado(salud);
+        separado(pension);
+        separado(fsp);
+        separado(arl);
+        separado(ccf);
+        separado(total);
+        bufer[posicion++] = ',';
+        bufer[posicion++] = '\n';
+    }
+
+    /**
+     * Escribe la siguiente fila como rechazada, con el mensaje de sus motivos.
+     *
+     * @param motivos bits {@code 1 << ordinal()} de los motivos de rechazo
+     * @throws IOException si el canal falla
+     */
+    void rechazada(int motivos) throws IOException {
+        byte[] error = ResultadoValidacion.de(motivos).mensaje().replace("\"", "\"\"")
+                .getBytes(StandardCharsets.UTF_8);
+        if (posicion + FILA_MAXIMA + error.length > bufer.length) {
+            vaciar();
+        }
+        numero(indice++);
+        for (int i = 0; i < 8; i++) {
+            bufer[posicion++] = ',';
+        }
+        bufer[posicion++] = '"';
+        System.arraycopy(error, 0, bufer, posicion, error.length);
+        posicion += error.length;
+        bufer[posicion++] = '"';
+        bufer[posicion++] = '\n';
+    }
+
+    /**
+     * Vacía el búfer en el canal.
+     *
+     * @throws IOException si el canal falla
+     */
+    @Override
+    public void close() throws IOException {
+        vaciar();
+    }
+
+    private void separado(long valor) {
+        bufer[posicion++] = ',';
+        numero(valor);
+    }
+
+    /** Escribe un entero no negativo en decimal. */
+    private void numero(long valor) {
+        int digitos = 1;
+        for (long resto = valor / 10; resto != 0; resto /= 10) {
+            digitos++;
+        }
+        for (int i = posicion + digitos - 1; i >= posicion; i--) {
+            bufer[i] = (byte) ('0' + valor % 10);
+            valor /= 10;
+        }
+        posicion += digitos;
+    }
+
+    private void vaciar() throws IOException {
+        envoltura.clear().limit(posicion);
+        while (envoltura.hasRemaining()) {
+            canal.write(envoltura);
+        }
+        posicion = 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ImportacionNominaResponse;
+
+/**
+ * Servicio de importación masiva de archivos de nómina (CSV o ancho fijo): lee los
+ * ingresos de los contratistas y los liquida sin pasar por {@code LiquidacionRequest}.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ImportacionNominaService {
+
+    /**
+     * Importa y liquida un archivo de nómina y retorna solo los totales: los
+     * resultados de cada fila se suman y se descartan. Para conservarlos, use
+     * {@link #importar(Path, FormatoNomina, YearMonth, Path)}.
+     *
+     * @param archivo archivo de nómina
+     * @param formato formato del archivo
+     * @param periodo periodo cuyos parámetros se aplican (opcional; por defecto, el año en curso)
+     * @return totales por concepto y velocidad de lectura
+     * @throws IOException             si el archivo no se puede leer
+     * @throws datosInvalidosException si no hay parámetros para el periodo
+     */
+    ImportacionNominaResponse importar(Path archivo, FormatoNomina formato, YearMonth periodo) throws IOException;
+
+    /**
+     * Importa y liquida un archivo de nómina y escribe el resultado de cada fila en
+     * {@code resultados}, en el orden del archivo, con el mismo CSV de
+     * {@code /api/slas/cotizacion/stream}: encabezado, una línea por fila (liquidada o
+     * con su mensaje de error) y la línea de totales. El archivo se reemplaza solo si
+     * la importación termina bien.
+     *
+     * @param archivo    archivo de nómina
+     * @param formato    formato del archivo
+     * @param periodo    periodo cuyos parámetros se aplican (opcional; por defecto, el año en curso)
+     * @param resultados archivo CSV de resultados por fila ({@code null} = solo totales)
+     * @return totales por concepto y velocidad de lectura
+     * @throws IOException             si el archivo no se puede leer o los resultados no se pueden escribir
+     * @throws datosInvalidosException si no hay parámetros para el periodo
+     */
+    ImportacionNominaResponse importar(Path archivo, FormatoNomina formato, YearMonth periodo, Path resultados)
+            throws IOException;
+}
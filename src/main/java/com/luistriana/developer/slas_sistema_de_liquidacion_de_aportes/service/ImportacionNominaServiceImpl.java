@@ -0,0 +1,768 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.DestinoLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ImportacionNominaResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementación de la importación masiva de archivos de nómina.
+ * <p>
+ * El archivo se corta en bloques de unos {@code slas.importacion.tamano-bloque}
+ * bytes, siempre justo después de un fin de línea, y cada bloque se mapea en
+ * memoria y se procesa en el pool de hilos. Los campos se interpretan directamente
+ * desde los bytes del mapeo: no se crea un {@link String} por línea ni por campo, ni
+ * un {@code LiquidacionRequest} por fila; cada fila válida se liquida con
+ * {@link MotorCalculoExacto} y se suma a los totales del bloque.
+ * </p>
+ *
+ * <p>
+ * Las reglas son las de {@link ValidadorLiquidacion} y las filas rechazadas se
+ * cuentan en {@code slas_rechazos_total}. El ingreso se convierte a centavos desde
+ * el texto (redondeando a partir del tercer decimal, mitad hacia arriba); los
+ * números en notación científica se interpretan con {@link Double#parseDouble(String)}.
+ * Las líneas en blanco se ignoran y, en CSV, la primera línea puede ser el
+ * encabezado de columnas.
+ * </p>
+ *
+ * <p>
+ * Los resultados por fila son opcionales. Sin ellos solo se suman totales y la
+ * memoria usada no depende del tamaño del archivo. Con ellos, una primera pasada
+ * en paralelo cuenta las filas de cada bloque para conocer el índice de su primera
+ * fila. Luego cada bloque escribe sus filas en su propio archivo
+ * ({@link EscritorResultadosNomina}), y al terminar las partes se unen en orden con
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * sin pasar por el heap.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ImportacionNominaService
+ */
+@Service
+public class ImportacionNominaServiceImpl implements ImportacionNominaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacionNominaServiceImpl.class);
+
+    private static final byte[] ENCABEZADO_CSV = LiquidacionStreamServiceImpl.ENCABEZADO_CSV_ENTRADA
+            .getBytes(StandardCharsets.US_ASCII);
+
+    /** Nombres de los niveles ARL en ASCII, por código de nivel. */
+    private static final byte[][] NIVELES = new byte[RiesgoLaboralARL.values().length + 1][];
+
+    private static final int NIVEL_MAXIMO = MotorCalculoExacto.codigoNivel(RiesgoLaboralARL.NIVEL_V);
+
+    /** Posiciones mínimas de una línea de ancho fijo. */
+    private static final int ANCHO_FIJO = 19;
+
+    /** Dígitos enteros máximos que se convierten a centavos sin desbordar un {@code long}. */
+    private static final int DIGITOS_MAXIMOS = 15;
+
+    /** Bytes que se leen a la vez para encontrar el fin de línea de cada corte. */
+    private static final int LECTURA_CORTE = 4096;
+
+    /** Campo vacío. */
+    private static final int VACIO = -1;
+
+    /** Campo con un valor que no corresponde al tipo de la columna. */
+    private static final int ILEGIBLE = -2;
+
+    static {
+        for (RiesgoLaboralARL nivel : RiesgoLaboralARL.values()) {
+            NIVELES[MotorCalculoExacto.codigoNivel(nivel)] = nivel.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final RegistroParametros parametros;
+    private final MetricasLiquidacion metricas;
+    private final ForkJoinPool pool;
+    private final int tamanoBloque;
+
+    /**
+     * Constructor con inyección de dependencias y configuración.
+     *
+     * @param parametros   registro de parámetros por año gravable
+     * @param metricas     métricas de rechazos
+     * @param paralelismo  número de hilos del pool (0 = procesadores disponibles)
+     * @param tamanoBloque bytes aproximados de cada bloque mapeado
+     */
+    public ImportacionNominaServiceImpl(RegistroParametros parametros, MetricasLiquidacion metricas,
+            @Value("${slas.importacion.paralelismo:0}") int paralelismo,
+            @Value("${slas.importacion.tamano-bloque:8388608}") int tamanoBloque) {
+        if (paralelismo < 0 || tamanoBloque < 1) {
+            throw new IllegalArgumentException(
+                    "slas.importacion.paralelismo debe ser >= 0 y slas.importacion.tamano-bloque >= 1");
+        }
+        this.parametros = parametros;
+        this.metricas = metricas;
+        this.pool = new ForkJoinPool(paralelismo == 0 ? Runtime.getRuntime().availableProcessors() : paralelismo);
+        this.tamanoBloque = tamanoBloque;
+    }
+
+    @Override
+    public ImportacionNominaResponse importar(Path archivo, FormatoNomina formato, YearMonth periodo)
+            throws IOException {
+        return importar(archivo, formato, periodo, null);
+    }
+
+    @Override
+    public ImportacionNominaResponse importar(Path archivo, FormatoNomina formato, YearMonth periodo,
+            Path resultados) throws IOException {
+        long inicio = System.nanoTime();
+        ParametrosAnuales anuales = parametros.buscar(periodo);
+        if (anuales == null) {
+            ResultadoValidacion rechazo = ResultadoValidacion.de(MotivoRechazo.PERIODO_SIN_PARAMETROS);
+            metricas.rechazo(rechazo);
+            throw new datosInvalidosException(rechazo);
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long bytes = canal.size();
+            long[] cortes = cortes(canal, bytes);
+            int bloques = cortes.length - 1;
+            List<Future<Parcial>> pendientes = new ArrayList<>(bloques);
+            try {
+                long[] primeraFila = resultados == null ? new long[bloques] : primerasFilas(canal, cortes, formato);
+                for (int b = 0; b < bloques; b++) {
+                    long desde = cortes[b];
+                    long largo = cortes[b + 1] - desde;
+                    boolean primero = b == 0;
+                    Path parte = resultados == null ? null : parte(resultados, b);
+                    long fila = primeraFila[b];
+                    pendientes.add(pool.submit(() -> liquidarBloque(
+                            canal.map(FileChannel.MapMode.READ_ONLY, desde, largo), primero, formato, anuales, parte,
+                            fila)));
+                }
+                Parcial total = new Parcial(anuales, null);
+                for (Future<Parcial> pendiente : pendientes) {
+                    total.sumar(esperar(pendiente));
+                }
+                if (resultados != null) {
+                    unir(resultados, bloques, total.totales());
+                }
+
+                long nanos = System.nanoTime() - inicio;
+                double megabytesPorSegundo = nanos == 0 ? 0 : bytes * 1_000.0 / nanos;
+                log.info("Nómina {} importada: {} filas ({} rechazadas), {} bytes en {} bloques a {} MB/s", formato,
+                        total.filas, total.filasConError, bytes, bloques, Math.round(megabytesPorSegundo));
+                return new ImportacionNominaResponse(formato, bytes, bloques, nanos / 1_000_000,
+                        megabytesPorSegundo, total.totales());
+            } finally {
+                pendientes.forEach(pendiente -> pendiente.cancel(true));
+                if (resultados != null) {
+                    for (int b = 0; b < bloques; b++) {
+                        Files.deleteIfExists(parte(resultados, b));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cierra el pool de hilos al detener la aplicación.
+     */
+    @PreDestroy
+    public void cerrar() {
+        pool.shutdown();
+    }
+
+    /**
+     * Calcula los cortes de los bloques: cada corte sigue a un fin de línea, de modo
+     * que ninguna línea queda repartida entre dos bloques.
+     *
+     * @return posiciones de inicio de cada bloque seguidas del tamaño del archivo
+     */
+    private long[] cortes(FileChannel canal, long bytes) throws IOException {
+        long[] cortes = new long[(int) (bytes / tamanoBloque) + 2];
+        int cantidad = 0;
+        cortes[cantidad++] = 0;
+        ByteBuffer lectura = ByteBuffer.allocate(LECTURA_CORTE);
+        long posicion = tamanoBloque;
+        while (posicion < bytes) {
+            long corte = finDeLinea(canal, posicion, bytes, lectura);
+            if (corte >= bytes) {
+                break;
+            }
+            cortes[cantidad++] = corte;
+            posicion = corte + tamanoBloque;
+        }
+        cortes[cantidad++] = bytes;
+        return Arrays.copyOf(cortes, cantidad);
+    }
+
+    /** Posición siguiente al primer {@code '\n'} desde {@code posicion}, o el tamaño del archivo. */
+    private static long finDeLinea(FileChannel canal, long posicion, long bytes, ByteBuffer lectura)
+            throws IOException {
+        while (posicion < bytes) {
+            lectura.clear();
+            int leidos = canal.read(lectura, posicion);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                if (lectura.get(i) == '\n') {
+                    return posicion + i + 1;
+                }
+            }
+            posicion += leidos;
+        }
+        return bytes;
+    }
+
+    /**
+     * Cuenta en paralelo las filas de cada bloque.
+     *
+     * @return índice de la primera fila de cada bloque
+     */
+    private long[] primerasFilas(FileChannel canal, long[] cortes, FormatoNomina formato) throws IOException {
+        List<Future<Long>> conteos = new ArrayList<>(cortes.length - 1);
+        try {
+            for (int b = 0; b + 1 < cortes.length; b++) {
+                long desde = cortes[b];
+                long largo = cortes[b + 1] - desde;
+                boolean primero = b == 0;
+                conteos.add(pool.submit(() -> contarFilas(
+                        canal.map(FileChannel.MapMode.READ_ONLY, desde, largo), primero, formato)));
+            }
+            long[] primeraFila = new long[conteos.size()];
+            long filas = 0;
+            for (int b = 0; b < primeraFila.length; b++) {
+                primeraFila[b] = filas;
+                filas += esperar(conteos.get(b));
+            }
+            return primeraFila;
+        } finally {
+            conteos.forEach(conteo -> conteo.cancel(true));
+        }
+    }
+
+    /**
+     * Cuenta las filas de un bloque con el mismo criterio de
+     * {@link #liquidarBloque(ByteBuffer, boolean, FormatoNomina, ParametrosAnuales, EscritorResultadosNomina)}:
+     * sin líneas en blanco ni el encabezado CSV.
+     */
+    private static long contarFilas(ByteBuffer datos, boolean primero, FormatoNomina formato) {
+        long filas = 0;
+        boolean buscarEncabezado = primero && formato == FormatoNomina.CSV;
+        int limite = datos.limit();
+        int inicio = 0;
+        while (inicio < limite) {
+            int fin = inicio;
+            while (fin < limite && datos.get(fin) != '\n') {
+                fin++;
+            }
+            int finLinea = fin > inicio && datos.get(fin - 1) == '\r' ? fin - 1 : fin;
+            if (recortarInicio(datos, inicio, finLinea) < finLinea) {
+                if (!(buscarEncabezado && esEncabezado(datos, inicio, finLinea))) {
+                    filas++;
+                }
+                buscarEncabezado = false;
+            }
+            inicio = fin + 1;
+        }
+        return filas;
+    }
+
+    /**
+     * Liquida un bloque y, si se piden resultados por fila, los escribe en su parte.
+     *
+     * @param parte       archivo de los resultados del bloque, o {@code null} si solo se suman totales
+     * @param primeraFila índice de la primera fila del bloque
+     */
+    private Parcial liquidarBloque(ByteBuffer datos, boolean primero, FormatoNomina formato,
+            ParametrosAnuales anuales, Path parte, long primeraFila) throws IOException {
+        if (parte == null) {
+            return liquidarBloque(datos, primero, formato, anuales, null);
+        }
+        try (FileChannel salida = FileChannel.open(parte, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                EscritorResultadosNomina escritor = new EscritorResultadosNomina(salida, primeraFila)) {
+            return liquidarBloque(datos, primero, formato, anuales, escritor);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Une en orden las partes de los resultados, entre el encabezado y la fila de
+     * totales, y reemplaza el archivo de resultados de una sola vez.
+     */
+    private static void unir(Path resultados, int bloques, TotalesLiquidacionResponse totales) throws IOException {
+        Path temporal = resultados.resolveSibling(resultados.getFileName() + ".tmp");
+        try (FileChannel salida = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            escribirLinea(salida, LiquidacionStreamServiceImpl.ENCABEZADO_CSV_SALIDA);
+            for (int b = 0; b < bloques; b++) {
+                try (FileChannel entrada = FileChannel.open(parte(resultados, b), StandardOpenOption.READ)) {
+                    long tamano = entrada.size();
+                    for (long posicion = 0; posicion < tamano;) {
+                        posicion += entrada.transferTo(posicion, tamano - posicion, salida);
+                    }
+                }
+            }
+            escribirLinea(salida, LiquidacionStreamServiceImpl.lineaTotalesCsv(totales));
+            salida.force(false);
+        }
+        Files.move(temporal, resultados, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void escribirLinea(FileChannel salida, String linea) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap((linea + '\n').getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            salida.write(bytes);
+        }
+    }
+
+    private static Path parte(Path resultados, int bloque) {
+        return resultados.resolveSibling(resultados.getFileName() + ".parte" + bloque);
+    }
+
+    /**
+     * Interpreta y liquida todas las líneas de un bloque.
+     *
+     * @param datos    bloque mapeado, que empieza al inicio de una línea
+     * @param primero  si es el primer bloque del archivo (puede traer el encabezado CSV)
+     * @param formato  formato del archivo
+     * @param anuales  parámetros del año aplicados
+     * @param escritor destino de los resultados por fila, o {@code null} si solo se suman totales
+     * @return totales del bloque
+     * @throws UncheckedIOException si el escritor falla
+     */
+    Parcial liquidarBloque(ByteBuffer datos, boolean primero, FormatoNomina formato, ParametrosAnuales anuales,
+            EscritorResultadosNomina escritor) {
+        Parcial parcial = new Parcial(anuales, escritor);
+        Fila fila = new Fila();
+        boolean buscarEncabezado = primero && formato == FormatoNomina.CSV;
+        int limite = datos.limit();
+        int inicio = 0;
+        while (inicio < limite) {
+            int fin = inicio;
+            while (fin < limite && datos.get(fin) != '\n') {
+                fin++;
+            }
+            int finLinea = fin > inicio && datos.get(fin - 1) == '\r' ? fin - 1 : fin;
+            if (recortarInicio(datos, inicio, finLinea) < finLinea) {
+                if (!(buscarEncabezado && esEncabezado(datos, inicio, finLinea))) {
+                    int motivos = formato == FormatoNomina.CSV
+                            ? leerCsv(datos, inicio, finLinea, fila)
+                            : leerAnchoFijo(datos, inicio, finLinea, fila);
+                    if (motivos == 0) {
+                        parcial.liquidar(fila);
+                    } else {
+                        parcial.rechazar(motivos);
+                        metricas.rechazo(ResultadoValidacion.de(motivos));
+                    }
+                }
+                buscarEncabezado = false;
+            }
+            inicio = fin + 1;
+        }
+        return parcial;
+    }
+
+    /**
+     * Interpreta una línea CSV con las columnas
+     * {@code ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF}.
+     *
+     * @return máscara de motivos de rechazo (0 si la fila es válida)
+     */
+    private static int leerCsv(ByteBuffer datos, int inicio, int fin, Fila fila) {
+        int coma1 = coma(datos, inicio, fin);
+        int coma2 = coma(datos, coma1 + 1, fin);
+        int coma3 = coma(datos, coma2 + 1, fin);
+        int coma4 = coma(datos, coma3 + 1, fin);
+        if (coma4 >= fin || coma(datos, coma4 + 1, fin) < fin) {
+            return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+        }
+
+        boolean conIngreso = recortarInicio(datos, inicio, coma1) < coma1;
+        int aporteArl = booleano(datos, coma1 + 1, coma2);
+        int aportaCcf = booleano(datos, coma2 + 1, coma3);
+        int nivel = nivel(datos, coma3 + 1, coma4);
+        boolean conPorcentaje = recortarInicio(datos, coma4 + 1, fin) < fin;
+        if ((conIngreso && !decimal(datos, inicio, coma1, fila)) || aporteArl == ILEGIBLE || aportaCcf == ILEGIBLE
+                || nivel == ILEGIBLE) {
+            return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+        }
+
+        int motivos = 0;
+        if (!conIngreso || aporteArl == VACIO || aportaCcf == VACIO) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CAMPOS_OBLIGATORIOS);
+        }
+        if (conIngreso && !fila.positivo) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.INGRESO_NO_POSITIVO);
+        }
+        fila.ingreso = fila.valor;
+
+        fila.codigoCcf = 0;
+        if (aportaCcf == 1 && !conPorcentaje) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_SIN_PORCENTAJE);
+        } else if (aportaCcf == 0 && conPorcentaje) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_SIN_APORTE);
+        } else if (aportaCcf == 1) {
+            if (!decimal(datos, coma4 + 1, fin, fila)) {
+                return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+            }
+            fila.codigoCcf = codigoCcf(fila);
+            if (fila.codigoCcf == 0) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_INVALIDO);
+            }
+        }
+
+        fila.nivel = MotorCalculoExacto.SIN_ARL;
+        if (aporteArl == 1 && nivel == VACIO) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.ARL_SIN_NIVEL);
+        } else if (aporteArl == 0 && nivel != VACIO) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.ARL_NIVEL_SIN_APORTE);
+        } else if (aporteArl == 1) {
+            fila.nivel = nivel;
+        }
+        return motivos;
+    }
+
+    /**
+     * Interpreta una línea de ancho fijo ({@link FormatoNomina#ANCHO_FIJO}).
+     *
+     * @return máscara de motivos de rechazo (0 si la fila es válida)
+     */
+    private static int leerAnchoFijo(ByteBuffer datos, int inicio, int fin, Fila fila) {
+        if (fin - inicio < ANCHO_FIJO) {
+            return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+        }
+        int finIngreso = inicio + 15;
+        byte nivel = datos.get(finIngreso);
+        int decimas = 0;
+        for (int i = finIngreso + 1; i < inicio + ANCHO_FIJO; i++) {
+            byte digito = datos.get(i);
+            if (digito < '0' || digito > '9') {
+                return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+            }
+            decimas = decimas * 10 + digito - '0';
+        }
+        if (nivel < '0' || nivel > '9') {
+            return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+        }
+        boolean conIngreso = recortarInicio(datos, inicio, finIngreso) < finIngreso;
+        if (conIngreso && !decimal(datos, inicio, finIngreso, fila)) {
+            return ResultadoValidacion.bit(MotivoRechazo.LINEA_ILEGIBLE);
+        }
+
+        int motivos = 0;
+        if (!conIngreso) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CAMPOS_OBLIGATORIOS);
+        } else if (!fila.positivo) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.INGRESO_NO_POSITIVO);
+        }
+        fila.ingreso = fila.valor;
+        fila.nivel = nivel - '0';
+        if (fila.nivel > NIVEL_MAXIMO) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.ARL_NIVEL_INVALIDO);
+        }
+        fila.codigoCcf = decimas == 0 ? 0 : decimas == 6 ? 1 : decimas == 20 ? 2 : -1;
+        if (fila.codigoCcf < 0) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_INVALIDO);
+        }
+        return motivos;
+    }
+
+    /** Interpreta {@code true} o {@code false} sin distinguir mayúsculas: 1, 0, {@link #VACIO} o {@link #ILEGIBLE}. */
+    private static int booleano(ByteBuffer datos, int inicio, int fin) {
+        inicio = recortarInicio(datos, inicio, fin);
+        fin = recortarFin(datos, inicio, fin);
+        if (inicio == fin) {
+            return VACIO;
+        }
+        if (igualSinMayusculas(datos, inicio, fin, "true")) {
+            return 1;
+        }
+        return igualSinMayusculas(datos, inicio, fin, "false") ? 0 : ILEGIBLE;
+    }
+
+    /** Interpreta el nombre de un nivel ARL: su código, {@link #VACIO} o {@link #ILEGIBLE}. */
+    private static int nivel(ByteBuffer datos, int inicio, int fin) {
+        inicio = recortarInicio(datos, inicio, fin);
+        fin = recortarFin(datos, inicio, fin);
+        if (inicio == fin) {
+            return VACIO;
+        }
+        for (int codigo = 1; codigo < NIVELES.length; codigo++) {
+            byte[] nombre = NIVELES[codigo];
+            if (nombre.length == fin - inicio && igual(datos, inicio, nombre)) {
+                return codigo;
+            }
+        }
+        return ILEGIBLE;
+    }
+
+    /**
+     * Interpreta un número decimal no vacío y deja en {@code fila.valor} su valor en
+     * centésimas, en {@code fila.exacto} si no tenía más de dos decimales distintos de
+     * cero y en {@code fila.positivo} si es mayor que cero.
+     *
+     * @return {@code false} si el campo no es un número
+     */
+    private static boolean decimal(ByteBuffer datos, int inicio, int fin, Fila fila) {
+        inicio = recortarInicio(datos, inicio, fin);
+        fin = recortarFin(datos, inicio, fin);
+        int i = inicio;
+        boolean negativo = false;
+        if (datos.get(i) == '-' || datos.get(i) == '+') {
+            negativo = datos.get(i) == '-';
+            i++;
+        }
+        long entero = 0;
+        int digitos = 0;
+        boolean noCero = false;
+        while (i < fin && datos.get(i) >= '0' && datos.get(i) <= '9') {
+            int digito = datos.get(i++) - '0';
+            entero = entero * 10 + digito;
+            noCero |= digito != 0;
+            digitos++;
+        }
+        long fraccion = 0;
+        int decimales = 0;
+        boolean exacto = true;
+        boolean redondearArriba = false;
+        if (i < fin && datos.get(i) == '.') {
+            i++;
+            while (i < fin && datos.get(i) >= '0' && datos.get(i) <= '9') {
+                int digito = datos.get(i++) - '0';
+                noCero |= digito != 0;
+                if (decimales < 2) {
+                    fraccion = fraccion * 10 + digito;
+                } else {
+                    exacto &= digito == 0;
+                    redondearArriba |= decimales == 2 && digito >= 5;
+                }
+                decimales++;
+            }
+        }
+        if (i < fin || digitos > DIGITOS_MAXIMOS || digitos + decimales == 0) {
+            return decimalRespaldo(datos, inicio, fin, fila);
+        }
+        for (int d = decimales; d < 2; d++) {
+            fraccion *= 10;
+        }
+        long centesimas = entero * 100 + fraccion + (redondearArriba ? 1 : 0);
+        fila.valor = negativo ? -centesimas : centesimas;
+        fila.exacto = exacto;
+        fila.positivo = noCero && !negativo;
+        return true;
+    }
+
+    /** Interpreta con {@link Double#parseDouble(String)} los números poco comunes (por ejemplo, {@code 1.5e6}). */
+    private static boolean decimalRespaldo(ByteBuffer datos, int inicio, int fin, Fila fila) {
+        byte[] texto = new byte[fin - inicio];
+        datos.get(inicio, texto);
+        try {
+            double numero = Double.parseDouble(new String(texto, StandardCharsets.US_ASCII));
+            fila.valor = MotorCalculoExacto.centavos(numero);
+            fila.exacto = numero * 100 == fila.valor;
+            fila.positivo = numero > 0;
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** Código CCF del porcentaje leído en {@code fila}, o 0 si no es 0.6 ni 2.0. */
+    private static int codigoCcf(Fila fila) {
+        if (fila.exacto && fila.valor == 60) {
+            return 1;
+        }
+        return fila.exacto && fila.valor == 200 ? 2 : 0;
+    }
+
+    private static int coma(ByteBuffer datos, int inicio, int fin) {
+        int i = inicio;
+        while (i < fin && datos.get(i) != ',') {
+            i++;
+        }
+        return i;
+    }
+
+    /** Primera posición que no es espacio ni carácter de control (como {@link String#trim()}). */
+    private static int recortarInicio(ByteBuffer datos, int inicio, int fin) {
+        while (inicio < fin && datos.get(inicio) <= ' ' && datos.get(inicio) >= 0) {
+            inicio++;
+        }
+        return inicio;
+    }
+
+    private static int recortarFin(ByteBuffer datos, int inicio, int fin) {
+        while (fin > inicio && datos.get(fin - 1) <= ' ' && datos.get(fin - 1) >= 0) {
+            fin--;
+        }
+        return fin;
+    }
+
+    private static boolean igual(ByteBuffer datos, int inicio, byte[] palabra) {
+        for (int i = 0; i < palabra.length; i++) {
+            if (datos.get(inicio + i) != palabra[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean igualSinMayusculas(ByteBuffer datos, int inicio, int fin, String palabra) {
+        if (fin - inicio != palabra.length()) {
+            return false;
+        }
+        for (int i = 0; i < palabra.length(); i++) {
+            if ((datos.get(inicio + i) | 0x20) != palabra.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Compara los primeros 15 caracteres con el encabezado, sin distinguir mayúsculas, como el endpoint de flujo. */
+    private static boolean esEncabezado(ByteBuffer datos, int inicio, int fin) {
+        if (fin - inicio < 15) {
+            return false;
+        }
+        for (int i = 0; i < 15; i++) {
+            if (Character.toLowerCase(datos.get(inicio + i)) != Character.toLowerCase(ENCABEZADO_CSV[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T esperar(Future<T> pendiente) throws IOException {
+        try {
+            return pendiente.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importación interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IOException("No se pudo leer un bloque del archivo de nómina", e.getCause());
+        }
+    }
+
+    /** Campos de la fila que se está interpretando; se reutiliza en todo el bloque. */
+    private static final class Fila {
+
+        /** Último número interpretado, en centésimas. */
+        long valor;
+        boolean exacto;
+        boolean positivo;
+
+        /** Ingreso mensual en centavos. */
+        long ingreso;
+        int nivel;
+        int codigoCcf;
+    }
+
+    /** Totales en pesos de un bloque o del archivo completo. */
+    static final class Parcial implements DestinoLiquidacion {
+
+        private final ParametrosAnuales anuales;
+        private final EscritorResultadosNomina escritor;
+        private final long[] tarifasCcf = new long[FormatoColumnar.codigosCcf()];
+
+        long filas;
+        long filasConError;
+        long salud;
+        long pension;
+        long fsp;
+        long arl;
+        long ccf;
+
+        Parcial(ParametrosAnuales anuales, EscritorResultadosNomina escritor) {
+            this.anuales = anuales;
+            this.escritor = escritor;
+            for (int codigo = 0; codigo < tarifasCcf.length; codigo++) {
+                tarifasCcf[codigo] = MotorCalculoExacto.tarifaPorcentual(FormatoColumnar.porcentajeCcf(codigo));
+            }
+        }
+
+        private void liquidar(Fila fila) {
+            MotorCalculoExacto.liquidar(fila.ingreso, fila.nivel, tarifasCcf[fila.codigoCcf], anuales, this, 0);
+        }
+
+        private void rechazar(int motivos) {
+            filas++;
+            filasConError++;
+            if (escritor != null) {
+                try {
+                    escritor.rechazada(motivos);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        /** Suma la liquidación de una fila a los totales y la escribe si se piden resultados por fila. */
+        @Override
+        public void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf,
+                long total) {
+            if (escritor != null) {
+                try {
+                    escritor.liquidada(ibc, salud, pension, fsp, arl, ccf, total);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            filas++;
+            this.salud += salud;
+            this.pension += pension;
+            this.fsp += fsp;
+            this.arl += arl;
+            this.ccf += ccf;
+        }
+
+        private void sumar(Parcial otro) {
+            filas += otro.filas;
+            filasConError += otro.filasConError;
+            salud += otro.salud;
+            pension += otro.pension;
+            fsp += otro.fsp;
+            arl += otro.arl;
+            ccf += otro.ccf;
+        }
+
+        TotalesLiquidacionResponse totales() {
+            return new TotalesLiquidacionResponse(filas, filasConError, salud, pension, fsp, arl, ccf,
+                    salud + pension + fsp + arl + ccf);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Servicio de liquidación agregada por trabajador para quienes tienen varios
+ * contratos en un mismo periodo.
+ * <p>
+ * Un trabajador independiente cotiza sobre la suma de los ingresos de todos sus
+ * contratos del mes, con el IBC limitado a 25 SMMLV en total. Este servicio agrupa
+ * las filas por contrato según el usuario y el periodo, liquida una vez por
+ * trabajador y reparte cada concepto entre los contratos.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface LiquidacionAgregadaService {
+
+    /**
+     * Procesa un flujo NDJSON con un {@code LiquidacionRequest} por contrato; el
+     * {@code usuario} es obligatorio e identifica al trabajador.
+     * <p>
+     * La salida es NDJSON: primero un {@code ResultadoLoteResponse} fallido por cada
+     * contrato inválido, luego un {@code LiquidacionTrabajadorResponse} por
+     * trabajador y periodo (en el orden de su primera aparición) y una última línea
+     * {@code {"totales":{...}}} con las sumas de todos los contratos.
+     * </p>
+     *
+     * @param entrada flujo de entrada en formato NDJSON
+     * @param salida  flujo donde se escriben los resultados
+     * @return totales acumulados (una fila por contrato)
+     * @throws IOException si falla la lectura o escritura del flujo
+     */
+    TotalesLiquidacionResponse procesarNdjson(InputStream entrada, OutputStream salida) throws IOException;
+}
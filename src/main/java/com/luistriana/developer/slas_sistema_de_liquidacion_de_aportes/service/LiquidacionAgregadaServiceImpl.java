@@ -0,0 +1,277 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AcumuladorTotales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ContratoLiquidadoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionTrabajadorResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Implementación de la liquidación agregada por trabajador.
+ * <p>
+ * Los contratos válidos se agrupan en {@link AgrupacionTrabajadores} (tabla hash
+ * primitiva con el ingreso sumado y el nivel ARL y porcentaje CCF más altos de cada
+ * trabajador). Al terminar la entrada se liquida una sola vez por trabajador con
+ * {@link SlasService#calculoSlasFila(int, LiquidacionRequest)}, de modo que el tope
+ * del IBC se aplica al total y la liquidación queda en el historial, y cada concepto
+ * se reparte entre los contratos en proporción a su ingreso.
+ * </p>
+ *
+ * <p>
+ * El reparto usa el método del residuo mayor sobre centavos: cada contrato recibe la
+ * parte entera de su cuota y los centavos sobrantes van a los contratos con mayor
+ * residuo (a igual residuo, el primero en la entrada). Así las partes de cada concepto
+ * suman exactamente el valor del trabajador.
+ * </p>
+ *
+ * <p>
+ * A diferencia de {@link LiquidacionStreamServiceImpl}, la memoria crece con el número
+ * de contratos (unos 16 bytes por contrato más los acumulados de cada trabajador):
+ * ningún trabajador se puede liquidar antes de leer toda la entrada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionAgregadaService
+ */
+@Service
+public class LiquidacionAgregadaServiceImpl implements LiquidacionAgregadaService {
+
+    /** Número de conceptos repartidos entre contratos: IBC, salud, pensión, FSP, ARL y CCF. */
+    private static final int CONCEPTOS = 6;
+
+    private static final RiesgoLaboralARL[] NIVELES = RiesgoLaboralARL.values();
+
+    private final SlasService slas;
+    private final ObjectMapper mapper;
+    private final ObjectReader lectorSolicitud;
+    private final Clock reloj;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param slas   servicio de liquidación de aportes
+     * @param mapper mapeador JSON configurado por Spring
+     * @param reloj  reloj de la aplicación, que define el periodo de los contratos sin periodo
+     */
+    public LiquidacionAgregadaServiceImpl(SlasService slas, ObjectMapper mapper, Clock reloj) {
+        this.slas = slas;
+        this.mapper = mapper;
+        this.lectorSolicitud = mapper.readerFor(LiquidacionRequest.class);
+        this.reloj = reloj;
+    }
+
+    @Override
+    public TotalesLiquidacionResponse procesarNdjson(InputStream entrada, OutputStream salida) throws IOException {
+        AcumuladorTotales acumulador = new AcumuladorTotales();
+        AgrupacionTrabajadores agrupacion = new AgrupacionTrabajadores();
+        BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        YearMonth periodoActual = YearMonth.now(reloj);
+
+        // el generador no debe cerrar la salida: el contenedor es dueño de ella
+        JsonGenerator generador = mapper.getFactory().createGenerator(salida);
+        generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        TotalesLiquidacionResponse totales;
+        try (SequenceWriter escritor = mapper.writer().withRootValueSeparator("\n").writeValues(generador)) {
+            String linea;
+            int indice = 0;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.isBlank()) {
+                    continue;
+                }
+                String error = agruparFila(agrupacion, indice, linea, periodoActual);
+                if (error != null) {
+                    acumulador.registrarError();
+                    escritor.write(ResultadoLoteResponse.fallido(indice, error));
+                }
+                indice++;
+            }
+
+            int[] inicio = new int[agrupacion.trabajadores() + 1];
+            int[] orden = agrupacion.contratosAgrupados(inicio);
+            for (int t = 0; t < agrupacion.trabajadores(); t++) {
+                liquidarTrabajador(agrupacion, t, orden, inicio[t], inicio[t + 1], acumulador, escritor);
+            }
+            totales = acumulador.totales();
+            escritor.write(Map.of("totales", totales));
+        }
+        salida.write('\n');
+        salida.flush();
+        return totales;
+    }
+
+    /**
+     * Interpreta, valida y agrupa un contrato.
+     *
+     * @param agrupacion    agrupación de trabajadores
+     * @param indice        posición del contrato en el flujo (base cero)
+     * @param linea         texto JSON del contrato
+     * @param periodoActual periodo asignado a los contratos sin periodo
+     * @return mensaje de error, o {@code null} si el contrato quedó agrupado
+     */
+    private String agruparFila(AgrupacionTrabajadores agrupacion, int indice, String linea, YearMonth periodoActual) {
+        LiquidacionRequest request;
+        try {
+            request = lectorSolicitud.readValue(linea);
+        } catch (JsonProcessingException e) {
+            return "JSON inválido: " + e.getOriginalMessage();
+        }
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(request);
+        if (request.getUsuario() == null) {
+            // sin usuario no hay forma de agrupar los contratos del trabajador
+            validacion = validacion.con(MotivoRechazo.USUARIO_INVALIDO);
+        }
+        if (!validacion.esValido()) {
+            return validacion.mensaje();
+        }
+
+        int nivelArl = Boolean.TRUE.equals(request.getAporteARL())
+                ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                : MotorCalculoExacto.SIN_ARL;
+        double porcentajeCcf = Boolean.TRUE.equals(request.getAportaCCF()) ? request.getPorcentajeCCF() : 0;
+        YearMonth periodo = request.getPeriodo() != null ? request.getPeriodo() : periodoActual;
+        agrupacion.agregar(request.getUsuario(), periodo, indice, request.getIngresosMensual(), nivelArl,
+                porcentajeCcf);
+        return null;
+    }
+
+    /**
+     * Liquida un trabajador sobre el total de sus contratos, reparte la liquidación y
+     * escribe su línea de salida.
+     */
+    private void liquidarTrabajador(AgrupacionTrabajadores agrupacion, int trabajador, int[] orden, int desde,
+            int hasta, AcumuladorTotales acumulador, SequenceWriter escritor) throws IOException {
+        int nivelArl = agrupacion.nivelArl(trabajador);
+        double porcentajeCcf = agrupacion.porcentajeCcf(trabajador);
+        RiesgoLaboralARL nivel = nivelArl == MotorCalculoExacto.SIN_ARL ? null : NIVELES[nivelArl - 1];
+        LiquidacionRequest consolidada = new LiquidacionRequest(agrupacion.ingreso(trabajador), nivel != null,
+                porcentajeCcf > 0, nivel, porcentajeCcf > 0 ? porcentajeCcf : null, agrupacion.periodo(trabajador));
+        consolidada.setUsuario(agrupacion.usuario(trabajador));
+
+        ResultadoLoteResponse resultado = slas.calculoSlasFila(agrupacion.indiceContrato(orden[desde]), consolidada);
+        if (resultado.liquidacion() == null) {
+            for (int i = desde; i < hasta; i++) {
+                acumulador.registrarError();
+                escritor.write(ResultadoLoteResponse.fallido(agrupacion.indiceContrato(orden[i]), resultado.error()));
+            }
+            return;
+        }
+
+        LiquidacionResponse liquidacion = resultado.liquidacion();
+        LiquidacionResponse[] partes = repartir(liquidacion, agrupacion, orden, desde, hasta);
+        List<ContratoLiquidadoResponse> contratos = new ArrayList<>(hasta - desde);
+        for (int i = desde; i < hasta; i++) {
+            int contrato = orden[i];
+            LiquidacionResponse parte = partes[i - desde];
+            acumulador.sumar(parte);
+            contratos.add(new ContratoLiquidadoResponse(agrupacion.indiceContrato(contrato),
+                    agrupacion.ingresoContrato(contrato), parte));
+        }
+        escritor.write(new LiquidacionTrabajadorResponse(agrupacion.usuario(trabajador),
+                agrupacion.periodo(trabajador), agrupacion.ingreso(trabajador), nivel,
+                porcentajeCcf > 0 ? porcentajeCcf : null, liquidacion, contratos));
+    }
+
+    /**
+     * Reparte cada concepto de la liquidación entre los contratos en proporción a su
+     * ingreso con el método del residuo mayor sobre centavos.
+     *
+     * @param liquidacion liquidación del trabajador
+     * @param agrupacion  agrupación con los ingresos de los contratos
+     * @param orden       contratos agrupados por trabajador
+     * @param desde       primera posición del trabajador en {@code orden}
+     * @param hasta       posición siguiente a la última del trabajador en {@code orden}
+     * @return parte de cada contrato, en el orden de {@code orden}
+     */
+    static LiquidacionResponse[] repartir(LiquidacionResponse liquidacion, AgrupacionTrabajadores agrupacion,
+            int[] orden, int desde, int hasta) {
+        int n = hasta - desde;
+        double[] pesos = new double[n];
+        for (int i = 0; i < n; i++) {
+            pesos[i] = agrupacion.ingresoContrato(orden[desde + i]);
+        }
+        return repartir(liquidacion, pesos);
+    }
+
+    /**
+     * Reparte cada concepto de la liquidación en proporción a los pesos dados.
+     *
+     * @param liquidacion liquidación a repartir
+     * @param pesos       peso (ingreso) de cada parte, todos positivos
+     * @return una liquidación por peso; cada concepto suma exactamente el de {@code liquidacion}
+     */
+    static LiquidacionResponse[] repartir(LiquidacionResponse liquidacion, double[] pesos) {
+        int n = pesos.length;
+        if (n == 1) {
+            return new LiquidacionResponse[] { liquidacion };
+        }
+        double sumaPesos = 0;
+        for (double peso : pesos) {
+            sumaPesos += peso;
+        }
+        double[] conceptos = { liquidacion.ibc(), liquidacion.salud(), liquidacion.pension(), liquidacion.fsp(),
+                liquidacion.arl(), liquidacion.ccf() };
+
+        long[][] centavos = new long[CONCEPTOS][n];
+        long[] claves = new long[n];
+        for (int k = 0; k < CONCEPTOS; k++) {
+            long total = Math.round(conceptos[k] * 100);
+            long asignado = 0;
+            for (int i = 0; i < n; i++) {
+                double cuota = total * (pesos[i] / sumaPesos);
+                long entero = (long) Math.floor(cuota);
+                centavos[k][i] = entero;
+                asignado += entero;
+                // orden ascendente: residuo mayor primero y, a igual residuo, el índice menor
+                long residuo = (long) ((1 - (cuota - entero)) * Integer.MAX_VALUE);
+                claves[i] = residuo << 32 | i;
+            }
+            long sobrantes = total - asignado;
+            if (sobrantes > 0) {
+                Arrays.sort(claves);
+                for (int j = 0; j < sobrantes; j++) {
+                    centavos[k][(int) claves[j]]++;
+                }
+            }
+        }
+
+        LiquidacionResponse[] partes = new LiquidacionResponse[n];
+        for (int i = 0; i < n; i++) {
+            long totalCentavos = 0;
+            for (int k = 1; k < CONCEPTOS; k++) {
+                totalCentavos += centavos[k][i];
+            }
+            partes[i] = new LiquidacionResponse(centavos[0][i] / 100.0, centavos[1][i] / 100.0,
+                    centavos[2][i] / 100.0, centavos[3][i] / 100.0, centavos[4][i] / 100.0, centavos[5][i] / 100.0,
+                    totalCentavos / 100.0);
+        }
+        return partes;
+    }
+}
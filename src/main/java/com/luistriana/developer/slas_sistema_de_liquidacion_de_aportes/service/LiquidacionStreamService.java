@@ -0,0 +1,43 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Servicio de liquidación por flujo (streaming) para archivos de gran tamaño.
+ * <p>
+ * Cada fila se lee, se valida, se liquida y se escribe en la salida antes de leer
+ * la siguiente, de modo que el consumo de memoria no depende del número de filas.
+ * Al terminar el flujo se escribe una última fila con los totales por concepto.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface LiquidacionStreamService {
+
+    /**
+     * Procesa un flujo NDJSON (un {@code LiquidacionRequest} por línea).
+     *
+     * @param entrada flujo de entrada en formato NDJSON
+     * @param salida  flujo donde se escribe un resultado NDJSON por línea
+     * @return totales acumulados del flujo
+     * @throws IOException si falla la lectura o escritura del flujo
+     */
+    TotalesLiquidacionResponse procesarNdjson(InputStream entrada, OutputStream salida) throws IOException;
+
+    /**
+     * Procesa un flujo CSV con columnas
+     * {@code ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF}.
+     *
+     * @param entrada flujo de entrada en formato CSV (encabezado opcional)
+     * @param salida  flujo donde se escribe un resultado CSV por línea
+     * @return totales acumulados del flujo
+     * @throws IOException si falla la lectura o escritura del flujo
+     */
+    TotalesLiquidacionResponse procesarCsv(InputStream entrada, OutputStream salida) throws IOException;
+}
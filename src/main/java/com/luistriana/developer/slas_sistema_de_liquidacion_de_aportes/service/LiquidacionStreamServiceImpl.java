@@ -0,0 +1,271 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AcumuladorTotales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+/**
+ * Implementación del servicio de liquidación por flujo.
+ * <p>
+ * Las filas se validan y liquidan con {@link SlasService#calculoSlasFila(int, LiquidacionRequest)},
+ * por lo que aplican exactamente las mismas reglas del endpoint individual. Una fila
+ * inválida (formato o reglas de negocio) se reporta como error en la salida y el
+ * flujo continúa.
+ * </p>
+ *
+ * <p><strong>Formato de salida NDJSON:</strong> un {@link ResultadoLoteResponse} por línea
+ * y una última línea {@code {"totales":{...}}}.</p>
+ *
+ * <p><strong>Formato de salida CSV:</strong> encabezado
+ * {@code indice,ibc,salud,pension,fsp,arl,ccf,total,error}, una fila por solicitud
+ * y una última fila {@code TOTAL} con las sumas por concepto.</p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LiquidacionStreamService
+ */
+@Service
+public class LiquidacionStreamServiceImpl implements LiquidacionStreamService {
+
+    /** Encabezado de las columnas de salida CSV. */
+    static final String ENCABEZADO_CSV_SALIDA = "indice,ibc,salud,pension,fsp,arl,ccf,total,error";
+
+    /** Encabezado (opcional) de las columnas de entrada CSV. */
+    static final String ENCABEZADO_CSV_ENTRADA = "ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF";
+
+    /** Número de columnas esperadas en cada fila CSV de entrada. */
+    private static final int COLUMNAS_CSV_ENTRADA = 5;
+
+    private final SlasService slas;
+    private final ObjectMapper mapper;
+    private final ObjectReader lectorSolicitud;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param slas   servicio de liquidación de aportes
+     * @param mapper mapeador JSON configurado por Spring
+     */
+    public LiquidacionStreamServiceImpl(SlasService slas, ObjectMapper mapper) {
+        this.slas = slas;
+        this.mapper = mapper;
+        this.lectorSolicitud = mapper.readerFor(LiquidacionRequest.class);
+    }
+
+    @Override
+    public TotalesLiquidacionResponse procesarNdjson(InputStream entrada, OutputStream salida) throws IOException {
+        AcumuladorTotales acumulador = new AcumuladorTotales();
+        BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+
+        // el generador no debe cerrar la salida: el contenedor es dueño de ella
+        JsonGenerator generador = mapper.getFactory().createGenerator(salida);
+        generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        TotalesLiquidacionResponse totales;
+        try (SequenceWriter escritor = mapper.writer().withRootValueSeparator("\n").writeValues(generador)) {
+            String linea;
+            int indice = 0;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.isBlank()) {
+                    continue;
+                }
+                escritor.write(liquidarFila(indice++, linea, acumulador));
+            }
+            totales = acumulador.totales();
+            escritor.write(Map.of("totales", totales));
+        }
+        salida.write('\n');
+        salida.flush();
+        return totales;
+    }
+
+    @Override
+    public TotalesLiquidacionResponse procesarCsv(InputStream entrada, OutputStream salida) throws IOException {
+        AcumuladorTotales acumulador = new AcumuladorTotales();
+        BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+
+        escritor.write(ENCABEZADO_CSV_SALIDA);
+        escritor.write('\n');
+
+        String linea;
+        int indice = 0;
+        boolean primeraLinea = true;
+        while ((linea = lector.readLine()) != null) {
+            if (linea.isBlank()) {
+                continue;
+            }
+            // el encabezado de entrada es opcional
+            if (primeraLinea && linea.regionMatches(true, 0, ENCABEZADO_CSV_ENTRADA, 0, 15)) {
+                primeraLinea = false;
+                continue;
+            }
+            primeraLinea = false;
+            escribirFilaCsv(escritor, liquidarFilaCsv(indice++, linea, acumulador));
+        }
+
+        TotalesLiquidacionResponse totales = acumulador.totales();
+        escritor.write(lineaTotalesCsv(totales));
+        escritor.write('\n');
+        escritor.flush();
+        return totales;
+    }
+
+    /**
+     * Construye la fila {@code TOTAL} de la salida CSV, sin el fin de línea.
+     *
+     * @param totales totales por concepto y número de filas
+     * @return fila con las sumas por concepto y las filas leídas y rechazadas
+     */
+    static String lineaTotalesCsv(TotalesLiquidacionResponse totales) {
+        return "TOTAL,," + formatearNumero(totales.salud()) + ',' + formatearNumero(totales.pension()) + ','
+                + formatearNumero(totales.fsp()) + ',' + formatearNumero(totales.arl()) + ','
+                + formatearNumero(totales.ccf()) + ',' + formatearNumero(totales.total()) + ",filas="
+                + totales.filas() + " errores=" + totales.filasConError();
+    }
+
+    /**
+     * Interpreta y liquida una línea NDJSON.
+     *
+     * @param indice     posición de la fila en el flujo (base cero)
+     * @param linea      texto JSON de la solicitud
+     * @param acumulador totales del flujo
+     * @return resultado de la fila (liquidación o error)
+     */
+    private ResultadoLoteResponse liquidarFila(int indice, String linea, AcumuladorTotales acumulador) {
+        LiquidacionRequest request;
+        try {
+            request = lectorSolicitud.readValue(linea);
+        } catch (JsonProcessingException e) {
+            acumulador.registrarError();
+            return ResultadoLoteResponse.fallido(indice, "JSON inválido: " + e.getOriginalMessage());
+        }
+        return liquidar(indice, request, acumulador);
+    }
+
+    /**
+     * Interpreta y liquida una línea CSV.
+     *
+     * @param indice     posición de la fila en el flujo (base cero)
+     * @param linea      texto CSV de la solicitud
+     * @param acumulador totales del flujo
+     * @return resultado de la fila (liquidación o error)
+     */
+    private ResultadoLoteResponse liquidarFilaCsv(int indice, String linea, AcumuladorTotales acumulador) {
+        LiquidacionRequest request;
+        try {
+            request = leerSolicitudCsv(linea);
+        } catch (IllegalArgumentException e) {
+            acumulador.registrarError();
+            return ResultadoLoteResponse.fallido(indice, "CSV inválido: " + e.getMessage());
+        }
+        return liquidar(indice, request, acumulador);
+    }
+
+    private ResultadoLoteResponse liquidar(int indice, LiquidacionRequest request, AcumuladorTotales acumulador) {
+        ResultadoLoteResponse resultado = slas.calculoSlasFila(indice, request);
+        if (resultado.liquidacion() != null) {
+            acumulador.sumar(resultado.liquidacion());
+        } else {
+            acumulador.registrarError();
+        }
+        return resultado;
+    }
+
+    /**
+     * Convierte una línea CSV en una solicitud. Los campos vacíos se interpretan como nulos.
+     *
+     * @param linea texto CSV con las columnas de la solicitud
+     * @return solicitud construida a partir de la línea
+     * @throws IllegalArgumentException si la línea no tiene el formato esperado
+     */
+    static LiquidacionRequest leerSolicitudCsv(String linea) {
+        String[] campos = linea.split(",", -1);
+        if (campos.length != COLUMNAS_CSV_ENTRADA) {
+            throw new IllegalArgumentException(
+                    "se esperaban " + COLUMNAS_CSV_ENTRADA + " columnas, recibidas: " + campos.length);
+        }
+        return new LiquidacionRequest(
+                campos[0].isBlank() ? null : Double.valueOf(campos[0].trim()),
+                leerBooleano(campos[1]),
+                leerBooleano(campos[2]),
+                campos[3].isBlank() ? null : RiesgoLaboralARL.valueOf(campos[3].trim()),
+                campos[4].isBlank() ? null : Double.valueOf(campos[4].trim()));
+    }
+
+    private static Boolean leerBooleano(String campo) {
+        String valor = campo.trim();
+        if (valor.isEmpty()) {
+            return null;
+        }
+        if (valor.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (valor.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("valor booleano inválido: " + valor);
+    }
+
+    private static void escribirFilaCsv(Writer escritor, ResultadoLoteResponse resultado) throws IOException {
+        escritor.write(Integer.toString(resultado.indice()));
+        LiquidacionResponse liquidacion = resultado.liquidacion();
+        if (liquidacion != null) {
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.ibc()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.salud()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.pension()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.fsp()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.arl()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.ccf()));
+            escritor.write(',');
+            escritor.write(formatearNumero(liquidacion.total()));
+            escritor.write(",\n");
+        } else {
+            escritor.write(",,,,,,,,\"");
+            escritor.write(resultado.error().replace("\"", "\"\""));
+            escritor.write("\"\n");
+        }
+    }
+
+    /**
+     * Formatea un valor monetario sin notación científica.
+     *
+     * @param valor valor a formatear
+     * @return representación decimal plana del valor
+     */
+    static String formatearNumero(double valor) {
+        if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            return Long.toString((long) valor);
+        }
+        return BigDecimal.valueOf(valor).toPlainString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosFueraDelHeap;
+
+/**
+ * Servicio de liquidación de lotes en el formato binario en columnas
+ * ({@link FormatoColumnar}).
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see FormatoColumnar
+ */
+public interface LoteColumnarService {
+
+    /**
+     * Liquida un lote en formato columnar.
+     * <p>
+     * Las filas inválidas se reportan en la columna de motivos sin afectar al resto
+     * del lote.
+     * </p>
+     *
+     * @param solicitud lote en formato columnar, entre su posición y su límite
+     * @return resultado en formato columnar
+     * @throws datosInvalidosException si el cuerpo no respeta el formato, el lote
+     *         supera las filas máximas o no hay parámetros para el periodo del lote
+     * @throws servicioSaturadoException si los lotes en curso ocupan toda la memoria
+     *         directa permitida
+     */
+    byte[] liquidar(ByteBuffer solicitud);
+
+    /**
+     * Liquida un lote en formato columnar leído de un flujo, con la solicitud y los
+     * resultados fuera del heap.
+     * <p>
+     * La solicitud se copia a un buffer directo del tamaño que indica su encabezado
+     * y los resultados se escriben en un {@link ResultadosFueraDelHeap}, de modo que
+     * el heap usado no depende del número de filas. Los valores son los mismos de
+     * {@link #liquidar(ByteBuffer)}.
+     * </p>
+     *
+     * @param solicitud flujo con el lote en formato columnar; se lee hasta el final
+     * @return resultados del lote, listos para transferirse como resultado columnar
+     * @throws IOException             si falla la lectura del flujo
+     * @throws datosInvalidosException si el cuerpo no respeta el formato, el lote
+     *         supera las filas máximas o no hay parámetros para el periodo del lote
+     * @throws servicioSaturadoException si los lotes en curso ocupan toda la memoria
+     *         directa permitida
+     */
+    ResultadosFueraDelHeap liquidar(InputStream solicitud) throws IOException;
+}
@@ -0,0 +1,306 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ReservaMemoriaDirecta;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosFueraDelHeap;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+
+/**
+ * Implementación de la liquidación de lotes en formato columnar.
+ * <p>
+ * La solicitud se lee en su lugar con lecturas absolutas de {@link ByteBuffer} y
+ * cada fila se liquida con {@link MotorCalculoExacto} escribiendo directamente en
+ * las columnas del arreglo de resultado: no se crea un {@code LiquidacionRequest}
+ * ni un {@code LiquidacionResponse} por fila, ni se copian las columnas de entrada
+ * a arreglos intermedios. Los valores coinciden al peso con
+ * {@code /api/slas/cotizacion/lote} en JSON.
+ * </p>
+ *
+ * <p>
+ * Con {@code slas.vectorial.habilitado} las filas se liquidan por tramos con
+ * {@link MotorCalculoVectorial}: cada tramo se copia a columnas primitivas en el
+ * heap, de tamaño fijo, y sus resultados se copian al buffer de salida. El valor
+ * de cada fila es el mismo con o sin núcleo vectorial.
+ * </p>
+ *
+ * <p>
+ * Los resultados se escriben en un {@link ResultadosFueraDelHeap}. Al liquidar desde
+ * un flujo, la solicitud también se copia a un buffer directo: un lote de millones
+ * de filas no ocupa el heap ni alarga las pausas del recolector. Los buffers salen
+ * de una {@link ReservaMemoriaDirecta} que guarda hasta
+ * {@code slas.columnar.memoria-retenida} bytes entre lotes.
+ * </p>
+ *
+ * <p>
+ * Un lote tiene como máximo {@code slas.columnar.filas-maximas} filas; uno mayor se
+ * rechaza con {@link MotivoRechazo#LOTE_DEMASIADO_GRANDE} (HTTP 413) antes de leer
+ * su cuerpo. Los lotes en curso ocupan a lo sumo {@code slas.columnar.memoria-maxima}
+ * bytes de memoria directa; si un lote no cabe, se rechaza con
+ * {@link MotivoSaturacion#MEMORIA_SATURADA} (HTTP 503) en lugar de esperar.
+ * </p>
+ *
+ * <p>
+ * Las filas rechazadas se cuentan en {@code slas_rechazos_total}; los tiempos de
+ * validación y cálculo por fila no se registran, porque medirlos costaría más que
+ * liquidar la fila.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see LoteColumnarService
+ */
+@Service
+public class LoteColumnarServiceImpl implements LoteColumnarService {
+
+    private static final int NIVEL_MAXIMO = MotorCalculoExacto.codigoNivel(RiesgoLaboralARL.NIVEL_V);
+
+    /** Filas máximas que admite el formato: la solicitud y el resultado caben cada uno en un buffer. */
+    private static final int FILAS_MAXIMAS = Math.min(ResultadosFueraDelHeap.CAPACIDAD_MAXIMA,
+            (Integer.MAX_VALUE - FormatoColumnar.ENCABEZADO) / FormatoColumnar.BYTES_FILA_SOLICITUD);
+
+    /** Filas por tramo del núcleo vectorial: las columnas de un tramo ocupan unos 300 KB. */
+    private static final int TRAMO = 4_096;
+
+    private final RegistroParametros parametros;
+
+    private final MetricasLiquidacion metricas;
+
+    private final ReservaMemoriaDirecta reserva;
+
+    private final int filasMaximas;
+
+    private final boolean vectorial;
+
+    /**
+     * Constructor con inyección de dependencias y configuración.
+     *
+     * @param parametros      registro de parámetros por año gravable
+     * @param metricas        métricas de rechazos
+     * @param memoriaRetenida bytes de memoria directa que se guardan entre lotes
+     * @param memoriaMaxima   bytes de memoria directa que ocupan a lo sumo los lotes en curso
+     * @param filasMaximas    filas máximas de un lote
+     * @param vectorial       si las filas se liquidan con {@link MotorCalculoVectorial}
+     */
+    public LoteColumnarServiceImpl(RegistroParametros parametros, MetricasLiquidacion metricas,
+            @Value("${slas.columnar.memoria-retenida:268435456}") long memoriaRetenida,
+            @Value("${slas.columnar.memoria-maxima:536870912}") long memoriaMaxima,
+            @Value("${slas.columnar.filas-maximas:1000000}") int filasMaximas,
+            @Value("${slas.vectorial.habilitado:true}") boolean vectorial) {
+        if (memoriaRetenida < 0) {
+            throw new IllegalArgumentException("slas.columnar.memoria-retenida debe ser >= 0");
+        }
+        if (filasMaximas < 1 || filasMaximas > FILAS_MAXIMAS) {
+            throw new IllegalArgumentException("slas.columnar.filas-maximas debe estar entre 1 y " + FILAS_MAXIMAS);
+        }
+        if (memoriaMaxima < (long) ReservaMemoriaDirecta.capacidad(FormatoColumnar.tamanoSolicitud(filasMaximas))
+                + ReservaMemoriaDirecta.capacidad(FormatoColumnar.tamanoResultado(filasMaximas))) {
+            throw new IllegalArgumentException(
+                    "slas.columnar.memoria-maxima debe alcanzar para un lote de slas.columnar.filas-maximas filas");
+        }
+        this.parametros = parametros;
+        this.metricas = metricas;
+        this.reserva = new ReservaMemoriaDirecta(memoriaRetenida, memoriaMaxima);
+        this.filasMaximas = filasMaximas;
+        this.vectorial = vectorial;
+    }
+
+    @Override
+    public byte[] liquidar(ByteBuffer solicitud) {
+        ByteBuffer entrada = solicitud.slice().order(FormatoColumnar.ORDEN);
+        ParametrosAnuales anuales = validar(entrada, entrada.remaining());
+        try (ResultadosFueraDelHeap resultados = liquidarFilas(entrada, entrada.getInt(4), anuales)) {
+            byte[] resultado = new byte[resultados.tamanoColumnar()];
+            resultados.copiarA(ByteBuffer.wrap(resultado));
+            return resultado;
+        }
+    }
+
+    @Override
+    public ResultadosFueraDelHeap liquidar(InputStream solicitud) throws IOException {
+        ReadableByteChannel canal = Channels.newChannel(solicitud);
+        ByteBuffer encabezado = ByteBuffer.allocate(FormatoColumnar.ENCABEZADO).order(FormatoColumnar.ORDEN);
+        if (leer(canal, encabezado) < FormatoColumnar.ENCABEZADO) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO));
+        }
+        int filas = encabezado.getInt(4);
+        long tamano = FormatoColumnar.ENCABEZADO + (long) FormatoColumnar.BYTES_FILA_SOLICITUD * filas;
+        ParametrosAnuales anuales = validar(encabezado, tamano);
+
+        // el cuerpo se lee solo después de validar el encabezado, y directo a memoria nativa
+        ByteBuffer entrada = reserva.tomar((int) tamano).order(FormatoColumnar.ORDEN);
+        try {
+            entrada.put(encabezado.flip());
+            if (leer(canal, entrada) < tamano || canal.read(ByteBuffer.allocate(1)) >= 0) {
+                throw rechazar(ResultadoValidacion.de(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO));
+            }
+            return liquidarFilas(entrada, filas, anuales);
+        } finally {
+            reserva.devolver(entrada);
+        }
+    }
+
+    /**
+     * Valida el encabezado de una solicitud de {@code bytes} bytes y busca los
+     * parámetros de su periodo.
+     */
+    private ParametrosAnuales validar(ByteBuffer entrada, long bytes) {
+        if (bytes < FormatoColumnar.ENCABEZADO || entrada.getInt(0) != FormatoColumnar.MAGIA_SOLICITUD) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO));
+        }
+        int filas = entrada.getInt(4);
+        int periodo = entrada.getInt(8);
+        if (filas < 0 || filas > FILAS_MAXIMAS
+                || (long) FormatoColumnar.ENCABEZADO + (long) FormatoColumnar.BYTES_FILA_SOLICITUD * filas != bytes
+                || !periodoValido(periodo)) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO));
+        }
+        if (filas > filasMaximas) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.LOTE_DEMASIADO_GRANDE));
+        }
+        ParametrosAnuales anuales = parametros.buscar(periodo == 0 ? null : YearMonth.of(periodo / 100, periodo % 100));
+        if (anuales == null) {
+            throw rechazar(ResultadoValidacion.de(MotivoRechazo.PERIODO_SIN_PARAMETROS));
+        }
+        return anuales;
+    }
+
+    /**
+     * Liquida todas las filas de la solicitud y escribe las columnas del resultado.
+     */
+    private ResultadosFueraDelHeap liquidarFilas(ByteBuffer entrada, int filas, ParametrosAnuales anuales) {
+        ResultadosFueraDelHeap salida = new ResultadosFueraDelHeap(filas, anuales.getAnio(), reserva);
+        if (vectorial) {
+            liquidarPorTramos(entrada, filas, anuales, salida);
+            return salida;
+        }
+        int ingresos = FormatoColumnar.ENCABEZADO;
+        int niveles = ingresos + Double.BYTES * filas;
+        int codigosCcf = niveles + filas;
+        long[] tarifasCcf = new long[FormatoColumnar.codigosCcf()];
+        for (int codigo = 0; codigo < tarifasCcf.length; codigo++) {
+            tarifasCcf[codigo] = MotorCalculoExacto.tarifaPorcentual(FormatoColumnar.porcentajeCcf(codigo));
+        }
+
+        for (int i = 0; i < filas; i++) {
+            double ingreso = entrada.getDouble(ingresos + Double.BYTES * i);
+            int nivel = entrada.get(niveles + i);
+            int codigoCcf = entrada.get(codigosCcf + i);
+
+            int rechazo = rechazo(ingreso, nivel, codigoCcf);
+            if (rechazo != 0) {
+                salida.rechazar(i, rechazo);
+                metricas.rechazo(ResultadoValidacion.de(rechazo));
+                continue;
+            }
+
+            MotorCalculoExacto.liquidar(MotorCalculoExacto.centavos(ingreso), nivel, tarifasCcf[codigoCcf], anuales,
+                    salida, i);
+        }
+        return salida;
+    }
+
+    /**
+     * Liquida las filas por tramos de {@link #TRAMO} con {@link MotorCalculoVectorial}.
+     * Las columnas de cada tramo se copian en bloque; las filas rechazadas se liquidan
+     * con valores neutros (el núcleo solo acepta filas válidas) y después se marcan
+     * como rechazadas en la salida.
+     */
+    private void liquidarPorTramos(ByteBuffer entrada, int filas, ParametrosAnuales anuales,
+            ResultadosFueraDelHeap salida) {
+        int ingresos = FormatoColumnar.ENCABEZADO;
+        int niveles = ingresos + Double.BYTES * filas;
+        int codigosCcf = niveles + filas;
+        int capacidad = Math.min(filas, TRAMO);
+        double[] ingresosTramo = new double[capacidad];
+        byte[] nivelesTramo = new byte[capacidad];
+        byte[] codigosTramo = new byte[capacidad];
+        double[] porcentajesTramo = new double[capacidad];
+        int[] rechazadas = new int[capacidad];
+        ResultadosLiquidacion tramo = new ResultadosLiquidacion(capacidad);
+
+        for (int inicio = 0; inicio < filas; inicio += capacidad) {
+            int tamano = Math.min(capacidad, filas - inicio);
+            entrada.slice(ingresos + Double.BYTES * inicio, Double.BYTES * tamano).order(FormatoColumnar.ORDEN)
+                    .asDoubleBuffer().get(ingresosTramo, 0, tamano);
+            entrada.get(niveles + inicio, nivelesTramo, 0, tamano);
+            entrada.get(codigosCcf + inicio, codigosTramo, 0, tamano);
+
+            int totalRechazadas = 0;
+            for (int j = 0; j < tamano; j++) {
+                int rechazo = rechazo(ingresosTramo[j], nivelesTramo[j], codigosTramo[j]);
+                if (rechazo != 0) {
+                    rechazadas[totalRechazadas++] = j;
+                    ingresosTramo[j] = 1;
+                    nivelesTramo[j] = MotorCalculoExacto.SIN_ARL;
+                    codigosTramo[j] = 0;
+                }
+                porcentajesTramo[j] = FormatoColumnar.porcentajeCcf(codigosTramo[j]);
+            }
+
+            MotorCalculoVectorial.calcularLote(ingresosTramo, nivelesTramo, porcentajesTramo, 0, tamano, anuales,
+                    tramo);
+            salida.escribir(inicio, tramo, tamano);
+
+            for (int k = 0; k < totalRechazadas; k++) {
+                int i = inicio + rechazadas[k];
+                int rechazo = rechazo(entrada.getDouble(ingresos + Double.BYTES * i), entrada.get(niveles + i),
+                        entrada.get(codigosCcf + i));
+                salida.rechazar(i, rechazo);
+                metricas.rechazo(ResultadoValidacion.de(rechazo));
+            }
+        }
+    }
+
+    /** Máscara de motivos de rechazo de una fila; 0 si es válida. */
+    private static int rechazo(double ingreso, int nivel, int codigoCcf) {
+        int rechazo = 0;
+        if (!(ingreso > 0)) {
+            rechazo |= ResultadoValidacion.bit(MotivoRechazo.INGRESO_NO_POSITIVO);
+        }
+        if (nivel < MotorCalculoExacto.SIN_ARL || nivel > NIVEL_MAXIMO) {
+            rechazo |= ResultadoValidacion.bit(MotivoRechazo.ARL_NIVEL_INVALIDO);
+        }
+        if (codigoCcf < 0 || codigoCcf >= FormatoColumnar.codigosCcf()) {
+            rechazo |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_INVALIDO);
+        }
+        return rechazo;
+    }
+
+    /** Lee del canal hasta llenar el buffer o llegar al final; retorna los bytes del buffer. */
+    private static int leer(ReadableByteChannel canal, ByteBuffer destino) throws IOException {
+        while (destino.hasRemaining()) {
+            if (canal.read(destino) < 0) {
+                break;
+            }
+        }
+        return destino.position();
+    }
+
+    /** Un periodo AAAAMM con mes de 1 a 12, o 0 para el año en curso. */
+    private static boolean periodoValido(int periodo) {
+        int mes = periodo % 100;
+        return periodo == 0 || (periodo > 0 && periodo / 100 <= 9999 && mes >= 1 && mes <= 12);
+    }
+
+    private datosInvalidosException rechazar(ResultadoValidacion validacion) {
+        metricas.rechazo(validacion);
+        return new datosInvalidosException(validacion);
+    }
+}
@@ -0,0 +1,169 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoEjecucionLote;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ejecutor paralelo de lotes de liquidación basado en un {@link ForkJoinPool} acotado.
+ * <p>
+ * El cálculo de {@link SlasService#calculoSlas(LiquidacionRequest)} no comparte estado
+ * entre filas, por lo que el lote se divide recursivamente en rangos de índices que
+ * se liquidan en paralelo. Cada tarea escribe en su propia porción de un arreglo de
+ * resultados, lo que conserva el orden de la entrada sin sincronización adicional.
+ * </p>
+ *
+ * <p>
+ * {@link #enviar(int, IntConsumer)} usa el mismo pool sin bloquear a quien llama;
+ * así liquida {@link CoalescedorLiquidaciones} sus micro-lotes.
+ * </p>
+ *
+ * <p><strong>Configuración ({@code application.properties}):</strong></p>
+ * <ul>
+ *   <li>{@code slas.lote.paralelismo}: hilos del pool (0 = número de procesadores)</li>
+ *   <li>{@code slas.lote.tamano-tarea}: filas por tarea hoja; los lotes de este
+ *       tamaño o menores se liquidan en el hilo que hace la petición</li>
+ * </ul>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResultadoEjecucionLote
+ */
+@Component
+public class LoteParaleloExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(LoteParaleloExecutor.class);
+
+    /** Filas mínimas por tarea de {@link #enviar}: menos filas no pagan el costo de repartirlas. */
+    private static final int TAREA_MINIMA_ENVIO = 16;
+
+    private final SlasService slas;
+    private final ForkJoinPool pool;
+    private final int tamanoTarea;
+
+    /**
+     * Constructor con inyección de dependencias y configuración.
+     *
+     * @param slas        servicio de liquidación de aportes
+     * @param paralelismo número de hilos del pool (0 = procesadores disponibles)
+     * @param tamanoTarea número máximo de filas por tarea hoja
+     */
+    public LoteParaleloExecutor(SlasService slas,
+            @Value("${slas.lote.paralelismo:0}") int paralelismo,
+            @Value("${slas.lote.tamano-tarea:2048}") int tamanoTarea) {
+        if (paralelismo < 0 || tamanoTarea < 1) {
+            throw new IllegalArgumentException(
+                    "slas.lote.paralelismo debe ser >= 0 y slas.lote.tamano-tarea >= 1");
+        }
+        this.slas = slas;
+        this.pool = new ForkJoinPool(paralelismo == 0 ? Runtime.getRuntime().availableProcessors() : paralelismo);
+        this.tamanoTarea = tamanoTarea;
+    }
+
+    /**
+     * Liquida un lote completo, en paralelo si supera el tamaño de tarea.
+     *
+     * @param requests solicitudes a liquidar
+     * @return resultados en el orden de la entrada y métricas de rendimiento
+     */
+    public ResultadoEjecucionLote ejecutar(List<LiquidacionRequest> requests) {
+        ResultadoLoteResponse[] resultados = new ResultadoLoteResponse[requests.size()];
+        TareaFilas tarea = new TareaFilas(i -> resultados[i] = slas.calculoSlasFila(i, requests.get(i)), 0,
+                resultados.length, tamanoTarea);
+
+        long inicio = System.nanoTime();
+        if (resultados.length <= tamanoTarea) {
+            tarea.compute();
+        } else {
+            pool.invoke(tarea);
+        }
+        long duracion = System.nanoTime() - inicio;
+
+        ResultadoEjecucionLote ejecucion = new ResultadoEjecucionLote(
+                Arrays.asList(resultados), duracion, pool.getParallelism());
+        log.debug("Lote de {} filas liquidado en {} ms ({} filas/s, paralelismo {})",
+                resultados.length, duracion / 1_000_000, Math.round(ejecucion.filasPorSegundo()),
+                pool.getParallelism());
+        return ejecucion;
+    }
+
+    /**
+     * Liquida las filas {@code [0, filas)} en el pool sin esperarlas: {@code fila} se
+     * llama una vez por índice, en tareas de al menos {@value #TAREA_MINIMA_ENVIO}
+     * filas repartidas entre los hilos del pool.
+     *
+     * @param filas número de filas
+     * @param fila  liquidación de una fila; no debe lanzar excepciones
+     * @return futuro que se completa cuando se llamó {@code fila} para todos los índices
+     */
+    public CompletableFuture<Void> enviar(int filas, IntConsumer fila) {
+        int porHilo = (filas + pool.getParallelism() - 1) / pool.getParallelism();
+        TareaFilas tarea = new TareaFilas(fila, 0, filas, Math.max(TAREA_MINIMA_ENVIO, porHilo));
+        return CompletableFuture.runAsync(tarea::invoke, pool);
+    }
+
+    /**
+     * Obtiene el número de hilos del pool.
+     *
+     * @return paralelismo del pool
+     */
+    public int paralelismo() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Cierra el pool de hilos al detener la aplicación.
+     */
+    @PreDestroy
+    public void cerrar() {
+        pool.shutdown();
+    }
+
+    /**
+     * Tarea recursiva que liquida el rango {@code [desde, hasta)} del lote.
+     */
+    private static final class TareaFilas extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer fila;
+        private final int desde;
+        private final int hasta;
+        private final int tamanoTarea;
+
+        TareaFilas(IntConsumer fila, int desde, int hasta, int tamanoTarea) {
+            this.fila = fila;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tamanoTarea = tamanoTarea;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= tamanoTarea) {
+                for (int i = desde; i < hasta; i++) {
+                    fila.accept(i);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new TareaFilas(fila, desde, medio, tamanoTarea),
+                    new TareaFilas(fila, medio, hasta, tamanoTarea));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Métricas Micrometer de la liquidación de aportes.
+ * <p>
+ * Registra los siguientes medidores:
+ * </p>
+ * <ul>
+ *   <li>{@code slas.validacion}: tiempo de validación de las solicitudes aceptadas y de
+ *       resolución de los parámetros del año</li>
+ *   <li>{@code slas.calculo}: tiempo del cálculo de los aportes</li>
+ *   <li>{@code slas.rechazos}: solicitudes rechazadas, etiquetadas por {@code motivo}
+ *       ({@link MotivoRechazo})</li>
+ *   <li>{@code slas.liquidaciones.arl}: liquidaciones por {@code nivel} de riesgo
+ *       ({@code SIN_ARL} si no aporta)</li>
+ *   <li>{@code slas.liquidaciones.fsp}: liquidaciones por {@code rango} del FSP</li>
+ * </ul>
+ *
+ * <p>
+ * Todos los medidores se registran en el constructor. Los contadores son
+ * {@link FunctionCounter} sobre arreglos de {@link LongAdder} indexados por código:
+ * registrar una liquidación solo incrementa dos celdas, sin buscar medidores por
+ * nombre ni construir etiquetas, y el registro lee los acumuladores al publicar.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class MetricasLiquidacion {
+
+    private final Timer validacion;
+    private final Timer calculo;
+
+    /** Rechazos indexados por {@code ordinal()} del {@link MotivoRechazo}. */
+    private final LongAdder[] rechazos;
+
+    /** Liquidaciones indexadas por {@link MotorCalculoExacto#codigoNivel(RiesgoLaboralARL)}. */
+    private final LongAdder[] porNivelArl;
+
+    /** Liquidaciones indexadas por posición del rango FSP. */
+    private final LongAdder[] porRangoFsp;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param registry registro de métricas
+     */
+    public MetricasLiquidacion(MeterRegistry registry) {
+        this.validacion = Timer.builder("slas.validacion")
+                .description("Validación de la solicitud y resolución de parámetros")
+                .register(registry);
+        this.calculo = Timer.builder("slas.calculo")
+                .description("Cálculo de los aportes de una liquidación")
+                .register(registry);
+
+        MotivoRechazo[] motivos = MotivoRechazo.values();
+        this.rechazos = new LongAdder[motivos.length];
+        for (MotivoRechazo motivo : motivos) {
+            rechazos[motivo.ordinal()] = contador(registry, "slas.rechazos",
+                    "Solicitudes rechazadas por motivo", "motivo", motivo.name());
+        }
+
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        this.porNivelArl = new LongAdder[niveles.length + 1];
+        porNivelArl[MotorCalculoExacto.SIN_ARL] = contador(registry, "slas.liquidaciones.arl",
+                "Liquidaciones por nivel de riesgo ARL", "nivel", "SIN_ARL");
+        for (RiesgoLaboralARL nivel : niveles) {
+            porNivelArl[MotorCalculoExacto.codigoNivel(nivel)] = contador(registry, "slas.liquidaciones.arl",
+                    "Liquidaciones por nivel de riesgo ARL", "nivel", nivel.name());
+        }
+
+        AportesFondoSolidarioPensionesFSP[] rangos = AportesFondoSolidarioPensionesFSP.values();
+        this.porRangoFsp = new LongAdder[rangos.length];
+        for (int i = 0; i < rangos.length; i++) {
+            porRangoFsp[i] = contador(registry, "slas.liquidaciones.fsp",
+                    "Liquidaciones por rango del Fondo de Solidaridad Pensional", "rango", rangos[i].name());
+        }
+    }
+
+    private static LongAdder contador(MeterRegistry registry, String nombre, String descripcion,
+            String etiqueta, String valor) {
+        LongAdder acumulador = new LongAdder();
+        FunctionCounter.builder(nombre, acumulador, LongAdder::sum)
+                .description(descripcion)
+                .tag(etiqueta, valor)
+                .register(registry);
+        return acumulador;
+    }
+
+    /**
+     * Crea métricas que no se publican en ningún registro, para usar el servicio
+     * fuera del contexto de Spring (pruebas y benchmarks).
+     *
+     * @return métricas sin registro
+     */
+    public static MetricasLiquidacion sinRegistro() {
+        return new MetricasLiquidacion(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Registra el tiempo de validación.
+     *
+     * @param nanos duración en nanosegundos
+     */
+    public void validacion(long nanos) {
+        validacion.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra una liquidación calculada.
+     *
+     * @param nanos     duración del cálculo en nanosegundos
+     * @param nivelArl  código del nivel ARL, o {@link MotorCalculoExacto#SIN_ARL}
+     * @param rangoFsp  posición del rango FSP
+     */
+    public void calculo(long nanos, int nivelArl, int rangoFsp) {
+        calculo.record(nanos, TimeUnit.NANOSECONDS);
+        porNivelArl[nivelArl].increment();
+        porRangoFsp[rangoFsp].increment();
+    }
+
+    /**
+     * Registra una solicitud rechazada, una vez por cada motivo encontrado.
+     *
+     * @param validacion resultado de validación con los motivos del rechazo
+     */
+    public void rechazo(ResultadoValidacion validacion) {
+        for (int resto = validacion.getMascara(); resto != 0; resto &= resto - 1) {
+            rechazos[Integer.numberOfTrailingZeros(resto)].increment();
+        }
+    }
+}
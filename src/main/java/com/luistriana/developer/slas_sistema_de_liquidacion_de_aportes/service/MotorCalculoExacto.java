@@ -0,0 +1,267 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.DestinoLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TarifasExactas;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Motor de cálculo de aportes en aritmética entera exacta.
+ * <p>
+ * El ingreso se recibe en centavos {@code long}, las tarifas en millonésimas
+ * ({@link TarifasExactas}) y cada concepto se liquida en pesos {@code long}. No hay
+ * {@code double} intermedios ni {@code BigDecimal}: cada paso es una multiplicación
+ * y una división enteras, y el resultado no depende de cómo el punto flotante
+ * represente tarifas como 0.16 o 0.522%.
+ * </p>
+ *
+ * <p><strong>Reglas de redondeo por concepto:</strong></p>
+ * <ul>
+ *   <li>IBC: {@code ingreso × porcentajeIbc}; por debajo del piso vale 1 SMMLV, por
+ *       encima del tope vale el tope y en otro caso se redondea al peso más cercano
+ *       (mitad hacia arriba)</li>
+ *   <li>Salud, pensión, FSP, ARL y CCF: tarifa sobre el IBC en pesos, redondeada al
+ *       peso más cercano (mitad hacia arriba)</li>
+ *   <li>Total: suma exacta de los aportes</li>
+ * </ul>
+ *
+ * <p>
+ * Todos los conceptos son pesos enteros, de modo que las sumas de muchas filas son
+ * exactas. Cada camino de liquidación (solicitud, lote, flujo, importación, curva o
+ * cálculo inverso) liquida sus filas con
+ * {@link #liquidar(long, int, long, ParametrosAnuales, DestinoLiquidacion, int)}, así
+ * que las reglas de redondeo están en un solo lugar. El motor anterior en
+ * {@code double} queda en los benchmarks como referencia de rendimiento.
+ * </p>
+ *
+ * <p><strong>Codificación primitiva de la solicitud:</strong></p>
+ * <ul>
+ *   <li>Nivel ARL: {@link #SIN_ARL} si no aporta; {@code ordinal() + 1} del
+ *       {@link RiesgoLaboralARL} en caso contrario (ver {@link #codigoNivel(RiesgoLaboralARL)})</li>
+ *   <li>CCF: tarifa en millonésimas ({@link #tarifaPorcentual(double)}), cero si no aporta</li>
+ * </ul>
+ *
+ * <p>
+ * Esta clase no está diseñada para ser instanciada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TarifasExactas
+ */
+public final class MotorCalculoExacto {
+
+    /** Código de nivel ARL para quien no aporta a ARL. */
+    public static final int SIN_ARL = 0;
+
+    /** Mitad del denominador de las tarifas, para redondear mitad hacia arriba. */
+    private static final long MEDIO_MILLON = TarifasExactas.MILLON / 2;
+
+    /** Centavos × millonésimas por peso. */
+    private static final long PRODUCTO_POR_PESO = 100 * TarifasExactas.MILLON;
+
+    /** Tarifa ARL en millonésimas indexada por código de nivel ({@link #SIN_ARL} vale cero). */
+    private static final long[] TARIFAS_ARL = tarifasArl();
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private MotorCalculoExacto() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    private static long[] tarifasArl() {
+        RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+        long[] tarifas = new long[niveles.length + 1];
+        for (RiesgoLaboralARL nivel : niveles) {
+            tarifas[codigoNivel(nivel)] = tarifaPorcentual(nivel.getPorcentaje());
+        }
+        return tarifas;
+    }
+
+    /**
+     * Convierte un nivel de riesgo en su código primitivo.
+     *
+     * @param nivel nivel de riesgo, o {@code null} si no aporta a ARL
+     * @return {@link #SIN_ARL} o {@code ordinal() + 1}
+     */
+    public static int codigoNivel(RiesgoLaboralARL nivel) {
+        return nivel == null ? SIN_ARL : nivel.ordinal() + 1;
+    }
+
+    /**
+     * Convierte un valor en pesos a centavos.
+     *
+     * @param pesos valor en pesos
+     * @return valor en centavos, redondeado al centavo más cercano
+     */
+    public static long centavos(double pesos) {
+        return Math.round(pesos * 100);
+    }
+
+    /**
+     * Convierte un porcentaje (0.6 para 0.6%) en millonésimas.
+     *
+     * @param porcentaje porcentaje de cotización
+     * @return tarifa en millonésimas
+     */
+    public static long tarifaPorcentual(double porcentaje) {
+        return Math.round(porcentaje * (TarifasExactas.MILLON / 100));
+    }
+
+    /**
+     * Liquida una fila y entrega sus conceptos al destino indicado. Es la única
+     * rutina que aplica las reglas de liquidación; los demás métodos de cálculo de
+     * filas la usan.
+     *
+     * @param ingresoCentavos ingreso mensual bruto en centavos (mayor a cero)
+     * @param nivelArl        código de nivel ARL ({@link #SIN_ARL} si no aporta)
+     * @param tarifaCcf       tarifa CCF en millonésimas (0 si no aporta)
+     * @param parametros      parámetros del año gravable
+     * @param destino         destino de los conceptos
+     * @param posicion        posición que se informa al destino
+     */
+    public static void liquidar(long ingresoCentavos, int nivelArl, long tarifaCcf, ParametrosAnuales parametros,
+            DestinoLiquidacion destino, int posicion) {
+        TarifasExactas tarifas = parametros.getTarifasExactas();
+        long ibc = ibc(ingresoCentavos, tarifas);
+        long salud = aporte(ibc, tarifas.getSalud());
+        long pension = aporte(ibc, tarifas.getPension());
+        long fsp = fsp(ibc, parametros);
+        // los aportes voluntarios valen cero cuando la tarifa es cero
+        long arl = arl(ibc, nivelArl);
+        long ccf = aporte(ibc, tarifaCcf);
+        destino.escribir(posicion, ibc, salud, pension, fsp, arl, ccf, salud + pension + fsp + arl + ccf);
+    }
+
+    /**
+     * Liquida una fila y construye el DTO de respuesta.
+     *
+     * @param ingresoCentavos ingreso mensual bruto en centavos (mayor a cero)
+     * @param nivelArl        código de nivel ARL ({@link #SIN_ARL} si no aporta)
+     * @param tarifaCcf       tarifa CCF en millonésimas (0 si no aporta)
+     * @param parametros      parámetros del año gravable
+     * @return liquidación de la fila
+     */
+    public static LiquidacionResponse liquidar(long ingresoCentavos, int nivelArl, long tarifaCcf,
+            ParametrosAnuales parametros) {
+        Respuesta respuesta = new Respuesta();
+        liquidar(ingresoCentavos, nivelArl, tarifaCcf, parametros, respuesta, 0);
+        return respuesta.liquidacion;
+    }
+
+    /**
+     * Liquida una fila y escribe el resultado en el búfer indicado.
+     *
+     * @param ingreso       ingreso mensual bruto en pesos (mayor a cero)
+     * @param nivelArl      código de nivel ARL ({@link #SIN_ARL} si no aporta)
+     * @param porcentajeCcf porcentaje CCF (0 si no aporta)
+     * @param parametros    parámetros del año gravable
+     * @param destino       búfer de resultados
+     * @param posicion      posición del búfer donde se escribe el resultado
+     */
+    public static void calcular(double ingreso, int nivelArl, double porcentajeCcf, ParametrosAnuales parametros,
+            ResultadosLiquidacion destino, int posicion) {
+        liquidar(centavos(ingreso), nivelArl, tarifaPorcentual(porcentajeCcf), parametros, destino, posicion);
+    }
+
+    /**
+     * Liquida las filas {@code [desde, hasta)} de un lote en columnas primitivas.
+     * El resultado de la fila {@code i} se escribe en la posición {@code i} del destino.
+     *
+     * @param ingresos       ingresos mensuales brutos en pesos
+     * @param nivelesArl     códigos de nivel ARL
+     * @param porcentajesCcf porcentajes CCF (0 si no aporta)
+     * @param desde          primera fila (inclusive)
+     * @param hasta          última fila (exclusive)
+     * @param parametros     parámetros del año gravable
+     * @param destino        búfer de resultados con capacidad de al menos {@code hasta}
+     */
+    public static void calcularLote(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf,
+            int desde, int hasta, ParametrosAnuales parametros, ResultadosLiquidacion destino) {
+        for (int i = desde; i < hasta; i++) {
+            calcular(ingresos[i], nivelesArl[i], porcentajesCcf[i], parametros, destino, i);
+        }
+    }
+
+    /**
+     * Calcula el IBC en pesos aplicando el piso de 1 SMMLV y el tope.
+     *
+     * @param ingresoCentavos ingreso mensual bruto en centavos (mayor a cero)
+     * @param tarifas         tarifas exactas del año
+     * @return IBC en pesos
+     */
+    public static long ibc(long ingresoCentavos, TarifasExactas tarifas) {
+        if (ingresoCentavos > tarifas.getIngresoMaximo()) {
+            return tarifas.getMaxIbc();
+        }
+        long producto = ingresoCentavos * tarifas.getPorcentajeIbc();
+        if (producto < tarifas.getPisoProducto()) {
+            return tarifas.getSmmlv();
+        }
+        if (producto > tarifas.getTopeProducto()) {
+            return tarifas.getMaxIbc();
+        }
+        return (producto + PRODUCTO_POR_PESO / 2) / PRODUCTO_POR_PESO;
+    }
+
+    /**
+     * Aplica una tarifa sobre el IBC y redondea al peso más cercano (mitad hacia arriba).
+     *
+     * @param ibc    IBC en pesos
+     * @param tarifa tarifa en millonésimas
+     * @return aporte en pesos
+     */
+    public static long aporte(long ibc, long tarifa) {
+        return (ibc * tarifa + MEDIO_MILLON) / TarifasExactas.MILLON;
+    }
+
+    /**
+     * Calcula el aporte al FSP según el rango del IBC en SMMLV.
+     *
+     * @param ibc        IBC en pesos
+     * @param parametros parámetros del año gravable
+     * @return aporte al FSP en pesos
+     */
+    public static long fsp(long ibc, ParametrosAnuales parametros) {
+        return aporte(ibc, parametros.getTarifasExactas().fsp(parametros.getTablaFsp().indice(ibc)));
+    }
+
+    /**
+     * Obtiene la tarifa ARL de un código de nivel.
+     *
+     * @param nivelArl código de nivel ARL ({@link #SIN_ARL} si no aporta)
+     * @return tarifa en millonésimas (cero para {@link #SIN_ARL})
+     */
+    public static long tarifaArl(int nivelArl) {
+        return TARIFAS_ARL[nivelArl];
+    }
+
+    /**
+     * Calcula el aporte a ARL de un código de nivel.
+     *
+     * @param ibc      IBC en pesos
+     * @param nivelArl código de nivel ARL ({@link #SIN_ARL} si no aporta)
+     * @return aporte a ARL en pesos
+     */
+    public static long arl(long ibc, int nivelArl) {
+        return aporte(ibc, TARIFAS_ARL[nivelArl]);
+    }
+
+    /** Destino de una sola fila que construye el DTO de respuesta. */
+    private static final class Respuesta implements DestinoLiquidacion {
+
+        private LiquidacionResponse liquidacion;
+
+        @Override
+        public void escribir(int posicion, long ibc, long salud, long pension, long fsp, long arl, long ccf,
+                long total) {
+            liquidacion = new LiquidacionResponse(ibc, salud, pension, fsp, arl, ccf, total);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TarifasExactas;
+
+/**
+ * Liquidación de lotes en columnas con instrucciones SIMD (Vector API).
+ * <p>
+ * Aplica las mismas reglas y el mismo redondeo que {@link MotorCalculoExacto},
+ * varias filas por instrucción: el IBC con su piso y su tope, salud, pensión, el
+ * rango FSP y las tarifas ARL y CCF. El resultado es idéntico al peso al de
+ * {@link MotorCalculoExacto#calcularLote(double[], byte[], double[], int, int, ParametrosAnuales, ResultadosLiquidacion)}
+ * y, por lo tanto, al de {@code SlasServiceImpl}.
+ * </p>
+ *
+ * <p>
+ * El núcleo vectorial usa el módulo incubado {@code jdk.incubator.vector}, que la
+ * JVM solo carga con {@code --add-modules jdk.incubator.vector}. Sin el módulo, o si
+ * la plataforma no tiene al menos dos carriles {@code double}, cada lote se liquida
+ * con el ciclo escalar de {@link MotorCalculoExacto}; también las filas del último
+ * bloque incompleto.
+ * </p>
+ *
+ * <p>
+ * Lo usan {@link LoteColumnarServiceImpl} y {@link ReliquidacionServiceImpl} cuando
+ * {@code slas.vectorial.habilitado} es {@code true}.
+ * </p>
+ *
+ * <p>
+ * Esta clase no está diseñada para ser instanciada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotorCalculoExacto
+ */
+public final class MotorCalculoVectorial {
+
+    /** Los enteros hasta 2<sup>53</sup> se representan sin error en {@code double}. */
+    private static final long LIMITE_EXACTO = 1L << 53;
+
+    private static final boolean DISPONIBLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && NucleoVectorial.carriles() >= 2;
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private MotorCalculoVectorial() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Indica si el núcleo vectorial está disponible en esta JVM.
+     *
+     * @return {@code true} si el módulo {@code jdk.incubator.vector} está cargado y hay
+     *         al menos dos carriles {@code double}
+     */
+    public static boolean disponible() {
+        return DISPONIBLE;
+    }
+
+    /**
+     * Obtiene el número de filas que el núcleo vectorial liquida por instrucción.
+     *
+     * @return carriles {@code double}, o 1 si el núcleo no está disponible
+     */
+    public static int carriles() {
+        return DISPONIBLE ? NucleoVectorial.carriles() : 1;
+    }
+
+    /**
+     * Liquida las filas {@code [desde, hasta)} de un lote en columnas primitivas.
+     * El resultado de la fila {@code i} se escribe en la posición {@code i} del destino.
+     * Las filas deben ser válidas, como en {@link MotorCalculoExacto#calcular}: ingreso
+     * mayor a cero, un código de nivel ARL existente y un porcentaje CCF entre 0 y 100.
+     *
+     * @param ingresos       ingresos mensuales brutos en pesos
+     * @param nivelesArl     códigos de nivel ARL
+     * @param porcentajesCcf porcentajes CCF (0 si no aporta)
+     * @param desde          primera fila (inclusive)
+     * @param hasta          última fila (exclusive)
+     * @param parametros     parámetros del año gravable
+     * @param destino        búfer de resultados con capacidad de al menos {@code hasta}
+     */
+    public static void calcularLote(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf,
+            int desde, int hasta, ParametrosAnuales parametros, ResultadosLiquidacion destino) {
+        int siguiente = desde;
+        if (DISPONIBLE && representable(parametros.getTarifasExactas())) {
+            siguiente = NucleoVectorial.calcularLote(ingresos, nivelesArl, porcentajesCcf, desde, hasta, parametros,
+                    destino);
+        }
+        MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, siguiente, hasta, parametros, destino);
+    }
+
+    /**
+     * Verifica que los productos intermedios del año, con tarifas de hasta el 100 %,
+     * sigan siendo enteros exactos en {@code double} y que el IBC quepa en un {@code int}. Con los parámetros vigentes el
+     * mayor producto (el tope del IBC en centavos por millonésimas) es menos de la
+     * mitad del límite; si algún año lo supera, el lote se liquida con el ciclo escalar.
+     */
+    private static boolean representable(TarifasExactas tarifas) {
+        return tarifas.getTopeProducto() + 100 * TarifasExactas.MILLON < LIMITE_EXACTO
+                && tarifas.getMaxIbc() * TarifasExactas.MILLON + TarifasExactas.MILLON < LIMITE_EXACTO
+                && tarifas.getMaxIbc() <= Integer.MAX_VALUE;
+    }
+}
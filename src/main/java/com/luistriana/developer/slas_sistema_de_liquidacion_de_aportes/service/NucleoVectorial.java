@@ -0,0 +1,301 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TarifasExactas;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleo SIMD de {@link MotorCalculoVectorial} sobre {@code jdk.incubator.vector}.
+ * <p>
+ * Cada carril es una fila. Los pesos y los productos de {@link MotorCalculoExacto}
+ * son enteros menores que 2<sup>53</sup>, así que se representan sin error en
+ * {@code double}. Las divisiones enteras se hacen con una división en punto flotante
+ * truncada (ver {@link #dividir}) y el redondeo de centavos y tarifas, sumando y
+ * restando 2<sup>52</sup>. Los rangos del IBC, del FSP y del nivel ARL se resuelven
+ * con comparaciones y mezclas por máscara, sin saltos. El resultado es el mismo peso
+ * que calcula {@link MotorCalculoExacto}.
+ * </p>
+ *
+ * <p>
+ * Solo {@link MotorCalculoVectorial} carga esta clase, y únicamente si el módulo
+ * {@code jdk.incubator.vector} está presente.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MotorCalculoVectorial
+ */
+final class NucleoVectorial {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+
+    /** Enteros de 32 bits con tantos carriles como {@link #ESPECIE}, para truncar cocientes. */
+    private static final VectorSpecies<Integer> ENTEROS = VectorSpecies.of(int.class,
+            VectorShape.forBitSize(Math.max(64, ESPECIE.vectorBitSize() / 2)));
+
+    /** Los niveles ARL se cargan de a 8 bytes y se convierten a los carriles de {@link #ESPECIE}. */
+    private static final VectorSpecies<Byte> ESPECIE_NIVELES = ByteVector.SPECIES_64;
+
+    /** 2<sup>52</sup>: sumarlo y restarlo redondea al entero más cercano (mitad al par) cualquier valor en [0, 2<sup>52</sup>). */
+    private static final double MAGIA = 0x1p52;
+
+    private static final double MILLON = TarifasExactas.MILLON;
+    private static final double MEDIO_MILLON = MILLON / 2;
+    private static final double PRODUCTO_POR_PESO = 100 * MILLON;
+    private static final double MEDIO_PRODUCTO_POR_PESO = PRODUCTO_POR_PESO / 2;
+    private static final double CENTAVOS_POR_PESO = 100;
+    private static final double MILLONESIMAS_POR_PUNTO = TarifasExactas.MILLON / 100;
+
+    private static final AportesFondoSolidarioPensionesFSP[] RANGOS_FSP = AportesFondoSolidarioPensionesFSP.values();
+
+    /** Filas por tramo: las columnas de un tramo caben holgadas en la caché L1. */
+    private static final int TRAMO = 256;
+
+    private static final Pasada[] PASADAS = Pasada.values();
+
+    /**
+     * Las mezclas por rango FSP y por nivel ARL están escritas una por una; si la
+     * normativa cambia el número de rangos o de niveles, el núcleo no se usa.
+     */
+    private static final boolean TABLAS_ESPERADAS = RANGOS_FSP.length == 7 && RiesgoLaboralARL.values().length == 5;
+
+    /** Constantes del último año liquidado; se reemplazan solo cuando cambian los parámetros. */
+    private static volatile Constantes ultimas;
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private NucleoVectorial() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Obtiene el número de filas que se liquidan por instrucción.
+     *
+     * @return carriles {@code double} de la especie preferida de la plataforma
+     */
+    static int carriles() {
+        return TABLAS_ESPERADAS ? ESPECIE.length() : 1;
+    }
+
+    /**
+     * Liquida en paralelo de datos las filas {@code [desde, hasta)} en bloques de
+     * {@link #carriles()} y se detiene antes del último bloque incompleto.
+     * <p>
+     * Cada tramo de {@link #TRAMO} filas se recorre con las tres {@link Pasada}s, que
+     * se comunican por las columnas del destino, todavía en caché.
+     * </p>
+     *
+     * @return primera fila que no se liquidó; el resto lo liquida quien llama
+     */
+    static int calcularLote(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf, int desde, int hasta,
+            ParametrosAnuales parametros, ResultadosLiquidacion destino) {
+        Constantes k = Constantes.para(parametros);
+        int carriles = ESPECIE.length();
+        int limite = hasta - Math.max(carriles, ESPECIE_NIVELES.length());
+        int i = desde;
+        while (i <= limite) {
+            // primera fila después del último bloque completo del tramo
+            int siguiente = i + (Math.min(limite - i, TRAMO - carriles) / carriles + 1) * carriles;
+            for (Pasada pasada : PASADAS) {
+                pasada.liquidar(ingresos, nivelesArl, porcentajesCcf, i, siguiente, k, destino);
+            }
+            i = siguiente;
+        }
+        return i;
+    }
+
+    /**
+     * Una pasada del núcleo sobre un tramo de filas.
+     * <p>
+     * Un solo ciclo con todos los conceptos supera el límite de nodos con que C2
+     * integra métodos: a partir de ahí deja llamadas sin integrar y crea un objeto
+     * por cada vector que las cruza. Con tres pasadas, cada una se compila por
+     * separado; la llamada desde {@link #calcularLote} ve tres clases distintas, es
+     * megamórfica y C2 no intenta integrarlas en un solo método.
+     * </p>
+     */
+    private enum Pasada {
+
+        /** IBC con su piso y su tope. */
+        IBC {
+            @Override
+            void liquidar(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf, int desde, int hasta,
+                    Constantes k, ResultadosLiquidacion destino) {
+                double[] ibcs = destino.getIbc();
+                for (int i = desde; i < hasta; i += ESPECIE.length()) {
+                    DoubleVector centavos = redondear(
+                            DoubleVector.fromArray(ESPECIE, ingresos, i).mul(CENTAVOS_POR_PESO));
+                    DoubleVector producto = centavos.mul(k.porcentajeIbc);
+                    dividir(producto.add(MEDIO_PRODUCTO_POR_PESO), PRODUCTO_POR_PESO)
+                            .blend(k.maxIbc, producto.compare(VectorOperators.GT, k.topeProducto))
+                            .blend(k.smmlv, producto.compare(VectorOperators.GE, k.pisoProducto).not())
+                            .blend(k.maxIbc, centavos.compare(VectorOperators.GT, k.ingresoMaximo))
+                            .intoArray(ibcs, i);
+                }
+            }
+        },
+
+        /** Salud, pensión y FSP, que solo dependen del IBC. */
+        APORTES_POR_IBC {
+            @Override
+            void liquidar(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf, int desde, int hasta,
+                    Constantes k, ResultadosLiquidacion destino) {
+                double[] ibcs = destino.getIbc();
+                double[] umbrales = k.umbralesFsp;
+                double[] tarifasFsp = k.tarifasFsp;
+                for (int i = desde; i < hasta; i += ESPECIE.length()) {
+                    DoubleVector ibc = DoubleVector.fromArray(ESPECIE, ibcs, i);
+                    aporte(ibc, k.salud).intoArray(destino.getSalud(), i);
+                    aporte(ibc, k.pension).intoArray(destino.getPension(), i);
+                    // mezclas desenrolladas: un vector que cruza iteraciones de un ciclo también se vuelve objeto
+                    DoubleVector tarifaFsp = DoubleVector.broadcast(ESPECIE, tarifasFsp[0])
+                            .blend(tarifasFsp[1], ibc.compare(VectorOperators.GT, umbrales[0]))
+                            .blend(tarifasFsp[2], ibc.compare(VectorOperators.GT, umbrales[1]))
+                            .blend(tarifasFsp[3], ibc.compare(VectorOperators.GT, umbrales[2]))
+                            .blend(tarifasFsp[4], ibc.compare(VectorOperators.GT, umbrales[3]))
+                            .blend(tarifasFsp[5], ibc.compare(VectorOperators.GT, umbrales[4]))
+                            .blend(tarifasFsp[6], ibc.compare(VectorOperators.GT, umbrales[5]));
+                    aporte(ibc, tarifaFsp).intoArray(destino.getFsp(), i);
+                }
+            }
+        },
+
+        /** ARL y CCF, que dependen del nivel y del porcentaje de cada fila, y el total. */
+        APORTES_POR_FILA {
+            @Override
+            void liquidar(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf, int desde, int hasta,
+                    Constantes k, ResultadosLiquidacion destino) {
+                double[] ibcs = destino.getIbc();
+                double[] tarifasArl = k.tarifasArl;
+                for (int i = desde; i < hasta; i += ESPECIE.length()) {
+                    DoubleVector ibc = DoubleVector.fromArray(ESPECIE, ibcs, i);
+                    DoubleVector nivel = (DoubleVector) ByteVector.fromArray(ESPECIE_NIVELES, nivelesArl, i)
+                            .castShape(ESPECIE, 0);
+                    DoubleVector tarifaArl = DoubleVector.zero(ESPECIE)
+                            .blend(tarifasArl[1], nivel.compare(VectorOperators.EQ, 1))
+                            .blend(tarifasArl[2], nivel.compare(VectorOperators.EQ, 2))
+                            .blend(tarifasArl[3], nivel.compare(VectorOperators.EQ, 3))
+                            .blend(tarifasArl[4], nivel.compare(VectorOperators.EQ, 4))
+                            .blend(tarifasArl[5], nivel.compare(VectorOperators.EQ, 5));
+                    DoubleVector arl = aporte(ibc, tarifaArl);
+                    DoubleVector ccf = aporte(ibc, redondear(
+                            DoubleVector.fromArray(ESPECIE, porcentajesCcf, i).mul(MILLONESIMAS_POR_PUNTO)));
+                    arl.intoArray(destino.getArl(), i);
+                    ccf.intoArray(destino.getCcf(), i);
+                    DoubleVector.fromArray(ESPECIE, destino.getSalud(), i)
+                            .add(DoubleVector.fromArray(ESPECIE, destino.getPension(), i))
+                            .add(DoubleVector.fromArray(ESPECIE, destino.getFsp(), i))
+                            .add(arl)
+                            .add(ccf)
+                            .intoArray(destino.getTotal(), i);
+                }
+            }
+        };
+
+        abstract void liquidar(double[] ingresos, byte[] nivelesArl, double[] porcentajesCcf, int desde, int hasta,
+                Constantes k, ResultadosLiquidacion destino);
+    }
+
+    /** {@code Math.round} de valores no negativos: al más cercano y la mitad hacia arriba. */
+    private static DoubleVector redondear(DoubleVector valor) {
+        DoubleVector cercano = valor.add(MAGIA).sub(MAGIA);
+        return cercano.add(1, valor.sub(cercano).compare(VectorOperators.EQ, 0.5));
+    }
+
+    /**
+     * Cociente entero {@code floor(dividendo / divisor)} de enteros no negativos con
+     * {@code dividendo + divisor < 2^53} y cociente menor que 2<sup>31</sup>. Si el
+     * cociente exacto no es entero, dista al menos {@code 1 / divisor} del siguiente
+     * entero, más que el error de redondeo de la división; por eso truncar el cociente
+     * en punto flotante da el mismo entero que la división entera.
+     */
+    private static DoubleVector dividir(DoubleVector dividendo, double divisor) {
+        return (DoubleVector) dividendo.div(divisor)
+                .convertShape(VectorOperators.D2I, ENTEROS, 0)
+                .convertShape(VectorOperators.I2D, ESPECIE, 0);
+    }
+
+    /** {@link MotorCalculoExacto#aporte(long, long)} por carril. */
+    private static DoubleVector aporte(DoubleVector ibc, double tarifa) {
+        return dividir(ibc.mul(tarifa).add(MEDIO_MILLON), MILLON);
+    }
+
+    private static DoubleVector aporte(DoubleVector ibc, DoubleVector tarifa) {
+        return dividir(ibc.mul(tarifa).add(MEDIO_MILLON), MILLON);
+    }
+
+    /**
+     * Parámetros de un año convertidos a {@code double} para difundirlos a los carriles.
+     */
+    private static final class Constantes {
+
+        private final ParametrosAnuales parametros;
+        private final double smmlv;
+        private final double maxIbc;
+        private final double porcentajeIbc;
+        private final double pisoProducto;
+        private final double topeProducto;
+        private final double ingresoMaximo;
+        private final double salud;
+        private final double pension;
+
+        /** Tarifa FSP en millonésimas por posición del rango. */
+        private final double[] tarifasFsp;
+
+        /** Límite superior en pesos de cada rango FSP salvo el último (IBC mayor que el límite pasa al siguiente). */
+        private final double[] umbralesFsp;
+
+        /** Tarifa ARL en millonésimas por código de nivel. */
+        private final double[] tarifasArl;
+
+        private Constantes(ParametrosAnuales parametros) {
+            TarifasExactas tarifas = parametros.getTarifasExactas();
+            this.parametros = parametros;
+            this.smmlv = tarifas.getSmmlv();
+            this.maxIbc = tarifas.getMaxIbc();
+            this.porcentajeIbc = tarifas.getPorcentajeIbc();
+            this.pisoProducto = tarifas.getPisoProducto();
+            this.topeProducto = tarifas.getTopeProducto();
+            this.ingresoMaximo = tarifas.getIngresoMaximo();
+            this.salud = tarifas.getSalud();
+            this.pension = tarifas.getPension();
+
+            this.tarifasFsp = new double[RANGOS_FSP.length];
+            this.umbralesFsp = new double[RANGOS_FSP.length - 1];
+            // mismo producto límite × SMMLV con el que TablaFsp ubica el rango
+            double smmlvTabla = parametros.getTablaFsp().getSmmlv();
+            for (int rango = 0; rango < RANGOS_FSP.length; rango++) {
+                tarifasFsp[rango] = tarifas.fsp(rango);
+                if (rango < umbralesFsp.length) {
+                    umbralesFsp[rango] = (int) RANGOS_FSP[rango].getLimiteSuperiorSmmlv() * smmlvTabla;
+                }
+            }
+
+            this.tarifasArl = new double[RiesgoLaboralARL.values().length + 1];
+            for (int codigo = 0; codigo < tarifasArl.length; codigo++) {
+                tarifasArl[codigo] = MotorCalculoExacto.tarifaArl(codigo);
+            }
+        }
+
+        static Constantes para(ParametrosAnuales parametros) {
+            Constantes constantes = ultimas;
+            if (constantes == null || constantes.parametros != parametros) {
+                constantes = new Constantes(parametros);
+                ultimas = constantes;
+            }
+            return constantes;
+        }
+    }
+}
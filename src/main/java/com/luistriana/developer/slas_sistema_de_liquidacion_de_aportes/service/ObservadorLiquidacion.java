@@ -0,0 +1,31 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+/**
+ * Punto de extensión que recibe cada liquidación calculada.
+ * <p>
+ * {@link SlasServiceImpl} notifica a todos los observadores registrados como beans
+ * de Spring, en el hilo que calculó la liquidación. Las implementaciones deben ser
+ * seguras para uso concurrente y no deben bloquear: el trabajo costoso (por
+ * ejemplo, escribir en disco) debe delegarse a otro hilo.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SlasServiceImpl
+ */
+public interface ObservadorLiquidacion {
+
+    /**
+     * Recibe una liquidación calculada.
+     *
+     * @param request     solicitud válida
+     * @param parametros  parámetros del año aplicados
+     * @param liquidacion resultado de la liquidación
+     */
+    void liquidada(LiquidacionRequest request, ParametrosAnuales parametros, LiquidacionResponse liquidacion);
+}
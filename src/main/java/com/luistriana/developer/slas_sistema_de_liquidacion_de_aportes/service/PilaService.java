@@ -0,0 +1,43 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+/**
+ * Servicio de exportación de las liquidaciones registradas a un archivo plano de
+ * ancho fijo al estilo de la PILA para el operador de pago.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see EscritorPila
+ */
+public interface PilaService {
+
+    /**
+     * Escribe la planilla de un periodo en un canal: encabezado, una línea de detalle
+     * por trabajador con su última liquidación registrada del periodo (en orden de
+     * registro) y totales. Las liquidaciones cuyos valores no caben en los campos de
+     * la planilla se omiten y no suman en los totales.
+     *
+     * @param periodo periodo liquidado
+     * @param destino canal de destino; no se cierra
+     * @return número de líneas de detalle escritas
+     * @throws IOException si el canal falla
+     */
+    long exportar(YearMonth periodo, WritableByteChannel destino) throws IOException;
+
+    /**
+     * Escribe la planilla de un periodo en un archivo. El archivo se escribe primero
+     * con un nombre temporal y se renombra al terminar, de modo que nunca queda una
+     * planilla a medias con el nombre final.
+     *
+     * @param periodo periodo liquidado
+     * @param archivo archivo de destino; se reemplaza si existe
+     * @return número de líneas de detalle escritas
+     * @throws IOException si el archivo no se puede escribir
+     */
+    long exportar(YearMonth periodo, Path archivo) throws IOException;
+}
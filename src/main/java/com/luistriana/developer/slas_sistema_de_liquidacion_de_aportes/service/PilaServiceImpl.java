@@ -0,0 +1,133 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.BloqueDiario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+/**
+ * Implementación de la exportación PILA sobre el diario de liquidaciones.
+ * <p>
+ * La planilla lleva una sola línea por trabajador: si el mismo trabajador se
+ * liquidó varias veces en el periodo, solo cuenta su última liquidación. Los
+ * registros del periodo ({@link DiarioLiquidaciones#registrosPorPeriodo(YearMonth)})
+ * se leen dos veces en bloques mapeados en memoria
+ * ({@link DiarioLiquidaciones#bloque(int, int)}): la primera pasada deja en un
+ * {@link UltimosPorTrabajador} el último registro de cada trabajador y la segunda
+ * pasa los campos primitivos de esos registros directamente al
+ * {@link EscritorPila}. No se decodifica un objeto por registro, y además del búfer
+ * de salida ({@code slas.pila.tamano-bufer}) la tabla de trabajadores solo existe
+ * durante la exportación.
+ * </p>
+ *
+ * <p>
+ * El validador no acota el ingreso, así que el diario puede tener liquidaciones
+ * cuyos valores no caben en los campos de la planilla. Esos registros se omiten con
+ * una advertencia y se cuentan en el registro de la exportación; no abortan la
+ * planilla del resto de trabajadores.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see PilaService
+ */
+@Service
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+public class PilaServiceImpl implements PilaService {
+
+    private static final Logger log = LoggerFactory.getLogger(PilaServiceImpl.class);
+
+    /** Registros por bloque mapeado. */
+    private static final int TAMANO_BLOQUE = 65_536;
+
+    private final DiarioLiquidaciones diario;
+    private final int tamanoBufer;
+
+    /**
+     * Constructor con inyección de dependencias y configuración.
+     *
+     * @param diario      diario de liquidaciones
+     * @param tamanoBufer bytes del búfer de salida
+     */
+    public PilaServiceImpl(DiarioLiquidaciones diario, @Value("${slas.pila.tamano-bufer:1048576}") int tamanoBufer) {
+        if (tamanoBufer < 1) {
+            throw new IllegalArgumentException("slas.pila.tamano-bufer debe ser >= 1");
+        }
+        this.diario = diario;
+        this.tamanoBufer = tamanoBufer;
+    }
+
+    @Override
+    public long exportar(YearMonth periodo, WritableByteChannel destino) throws IOException {
+        long inicio = System.nanoTime();
+        int[] delPeriodo = diario.registrosPorPeriodo(periodo);
+        int registros = diario.registros();
+        byte[] documento = new byte[EscritorPila.ANCHO_DOCUMENTO];
+
+        UltimosPorTrabajador ultimos = new UltimosPorTrabajador();
+        int k = 0;
+        while (k < delPeriodo.length) {
+            int primero = delPeriodo[k];
+            BloqueDiario bloque = diario.bloque(primero, Math.min(registros, primero + TAMANO_BLOQUE));
+            for (; k < delPeriodo.length && delPeriodo[k] - primero < bloque.tamano(); k++) {
+                int i = delPeriodo[k] - primero;
+                int longitud = bloque.numeroDocumento(i, documento);
+                ultimos.registrar(bloque.tipoDocumento(i).ordinal(), documento, longitud, delPeriodo[k]);
+            }
+        }
+        int[] vigentes = ultimos.ultimos();
+
+        EscritorPila escritor = new EscritorPila(destino, periodo, tamanoBufer);
+        int omitidos = 0;
+        k = 0;
+        while (k < vigentes.length) {
+            int primero = vigentes[k];
+            BloqueDiario bloque = diario.bloque(primero, Math.min(registros, primero + TAMANO_BLOQUE));
+            for (; k < vigentes.length && vigentes[k] - primero < bloque.tamano(); k++) {
+                int i = vigentes[k] - primero;
+                int longitud = bloque.numeroDocumento(i, documento);
+                try {
+                    escritor.detalle(bloque.tipoDocumento(i), documento, longitud, bloque.ingreso(i),
+                            bloque.nivelArl(i), bloque.porcentajeCcf(i), bloque.concepto(i, 0), bloque.concepto(i, 1),
+                            bloque.concepto(i, 2), bloque.concepto(i, 3), bloque.concepto(i, 4), bloque.concepto(i, 5),
+                            bloque.concepto(i, 6));
+                } catch (IllegalArgumentException e) {
+                    omitidos++;
+                    log.warn("Planilla {}: se omite el registro {} ({})", periodo, vigentes[k], e.getMessage());
+                }
+            }
+        }
+        escritor.close();
+
+        log.info("Planilla {} exportada: {} detalles y {} omitidos de {} registros en {} ms", periodo,
+                escritor.detalles(), omitidos, registros, (System.nanoTime() - inicio) / 1_000_000);
+        return escritor.detalles();
+    }
+
+    @Override
+    public long exportar(YearMonth periodo, Path archivo) throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        long detalles;
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            detalles = exportar(periodo, canal);
+            canal.force(false);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return detalles;
+    }
+}
@@ -0,0 +1,232 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+
+/**
+ * Registro de parámetros de liquidación por año gravable, recargable en caliente.
+ * <p>
+ * Los parámetros se leen de un archivo JSON (un arreglo de {@link ParametrosAnuales}).
+ * Si la propiedad {@code slas.parametros.archivo} apunta a un archivo local, este se
+ * revisa periódicamente ({@code slas.parametros.intervalo-recarga}) y se recarga cuando
+ * cambia su fecha de modificación, sin reiniciar la aplicación. Si la propiedad está
+ * vacía se usa el recurso {@code parametros-seguridad-social.json} del classpath.
+ * </p>
+ *
+ * <p>
+ * Cada carga construye una instantánea inmutable que reemplaza a la anterior con una
+ * sola escritura volátil: un cálculo en curso conserva la instancia de
+ * {@link ParametrosAnuales} que obtuvo y nunca ve una tabla a medio actualizar. Si el
+ * archivo recargado es inválido, se registra el error y se conserva la instantánea
+ * anterior.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ParametrosAnuales
+ */
+@Component
+public class RegistroParametros {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistroParametros.class);
+
+    /** Recurso del classpath con los parámetros incluidos en la aplicación. */
+    static final String RECURSO_PREDETERMINADO = "/parametros-seguridad-social.json";
+
+    private static final TypeReference<List<ParametrosAnuales>> TIPO_LISTA = new TypeReference<>() {
+    };
+
+    /**
+     * Parámetros cargados y fecha de modificación del archivo de origen.
+     *
+     * @param porAnio    parámetros indexados por año (inmodificable)
+     * @param modificado fecha de modificación del archivo, o {@code null} si viene del classpath
+     */
+    private record Instantanea(NavigableMap<Integer, ParametrosAnuales> porAnio, FileTime modificado) {
+    }
+
+    private final ObjectMapper mapper;
+    private final Path archivo;
+    private final Clock reloj;
+    private volatile Instantanea actual;
+
+    /**
+     * Constructor con inyección de dependencias. Carga los parámetros de inmediato.
+     *
+     * @param mapper  mapeador JSON
+     * @param archivo ruta del archivo de parámetros; vacía para usar el del classpath
+     * @param reloj   reloj de la aplicación, que define el año en curso
+     * @throws IllegalStateException si los parámetros iniciales no se pueden cargar
+     */
+    public RegistroParametros(ObjectMapper mapper, @Value("${slas.parametros.archivo:}") String archivo,
+            Clock reloj) {
+        this.mapper = mapper;
+        this.archivo = archivo == null || archivo.isBlank() ? null : Path.of(archivo);
+        this.reloj = reloj;
+        try {
+            this.actual = cargar();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("No se pudieron cargar los parámetros de seguridad social", e);
+        }
+        log.info("Parámetros de seguridad social cargados para los años {}", actual.porAnio().keySet());
+    }
+
+    /**
+     * Crea un registro con los parámetros incluidos en el classpath y el reloj de la
+     * zona predeterminada.
+     *
+     * @return registro sin recarga en caliente
+     */
+    public static RegistroParametros predeterminado() {
+        return new RegistroParametros(new ObjectMapper(), null, RelojConfig.relojPredeterminado());
+    }
+
+    /**
+     * Obtiene los parámetros de un año gravable.
+     *
+     * @param anio año gravable
+     * @return parámetros del año
+     * @throws datosInvalidosException si no hay parámetros para el año
+     */
+    public ParametrosAnuales para(int anio) {
+        ParametrosAnuales parametros = actual.porAnio().get(anio);
+        if (parametros == null) {
+            throw new datosInvalidosException(MotivoRechazo.PERIODO_SIN_PARAMETROS,
+                    "No hay parámetros de seguridad social para el año " + anio);
+        }
+        return parametros;
+    }
+
+    /**
+     * Obtiene los parámetros del año en curso. Si aún no se han cargado los del año en
+     * curso (por ejemplo, antes de publicarse el decreto del SMMLV), se usan los del
+     * año más reciente anterior.
+     *
+     * @return parámetros vigentes
+     * @throws datosInvalidosException si no hay parámetros para ningún año anterior
+     */
+    public ParametrosAnuales vigentes() {
+        int anio = Year.now(reloj).getValue();
+        Map.Entry<Integer, ParametrosAnuales> entrada = actual.porAnio().floorEntry(anio);
+        if (entrada == null) {
+            throw new datosInvalidosException(MotivoRechazo.PERIODO_SIN_PARAMETROS,
+                    "No hay parámetros de seguridad social para el año " + anio);
+        }
+        return entrada.getValue();
+    }
+
+    /**
+     * Obtiene los parámetros del año de un periodo liquidado.
+     *
+     * @param periodo periodo liquidado, o {@code null} para el año en curso
+     * @return parámetros del año del periodo, o los vigentes si no se indicó periodo
+     * @throws datosInvalidosException si no hay parámetros para el año solicitado
+     */
+    public ParametrosAnuales paraPeriodo(YearMonth periodo) {
+        return periodo == null ? vigentes() : para(periodo.getYear());
+    }
+
+    /**
+     * Busca los parámetros del año de un periodo liquidado sin lanzar excepciones.
+     *
+     * @param periodo periodo liquidado, o {@code null} para el año en curso
+     * @return parámetros del año del periodo (o los vigentes), o {@code null} si no hay
+     */
+    public ParametrosAnuales buscar(YearMonth periodo) {
+        NavigableMap<Integer, ParametrosAnuales> porAnio = actual.porAnio();
+        if (periodo != null) {
+            return porAnio.get(periodo.getYear());
+        }
+        Map.Entry<Integer, ParametrosAnuales> entrada = porAnio.floorEntry(Year.now(reloj).getValue());
+        return entrada == null ? null : entrada.getValue();
+    }
+
+    /**
+     * Obtiene todos los parámetros cargados, ordenados por año.
+     *
+     * @return parámetros disponibles
+     */
+    public Collection<ParametrosAnuales> disponibles() {
+        return actual.porAnio().values();
+    }
+
+    /**
+     * Recarga el archivo de parámetros si cambió desde la última carga.
+     * <p>
+     * No hace nada cuando los parámetros vienen del classpath.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${slas.parametros.intervalo-recarga:PT10S}")
+    public void recargarSiCambio() {
+        if (archivo == null) {
+            return;
+        }
+        try {
+            FileTime modificado = Files.getLastModifiedTime(archivo);
+            if (modificado.equals(actual.modificado())) {
+                return;
+            }
+            Instantanea nueva = cargar();
+            actual = nueva;
+            log.info("Parámetros de seguridad social recargados desde {} para los años {}", archivo,
+                    nueva.porAnio().keySet());
+        } catch (IOException | RuntimeException e) {
+            log.error("No se pudo recargar {}; se conservan los parámetros anteriores", archivo, e);
+        }
+    }
+
+    private Instantanea cargar() throws IOException {
+        FileTime modificado = null;
+        List<ParametrosAnuales> lista;
+        if (archivo != null) {
+            modificado = Files.getLastModifiedTime(archivo);
+            try (InputStream entrada = Files.newInputStream(archivo)) {
+                lista = mapper.readValue(entrada, TIPO_LISTA);
+            }
+        } else {
+            try (InputStream entrada = RegistroParametros.class.getResourceAsStream(RECURSO_PREDETERMINADO)) {
+                if (entrada == null) {
+                    throw new IOException("No se encontró el recurso " + RECURSO_PREDETERMINADO);
+                }
+                lista = mapper.readValue(entrada, TIPO_LISTA);
+            }
+        }
+
+        TreeMap<Integer, ParametrosAnuales> porAnio = new TreeMap<>();
+        for (ParametrosAnuales parametros : lista) {
+            if (porAnio.put(parametros.getAnio(), parametros) != null) {
+                throw new IllegalArgumentException("Año repetido en los parámetros: " + parametros.getAnio());
+            }
+        }
+        if (porAnio.isEmpty()) {
+            throw new IllegalArgumentException("El archivo de parámetros no contiene ningún año");
+        }
+        return new Instantanea(Collections.unmodifiableNavigableMap(porAnio), modificado);
+    }
+}
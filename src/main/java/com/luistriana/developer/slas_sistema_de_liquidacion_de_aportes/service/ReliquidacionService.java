@@ -0,0 +1,41 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.ReliquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResumenReliquidacionResponse;
+
+/**
+ * Servicio de reliquidación del historial de liquidaciones.
+ * <p>
+ * Cuando un parámetro cambia de forma retroactiva (por ejemplo, un decreto tardío
+ * del SMMLV) recalcula las liquidaciones registradas con los parámetros nuevos y
+ * reporta solo las que cambiaron, junto con las diferencias por concepto.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ReliquidacionService {
+
+    /**
+     * Reliquida el historial y escribe en NDJSON una línea por cada liquidación que
+     * cambió, en orden de registro, y una última línea {@code {"resumen":{...}}}.
+     * <p>
+     * Cada línea tiene el número de registro en el diario, el periodo, el usuario y
+     * las liquidaciones {@code anterior} (lo registrado) y {@code nueva}:
+     * </p>
+     * <pre>
+     * {"registro":7,"periodo":"2026-03","usuario":{"tipoDocumento":"CC","numeroDocumento":"10203"},
+     *  "anterior":{"ibc":1750905,...,"total":508000},"nueva":{"ibc":1800000,...,"total":522000}}
+     * </pre>
+     *
+     * @param solicitud rango de periodos y parámetros a aplicar
+     * @param salida    flujo donde se escriben las filas cambiadas y el resumen
+     * @return resumen de la reliquidación
+     * @throws IOException si falla la escritura del flujo
+     */
+    ResumenReliquidacionResponse reliquidar(ReliquidacionRequest solicitud, OutputStream salida) throws IOException;
+}
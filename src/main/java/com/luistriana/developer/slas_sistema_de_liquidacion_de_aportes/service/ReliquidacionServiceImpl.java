@@ -0,0 +1,425 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.ReliquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResumenReliquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.BloqueDiario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementación de la reliquidación del historial sobre el diario mapeado en memoria.
+ * <p>
+ * El diario se divide en bloques de {@code slas.reliquidacion.tamano-bloque} registros.
+ * Cada bloque se mapea en memoria ({@link DiarioLiquidaciones#bloque(int, int)}) y se
+ * reliquida en un {@link ForkJoinPool} propio leyendo los campos como primitivos y
+ * calculando con {@link MotorCalculoExacto#calcular(double, int, double, ParametrosAnuales, ResultadosLiquidacion, int)},
+ * las mismas reglas de {@link SlasServiceImpl}. Solo las filas cambiadas se convierten
+ * en objetos.
+ * </p>
+ *
+ * <p>
+ * Con {@code slas.vectorial.habilitado}, los campos del bloque se copian a columnas
+ * primitivas y cada tramo de registros consecutivos del mismo año se liquida con
+ * {@link MotorCalculoVectorial#calcularLote}; el resultado es el mismo.
+ * </p>
+ *
+ * <p>
+ * Los bloques se procesan en paralelo, pero se escriben en orden de registro: el
+ * hilo de la petición espera cada bloque en orden mientras el pool adelanta como
+ * máximo dos bloques por hilo, de modo que la memoria usada no depende del tamaño
+ * del diario.
+ * </p>
+ *
+ * <p>
+ * Los parámetros se toman del {@link RegistroParametros} al empezar (una recarga en
+ * caliente durante la reliquidación no la afecta), reemplazando los años que traiga
+ * la solicitud.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ReliquidacionService
+ */
+@Service
+@ConditionalOnProperty(name = "slas.diario.habilitado", havingValue = "true")
+public class ReliquidacionServiceImpl implements ReliquidacionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReliquidacionServiceImpl.class);
+
+    /** Número de conceptos de {@link LiquidacionResponse} (ibc ... total). */
+    private static final int CONCEPTOS = 7;
+
+    /** Nombres de los conceptos en el orden de {@link LiquidacionResponse}. */
+    private static final String[] NOMBRES_CONCEPTOS = { "ibc", "salud", "pension", "fsp", "arl", "ccf", "total" };
+
+    private static final SerializedString SEPARADOR_LINEAS = new SerializedString("\n");
+
+    private final DiarioLiquidaciones diario;
+    private final RegistroParametros registro;
+    private final ObjectMapper mapper;
+    private final ForkJoinPool pool;
+    private final int tamanoBloque;
+    private final boolean vectorial;
+
+    /**
+     * Constructor con inyección de dependencias y configuración.
+     *
+     * @param diario       diario de liquidaciones
+     * @param registro     registro de parámetros por año gravable
+     * @param mapper       mapeador JSON configurado por Spring
+     * @param paralelismo  número de hilos del pool (0 = procesadores disponibles)
+     * @param tamanoBloque registros por bloque mapeado
+     * @param vectorial    si los bloques se liquidan con {@link MotorCalculoVectorial}
+     */
+    public ReliquidacionServiceImpl(DiarioLiquidaciones diario, RegistroParametros registro, ObjectMapper mapper,
+            @Value("${slas.reliquidacion.paralelismo:0}") int paralelismo,
+            @Value("${slas.reliquidacion.tamano-bloque:65536}") int tamanoBloque,
+            @Value("${slas.vectorial.habilitado:true}") boolean vectorial) {
+        if (paralelismo < 0 || tamanoBloque < 1) {
+            throw new IllegalArgumentException(
+                    "slas.reliquidacion.paralelismo debe ser >= 0 y slas.reliquidacion.tamano-bloque >= 1");
+        }
+        this.diario = diario;
+        this.registro = registro;
+        this.mapper = mapper;
+        this.pool = new ForkJoinPool(paralelismo == 0 ? Runtime.getRuntime().availableProcessors() : paralelismo);
+        this.tamanoBloque = tamanoBloque;
+        this.vectorial = vectorial;
+    }
+
+    @Override
+    public ResumenReliquidacionResponse reliquidar(ReliquidacionRequest solicitud, OutputStream salida)
+            throws IOException {
+        long inicio = System.nanoTime();
+        TablaParametros tabla = tablaParametros(solicitud);
+        int desde = solicitud.getDesde() == null ? Integer.MIN_VALUE : codigo(solicitud.getDesde());
+        int hasta = solicitud.getHasta() == null ? Integer.MAX_VALUE : codigo(solicitud.getHasta());
+
+        int registros = diario.registros();
+        int ventana = 2 * pool.getParallelism();
+        ArrayDeque<Future<BloqueReliquidado>> pendientes = new ArrayDeque<>(ventana);
+        int siguiente = 0;
+        BloqueReliquidado acumulado = new BloqueReliquidado(null, null);
+
+        // el generador no debe cerrar la salida: el contenedor es dueño de ella
+        try (JsonGenerator generador = mapper.getFactory().createGenerator(salida)) {
+            generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generador.setRootValueSeparator(SEPARADOR_LINEAS);
+            while (siguiente < registros || !pendientes.isEmpty()) {
+                while (siguiente < registros && pendientes.size() < ventana) {
+                    int primero = siguiente;
+                    int ultimo = (int) Math.min(registros, (long) primero + tamanoBloque);
+                    pendientes.add(pool.submit(() -> reliquidarBloque(diario.bloque(primero, ultimo), tabla,
+                            desde, hasta, vectorial)));
+                    siguiente = ultimo;
+                }
+                BloqueReliquidado bloque = esperar(pendientes.poll());
+                bloque.escribirCambiadas(generador);
+                acumulado.sumar(bloque);
+            }
+
+            ResumenReliquidacionResponse resumen = acumulado.resumen((System.nanoTime() - inicio) / 1_000_000);
+            mapper.writeValue(generador, Map.of("resumen", resumen));
+            generador.writeRaw('\n');
+            generador.flush();
+            log.info("Reliquidación de {} filas ({} cambiadas) en {} ms", resumen.filas(), resumen.filasCambiadas(),
+                    resumen.duracionMs());
+            return resumen;
+        } finally {
+            pendientes.forEach(pendiente -> pendiente.cancel(true));
+        }
+    }
+
+    /**
+     * Cierra el pool de hilos al detener la aplicación.
+     */
+    @PreDestroy
+    public void cerrar() {
+        pool.shutdown();
+    }
+
+    /**
+     * Reliquida los registros de un bloque que caen en el rango de periodos.
+     *
+     * @param bloque    bloque mapeado del diario
+     * @param tabla     parámetros por año
+     * @param desde     primer periodo codificado (inclusive)
+     * @param hasta     último periodo codificado (inclusive)
+     * @param vectorial si se liquida con {@link MotorCalculoVectorial}
+     * @return filas cambiadas y sumas del bloque
+     */
+    static BloqueReliquidado reliquidarBloque(BloqueDiario bloque, TablaParametros tabla, int desde, int hasta,
+            boolean vectorial) {
+        ResultadosLiquidacion nuevos = new ResultadosLiquidacion(bloque.tamano());
+        double[][] columnas = { nuevos.getIbc(), nuevos.getSalud(), nuevos.getPension(), nuevos.getFsp(),
+                nuevos.getArl(), nuevos.getCcf(), nuevos.getTotal() };
+        BloqueReliquidado resultado = new BloqueReliquidado(bloque, nuevos);
+        ParametrosAnuales[] parametrosFila = new ParametrosAnuales[bloque.tamano()];
+        // los registros vienen casi siempre agrupados por año: se busca solo al cambiar
+        int anioAnterior = Integer.MIN_VALUE;
+        ParametrosAnuales parametrosAnteriores = null;
+
+        for (int i = 0; i < bloque.tamano(); i++) {
+            int periodo = bloque.periodo(i);
+            if (periodo < desde || periodo > hasta) {
+                continue;
+            }
+            int anio = periodo / 100;
+            if (anio != anioAnterior) {
+                anioAnterior = anio;
+                parametrosAnteriores = tabla.para(anio);
+            }
+            parametrosFila[i] = parametrosAnteriores;
+            if (parametrosFila[i] == null) {
+                resultado.filasSinParametros++;
+            } else if (!vectorial) {
+                MotorCalculoExacto.calcular(bloque.ingreso(i), bloque.nivelArl(i), bloque.porcentajeCcf(i),
+                        parametrosFila[i], nuevos, i);
+            }
+        }
+        if (vectorial) {
+            calcularPorAnio(bloque, parametrosFila, nuevos);
+        }
+
+        for (int i = 0; i < bloque.tamano(); i++) {
+            if (parametrosFila[i] == null) {
+                continue;
+            }
+            boolean cambio = false;
+            for (int c = 0; c < CONCEPTOS; c++) {
+                double anterior = bloque.concepto(i, c);
+                double nuevo = columnas[c][i];
+                resultado.anterior[c] += anterior;
+                resultado.nueva[c] += nuevo;
+                cambio |= anterior != nuevo;
+            }
+            resultado.filas++;
+            if (cambio) {
+                resultado.agregarCambiada(i);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Copia los campos del bloque a columnas primitivas y liquida con
+     * {@link MotorCalculoVectorial} cada tramo de registros con los mismos parámetros.
+     * Los registros sin parámetros no cortan el tramo: se liquidan con valores neutros
+     * y su resultado no se lee.
+     */
+    private static void calcularPorAnio(BloqueDiario bloque, ParametrosAnuales[] parametrosFila,
+            ResultadosLiquidacion nuevos) {
+        int tamano = bloque.tamano();
+        double[] ingresos = new double[tamano];
+        byte[] niveles = new byte[tamano];
+        double[] porcentajesCcf = new double[tamano];
+        ParametrosAnuales actuales = null;
+        int inicio = 0;
+        for (int i = 0; i < tamano; i++) {
+            ParametrosAnuales parametros = parametrosFila[i];
+            if (parametros == null) {
+                ingresos[i] = 1;
+                continue;
+            }
+            ingresos[i] = bloque.ingreso(i);
+            niveles[i] = (byte) bloque.nivelArl(i);
+            porcentajesCcf[i] = bloque.porcentajeCcf(i);
+            if (parametros != actuales) {
+                if (actuales != null) {
+                    MotorCalculoVectorial.calcularLote(ingresos, niveles, porcentajesCcf, inicio, i, actuales,
+                            nuevos);
+                }
+                actuales = parametros;
+                inicio = i;
+            }
+        }
+        if (actuales != null) {
+            MotorCalculoVectorial.calcularLote(ingresos, niveles, porcentajesCcf, inicio, tamano, actuales, nuevos);
+        }
+    }
+
+    private TablaParametros tablaParametros(ReliquidacionRequest solicitud) {
+        TreeMap<Integer, ParametrosAnuales> porAnio = new TreeMap<>();
+        for (ParametrosAnuales parametros : registro.disponibles()) {
+            porAnio.put(parametros.getAnio(), parametros);
+        }
+        if (solicitud.getParametros() != null) {
+            for (ParametrosAnuales parametros : solicitud.getParametros()) {
+                porAnio.put(parametros.getAnio(), parametros);
+            }
+        }
+        return new TablaParametros(porAnio);
+    }
+
+    private static int codigo(YearMonth periodo) {
+        return periodo.getYear() * 100 + periodo.getMonthValue();
+    }
+
+    private static BloqueReliquidado esperar(Future<BloqueReliquidado> pendiente) throws IOException {
+        try {
+            return pendiente.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Reliquidación interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IOException("No se pudo reliquidar un bloque del diario", e.getCause());
+        }
+    }
+
+    /**
+     * Parámetros por año en arreglos ordenados, para no consultar un mapa por fila.
+     * <p>
+     * Los años vienen de la solicitud y pueden estar muy separados entre sí, así que
+     * no se indexan por diferencia con el primer año: se buscan por bisección entre
+     * los años cargados, que son pocos, y el tamaño de la tabla es el número de años.
+     * </p>
+     */
+    static final class TablaParametros {
+
+        private final int[] anios;
+        private final ParametrosAnuales[] porAnio;
+
+        TablaParametros(TreeMap<Integer, ParametrosAnuales> parametros) {
+            this.anios = new int[parametros.size()];
+            this.porAnio = new ParametrosAnuales[parametros.size()];
+            int posicion = 0;
+            for (Map.Entry<Integer, ParametrosAnuales> entrada : parametros.entrySet()) {
+                anios[posicion] = entrada.getKey();
+                porAnio[posicion++] = entrada.getValue();
+            }
+        }
+
+        ParametrosAnuales para(int anio) {
+            int posicion = Arrays.binarySearch(anios, anio);
+            return posicion >= 0 ? porAnio[posicion] : null;
+        }
+    }
+
+    /**
+     * Resultado de reliquidar un bloque: posiciones cambiadas, valores recalculados y
+     * sumas por concepto. También se usa para acumular el resumen de todo el diario.
+     */
+    static final class BloqueReliquidado {
+
+        private final BloqueDiario bloque;
+        private final ResultadosLiquidacion nuevos;
+        private int[] cambiadas = new int[16];
+        private int filasCambiadas;
+        private long filas;
+        private long filasSinParametros;
+        private final double[] anterior = new double[CONCEPTOS];
+        private final double[] nueva = new double[CONCEPTOS];
+
+        BloqueReliquidado(BloqueDiario bloque, ResultadosLiquidacion nuevos) {
+            this.bloque = bloque;
+            this.nuevos = nuevos;
+        }
+
+        private void agregarCambiada(int posicion) {
+            if (filasCambiadas == cambiadas.length) {
+                cambiadas = Arrays.copyOf(cambiadas, filasCambiadas * 2);
+            }
+            cambiadas[filasCambiadas++] = posicion;
+        }
+
+        /**
+         * Escribe cada fila cambiada como una línea JSON directamente con el generador,
+         * sin crear un objeto de respuesta por fila.
+         */
+        private void escribirCambiadas(JsonGenerator generador) throws IOException {
+            double[][] columnas = { nuevos.getIbc(), nuevos.getSalud(), nuevos.getPension(), nuevos.getFsp(),
+                    nuevos.getArl(), nuevos.getCcf(), nuevos.getTotal() };
+            for (int k = 0; k < filasCambiadas; k++) {
+                int i = cambiadas[k];
+                int periodo = bloque.periodo(i);
+                int mes = periodo % 100;
+                Usuario usuario = bloque.usuario(i);
+
+                generador.writeStartObject();
+                generador.writeNumberField("registro", bloque.primero() + i);
+                generador.writeStringField("periodo", periodo / 100 + (mes < 10 ? "-0" : "-") + mes);
+                generador.writeObjectFieldStart("usuario");
+                generador.writeStringField("tipoDocumento", usuario.getTipoDocumento().name());
+                generador.writeStringField("numeroDocumento", usuario.getNumeroDocumento());
+                generador.writeEndObject();
+                generador.writeObjectFieldStart("anterior");
+                for (int c = 0; c < CONCEPTOS; c++) {
+                    escribirValor(generador, NOMBRES_CONCEPTOS[c], bloque.concepto(i, c));
+                }
+                generador.writeEndObject();
+                generador.writeObjectFieldStart("nueva");
+                for (int c = 0; c < CONCEPTOS; c++) {
+                    escribirValor(generador, NOMBRES_CONCEPTOS[c], columnas[c][i]);
+                }
+                generador.writeEndObject();
+                generador.writeEndObject();
+            }
+        }
+
+        /**
+         * Escribe un valor monetario. Los valores liquidados son enteros (se redondean
+         * al peso), así que se escriben como {@code long}: convertir un {@code double}
+         * a texto cuesta más que el cálculo completo de la fila.
+         */
+        private static void escribirValor(JsonGenerator generador, String nombre, double valor) throws IOException {
+            if (valor == (long) valor) {
+                generador.writeNumberField(nombre, (long) valor);
+            } else {
+                generador.writeNumberField(nombre, valor);
+            }
+        }
+
+        private void sumar(BloqueReliquidado otro) {
+            filas += otro.filas;
+            filasCambiadas += otro.filasCambiadas;
+            filasSinParametros += otro.filasSinParametros;
+            for (int c = 0; c < CONCEPTOS; c++) {
+                anterior[c] += otro.anterior[c];
+                nueva[c] += otro.nueva[c];
+            }
+        }
+
+        private ResumenReliquidacionResponse resumen(long duracionMs) {
+            double[] diferencia = new double[CONCEPTOS];
+            for (int c = 0; c < CONCEPTOS; c++) {
+                diferencia[c] = nueva[c] - anterior[c];
+            }
+            return new ResumenReliquidacionResponse(filas, filasCambiadas, filasSinParametros, respuesta(anterior),
+                    respuesta(nueva), respuesta(diferencia), duracionMs);
+        }
+
+        private static LiquidacionResponse respuesta(double[] valores) {
+            return new LiquidacionResponse(valores[0], valores[1], valores[2], valores[3], valores[4], valores[5],
+                    valores[6]);
+        }
+    }
+}
@@ -1,9 +1,45 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
 
+import java.util.List;
+
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
 
 public interface SlasService {
 LiquidacionResponse calculoSlas(LiquidacionRequest request );
 
+    /**
+     * Liquida un lote de solicitudes en una sola invocación.
+     * <p>
+     * Las filas inválidas no interrumpen el lote: se reportan como resultado
+     * fallido en la misma posición que ocupaban en la entrada.
+     * </p>
+     *
+     * @param requests solicitudes a liquidar
+     * @return un resultado por solicitud, en el mismo orden de la entrada
+     */
+    List<ResultadoLoteResponse> calculoSlasLote(List<LiquidacionRequest> requests);
+
+    /**
+     * Liquida una fila de un lote o flujo sin lanzar excepciones de validación.
+     *
+     * @param indice  posición de la fila en el lote
+     * @param request solicitud a liquidar
+     * @return resultado exitoso, o fallido con todas las violaciones encontradas
+     */
+    ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request);
+
+    /**
+     * Liquida una fila igual que {@link #calculoSlasFila(int, LiquidacionRequest)},
+     * con la opción de no notificar a los {@link ObservadorLiquidacion}. Sirve para
+     * recalcular filas que ya se registraron, por ejemplo al reanudar un trabajo.
+     *
+     * @param indice    posición de la fila en el lote
+     * @param request   solicitud a liquidar
+     * @param notificar {@code false} para no notificar la liquidación
+     * @return resultado exitoso, o fallido con todas las violaciones encontradas
+     */
+    ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request, boolean notificar);
+
 }
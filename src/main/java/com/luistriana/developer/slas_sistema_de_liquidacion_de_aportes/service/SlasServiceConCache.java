@@ -0,0 +1,201 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.EstadisticasCacheResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Decorador de {@link SlasServiceImpl} que guarda en memoria las liquidaciones ya
+ * calculadas.
+ * <p>
+ * Los simuladores y las pantallas de cotización repiten las mismas combinaciones de
+ * ingreso, nivel ARL y porcentaje CCF. La clave de la caché es la solicitud
+ * canónica: el IBC que resulta del ingreso (no el ingreso), el código del nivel
+ * ARL, el porcentaje CCF y los parámetros del año aplicados. Así, todos los
+ * ingresos por debajo del piso de 1 SMMLV comparten una sola entrada, igual que
+ * todos los ingresos por encima del tope del IBC.
+ * </p>
+ *
+ * <p>
+ * La solicitud se valida antes de construir la clave, por lo que las solicitudes
+ * inválidas siempre lanzan {@link datosInvalidosException} y nunca se almacenan.
+ * Los rechazos se registran en {@link MetricasLiquidacion} a través del delegado;
+ * los tiempos y conteos por nivel ARL y rango FSP solo corresponden a las
+ * liquidaciones calculadas (fallos de la caché).
+ * La clave referencia la instancia de {@link ParametrosAnuales}: tras una recarga
+ * del {@link RegistroParametros} las entradas del año recargado dejan de coincidir
+ * y se desalojan por tamaño o por expiración.
+ * </p>
+ *
+ * <p>
+ * Los observadores ({@link ObservadorLiquidacion}) se notifican después de consultar
+ * la caché, tanto en aciertos como en fallos, y nunca dentro de la función de
+ * cálculo de Caffeine: un observador lento (como el diario cuando su cola está
+ * llena) no bloquea a otros hilos que esperan la misma clave. Las estadísticas de
+ * la caché se publican en Micrometer con el nombre {@code slas.cache}.
+ * </p>
+ *
+ * <p>
+ * Se activa con {@code slas.cache.habilitada=true}; en caso contrario se usa
+ * directamente {@link SlasServiceImpl}. Está desactivada por defecto porque el
+ * cálculo de una liquidación cuesta menos que una consulta a la caché (ver
+ * {@code SlasServiceBenchmark.calculoSlasConCache}); conviene activarla solo si
+ * el cálculo se encarece, por ejemplo con consultas a servicios externos.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SlasServiceImpl
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "slas.cache.habilitada", havingValue = "true")
+public class SlasServiceConCache implements SlasService {
+
+    /**
+     * Solicitud canónica usada como clave de la caché.
+     *
+     * @param parametros    parámetros del año aplicados (comparados por identidad)
+     * @param ibc           IBC resultante del ingreso
+     * @param nivelArl      código del nivel ARL, o {@link MotorCalculoExacto#SIN_ARL}
+     * @param porcentajeCcf porcentaje CCF, o cero si no aporta
+     */
+    private record Clave(ParametrosAnuales parametros, double ibc, int nivelArl, double porcentajeCcf) {
+    }
+
+    private final SlasServiceImpl delegado;
+    private final RegistroParametros registro;
+    private final Cache<Clave, LiquidacionResponse> cache;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param delegado     servicio que calcula las liquidaciones no almacenadas
+     * @param registro     registro de parámetros por año gravable
+     * @param tamanoMaximo número máximo de entradas
+     * @param expiracion   tiempo que una entrada permanece desde que se escribió
+     * @param registry     registro de métricas donde se publican las estadísticas
+     */
+    public SlasServiceConCache(SlasServiceImpl delegado, RegistroParametros registro,
+            @Value("${slas.cache.tamano-maximo:100000}") long tamanoMaximo,
+            @Value("${slas.cache.expiracion:PT10M}") Duration expiracion, MeterRegistry registry) {
+        this.delegado = delegado;
+        this.registro = registro;
+        this.cache = CaffeineCacheMetrics.monitor(registry, Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .<Clave, LiquidacionResponse>build(), "slas.cache");
+    }
+
+    /**
+     * Obtiene la liquidación de la caché o la calcula con {@link SlasServiceImpl}.
+     *
+     * @param request objeto con los datos del trabajador
+     * @return detalle completo de la liquidación
+     * @throws datosInvalidosException si los datos de entrada son inconsistentes o inválidos
+     */
+    @Override
+    public LiquidacionResponse calculoSlas(LiquidacionRequest request) {
+        long inicio = System.nanoTime();
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(request);
+        ParametrosAnuales parametros = validacion.esValido() ? registro.buscar(request.getPeriodo()) : null;
+        if (parametros == null) {
+            throw new datosInvalidosException(delegado.rechazar(validacion));
+        }
+        return consultar(request, parametros, inicio, true);
+    }
+
+    /**
+     * Liquida una fila de un lote consultando la caché, sin lanzar excepciones.
+     *
+     * @param indice  posición de la fila en el lote
+     * @param request solicitud a liquidar
+     * @return resultado exitoso, o fallido con todas las violaciones encontradas
+     */
+    @Override
+    public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request) {
+        return calculoSlasFila(indice, request, true);
+    }
+
+    @Override
+    public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request, boolean notificar) {
+        long inicio = System.nanoTime();
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(request);
+        ParametrosAnuales parametros = validacion.esValido() ? registro.buscar(request.getPeriodo()) : null;
+        if (parametros == null) {
+            return ResultadoLoteResponse.fallido(indice, delegado.rechazar(validacion).mensaje());
+        }
+        return ResultadoLoteResponse.exitoso(indice, consultar(request, parametros, inicio, notificar));
+    }
+
+    /**
+     * Liquida un lote de solicitudes consultando la caché fila por fila.
+     *
+     * @param requests solicitudes a liquidar
+     * @return un resultado por solicitud, en el mismo orden de la entrada
+     */
+    @Override
+    public List<ResultadoLoteResponse> calculoSlasLote(List<LiquidacionRequest> requests) {
+        List<ResultadoLoteResponse> resultados = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            resultados.add(calculoSlasFila(i, requests.get(i)));
+        }
+        return resultados;
+    }
+
+    private LiquidacionResponse consultar(LiquidacionRequest request, ParametrosAnuales parametros, long inicio,
+            boolean notificar) {
+        Clave clave = new Clave(parametros,
+                MotorCalculoExacto.ibc(MotorCalculoExacto.centavos(request.getIngresosMensual()),
+                        parametros.getTarifasExactas()),
+                request.getAporteARL() ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                        : MotorCalculoExacto.SIN_ARL,
+                request.getAportaCCF() ? request.getPorcentajeCCF() : 0.0);
+        LiquidacionResponse response = cache.get(clave, c -> delegado.calcular(request, parametros, inicio, false));
+        if (notificar) {
+            // fuera de la función de cálculo; un acierto también es una liquidación del trabajador (historial)
+            delegado.notificar(request, parametros, response);
+        }
+        return response;
+    }
+
+    /**
+     * Obtiene las estadísticas acumuladas de la caché.
+     *
+     * @return aciertos, fallos, desalojos y tamaño estimado
+     */
+    public EstadisticasCacheResponse estadisticas() {
+        CacheStats stats = cache.stats();
+        return new EstadisticasCacheResponse(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), cache.estimatedSize());
+    }
+
+    /**
+     * Descarta todas las entradas almacenadas.
+     */
+    public void limpiar() {
+        cache.invalidateAll();
+    }
+}
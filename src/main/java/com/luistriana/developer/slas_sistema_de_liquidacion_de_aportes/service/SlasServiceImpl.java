@@ -1,15 +1,18 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
 
 
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
-import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
-import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
-import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
 import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
 
 /**
  * Implementación del servicio de liquidación de aportes a seguridad social.
@@ -25,6 +28,11 @@ import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dto
  *   <li>Voluntarios: ARL (según nivel de riesgo) y CCF (0.6% o 2%)</li>
  * </ul>
  *
+ * <p>
+ * Los parámetros de cada año (SMMLV, límites del IBC, tarifas) se obtienen del
+ * {@link RegistroParametros} según el periodo de la solicitud.
+ * </p>
+ *
  * @author Luis Miguel Triana Rueda
  * @version 1.0
  * @since 2025-01-01
@@ -35,6 +43,26 @@ import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dto
 @Service
 public class SlasServiceImpl implements SlasService {
 
+    private final RegistroParametros parametros;
+
+    private final MetricasLiquidacion metricas;
+
+    private final ObservadorLiquidacion[] observadores;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param parametros   registro de parámetros por año gravable
+     * @param metricas     métricas de validación, cálculo y rechazos
+     * @param observadores observadores notificados de cada liquidación calculada
+     */
+    public SlasServiceImpl(RegistroParametros parametros, MetricasLiquidacion metricas,
+            List<ObservadorLiquidacion> observadores) {
+        this.parametros = parametros;
+        this.metricas = metricas;
+        this.observadores = observadores.toArray(new ObservadorLiquidacion[0]);
+    }
+
     /**
      * Calcula la liquidación completa de aportes a seguridad social.
      * <p>
@@ -42,242 +70,143 @@ public class SlasServiceImpl implements SlasService {
      * </p>
      * <ol>
      *   <li>Valida la consistencia de los datos de entrada</li>
+     *   <li>Obtiene los parámetros del año del periodo (por defecto, el año en curso)</li>
      *   <li>Calcula el IBC (Ingreso Base de Cotización)</li>
      *   <li>Calcula aportes obligatorios: Salud, Pensión y FSP</li>
      *   <li>Calcula aportes voluntarios: ARL y CCF (si aplican)</li>
      *   <li>Retorna el total y detalle de todos los aportes</li>
      * </ol>
      *
+     * <p>
+     * Los tiempos de validación y de cálculo, los rechazos por motivo y los niveles
+     * ARL y rangos FSP liquidados se registran en {@link MetricasLiquidacion}. Cada
+     * liquidación calculada se notifica a los {@link ObservadorLiquidacion}.
+     * </p>
+     *
      * @param request objeto con los datos del trabajador (ingresos, aportes voluntarios)
      * @return objeto con el detalle completo de la liquidación
      * @throws datosInvalidosException si los datos de entrada son inconsistentes o inválidos
-     * @see #validarConsistencia(LiquidacionRequest)
-     * @see #porcentajeIBC(double)
+     * @see ValidadorLiquidacion#validar(LiquidacionRequest)
+     * @see MotorCalculoExacto
      */
     @Override
     public LiquidacionResponse calculoSlas(LiquidacionRequest request) {
 
-        validarConsistencia(request);
-        // variables de validaciones
-
-        double arl = 0.0;
-        double ccf = 0.0;
-
-        double ibc = porcentajeIBC(request.getIngresosMensual());
-        double pension = porcentajePension(ibc);
-        double salud = porcentajeSalud(ibc);
-
-        if (request.getAporteARL()) {
-            arl = porcentajeARL(request.getNivelRiesgo(), ibc);
+        long inicio = System.nanoTime();
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(request);
+        ParametrosAnuales anuales = validacion.esValido() ? parametros.buscar(request.getPeriodo()) : null;
+        if (anuales == null) {
+            throw new datosInvalidosException(rechazar(validacion));
         }
-        double fsp = porcentajeFsp(ibc);
-
-        if (request.getAportaCCF()) {
-            ccf = porcentajeCcf(ibc, request.getPorcentajeCCF());
-        }
-
-        double total = pension + salud + arl + fsp + ccf;
-        LiquidacionResponse response = new LiquidacionResponse(ibc, salud, pension, fsp, arl, ccf, total);
-        return response;
-
-    }
-
-    /**
-     * Calcula el Ingreso Base de Cotización (IBC) aplicando límites legales.
-     * <p>
-     * El IBC se calcula como el 40% del ingreso mensual del trabajador independiente,
-     * con las siguientes restricciones:
-     * </p>
-     * <ul>
-     *   <li>Mínimo: 1 SMMLV (Salario Mínimo Mensual Legal Vigente)</li>
-     *   <li>Máximo: 25 SMMLV</li>
-     * </ul>
-     *
-     * @param ingreso ingreso mensual bruto del trabajador
-     * @return IBC calculado y redondeado, respetando límites mínimo y máximo
-     * @see ConstantesSeguridadSocial#MIN_CALCULO_IBC
-     * @see ConstantesSeguridadSocial#MAX_CALCULO_IBC
-     */
-    private double porcentajeIBC(double ingreso) {
-
-        // calculo de ibc
-        double ibc = ingreso * 0.40;
-
-        if (ibc < ConstantesSeguridadSocial.MIN_CALCULO_IBC)
-            return ConstantesSeguridadSocial.SMMLV;
-
-        if (ibc > ConstantesSeguridadSocial.MAX_CALCULO_IBC)
-            return ConstantesSeguridadSocial.MAX_CALCULO_IBC;
-
-        // operacion del metodo
-
-        return Math.round(ibc);
+        return calcular(request, anuales, inicio, true);
     }
 
     /**
-     * Calcula el aporte obligatorio a salud.
+     * Liquida una fila de un lote sin lanzar excepciones.
      * <p>
-     * Aplica el porcentaje legal del 12.5% sobre el IBC.
+     * Aplica las mismas reglas que {@link #calculoSlas(LiquidacionRequest)}, pero las
+     * violaciones se reportan como resultado fallido: un flujo con muchas filas
+     * inválidas no paga el costo de crear y capturar una excepción por fila.
      * </p>
      *
-     * @param ibc Ingreso Base de Cotización previamente calculado
-     * @return monto del aporte a salud, redondeado
-     * @see ConstantesSeguridadSocial#SALUD
+     * @param indice  posición de la fila en el lote
+     * @param request solicitud a liquidar
+     * @return resultado exitoso, o fallido con todas las violaciones encontradas
      */
-    private double porcentajeSalud(double ibc) {
-
-        double salud = ibc * ConstantesSeguridadSocial.SALUD;
-        return Math.round(salud);
+    @Override
+    public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request) {
+        return calculoSlasFila(indice, request, true);
     }
 
-    /**
-     * Calcula el aporte obligatorio a pensión.
-     * <p>
-     * Aplica el porcentaje legal del 16% sobre el IBC.
-     * </p>
-     *
-     * @param ibc Ingreso Base de Cotización previamente calculado
-     * @return monto del aporte a pensión, redondeado
-     * @see ConstantesSeguridadSocial#PENSION
-     */
-    private double porcentajePension(double ibc) {
-        double pension = ibc * ConstantesSeguridadSocial.PENSION;
-
-        return Math.round(pension);
+    @Override
+    public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request, boolean notificar) {
+        long inicio = System.nanoTime();
+        ResultadoValidacion validacion = ValidadorLiquidacion.validar(request);
+        ParametrosAnuales anuales = validacion.esValido() ? parametros.buscar(request.getPeriodo()) : null;
+        if (anuales == null) {
+            return ResultadoLoteResponse.fallido(indice, rechazar(validacion).mensaje());
+        }
+        return ResultadoLoteResponse.exitoso(indice, calcular(request, anuales, inicio, notificar));
     }
 
     /**
-     * Calcula el aporte al Fondo de Solidaridad Pensional (FSP).
+     * Liquida un lote de solicitudes fila por fila con {@link #calculoSlasFila(int, LiquidacionRequest)}.
      * <p>
-     * El FSP es un aporte obligatorio que varía según el IBC expresado en SMMLV:
+     * Las solicitudes se procesan en un ciclo secuencial. Una fila inválida se
+     * registra como resultado fallido en su posición y el ciclo continúa con la
+     * siguiente fila.
      * </p>
-     * <ul>
-     *   <li>0% para IBC menor a 4 SMMLV</li>
-     *   <li>1% para IBC entre 4 y 16 SMMLV</li>
-     *   <li>1.2% para IBC entre 16 y 17 SMMLV</li>
-     *   <li>1.4% para IBC entre 17 y 18 SMMLV</li>
-     *   <li>1.6% para IBC entre 18 y 19 SMMLV</li>
-     *   <li>1.8% para IBC entre 19 y 20 SMMLV</li>
-     *   <li>2% para IBC mayor o igual a 20 SMMLV</li>
-     * </ul>
      *
-     * @param ibc Ingreso Base de Cotización previamente calculado
-     * @return monto del aporte al FSP, redondeado
-     * @see AportesFondoSolidarioPensionesFSP#ObtenerRango(double)
+     * @param requests solicitudes a liquidar
+     * @return un resultado por solicitud, en el mismo orden de la entrada
      */
-    private double porcentajeFsp(double ibc) {
-        // primer paso dividimos el ibc para saber cuantos SMMLV caben en el
-        double ibcEnSMMLV = ibc / ConstantesSeguridadSocial.SMMLV;
-
-        /**
-         * creamos una variable que sea de tipo del emun de aportesFinancieros
-         */
-        AportesFondoSolidarioPensionesFSP rango = AportesFondoSolidarioPensionesFSP.ObtenerRango(ibcEnSMMLV);
+    @Override
+    public List<ResultadoLoteResponse> calculoSlasLote(List<LiquidacionRequest> requests) {
+        List<ResultadoLoteResponse> resultados = new ArrayList<>(requests.size());
 
-        return Math.round(ibc) * rango.getPorcentaje();
+        for (int i = 0; i < requests.size(); i++) {
+            resultados.add(calculoSlasFila(i, requests.get(i)));
+        }
+        return resultados;
     }
 
     /**
-     * Calcula el aporte voluntario a ARL (Administradora de Riesgos Laborales).
+     * Completa el resultado de una solicitud rechazada y lo registra en las métricas.
      * <p>
-     * El porcentaje de cotización varía según el nivel de riesgo de la actividad laboral:
+     * Si la solicitud pasó las reglas de consistencia, el rechazo se debe a que no
+     * hay parámetros para el año de su periodo.
      * </p>
-     * <ul>
-     *   <li>Nivel I: 0.522%</li>
-     *   <li>Nivel II: 1.044%</li>
-     *   <li>Nivel III: 2.436%</li>
-     *   <li>Nivel IV: 4.350%</li>
-     *   <li>Nivel V: 6.960%</li>
-     * </ul>
      *
-     * @param nivel nivel de riesgo laboral de la actividad
-     * @param ibc Ingreso Base de Cotización previamente calculado
-     * @return monto del aporte a ARL, redondeado
-     * @see RiesgoLaboralARL
+     * @param validacion resultado de {@link ValidadorLiquidacion#validar(LiquidacionRequest)}
+     * @return resultado con todas las violaciones
      */
-    private double porcentajeARL(RiesgoLaboralARL nivel, double ibc) {
-
-        return Math.round(ibc * (nivel.getPorcentaje() / 100));
+    ResultadoValidacion rechazar(ResultadoValidacion validacion) {
+        ResultadoValidacion rechazo = validacion.esValido()
+                ? validacion.con(MotivoRechazo.PERIODO_SIN_PARAMETROS)
+                : validacion;
+        metricas.rechazo(rechazo);
+        return rechazo;
     }
 
     /**
-     * Calcula el aporte voluntario a CCF (Caja de Compensación Familiar).
-     * <p>
-     * Los porcentajes permitidos son:
-     * </p>
-     * <ul>
-     *   <li>0.6% - Aporte básico</li>
-     *   <li>2.0% - Aporte completo</li>
-     * </ul>
+     * Calcula los aportes de una solicitud ya validada con {@link MotorCalculoExacto}:
+     * cada concepto es un número entero de pesos.
      *
-     * @param ibc Ingreso Base de Cotización previamente calculado
-     * @param porcentaje porcentaje de cotización (0.6 o 2.0)
-     * @return monto del aporte a CCF, redondeado
+     * @param request   solicitud válida
+     * @param anuales   parámetros del año del periodo
+     * @param inicio    instante ({@link System#nanoTime()}) en que empezó la validación
+     * @param notificar {@code false} para no notificar a los {@link ObservadorLiquidacion}
+     * @return detalle completo de la liquidación
      */
-    private double porcentajeCcf(double ibc, double porcentaje) {
-
-        return Math.round(ibc * (porcentaje / 100));
+    LiquidacionResponse calcular(LiquidacionRequest request, ParametrosAnuales anuales, long inicio,
+            boolean notificar) {
+        long validado = System.nanoTime();
+        metricas.validacion(validado - inicio);
+
+        int nivelArl = request.getAporteARL() ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                : MotorCalculoExacto.SIN_ARL;
+        long tarifaCcf = request.getAportaCCF() ? MotorCalculoExacto.tarifaPorcentual(request.getPorcentajeCCF()) : 0;
+        LiquidacionResponse response = MotorCalculoExacto.liquidar(
+                MotorCalculoExacto.centavos(request.getIngresosMensual()), nivelArl, tarifaCcf, anuales);
+
+        metricas.calculo(System.nanoTime() - validado, nivelArl, anuales.getTablaFsp().indice((long) response.ibc()));
+        if (notificar) {
+            notificar(request, anuales, response);
+        }
+        return response;
     }
 
     /**
-     * Valida la consistencia y coherencia de los datos de entrada.
-     * <p>
-     * Realiza las siguientes validaciones:
-     * </p>
-     * <ul>
-     *   <li>El ingreso debe ser mayor a cero</li>
-     *   <li>Si aporta a CCF, debe especificar porcentaje (0.6 o 2.0)</li>
-     *   <li>Si no aporta a CCF, no debe enviar porcentaje</li>
-     *   <li>El porcentaje CCF debe ser exactamente 0.6 o 2.0</li>
-     *   <li>Si aporta a ARL, debe especificar nivel de riesgo</li>
-     *   <li>Si no aporta a ARL, no debe enviar nivel de riesgo</li>
-     * </ul>
+     * Notifica una liquidación a los {@link ObservadorLiquidacion} registrados.
      *
-     * @param request objeto con los datos a validar
-     * @throws datosInvalidosException si alguna validación falla
+     * @param request  solicitud válida
+     * @param anuales  parámetros del año aplicados
+     * @param response resultado de la liquidación
      */
-    private void validarConsistencia(LiquidacionRequest request) {
-
-        // validaciones de ingreso
-
- // Validación de ingreso
-    if (request.getIngresosMensual() <= 0) {  // Cambié < a <=
-        throw new datosInvalidosException(
-            "El ingreso debe ser mayor a cero. Recibido: " + request.getIngresosMensual());
-    }
-
-    // Validación CCF: si aporta TRUE pero porcentaje es null
-    if (request.getAportaCCF() && request.getPorcentajeCCF() == null) {
-        throw new datosInvalidosException(
-            "Si aporta a CCF, debe especificar porcentaje (0.6 o 2.0)");
-    }
-
-    // Validación CCF: si aporta FALSE pero envía porcentaje
-    if (request.getPorcentajeCCF() != null && !request.getAportaCCF()) {
-        throw new datosInvalidosException(
-            "No puede enviar porcentaje si aporteVoluntarioCCF es false");
-    }
-
-    // Validación CCF: porcentaje debe ser 0.6 o 2.0
-    if (request.getAportaCCF() && request.getPorcentajeCCF() != null) {
-        double p = request.getPorcentajeCCF();
-        if (p != 0.6 && p != 2.0) {
-            throw new datosInvalidosException(
-                "Porcentaje CCF debe ser 0.6 o 2.0, recibido: " + p);
+    void notificar(LiquidacionRequest request, ParametrosAnuales anuales, LiquidacionResponse response) {
+        for (ObservadorLiquidacion observador : observadores) {
+            observador.liquidada(request, anuales, response);
         }
     }
 
-    // Validación ARL: si aporta TRUE pero nivel es null
-    if (request.getAporteARL() && request.getNivelRiesgo() == null) {
-        throw new datosInvalidosException(
-            "Si aporta a ARL, debe especificar nivel de riesgo");
-    }
-
-    // Validación ARL: si aporta FALSE pero envía nivel
-    if (request.getNivelRiesgo() != null && !request.getAporteARL()) {
-        throw new datosInvalidosException(
-            "No puede enviar nivel de riesgo si aporteVoluntarioARL es false");
-    }
-    }
-
 }
@@ -0,0 +1,50 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TrabajoResponse;
+
+/**
+ * Servicio de trabajos asíncronos de liquidación para archivos demasiado grandes
+ * para una petición síncrona.
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface TrabajoLiquidacionService {
+
+    /**
+     * Guarda el archivo en disco y encola su liquidación.
+     *
+     * @param entrada contenido del archivo
+     * @param formato formato del archivo
+     * @return estado inicial del trabajo, con su identificador
+     * @throws IOException               si el archivo no se puede guardar
+     * @throws servicioSaturadoException si ya hay demasiados trabajos pendientes
+     */
+    TrabajoResponse enviar(InputStream entrada, FormatoTrabajo formato) throws IOException;
+
+    /**
+     * Consulta el estado y el avance de un trabajo.
+     *
+     * @param id identificador del trabajo
+     * @return estado del trabajo, o vacío si no existe
+     */
+    Optional<TrabajoResponse> consultar(String id);
+
+    /**
+     * Obtiene el archivo de resultado de un trabajo completado: un
+     * {@code ResultadoLoteResponse} por línea, en el orden de la entrada, y una última
+     * línea {@code {"totales":{...}}}.
+     *
+     * @param id identificador del trabajo
+     * @return ruta del resultado, o vacío si el trabajo no existe o no ha terminado
+     */
+    Optional<Path> resultado(String id);
+}
@@ -0,0 +1,676 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AcumuladorTotales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.EstadoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TrabajoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.BloqueDiario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementación de los trabajos asíncronos con partes persistidas en disco.
+ * <p>
+ * Cada trabajo vive en su propio directorio bajo {@code slas.trabajos.directorio}.
+ * Un hilo coordinador toma los trabajos en orden de llegada, lee el archivo de
+ * entrada y lo corta en partes de {@code slas.trabajos.tamano-parte} filas que
+ * liquida un pool fijo de {@code slas.trabajos.hilos} hilos con
+ * {@link SlasService#calculoSlasFila(int, LiquidacionRequest)}, con las mismas
+ * reglas del endpoint de flujo. Las partes en proceso o en espera están limitadas a
+ * los hilos más {@code slas.trabajos.capacidad-cola}: cuando se llega al límite el
+ * coordinador deja de leer hasta que se libera una parte, así que la memoria usada
+ * no depende del tamaño del archivo.
+ * </p>
+ *
+ * <p><strong>Archivos del directorio de un trabajo:</strong></p>
+ * <ul>
+ *   <li>{@code entrada.ndjson} o {@code entrada.csv}: archivo recibido</li>
+ *   <li>{@code parte-NNNNNN.ndjson} y {@code parte-NNNNNN.totales.json}: resultado y
+ *       totales de cada parte; la parte cuenta como terminada cuando existe su
+ *       archivo de totales</li>
+ *   <li>{@code parte-NNNNNN.diario}: número de registros del diario de
+ *       liquidaciones al empezar la parte</li>
+ *   <li>{@code resultado.ndjson} y {@code totales.json}: resultado final, unión de
+ *       las partes en orden con los totales al final</li>
+ *   <li>{@code error.txt}: causa de un trabajo fallido</li>
+ * </ul>
+ *
+ * <p>
+ * Cada archivo se escribe con un nombre temporal, se sincroniza con el disco y se
+ * renombra de forma atómica. Al iniciar, el servicio recorre el directorio: los
+ * trabajos sin resultado se vuelven a encolar y solo se liquidan las partes sin
+ * archivo de totales.
+ * </p>
+ *
+ * <p>
+ * Una parte interrumpida a medias ya notificó parte de sus filas, y el
+ * {@link DiarioLiquidaciones} las registró. Al liquidarla de nuevo se buscan sus
+ * filas con usuario entre los registros anexados desde que empezó, en el orden de
+ * la parte. Un registro corresponde a una fila si coinciden el trabajador, el
+ * ingreso, el nivel ARL, el porcentaje CCF y, si la fila lo indica, el periodo. Las
+ * filas que ya están en el diario se recalculan sin notificar, así que no se
+ * registran dos veces. Entre esos registros también hay liquidaciones de otras
+ * partes y del API; solo una liquidación idéntica en todos esos campos puede
+ * tomarse por una fila de la parte.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see TrabajoLiquidacionService
+ */
+@Service
+public class TrabajoLiquidacionServiceImpl implements TrabajoLiquidacionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrabajoLiquidacionServiceImpl.class);
+
+    static final String RESULTADO = "resultado.ndjson";
+    static final String TOTALES = "totales.json";
+    static final String ERROR = "error.txt";
+    private static final String TEMPORAL = ".tmp";
+
+    private final SlasService slas;
+    private final DiarioLiquidaciones diario;
+    private final ObjectMapper mapper;
+    private final ObjectReader lectorSolicitud;
+    private final ObjectReader lectorTotales;
+    private final Path directorio;
+    private final int tamanoParte;
+    private final int maximoPendientes;
+
+    /** Partes en proceso o en espera; el coordinador espera un permiso antes de enviar una parte. */
+    private final Semaphore partesEnVuelo;
+
+    /** Trabajos aceptados que aún no terminan. */
+    private final AtomicInteger pendientes = new AtomicInteger();
+
+    private final ExecutorService coordinador;
+    private final ExecutorService trabajadores;
+    private final Map<String, Trabajo> trabajos = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor con inyección de dependencias y configuración. Reanuda los trabajos
+     * que quedaron sin terminar.
+     *
+     * @param slas             servicio de liquidación de aportes
+     * @param diario           diario de liquidaciones, si está habilitado
+     * @param mapper           mapeador JSON configurado por Spring
+     * @param directorio       directorio de los trabajos
+     * @param hilos            hilos que liquidan partes (0 = procesadores disponibles)
+     * @param tamanoParte      filas por parte
+     * @param capacidadCola    partes leídas que pueden esperar un hilo libre
+     * @param maximoPendientes trabajos aceptados sin terminar antes de rechazar nuevos
+     * @throws UncheckedIOException si el directorio no se puede crear o recorrer
+     */
+    public TrabajoLiquidacionServiceImpl(SlasService slas, Optional<DiarioLiquidaciones> diario, ObjectMapper mapper,
+            @Value("${slas.trabajos.directorio:${slas.datos.directorio:data}/trabajos}") String directorio,
+            @Value("${slas.trabajos.hilos:0}") int hilos,
+            @Value("${slas.trabajos.tamano-parte:100000}") int tamanoParte,
+            @Value("${slas.trabajos.capacidad-cola:4}") int capacidadCola,
+            @Value("${slas.trabajos.maximo-pendientes:16}") int maximoPendientes) {
+        if (hilos < 0 || tamanoParte < 1 || capacidadCola < 0 || maximoPendientes < 1) {
+            throw new IllegalArgumentException("slas.trabajos.hilos y slas.trabajos.capacidad-cola deben ser >= 0, "
+                    + "slas.trabajos.tamano-parte y slas.trabajos.maximo-pendientes >= 1");
+        }
+        this.slas = slas;
+        this.diario = diario.orElse(null);
+        this.mapper = mapper;
+        this.lectorSolicitud = mapper.readerFor(LiquidacionRequest.class);
+        this.lectorTotales = mapper.readerFor(TotalesLiquidacionResponse.class);
+        this.directorio = Path.of(directorio);
+        this.tamanoParte = tamanoParte;
+        this.maximoPendientes = maximoPendientes;
+
+        int hilosEfectivos = hilos == 0 ? Runtime.getRuntime().availableProcessors() : hilos;
+        this.partesEnVuelo = new Semaphore(hilosEfectivos + capacidadCola);
+        this.coordinador = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("slas-trabajos").daemon().factory());
+        this.trabajadores = Executors.newFixedThreadPool(hilosEfectivos,
+                Thread.ofPlatform().name("slas-trabajos-", 0).daemon().factory());
+        try {
+            Files.createDirectories(this.directorio);
+            reanudar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el directorio de trabajos " + directorio, e);
+        }
+    }
+
+    @Override
+    public TrabajoResponse enviar(InputStream entrada, FormatoTrabajo formato) throws IOException {
+        if (pendientes.incrementAndGet() > maximoPendientes) {
+            pendientes.decrementAndGet();
+            throw new servicioSaturadoException(MotivoSaturacion.TRABAJOS_SATURADOS);
+        }
+        Trabajo trabajo = new Trabajo(UUID.randomUUID().toString(), formato);
+        try {
+            Files.createDirectories(trabajo.carpeta);
+            Path temporal = trabajo.archivo(formato.getArchivo() + TEMPORAL);
+            try (OutputStream salida = Files.newOutputStream(temporal)) {
+                entrada.transferTo(salida);
+            }
+            Files.move(temporal, trabajo.entrada(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            pendientes.decrementAndGet();
+            throw e;
+        }
+        trabajos.put(trabajo.id, trabajo);
+        coordinador.execute(() -> ejecutar(trabajo));
+        log.info("Trabajo {} recibido ({} bytes)", trabajo.id, Files.size(trabajo.entrada()));
+        return trabajo.respuesta();
+    }
+
+    @Override
+    public Optional<TrabajoResponse> consultar(String id) {
+        return Optional.ofNullable(trabajos.get(id)).map(Trabajo::respuesta);
+    }
+
+    @Override
+    public Optional<Path> resultado(String id) {
+        Trabajo trabajo = trabajos.get(id);
+        return trabajo != null && trabajo.estado == EstadoTrabajo.COMPLETADO
+                ? Optional.of(trabajo.archivo(RESULTADO))
+                : Optional.empty();
+    }
+
+    /**
+     * Detiene los hilos al cerrar la aplicación. Las partes que no alcanzaron a
+     * escribirse se liquidan de nuevo al reanudar.
+     */
+    @PreDestroy
+    public void cerrar() {
+        coordinador.shutdownNow();
+        trabajadores.shutdownNow();
+    }
+
+    /**
+     * Registra los trabajos del directorio y vuelve a encolar los que no terminaron.
+     */
+    private void reanudar() throws IOException {
+        int reanudados = 0;
+        try (DirectoryStream<Path> carpetas = Files.newDirectoryStream(directorio, Files::isDirectory)) {
+            for (Path carpeta : carpetas) {
+                Trabajo trabajo = recuperar(carpeta);
+                if (trabajo == null) {
+                    log.warn("Se ignora {}: no tiene un archivo de entrada completo", carpeta);
+                    continue;
+                }
+                trabajos.put(trabajo.id, trabajo);
+                if (trabajo.estado == EstadoTrabajo.EN_COLA) {
+                    pendientes.incrementAndGet();
+                    coordinador.execute(() -> ejecutar(trabajo));
+                    reanudados++;
+                }
+            }
+        }
+        if (!trabajos.isEmpty()) {
+            log.info("{} trabajos registrados en {}, {} reanudados", trabajos.size(), directorio, reanudados);
+        }
+    }
+
+    private Trabajo recuperar(Path carpeta) throws IOException {
+        for (FormatoTrabajo formato : FormatoTrabajo.values()) {
+            Trabajo trabajo = new Trabajo(carpeta.getFileName().toString(), formato);
+            if (!Files.exists(trabajo.entrada())) {
+                continue;
+            }
+            if (Files.exists(trabajo.archivo(RESULTADO))) {
+                trabajo.completar(lectorTotales.readValue(trabajo.archivo(TOTALES).toFile()));
+                borrarPartes(trabajo);
+            } else if (Files.exists(trabajo.archivo(ERROR))) {
+                trabajo.fallar(Files.readString(trabajo.archivo(ERROR)));
+            }
+            return trabajo;
+        }
+        return null;
+    }
+
+    /**
+     * Lee el archivo de un trabajo, envía sus partes pendientes a los hilos y une el
+     * resultado. Corre en el hilo coordinador.
+     */
+    private void ejecutar(Trabajo trabajo) {
+        trabajo.iniciar();
+        List<Future<TotalesLiquidacionResponse>> partes = new ArrayList<>();
+        TotalesLiquidacionResponse totales = null;
+        Throwable causa = null;
+        try {
+            try (BufferedReader lector = Files.newBufferedReader(trabajo.entrada())) {
+                List<String> lineas = new ArrayList<>();
+                int filasParte = 0;
+                boolean omitirParte = parteCompleta(trabajo, 0);
+                boolean primeraLinea = true;
+                String linea;
+                while ((linea = lector.readLine()) != null) {
+                    if (linea.isBlank()) {
+                        continue;
+                    }
+                    // el encabezado CSV es opcional, como en el endpoint de flujo
+                    if (primeraLinea && trabajo.formato == FormatoTrabajo.CSV && linea.regionMatches(true, 0,
+                            LiquidacionStreamServiceImpl.ENCABEZADO_CSV_ENTRADA, 0, 15)) {
+                        primeraLinea = false;
+                        continue;
+                    }
+                    primeraLinea = false;
+                    if (!omitirParte) {
+                        lineas.add(linea);
+                    }
+                    if (++filasParte == tamanoParte) {
+                        partes.add(parte(trabajo, partes.size(), lineas, omitirParte));
+                        lineas = new ArrayList<>();
+                        filasParte = 0;
+                        omitirParte = parteCompleta(trabajo, partes.size());
+                    }
+                }
+                if (filasParte > 0) {
+                    partes.add(parte(trabajo, partes.size(), lineas, omitirParte));
+                }
+            }
+
+            AcumuladorTotales acumulador = new AcumuladorTotales();
+            for (Future<TotalesLiquidacionResponse> parte : partes) {
+                acumulador.sumar(parte.get());
+            }
+            TotalesLiquidacionResponse unidos = acumulador.totales();
+            unir(trabajo, partes.size(), unidos);
+            totales = unidos;
+        } catch (InterruptedException e) {
+            // apagado: el trabajo queda en disco y se reanuda al reiniciar
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException | RuntimeException e) {
+            causa = e instanceof ExecutionException ? e.getCause() : e;
+        } finally {
+            partes.forEach(parte -> parte.cancel(true));
+            pendientes.decrementAndGet();
+        }
+        // el cupo se libera antes de publicar el estado: quien ve el trabajo terminado puede enviar otro
+        if (totales != null) {
+            trabajo.completar(totales);
+            log.info("Trabajo {} completado: {} filas ({} con error) en {} partes", trabajo.id, totales.filas(),
+                    totales.filasConError(), partes.size());
+        } else if (causa != null) {
+            fallar(trabajo, causa);
+        }
+    }
+
+    /**
+     * Envía una parte a los hilos, o lee sus totales si ya estaba escrita. Espera un
+     * permiso de {@link #partesEnVuelo} antes de enviarla.
+     */
+    private Future<TotalesLiquidacionResponse> parte(Trabajo trabajo, int numero, List<String> lineas,
+            boolean completa) throws IOException, InterruptedException {
+        if (completa) {
+            TotalesLiquidacionResponse totales = lectorTotales.readValue(trabajo.totalesParte(numero).toFile());
+            trabajo.avanzar(totales, false);
+            return CompletableFuture.completedFuture(totales);
+        }
+        partesEnVuelo.acquire();
+        try {
+            return trabajadores.submit(() -> {
+                try {
+                    return liquidarParte(trabajo, numero, lineas);
+                } finally {
+                    partesEnVuelo.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            partesEnVuelo.release();
+            throw e;
+        }
+    }
+
+    private boolean parteCompleta(Trabajo trabajo, int numero) {
+        return Files.exists(trabajo.totalesParte(numero));
+    }
+
+    /**
+     * Liquida las filas de una parte y escribe su resultado y sus totales.
+     *
+     * @param trabajo trabajo al que pertenece la parte
+     * @param numero  número de la parte (base cero)
+     * @param lineas  líneas de la parte
+     * @return totales de la parte
+     */
+    private TotalesLiquidacionResponse liquidarParte(Trabajo trabajo, int numero, List<String> lineas)
+            throws IOException {
+        RegistrosPrevios previos = registrosPrevios(trabajo, numero);
+        AcumuladorTotales acumulador = new AcumuladorTotales();
+        int primerIndice = numero * tamanoParte;
+        Path temporal = trabajo.parte(numero).resolveSibling(trabajo.parte(numero).getFileName() + TEMPORAL);
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream salida = new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 16);
+            JsonGenerator generador = mapper.getFactory().createGenerator(salida);
+            generador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try (SequenceWriter escritor = mapper.writer().withRootValueSeparator("\n").writeValues(generador)) {
+                for (int i = 0; i < lineas.size(); i++) {
+                    escritor.write(liquidarFila(trabajo.formato, primerIndice + i, lineas.get(i), acumulador,
+                            previos));
+                }
+            }
+            salida.write('\n');
+            salida.flush();
+            canal.force(false);
+        }
+        Files.move(temporal, trabajo.parte(numero), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        TotalesLiquidacionResponse totales = acumulador.totales();
+        escribir(trabajo.totalesParte(numero), mapper.writeValueAsBytes(totales));
+        trabajo.avanzar(totales, true);
+        return totales;
+    }
+
+    /**
+     * Anota cuántos registros tiene el diario al empezar una parte, o, si la parte ya
+     * se había empezado, lee los registros anexados desde entonces.
+     */
+    private RegistrosPrevios registrosPrevios(Trabajo trabajo, int numero) throws IOException {
+        if (diario == null) {
+            return RegistrosPrevios.NINGUNO;
+        }
+        Path marca = trabajo.diarioParte(numero);
+        int registros = diario.registros();
+        if (!Files.exists(marca)) {
+            escribir(marca, Integer.toString(registros).getBytes(StandardCharsets.US_ASCII));
+            return RegistrosPrevios.NINGUNO;
+        }
+        int desde = Math.min(Integer.parseInt(Files.readString(marca).trim()), registros);
+        return RegistrosPrevios.leer(diario.bloque(desde, registros));
+    }
+
+    private ResultadoLoteResponse liquidarFila(FormatoTrabajo formato, int indice, String linea,
+            AcumuladorTotales acumulador, RegistrosPrevios previos) {
+        LiquidacionRequest request;
+        try {
+            request = formato == FormatoTrabajo.CSV
+                    ? LiquidacionStreamServiceImpl.leerSolicitudCsv(linea)
+                    : lectorSolicitud.readValue(linea);
+        } catch (JsonProcessingException e) {
+            acumulador.registrarError();
+            return ResultadoLoteResponse.fallido(indice, "JSON inválido: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            acumulador.registrarError();
+            return ResultadoLoteResponse.fallido(indice, "CSV inválido: " + e.getMessage());
+        }
+        ResultadoLoteResponse resultado = slas.calculoSlasFila(indice, request, !previos.registrada(request));
+        if (resultado.liquidacion() != null) {
+            acumulador.sumar(resultado.liquidacion());
+        } else {
+            acumulador.registrarError();
+        }
+        return resultado;
+    }
+
+    /**
+     * Une las partes en el archivo de resultado, agrega la línea de totales y borra
+     * las partes.
+     */
+    private void unir(Trabajo trabajo, int partes, TotalesLiquidacionResponse totales) throws IOException {
+        Path temporal = trabajo.archivo(RESULTADO + TEMPORAL);
+        try (FileChannel destino = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int numero = 0; numero < partes; numero++) {
+                try (FileChannel origen = FileChannel.open(trabajo.parte(numero), StandardOpenOption.READ)) {
+                    long tamano = origen.size();
+                    for (long posicion = 0; posicion < tamano; ) {
+                        posicion += origen.transferTo(posicion, tamano - posicion, destino);
+                    }
+                }
+            }
+            byte[] linea = mapper.writeValueAsBytes(Map.of("totales", totales));
+            destino.write(ByteBuffer.wrap(linea));
+            destino.write(ByteBuffer.wrap(new byte[] { '\n' }));
+            destino.force(false);
+        }
+        escribir(trabajo.archivo(TOTALES), mapper.writeValueAsBytes(totales));
+        Files.move(temporal, trabajo.archivo(RESULTADO), StandardCopyOption.ATOMIC_MOVE);
+        borrarPartes(trabajo);
+    }
+
+    private void fallar(Trabajo trabajo, Throwable causa) {
+        String error = causa.getClass().getSimpleName() + ": " + causa.getMessage();
+        log.error("Trabajo {} fallido", trabajo.id, causa);
+        try {
+            escribir(trabajo.archivo(ERROR), error.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("No se pudo registrar el error del trabajo {}", trabajo.id, e);
+        }
+        trabajo.fallar(error);
+    }
+
+    /**
+     * Escribe un archivo completo con un nombre temporal, lo sincroniza y lo renombra.
+     */
+    private static void escribir(Path destino, byte[] datos) throws IOException {
+        Path temporal = destino.resolveSibling(destino.getFileName() + TEMPORAL);
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(datos);
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        }
+        Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void borrarPartes(Trabajo trabajo) throws IOException {
+        try (DirectoryStream<Path> partes = Files.newDirectoryStream(trabajo.carpeta, "parte-*")) {
+            for (Path parte : partes) {
+                Files.deleteIfExists(parte);
+            }
+        }
+    }
+
+    /**
+     * Registros del diario anexados desde que empezó una parte interrumpida, por
+     * trabajador, ingreso, nivel ARL y porcentaje CCF. Las filas de la parte se
+     * notificaron en orden, así que una fila cuenta como registrada si hay un
+     * registro suyo, del periodo de la fila, después del de la última fila
+     * encontrada. Una fila sin periodo se liquidó con el mes en curso, que pudo
+     * cambiar durante la parte, así que acepta cualquier periodo.
+     */
+    private static final class RegistrosPrevios {
+
+        static final RegistrosPrevios NINGUNO = new RegistrosPrevios(null, Map.of());
+
+        private final BloqueDiario bloque;
+        private final Map<String, ArrayDeque<Integer>> posiciones;
+        private int siguiente;
+
+        private RegistrosPrevios(BloqueDiario bloque, Map<String, ArrayDeque<Integer>> posiciones) {
+            this.bloque = bloque;
+            this.posiciones = posiciones;
+        }
+
+        static RegistrosPrevios leer(BloqueDiario bloque) {
+            Map<String, ArrayDeque<Integer>> posiciones = new HashMap<>();
+            for (int i = 0; i < bloque.tamano(); i++) {
+                posiciones.computeIfAbsent(
+                        clave(bloque.usuario(i), bloque.ingreso(i), bloque.nivelArl(i), bloque.porcentajeCcf(i)),
+                        c -> new ArrayDeque<>()).addLast(i);
+            }
+            return new RegistrosPrevios(bloque, posiciones);
+        }
+
+        /**
+         * Indica si la solicitud ya está en el diario y, en ese caso, consume su registro.
+         */
+        boolean registrada(LiquidacionRequest request) {
+            if (posiciones.isEmpty() || request.getUsuario() == null) {
+                return false;
+            }
+            int nivel = Boolean.TRUE.equals(request.getAporteARL()) && request.getNivelRiesgo() != null
+                    ? MotorCalculoExacto.codigoNivel(request.getNivelRiesgo())
+                    : MotorCalculoExacto.SIN_ARL;
+            double ccf = Boolean.TRUE.equals(request.getAportaCCF()) && request.getPorcentajeCCF() != null
+                    ? request.getPorcentajeCCF()
+                    : 0;
+            ArrayDeque<Integer> candidatos = posiciones.get(
+                    clave(request.getUsuario(), request.getIngresosMensual(), nivel, ccf));
+            if (candidatos == null) {
+                return false;
+            }
+            YearMonth periodo = request.getPeriodo();
+            int codigoPeriodo = periodo == null ? 0 : periodo.getYear() * 100 + periodo.getMonthValue();
+            for (Iterator<Integer> it = candidatos.iterator(); it.hasNext();) {
+                int posicion = it.next();
+                if (posicion < siguiente) {
+                    it.remove();
+                } else if (periodo == null || bloque.periodo(posicion) == codigoPeriodo) {
+                    it.remove();
+                    siguiente = posicion + 1;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String clave(Usuario usuario, Double ingreso, int nivelArl, double porcentajeCcf) {
+            return usuario.getTipoDocumento() + ":" + usuario.getNumeroDocumento() + ":" + ingreso + ":" + nivelArl
+                    + ":" + porcentajeCcf;
+        }
+    }
+
+    /**
+     * Estado en memoria de un trabajo. El avance se acumula con {@link LongAdder}
+     * porque lo actualizan varios hilos a la vez.
+     */
+    private final class Trabajo {
+
+        private final String id;
+        private final FormatoTrabajo formato;
+        private final Path carpeta;
+        private final LongAdder filas = new LongAdder();
+        private final LongAdder filasConError = new LongAdder();
+        private final LongAdder filasCalculadas = new LongAdder();
+        private final AtomicInteger partesCompletas = new AtomicInteger();
+        private volatile EstadoTrabajo estado = EstadoTrabajo.EN_COLA;
+        private volatile long inicio;
+        private volatile long fin;
+        private volatile TotalesLiquidacionResponse totales;
+        private volatile String error;
+
+        Trabajo(String id, FormatoTrabajo formato) {
+            this.id = id;
+            this.formato = formato;
+            this.carpeta = directorio.resolve(id);
+        }
+
+        Path archivo(String nombre) {
+            return carpeta.resolve(nombre);
+        }
+
+        Path entrada() {
+            return archivo(formato.getArchivo());
+        }
+
+        Path parte(int numero) {
+            return archivo(String.format("parte-%06d.ndjson", numero));
+        }
+
+        Path totalesParte(int numero) {
+            return archivo(String.format("parte-%06d.totales.json", numero));
+        }
+
+        Path diarioParte(int numero) {
+            return archivo(String.format("parte-%06d.diario", numero));
+        }
+
+        void iniciar() {
+            inicio = System.nanoTime();
+            estado = EstadoTrabajo.EN_PROCESO;
+        }
+
+        /**
+         * Suma el avance de una parte terminada.
+         *
+         * @param parcial   totales de la parte
+         * @param calculada {@code true} si se calculó en esta ejecución (cuenta para las filas por segundo)
+         */
+        void avanzar(TotalesLiquidacionResponse parcial, boolean calculada) {
+            filas.add(parcial.filas());
+            filasConError.add(parcial.filasConError());
+            if (calculada) {
+                filasCalculadas.add(parcial.filas());
+            }
+            partesCompletas.incrementAndGet();
+        }
+
+        void completar(TotalesLiquidacionResponse totales) {
+            this.totales = totales;
+            this.fin = System.nanoTime();
+            this.estado = EstadoTrabajo.COMPLETADO;
+        }
+
+        void fallar(String error) {
+            this.error = error;
+            this.fin = System.nanoTime();
+            this.estado = EstadoTrabajo.FALLIDO;
+        }
+
+        TrabajoResponse respuesta() {
+            EstadoTrabajo actual = estado;
+            TotalesLiquidacionResponse completos = totales;
+            long filasProcesadas = completos != null ? completos.filas() : filas.sum();
+            long conError = completos != null ? completos.filasConError() : filasConError.sum();
+            double segundos = inicio == 0 ? 0
+                    : ((actual == EstadoTrabajo.EN_PROCESO ? System.nanoTime() : fin) - inicio) / 1e9;
+            double filasPorSegundo = segundos > 0 ? filasCalculadas.sum() / segundos : 0;
+            return new TrabajoResponse(id, formato, actual, filasProcesadas, conError, filasPorSegundo,
+                    partesCompletas.get(), completos, error);
+        }
+    }
+}
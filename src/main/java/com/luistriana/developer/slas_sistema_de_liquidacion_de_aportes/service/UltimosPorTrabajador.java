@@ -0,0 +1,132 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.Arrays;
+
+/**
+ * Último número de registro de cada trabajador de un periodo, sobre arreglos
+ * primitivos.
+ * <p>
+ * La clave de un trabajador es su tipo de documento y los 16 bytes ASCII de su
+ * número de documento, guardados como dos {@code long}. Se resuelve con una tabla
+ * hash de direccionamiento abierto (sondeo lineal, capacidad potencia de dos,
+ * factor de carga de 1/2), como en {@link AgrupacionTrabajadores}, pero sin crear
+ * una cadena por registro: no hay un objeto por trabajador ni valores encajados, y
+ * la tabla solo existe mientras se recorre el periodo.
+ * </p>
+ *
+ * <p>
+ * No es seguro para uso concurrente.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ * @see PilaServiceImpl
+ */
+final class UltimosPorTrabajador {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /** Índice denso + 1 de cada ranura; 0 indica ranura vacía. */
+    private int[] tabla = new int[CAPACIDAD_INICIAL * 2];
+
+    private long[] altos = new long[CAPACIDAD_INICIAL];
+    private long[] bajos = new long[CAPACIDAD_INICIAL];
+    private byte[] tipos = new byte[CAPACIDAD_INICIAL];
+    private int[] hashes = new int[CAPACIDAD_INICIAL];
+    private int[] numeros = new int[CAPACIDAD_INICIAL];
+    private int trabajadores;
+
+    /**
+     * Registra un número de registro del trabajador; reemplaza al anterior.
+     *
+     * @param tipo      ordinal del tipo de documento
+     * @param documento número de documento en ASCII
+     * @param longitud  bytes válidos de {@code documento} (a lo sumo 16)
+     * @param numero    número de registro en el diario
+     */
+    void registrar(int tipo, byte[] documento, int longitud, int numero) {
+        long alto = empaquetar(documento, 0, longitud);
+        long bajo = empaquetar(documento, Long.BYTES, longitud);
+        int hash = dispersar((Long.hashCode(alto) * 31 + Long.hashCode(bajo)) * 31 + tipo);
+        int mascara = tabla.length - 1;
+        int ranura = hash & mascara;
+        int ocupante;
+        while ((ocupante = tabla[ranura]) != 0) {
+            int trabajador = ocupante - 1;
+            if (hashes[trabajador] == hash && altos[trabajador] == alto && bajos[trabajador] == bajo
+                    && tipos[trabajador] == tipo) {
+                numeros[trabajador] = numero;
+                return;
+            }
+            ranura = (ranura + 1) & mascara;
+        }
+
+        if (trabajadores == numeros.length) {
+            crecer();
+        }
+        int trabajador = trabajadores++;
+        altos[trabajador] = alto;
+        bajos[trabajador] = bajo;
+        tipos[trabajador] = (byte) tipo;
+        hashes[trabajador] = hash;
+        numeros[trabajador] = numero;
+        if (trabajadores * 2 > tabla.length) {
+            redimensionarTabla();
+        } else {
+            tabla[ranura] = trabajador + 1;
+        }
+    }
+
+    /**
+     * Obtiene el último número de registro de cada trabajador.
+     *
+     * @return números de registro ordenados de menor a mayor
+     */
+    int[] ultimos() {
+        int[] ultimos = Arrays.copyOf(numeros, trabajadores);
+        Arrays.sort(ultimos);
+        return ultimos;
+    }
+
+    /** Lee 8 bytes del documento desde {@code desde}; las posiciones después de {@code longitud} valen cero. */
+    private static long empaquetar(byte[] documento, int desde, int longitud) {
+        long valor = 0;
+        for (int i = desde; i < desde + Long.BYTES; i++) {
+            valor = valor << 8 | (i < longitud ? documento[i] & 0xFF : 0);
+        }
+        return valor;
+    }
+
+    private void crecer() {
+        int capacidad = numeros.length * 2;
+        altos = Arrays.copyOf(altos, capacidad);
+        bajos = Arrays.copyOf(bajos, capacidad);
+        tipos = Arrays.copyOf(tipos, capacidad);
+        hashes = Arrays.copyOf(hashes, capacidad);
+        numeros = Arrays.copyOf(numeros, capacidad);
+    }
+
+    /**
+     * Duplica la tabla y vuelve a ubicar a todos los trabajadores con los hash
+     * guardados.
+     */
+    private void redimensionarTabla() {
+        int[] nueva = new int[tabla.length * 2];
+        int mascara = nueva.length - 1;
+        for (int trabajador = 0; trabajador < trabajadores; trabajador++) {
+            int ranura = hashes[trabajador] & mascara;
+            while (nueva[ranura] != 0) {
+                ranura = (ranura + 1) & mascara;
+            }
+            nueva[ranura] = trabajador + 1;
+        }
+        tabla = nueva;
+    }
+
+    /** Mezcla los bits altos del hash para que el sondeo lineal con máscara no agrupe claves. */
+    private static int dispersar(int hash) {
+        int mezclado = hash * 0x9E3779B9;
+        return mezclado ^ (mezclado >>> 16);
+    }
+}
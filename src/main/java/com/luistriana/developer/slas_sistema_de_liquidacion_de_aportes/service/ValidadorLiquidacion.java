@@ -0,0 +1,108 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+/**
+ * Reglas de consistencia de una {@link LiquidacionRequest}.
+ * <p>
+ * Se comparten entre {@link SlasServiceImpl} y {@link SlasServiceConCache}: la
+ * caché debe validar la solicitud antes de construir su clave, de modo que una
+ * solicitud inválida nunca se resuelva con un resultado almacenado. El resultado
+ * es un {@link ResultadoValidacion}; quien valida decide si lanza una excepción
+ * (endpoint individual) o reporta la fila como fallida (lotes y flujos).
+ * </p>
+ *
+ * <p>
+ * Esta clase no está diseñada para ser instanciada.
+ * </p>
+ *
+ * @author Luis Miguel Triana Rueda
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ValidadorLiquidacion {
+
+    /**
+     * Constructor privado para prevenir la instanciación.
+     *
+     * @throws UnsupportedOperationException si se intenta instanciar
+     */
+    private ValidadorLiquidacion() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Valida la consistencia y coherencia de los datos de entrada.
+     * <p>
+     * Realiza las siguientes validaciones en una sola pasada y reporta todas las
+     * que fallen:
+     * </p>
+     * <ul>
+     *   <li>Los campos obligatorios deben estar presentes</li>
+     *   <li>El ingreso debe ser mayor a cero</li>
+     *   <li>Si aporta a CCF, debe especificar porcentaje (0.6 o 2.0)</li>
+     *   <li>Si no aporta a CCF, no debe enviar porcentaje</li>
+     *   <li>El porcentaje CCF debe ser exactamente 0.6 o 2.0</li>
+     *   <li>Si aporta a ARL, debe especificar nivel de riesgo</li>
+     *   <li>Si no aporta a ARL, no debe enviar nivel de riesgo</li>
+     *   <li>Si envía usuario, debe tener tipo y número de documento válidos</li>
+     * </ul>
+     *
+     * <p>
+     * No lanza excepciones ni asigna memoria cuando la solicitud es válida.
+     * </p>
+     *
+     * @param request objeto con los datos a validar
+     * @return {@link ResultadoValidacion#VALIDO} o el resultado con todas las violaciones
+     */
+    static ResultadoValidacion validar(LiquidacionRequest request) {
+        if (request == null) {
+            return ResultadoValidacion.de(MotivoRechazo.CAMPOS_OBLIGATORIOS);
+        }
+        Double ingreso = request.getIngresosMensual();
+        Boolean aporteArl = request.getAporteARL();
+        Boolean aportaCcf = request.getAportaCCF();
+        Double porcentajeCcf = request.getPorcentajeCCF();
+        boolean conNivel = request.getNivelRiesgo() != null;
+        int motivos = 0;
+
+        // validaciones de campos obligatorios (el lote no pasa por @Valid)
+        if (ingreso == null || aporteArl == null || aportaCcf == null) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.CAMPOS_OBLIGATORIOS);
+        }
+
+        // Validación de ingreso
+        if (ingreso != null && !(ingreso > 0)) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.INGRESO_NO_POSITIVO);
+        }
+
+        // Validación CCF: con aporte exige porcentaje 0.6 o 2.0; sin aporte no admite porcentaje
+        if (aportaCcf != null) {
+            if (aportaCcf && porcentajeCcf == null) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_SIN_PORCENTAJE);
+            } else if (!aportaCcf && porcentajeCcf != null) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_SIN_APORTE);
+            } else if (aportaCcf && porcentajeCcf != 0.6 && porcentajeCcf != 2.0) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.CCF_PORCENTAJE_INVALIDO);
+            }
+        }
+
+        // Validación ARL: con aporte exige nivel; sin aporte no admite nivel
+        if (aporteArl != null) {
+            if (aporteArl && !conNivel) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.ARL_SIN_NIVEL);
+            } else if (!aporteArl && conNivel) {
+                motivos |= ResultadoValidacion.bit(MotivoRechazo.ARL_NIVEL_SIN_APORTE);
+            }
+        }
+
+        // Validación del usuario (opcional): identificación completa para el historial
+        if (request.getUsuario() != null && !request.getUsuario().esIdentificacionValida()) {
+            motivos |= ResultadoValidacion.bit(MotivoRechazo.USUARIO_INVALIDO);
+        }
+
+        return ResultadoValidacion.de(motivos);
+    }
+}
@@ -1,11 +1,26 @@
 package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 @SpringBootTest
 class SlasSistemaDeLiquidacionDeAportesApplicationTests {
 
+	@TempDir
+	static Path datos;
+
+	// el diario se habilita para cargar también sus beans, con los archivos fuera del árbol de trabajo
+	@DynamicPropertySource
+	static void directorioDeDatos(DynamicPropertyRegistry registro) {
+		registro.add("slas.datos.directorio", datos::toString);
+		registro.add("slas.diario.habilitado", () -> "true");
+	}
+
 	@Test
 	void contextLoads() {
 	}
@@ -0,0 +1,112 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.controller.SlasLiquidacionController;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ErrorSaturacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LiquidacionAgregadaServiceImpl;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LiquidacionStreamServiceImpl;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LoteColumnarServiceImpl;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.LoteParaleloExecutor;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.MetricasLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.RegistroParametros;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.SlasServiceImpl;
+
+class ManejadorExcepcionesTests {
+
+	private final MockMvc mvc;
+
+	ManejadorExcepcionesTests() {
+		SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of());
+		SlasLiquidacionController controller = new SlasLiquidacionController(service,
+				new LiquidacionStreamServiceImpl(service, new ObjectMapper()), new LoteParaleloExecutor(service, 1, 2048),
+				new LiquidacionAgregadaServiceImpl(service, new ObjectMapper(), RelojConfig.relojPredeterminado()),
+				new LoteColumnarServiceImpl(RegistroParametros.predeterminado(), MetricasLiquidacion.sinRegistro(), 0, 1 << 24, 1_000, true),
+				Optional.empty());
+		mvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new ManejadorExcepciones()).build();
+	}
+
+	@Test
+	void datosInvalidosRespondenBadRequestCompacto() throws Exception {
+		mvc.perform(post("/api/slas/cotizacion")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ingresosMensual\": -1, \"aporteARL\": true, \"aportaCCF\": false}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.motivos[0]").value("INGRESO_NO_POSITIVO"))
+				.andExpect(jsonPath("$.motivos[1]").value("ARL_SIN_NIVEL"))
+				.andExpect(jsonPath("$.mensaje").exists());
+	}
+
+	@Test
+	void cuerpoMalFormadoRespondeBadRequest() throws Exception {
+		mvc.perform(post("/api/slas/cotizacion")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ingresosMensual\": "))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.motivos[0]").value("DATOS_INVALIDOS"))
+				.andExpect(jsonPath("$.mensaje").value(startsWith("JSON inválido: ")))
+				.andExpect(jsonPath("$.mensaje").value(containsString("(línea 1, columna ")));
+	}
+
+	@Test
+	void valorInvalidoDeUnCampoIndicaSuRuta() throws Exception {
+		mvc.perform(post("/api/slas/cotizacion")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ingresosMensual\": 3000000, \"aporteARL\": true, \"aportaCCF\": false,\n"
+						+ " \"nivelRiesgo\": \"NIVEL_IX\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.motivos[0]").value("DATOS_INVALIDOS"))
+				.andExpect(jsonPath("$.mensaje").value(containsString("NIVEL_IX")))
+				.andExpect(jsonPath("$.mensaje").value(containsString(" en nivelRiesgo (línea 2, columna ")));
+	}
+
+	@Test
+	void trabajosSaturadosRespondenServiceUnavailable() {
+		ResponseEntity<ErrorSaturacionResponse> respuesta = new ManejadorExcepciones()
+				.servicioSaturado(new servicioSaturadoException(MotivoSaturacion.TRABAJOS_SATURADOS));
+
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, respuesta.getStatusCode());
+		assertEquals("30", respuesta.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertEquals(List.of(MotivoSaturacion.TRABAJOS_SATURADOS), respuesta.getBody().motivos());
+	}
+
+	@Test
+	void loteColumnarFueraDeFormatoRespondeBadRequest() throws Exception {
+		mvc.perform(post("/api/slas/cotizacion/lote")
+				.contentType(FormatoColumnar.MEDIA_TYPE)
+				.accept(FormatoColumnar.MEDIA_TYPE)
+				.content(new byte[] { 1, 2, 3 }))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.motivos[0]").value("FORMATO_COLUMNAR_INVALIDO"));
+	}
+
+	@Test
+	void loteColumnarConDemasiadasFilasRespondePayloadTooLarge() throws Exception {
+		mvc.perform(post("/api/slas/cotizacion/lote")
+				.contentType(FormatoColumnar.MEDIA_TYPE)
+				.accept(FormatoColumnar.MEDIA_TYPE)
+				.content(FormatoColumnar.codificarSolicitud(new double[1_001], new byte[1_001], new byte[1_001], null)))
+				.andExpect(status().isPayloadTooLarge())
+				.andExpect(jsonPath("$.motivos[0]").value("LOTE_DEMASIADO_GRANDE"));
+	}
+}
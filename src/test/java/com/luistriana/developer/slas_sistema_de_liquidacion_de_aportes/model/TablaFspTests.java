@@ -0,0 +1,53 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+
+class TablaFspTests {
+
+	private static final double SMMLV = ConstantesSeguridadSocial.SMMLV;
+
+	private final TablaFsp tabla = new TablaFsp(SMMLV);
+
+	@Test
+	void rangoCoincideConObtenerRangoEnLosLimites() {
+		for (AportesFondoSolidarioPensionesFSP rango : AportesFondoSolidarioPensionesFSP.values()) {
+			double limite = rango.getLimiteSuperiorSmmlv() * SMMLV;
+			if (Double.isInfinite(limite)) {
+				continue;
+			}
+			for (double ibc : new double[] { limite - 1, limite, limite + 1 }) {
+				assertSame(AportesFondoSolidarioPensionesFSP.ObtenerRango(ibc / SMMLV), tabla.rango(ibc), "ibc " + ibc);
+			}
+		}
+	}
+
+	@Test
+	void rangoCoincideConObtenerRangoEnIbcAleatorios() {
+		SplittableRandom aleatorio = new SplittableRandom(3);
+		for (int i = 0; i < 100_000; i++) {
+			double ibc = Math.round(aleatorio.nextDouble(SMMLV, 25 * SMMLV));
+			assertSame(AportesFondoSolidarioPensionesFSP.ObtenerRango(ibc / SMMLV), tabla.rango(ibc), "ibc " + ibc);
+		}
+	}
+
+	@Test
+	void cadaAnioTieneSuPropiaTabla() {
+		ParametrosAnuales anio2025 = new ParametrosAnuales(2025, 1_423_500, 1_423_500, 35_587_500, 0.40, 0.125, 0.16);
+		ParametrosAnuales anio2026 = ParametrosAnuales.desdeConstantes();
+
+		assertEquals(1_423_500, anio2025.getTablaFsp().getSmmlv());
+		assertEquals(SMMLV, anio2026.getTablaFsp().getSmmlv());
+		// 20 SMMLV de 2025 están por debajo de 16 SMMLV de 2026
+		assertSame(AportesFondoSolidarioPensionesFSP.ObtenerRango(20), anio2025.getTablaFsp().rango(20 * 1_423_500.0));
+		assertSame(AportesFondoSolidarioPensionesFSP.ObtenerRango(20 * 1_423_500.0 / SMMLV),
+				anio2026.getTablaFsp().rango(20 * 1_423_500.0));
+	}
+
+}
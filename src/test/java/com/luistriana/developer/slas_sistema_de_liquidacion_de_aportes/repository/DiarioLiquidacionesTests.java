@@ -0,0 +1,162 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RegistroLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.MetricasLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.RegistroParametros;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service.SlasServiceImpl;
+
+class DiarioLiquidacionesTests {
+
+	private static final YearMonth MARZO = YearMonth.of(2026, 3);
+
+	@TempDir
+	Path directorio;
+
+	private DiarioLiquidaciones diario;
+
+	@AfterEach
+	void cerrar() {
+		if (diario != null) {
+			diario.cerrar();
+		}
+	}
+
+	@Test
+	void consultaPorPeriodoYTrabajadorSinRecalcular() {
+		diario = abrir();
+		LiquidacionRequest request = solicitud("1020304050", MARZO);
+		LiquidacionResponse liquidacion = new LiquidacionResponse(3_200_000, 400_000, 512_000, 32_000, 33_408,
+				0, 977_408);
+
+		assertEquals(0, diario.registrar(request, 2026, liquidacion).join());
+		diario.registrar(solicitud("99", MARZO.plusMonths(1)), 2026, liquidacion).join();
+
+		List<RegistroLiquidacion> marzo = diario.porPeriodo(MARZO);
+		assertEquals(1, marzo.size());
+		RegistroLiquidacion registro = marzo.get(0);
+		assertEquals(liquidacion, registro.liquidacion());
+		assertEquals(2026, registro.anioParametros());
+		assertEquals(MARZO, registro.solicitud().getPeriodo());
+		assertEquals(8_000_000.0, registro.solicitud().getIngresosMensual());
+		assertEquals(RiesgoLaboralARL.NIVEL_II, registro.solicitud().getNivelRiesgo());
+		assertEquals(2.0, registro.solicitud().getPorcentajeCCF());
+		assertEquals(new Usuario(TipoDocumento.CC, "1020304050"), registro.solicitud().getUsuario());
+
+		assertEquals(1, diario.porTrabajador(TipoDocumento.CC, "99").size());
+		assertTrue(diario.porTrabajador(TipoDocumento.CE, "99").isEmpty());
+	}
+
+	@Test
+	void registraSoloLiquidacionesConUsuario() {
+		diario = abrir();
+		SlasServiceImpl servicio = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(diario));
+
+		LiquidacionRequest anonima = solicitud("1", MARZO);
+		anonima.setUsuario(null);
+		servicio.calculoSlas(anonima);
+		LiquidacionResponse calculada = servicio.calculoSlas(solicitud("1", MARZO));
+		diario.cerrar();
+
+		diario = abrir();
+		assertEquals(1, diario.registros());
+		assertEquals(calculada, diario.porTrabajador(TipoDocumento.CC, "1").get(0).liquidacion());
+	}
+
+	@Test
+	void reabrirReconstruyeElIndice() {
+		diario = abrir();
+		List<CompletableFuture<Integer>> confirmados = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			confirmados.add(diario.registrar(solicitud("T" + (i % 7), MARZO.plusMonths(i % 3)), 2026,
+					new LiquidacionResponse(i, 0, 0, 0, 0, 0, i)));
+		}
+		confirmados.forEach(CompletableFuture::join);
+		assertTrue(diario.grupos() <= 500);
+		diario.cerrar();
+
+		diario = abrir();
+		assertEquals(500, diario.registros());
+		assertEquals(167, diario.porPeriodo(MARZO).size());
+		List<RegistroLiquidacion> trabajador = diario.porTrabajador(TipoDocumento.CC, "T3");
+		assertEquals(71, trabajador.size());
+		assertEquals(3.0, trabajador.get(0).liquidacion().total());
+		assertEquals(10.0, trabajador.get(1).liquidacion().total());
+	}
+
+	@Test
+	void truncaElGrupoEscritoAMedias() throws IOException {
+		diario = abrir();
+		for (int i = 0; i < 3; i++) {
+			diario.registrar(solicitud("1", MARZO), 2026, new LiquidacionResponse(i, 0, 0, 0, 0, 0, i)).join();
+		}
+		diario.cerrar();
+
+		// un registro completo con un byte alterado y un registro cortado a la mitad
+		Path archivo = directorio.resolve("liquidaciones.diario");
+		byte[] datos = Files.readAllBytes(archivo);
+		byte[] alterado = new byte[FormatoDiario.TAMANO_REGISTRO + FormatoDiario.TAMANO_REGISTRO / 2];
+		System.arraycopy(datos, 0, alterado, 0, FormatoDiario.TAMANO_REGISTRO);
+		alterado[40] ^= 1;
+		Files.write(archivo, alterado, StandardOpenOption.APPEND);
+
+		diario = abrir();
+		assertEquals(3, diario.registros());
+		assertEquals(3L * FormatoDiario.TAMANO_REGISTRO, Files.size(archivo));
+
+		assertEquals(3, diario.registrar(solicitud("1", MARZO), 2026,
+				new LiquidacionResponse(3, 0, 0, 0, 0, 0, 3)).join());
+		assertEquals(4, diario.porPeriodo(MARZO).size());
+	}
+
+	@Test
+	void sinPeriodoRegistraElMesEnCursoDeLaZonaDelReloj() {
+		// 1 de abril a las 3:00 UTC: todavía es 31 de marzo en Bogotá
+		ZoneId bogota = ZoneId.of("America/Bogota");
+		Clock reloj = Clock.fixed(ZonedDateTime.of(2026, 3, 31, 22, 0, 0, 0, bogota).toInstant(), bogota);
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64,
+				Duration.ofSeconds(5), reloj);
+
+		diario.registrar(solicitud("1", null), 2026, new LiquidacionResponse(1, 0, 0, 0, 0, 0, 1)).join();
+
+		RegistroLiquidacion registro = diario.porTrabajador(TipoDocumento.CC, "1").get(0);
+		assertEquals(MARZO, registro.solicitud().getPeriodo());
+		assertEquals(reloj.millis(), registro.registrado().toEpochMilli());
+	}
+
+	private DiarioLiquidaciones abrir() {
+		return new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+	}
+
+	private static LiquidacionRequest solicitud(String documento, YearMonth periodo) {
+		LiquidacionRequest request = new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_II,
+				2.0, periodo);
+		request.setUsuario(new Usuario(TipoDocumento.CC, documento));
+		return request;
+	}
+}
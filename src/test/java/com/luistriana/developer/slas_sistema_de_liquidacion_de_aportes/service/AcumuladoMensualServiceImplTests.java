@@ -0,0 +1,125 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.AcumuladoMensualResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+class AcumuladoMensualServiceImplTests {
+
+	private static final ZoneId BOGOTA = ZoneId.of("America/Bogota");
+
+	/** Reloj que solo avanza cuando la prueba lo indica. */
+	private static final class RelojManual extends Clock {
+
+		private volatile Instant instante;
+
+		RelojManual(Instant instante) {
+			this.instante = instante;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return BOGOTA;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instante;
+		}
+	}
+
+	private final RelojManual reloj = new RelojManual(
+			ZonedDateTime.of(2026, 3, 31, 23, 0, 0, 0, BOGOTA).toInstant());
+
+	private final AcumuladoMensualServiceImpl acumulado = new AcumuladoMensualServiceImpl(reloj);
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of(acumulado));
+
+	@Test
+	void losRegistrosConcurrentesSumanLoMismoQueLasLiquidaciones() throws Exception {
+		ExecutorService hilos = Executors.newFixedThreadPool(8);
+		List<Future<LiquidacionResponse>> resultados = new ArrayList<>();
+		try {
+			for (int i = 0; i < 2_000; i++) {
+				LiquidacionRequest request = solicitud(i);
+				resultados.add(hilos.submit(() -> slas.calculoSlas(request)));
+			}
+			long salud = 0;
+			long arlNivelIii = 0;
+			long ccfDos = 0;
+			long total = 0;
+			for (int i = 0; i < resultados.size(); i++) {
+				LiquidacionResponse liquidacion = resultados.get(i).get();
+				LiquidacionRequest request = solicitud(i);
+				salud += (long) liquidacion.salud();
+				total += (long) liquidacion.total();
+				if (request.getNivelRiesgo() == RiesgoLaboralARL.NIVEL_III) {
+					arlNivelIii += (long) liquidacion.arl();
+				}
+				if (request.getAportaCCF() && request.getPorcentajeCCF() == 2.0) {
+					ccfDos += (long) liquidacion.ccf();
+				}
+			}
+
+			AcumuladoMensualResponse mes = acumulado.mesEnCurso();
+
+			assertEquals(YearMonth.of(2026, 3), mes.mes());
+			assertEquals(2_000, mes.liquidaciones());
+			assertEquals(salud, mes.salud());
+			assertEquals(total, mes.total());
+			assertEquals(arlNivelIii, mes.arlPorNivel().get(2).total());
+			assertEquals(1_000 / 5, mes.arlPorNivel().get(2).liquidaciones());
+			assertEquals(ccfDos, mes.ccfPorTarifa().get(1).total());
+			assertEquals(mes.arl(), mes.arlPorNivel().stream().mapToLong(n -> n.total()).sum());
+		} finally {
+			hilos.shutdown();
+		}
+	}
+
+	@Test
+	void alCambiarDeMesEmpiezaDeCeroYConservaElMesCerrado() {
+		slas.calculoSlas(solicitud(0));
+		slas.calculoSlas(solicitud(1));
+		assertNull(acumulado.mesAnterior());
+
+		reloj.instante = ZonedDateTime.of(2026, 4, 1, 0, 0, 0, 0, BOGOTA).toInstant();
+		slas.calculoSlas(solicitud(2));
+
+		AcumuladoMensualResponse abril = acumulado.mesEnCurso();
+		AcumuladoMensualResponse marzo = acumulado.mesAnterior();
+		assertEquals(YearMonth.of(2026, 4), abril.mes());
+		assertEquals(1, abril.liquidaciones());
+		assertEquals(YearMonth.of(2026, 3), marzo.mes());
+		assertEquals(2, marzo.liquidaciones());
+	}
+
+	private static LiquidacionRequest solicitud(int i) {
+		boolean arl = i % 2 == 0;
+		boolean ccf = i % 3 != 0;
+		return new LiquidacionRequest(1_500_000.0 + i * 13_579, arl, ccf,
+				arl ? RiesgoLaboralARL.values()[i / 2 % 5] : null, ccf ? (i % 3 == 1 ? 0.6 : 2.0) : null);
+	}
+}
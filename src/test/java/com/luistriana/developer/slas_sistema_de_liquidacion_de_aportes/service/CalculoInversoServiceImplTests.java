@@ -0,0 +1,147 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ObjetivoCalculoInverso;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.CalculoInversoRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CalculoInversoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+class CalculoInversoServiceImplTests {
+
+	private final RegistroParametros registro = RegistroParametros.predeterminado();
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+
+	private final CalculoInversoServiceImpl inverso = new CalculoInversoServiceImpl(registro,
+			MetricasLiquidacion.sinRegistro());
+
+	@Test
+	void netoObjetivoDevuelveElMenorIngresoQueLoAlcanza() {
+		for (double neto : new double[] { 2_000_000, 6_000_000, 15_000_000, 60_000_000, 200_000_000 }) {
+			CalculoInversoResponse respuesta = inverso.resolver(new CalculoInversoRequest(ObjetivoCalculoInverso.NETO,
+					neto, true, true, RiesgoLaboralARL.NIVEL_II, 2.0, YearMonth.of(2026, 5)));
+
+			double ingreso = respuesta.ingresosMensual();
+			assertEquals(liquidar(ingreso), respuesta.liquidacion());
+			assertTrue(ingreso - liquidar(ingreso).total() >= neto, "neto " + neto);
+			for (int d = 1; d <= 2_000; d++) {
+				assertTrue(ingreso - d - liquidar(ingreso - d).total() < neto, "neto " + neto + " ingreso " + (ingreso - d));
+			}
+			assertTrue(respuesta.evaluaciones() < 1_000);
+		}
+	}
+
+	@Test
+	void netoJustoAntesDeUnRangoFspSeResuelveEnElTramoAnterior() {
+		// a partir del primer IBC sobre 16 SMMLV el FSP sube de 1 % a 1,2 % sobre todo el IBC
+		ParametrosAnuales anuales = registro.buscar(YearMonth.of(2026, 5));
+		CalculoInversoServiceImpl.Evaluador evaluador = new CalculoInversoServiceImpl.Evaluador(anuales,
+				MotorCalculoExacto.SIN_ARL, 0);
+		long inicio = evaluador.iniciosDeTramo(evaluador.ingresoTope())[1];
+		long netoAntes = inicio - 1 - evaluador.total(inicio - 1);
+		assertTrue(inicio - evaluador.total(inicio) < netoAntes);
+
+		CalculoInversoResponse respuesta = inverso.resolver(new CalculoInversoRequest(ObjetivoCalculoInverso.NETO,
+				(double) netoAntes, false, false, null, null, YearMonth.of(2026, 5)));
+
+		assertTrue(respuesta.ingresosMensual() < inicio);
+		assertTrue(respuesta.neto() >= netoAntes);
+	}
+
+	@Test
+	void totalObjetivoCoincideConBusquedaExhaustivaEnParametrosReducidos() {
+		// con un SMMLV de 1.000 pesos todo el rango del tope cabe en una búsqueda exhaustiva
+		ParametrosAnuales reducidos = new ParametrosAnuales(2026, 1_000, 1_000, 25_000, 0.40, 0.125, 0.16);
+		CalculoInversoServiceImpl.Evaluador evaluador = new CalculoInversoServiceImpl.Evaluador(reducidos,
+				MotorCalculoExacto.codigoNivel(RiesgoLaboralARL.NIVEL_V), MotorCalculoExacto.tarifaPorcentual(0.6));
+		long tope = evaluador.ingresoTope();
+		long[] totales = new long[(int) tope + 1];
+		for (int x = 1; x <= tope; x++) {
+			totales[x] = evaluador.total(x);
+		}
+
+		for (long objetivo = totales[1]; objetivo <= totales[(int) tope]; objetivo += 7) {
+			long esperado = 1;
+			while (totales[(int) esperado] < objetivo) {
+				esperado++;
+			}
+			assertEquals(esperado, CalculoInversoServiceImpl.resolverTotal(evaluador, objetivo), "total " + objetivo);
+		}
+		assertEquals(-1, CalculoInversoServiceImpl.resolverTotal(evaluador, totales[(int) tope] + 1));
+	}
+
+	@Test
+	void netoObjetivoCoincideConBusquedaExhaustivaEnParametrosReducidos() {
+		ParametrosAnuales reducidos = new ParametrosAnuales(2026, 1_000, 1_000, 25_000, 0.40, 0.125, 0.16);
+		CalculoInversoServiceImpl.Evaluador evaluador = new CalculoInversoServiceImpl.Evaluador(reducidos,
+				MotorCalculoExacto.codigoNivel(RiesgoLaboralARL.NIVEL_III), 0);
+		int limite = (int) evaluador.ingresoTope() + 5_000;
+		long[] netos = new long[limite + 1];
+		for (int x = 1; x <= limite; x++) {
+			netos[x] = x - evaluador.total(x);
+		}
+
+		for (long objetivo = netos[1]; objetivo <= netos[limite]; objetivo += 3) {
+			long esperado = 1;
+			while (netos[(int) esperado] < objetivo) {
+				esperado++;
+			}
+			assertEquals(esperado, CalculoInversoServiceImpl.resolverNeto(evaluador, objetivo), "neto " + objetivo);
+		}
+	}
+
+	@Test
+	void rechazaObjetivoFaltanteEInalcanzable() {
+		datosInvalidosException sinObjetivo = assertThrows(datosInvalidosException.class, () -> inverso.resolver(
+				new CalculoInversoRequest(null, 1_000_000.0, false, false, null, null, null)));
+		assertEquals(List.of(MotivoRechazo.OBJETIVO_INVALIDO), sinObjetivo.getValidacion().getMotivos());
+
+		datosInvalidosException inalcanzable = assertThrows(datosInvalidosException.class, () -> inverso.resolver(
+				new CalculoInversoRequest(ObjetivoCalculoInverso.TOTAL_APORTES, 1e12, false, false, null, null, null)));
+		assertEquals(List.of(MotivoRechazo.OBJETIVO_INALCANZABLE), inalcanzable.getValidacion().getMotivos());
+	}
+
+	@Test
+	void rechazaObjetivosNegativosOEnormes() {
+		for (ObjetivoCalculoInverso objetivo : ObjetivoCalculoInverso.values()) {
+			for (double valor : new double[] { -1, -1e30, 1e12 + 1, 1e17, 1e30, Double.NaN,
+					Double.POSITIVE_INFINITY }) {
+				datosInvalidosException rechazo = assertThrows(datosInvalidosException.class,
+						() -> inverso.resolver(new CalculoInversoRequest(objetivo, valor, false, false, null, null,
+								null)),
+						objetivo + " " + valor);
+				assertEquals(List.of(MotivoRechazo.OBJETIVO_INVALIDO), rechazo.getValidacion().getMotivos());
+			}
+		}
+	}
+
+	@Test
+	void netoEnElMaximoNoDesbordaYSeDespejaSobreElTope() {
+		double maximo = CalculoInversoServiceImpl.OBJETIVO_MAXIMO;
+
+		CalculoInversoResponse respuesta = inverso.resolver(new CalculoInversoRequest(ObjetivoCalculoInverso.NETO,
+				maximo, false, false, null, null, YearMonth.of(2026, 5)));
+
+		assertTrue(respuesta.neto() >= maximo);
+		assertEquals(respuesta.ingresosMensual() - respuesta.liquidacion().total(), respuesta.neto());
+		assertEquals(maximo, respuesta.neto());
+	}
+
+	private LiquidacionResponse liquidar(double ingreso) {
+		return slas.calculoSlas(new LiquidacionRequest(ingreso, true, true, RiesgoLaboralARL.NIVEL_II, 2.0,
+				YearMonth.of(2026, 5)));
+	}
+}
@@ -0,0 +1,152 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+class CoalescedorLiquidacionesTests {
+
+	private final SlasService slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of());
+
+	private final LoteParaleloExecutor ejecutor = new LoteParaleloExecutor(slas, 2, 2048);
+
+	private CoalescedorLiquidaciones coalescedor;
+
+	@AfterEach
+	void cerrar() {
+		coalescedor.close();
+		ejecutor.cerrar();
+	}
+
+	@Test
+	void lasSolicitudesConcurrentesObtienenElMismoResultadoQueLaLlamadaDirecta() throws Exception {
+		coalescedor = new CoalescedorLiquidaciones(slas, ejecutor, 64, Duration.ofMillis(5), 1024);
+		ExecutorService clientes = Executors.newFixedThreadPool(16);
+		try {
+			List<LiquidacionRequest> solicitudes = new ArrayList<>();
+			List<Future<LiquidacionResponse>> resultados = new ArrayList<>();
+			for (int i = 0; i < 400; i++) {
+				boolean arl = i % 2 == 0;
+				boolean ccf = i % 3 == 0;
+				LiquidacionRequest request = new LiquidacionRequest(1_000_000.0 + i * 97_531, arl, ccf,
+						arl ? RiesgoLaboralARL.values()[i % 5] : null, ccf ? 2.0 : null, null);
+				solicitudes.add(request);
+				resultados.add(clientes.submit(() -> coalescedor.liquidar(request)));
+			}
+			for (int i = 0; i < solicitudes.size(); i++) {
+				assertEquals(slas.calculoSlas(solicitudes.get(i)), resultados.get(i).get());
+			}
+		} finally {
+			clientes.shutdown();
+		}
+		assertEquals(400, coalescedor.solicitudes());
+		assertTrue(coalescedor.lotes() < coalescedor.solicitudes());
+	}
+
+	@Test
+	void unaSolicitudInvalidaRecibeSuRechazoSinAfectarAlLote() {
+		coalescedor = new CoalescedorLiquidaciones(slas, ejecutor, 64, Duration.ofMillis(1), 1024);
+
+		datosInvalidosException e = assertThrows(datosInvalidosException.class,
+				() -> coalescedor.liquidar(new LiquidacionRequest(-5.0, false, false, null, null, null)));
+
+		assertTrue(e.getValidacion().getMotivos().contains(MotivoRechazo.INGRESO_NO_POSITIVO));
+		assertEquals(slas.calculoSlas(new LiquidacionRequest(3_000_000.0, false, false, null, null, null)),
+				coalescedor.liquidar(new LiquidacionRequest(3_000_000.0, false, false, null, null, null)));
+	}
+
+	@Test
+	void unLoteLentoNoDetieneLosSiguientes() throws Exception {
+		CountDownLatch liberar = new CountDownLatch(1);
+		SlasService lento = new SlasServiceImpl(RegistroParametros.predeterminado(), MetricasLiquidacion.sinRegistro(),
+				List.of((request, parametros, liquidacion) -> {
+					if (request.getIngresosMensual() == 7_777_777.0) {
+						try {
+							liberar.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				}));
+		coalescedor = new CoalescedorLiquidaciones(lento, ejecutor, 64, Duration.ZERO, 1024);
+		ExecutorService clientes = Executors.newFixedThreadPool(2);
+		try {
+			Future<LiquidacionResponse> bloqueada = clientes.submit(() -> coalescedor
+					.liquidar(new LiquidacionRequest(7_777_777.0, false, false, null, null, null)));
+			while (coalescedor.solicitudes() == 0) {
+				Thread.sleep(1);
+			}
+
+			LiquidacionRequest request = new LiquidacionRequest(3_000_000.0, false, false, null, null, null);
+			assertEquals(slas.calculoSlas(request), clientes.submit(() -> coalescedor.liquidar(request))
+					.get(5, TimeUnit.SECONDS));
+
+			liberar.countDown();
+			assertEquals(slas.calculoSlas(new LiquidacionRequest(7_777_777.0, false, false, null, null, null)),
+					bloqueada.get(5, TimeUnit.SECONDS));
+		} finally {
+			liberar.countDown();
+			clientes.shutdown();
+		}
+	}
+
+	@Test
+	void despuesDeCerrarLiquidaDirectamente() {
+		coalescedor = new CoalescedorLiquidaciones(slas, ejecutor, 64, Duration.ZERO, 1024);
+		coalescedor.close();
+
+		LiquidacionRequest request = new LiquidacionRequest(3_000_000.0, false, false, null, null, null);
+
+		assertEquals(slas.calculoSlas(request), coalescedor.liquidar(request));
+		assertEquals(0, coalescedor.solicitudes());
+	}
+
+	@Test
+	void lasSolicitudesQueLleganDuranteElCierreNoQuedanEsperando() throws Exception {
+		LiquidacionRequest request = new LiquidacionRequest(3_000_000.0, false, false, null, null, null);
+		LiquidacionResponse esperada = slas.calculoSlas(request);
+		ExecutorService clientes = Executors.newFixedThreadPool(8);
+		try {
+			for (int vuelta = 0; vuelta < 20; vuelta++) {
+				CoalescedorLiquidaciones actual = new CoalescedorLiquidaciones(slas, ejecutor, 64, Duration.ZERO, 1024);
+				coalescedor = actual;
+				List<Future<LiquidacionResponse>> resultados = new ArrayList<>();
+				for (int i = 0; i < 400; i++) {
+					resultados.add(clientes.submit(() -> actual.liquidar(request)));
+				}
+				actual.close();
+				for (Future<LiquidacionResponse> resultado : resultados) {
+					assertEquals(esperada, resultado.get(5, TimeUnit.SECONDS));
+				}
+			}
+		} finally {
+			clientes.shutdown();
+		}
+	}
+
+	@Test
+	void rechazaConfiguracionInvalida() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new CoalescedorLiquidaciones(slas, ejecutor, 0, Duration.ZERO, 1024));
+		coalescedor = new CoalescedorLiquidaciones(slas, ejecutor, 1, Duration.ZERO, 1);
+	}
+}
@@ -0,0 +1,100 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.CurvaAportesResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.SerieCurvaResponse;
+
+class CurvaAportesServiceImplTests {
+
+	private static final YearMonth PERIODO = YearMonth.of(2026, 4);
+
+	private final RegistroParametros registro = RegistroParametros.predeterminado();
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final CurvaAportesServiceImpl curvas = new CurvaAportesServiceImpl(registro, mapper,
+			MetricasLiquidacion.sinRegistro(), 8L << 20);
+
+	@Test
+	void cadaSerieCoincideConLaLiquidacionDeCadaPunto() {
+		// cubre el piso, los rangos del FSP y el tope del IBC
+		CurvaAportesResponse curva = curvas.curva(100_000, 120_000_000, 1_234_567, PERIODO);
+
+		assertEquals(2026, curva.anio());
+		assertEquals(98, curva.ingresos().length);
+		assertEquals(18, curva.series().size());
+		for (SerieCurvaResponse serie : curva.series()) {
+			for (int i = 0; i < curva.ingresos().length; i++) {
+				LiquidacionResponse esperada = slas.calculoSlas(new LiquidacionRequest((double) curva.ingresos()[i],
+						serie.nivelRiesgo() != null, serie.porcentajeCCF() != null, serie.nivelRiesgo(),
+						serie.porcentajeCCF(), PERIODO));
+				assertEquals(esperada.ibc(), curva.ibc()[i]);
+				assertEquals(esperada.salud() + esperada.pension() + esperada.fsp(), curva.obligatorios()[i]);
+				assertEquals(esperada.total(), serie.total()[i], "ingreso " + curva.ingresos()[i]);
+			}
+		}
+	}
+
+	@Test
+	void laCurvaSerializadaSeReutilizaDesdeLaCache() throws Exception {
+		byte[] primera = curvas.curvaJson(1_000_000, 20_000_000, 50_000, PERIODO);
+
+		assertSame(primera, curvas.curvaJson(1_000_000, 20_000_000, 50_000, PERIODO));
+		CurvaAportesResponse leida = mapper.readValue(primera, CurvaAportesResponse.class);
+		CurvaAportesResponse calculada = curvas.curva(1_000_000, 20_000_000, 50_000, PERIODO);
+		assertArrayEquals(calculada.ingresos(), leida.ingresos());
+		assertArrayEquals(calculada.series().get(17).total(), leida.series().get(17).total());
+	}
+
+	@Test
+	void laCacheNoSuperaSuPresupuestoDeBytes() {
+		int tamano = curvas.curvaJson(1_000_000, 20_000_000, 50_000, PERIODO).length;
+		CurvaAportesServiceImpl pequena = new CurvaAportesServiceImpl(registro, mapper,
+				MetricasLiquidacion.sinRegistro(), tamano * 3L / 2);
+
+		pequena.curvaJson(1_000_000, 20_000_000, 50_000, PERIODO);
+		assertEquals(tamano, pequena.bytesEnCache());
+		// otra curva del mismo tamaño no cabe junto a la primera: queda una sola
+		pequena.curvaJson(2_000_000, 21_000_000, 50_000, PERIODO);
+
+		assertTrue(pequena.bytesEnCache() <= tamano * 3L / 2);
+		assertTrue(pequena.bytesEnCache() > 0);
+	}
+
+	@Test
+	void rechazaGrillasInvalidasOConDemasiadosPuntos() {
+		long[][] grillas = { { 0, 10, 1 }, { 10, 5, 1 }, { 1, 10, 0 }, { 1, 20_001, 1 },
+				{ 1, CurvaAportesServiceImpl.INGRESO_MAXIMO + 1, Long.MAX_VALUE } };
+		for (long[] grilla : grillas) {
+			datosInvalidosException error = assertThrows(datosInvalidosException.class,
+					() -> curvas.curvaJson(grilla[0], grilla[1], grilla[2], PERIODO));
+			assertEquals(List.of(MotivoRechazo.CURVA_INVALIDA), error.getValidacion().getMotivos());
+		}
+		assertEquals(20_000, curvas.curva(1, 20_000, 1, PERIODO).ingresos().length);
+	}
+
+	@Test
+	void rechazaPeriodosSinParametros() {
+		datosInvalidosException error = assertThrows(datosInvalidosException.class,
+				() -> curvas.curvaJson(1_000_000, 2_000_000, 1_000, YearMonth.of(1990, 1)));
+
+		assertEquals(List.of(MotivoRechazo.PERIODO_SIN_PARAMETROS), error.getValidacion().getMotivos());
+	}
+}
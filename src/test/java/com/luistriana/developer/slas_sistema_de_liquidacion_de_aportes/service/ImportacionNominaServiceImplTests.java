@@ -0,0 +1,169 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoNomina;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ImportacionNominaResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+class ImportacionNominaServiceImplTests {
+
+	@TempDir
+	Path directorio;
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of());
+
+	/** Bloques de 64 bytes: casi cada línea queda en un bloque distinto. */
+	private final ImportacionNominaServiceImpl importacion = new ImportacionNominaServiceImpl(
+			RegistroParametros.predeterminado(), MetricasLiquidacion.sinRegistro(), 4, 64);
+
+	@AfterEach
+	void cerrar() {
+		importacion.cerrar();
+	}
+
+	@Test
+	void csvCoincideConElEndpointDeFlujo() throws IOException {
+		String csv = csvDePrueba();
+
+		ImportacionNominaResponse importada = importacion.importar(archivo(csv), FormatoNomina.CSV, null);
+
+		TotalesLiquidacionResponse esperados = new LiquidacionStreamServiceImpl(slas, new ObjectMapper())
+				.procesarCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+						OutputStream.nullOutputStream());
+		assertEquals(esperados, importada.totales());
+		assertEquals(309, importada.totales().filas());
+		assertEquals(7, importada.totales().filasConError());
+		assertTrue(importada.bloques() > 100);
+	}
+
+	@Test
+	void losResultadosPorFilaCoincidenConElEndpointDeFlujo() throws IOException {
+		String csv = csvDePrueba();
+		Path resultados = directorio.resolve("resultados.csv");
+
+		ImportacionNominaResponse importada = importacion.importar(archivo(csv), FormatoNomina.CSV, null,
+				resultados);
+
+		ByteArrayOutputStream flujo = new ByteArrayOutputStream();
+		new LiquidacionStreamServiceImpl(slas, new ObjectMapper())
+				.procesarCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), flujo);
+		List<String> esperadas = flujo.toString(StandardCharsets.UTF_8).lines().toList();
+		List<String> obtenidas = Files.readAllLines(resultados, StandardCharsets.UTF_8);
+		assertEquals(esperadas.size(), obtenidas.size());
+		assertEquals(importada.totales().filas() + 2, obtenidas.size());
+		// el flujo describe las líneas ilegibles con el error del analizador; la importación, con su motivo
+		String ilegible = "\"" + ResultadoValidacion.de(MotivoRechazo.LINEA_ILEGIBLE).mensaje() + "\"";
+		for (int i = 0; i < esperadas.size(); i++) {
+			String esperada = esperadas.get(i);
+			int error = esperada.indexOf(",,,,,,,,\"CSV inválido");
+			if (error >= 0) {
+				esperada = esperada.substring(0, error + 8) + ilegible;
+			}
+			assertEquals(esperada, obtenidas.get(i), "línea " + i);
+		}
+		try (var archivos = Files.list(directorio)) {
+			assertFalse(archivos.anyMatch(archivo -> archivo.getFileName().toString().contains(".parte")));
+		}
+	}
+
+	private static String csvDePrueba() {
+		StringBuilder csv = new StringBuilder(ENCABEZADO);
+		for (int i = 0; i < 300; i++) {
+			boolean arl = i % 2 == 0;
+			boolean ccf = i % 3 != 0;
+			csv.append(1_000_000 + i * 123_457).append(i % 4 == 0 ? ".5" : "").append(',')
+					.append(arl ? "true" : "FALSE").append(',').append(ccf).append(',')
+					.append(arl ? RiesgoLaboralARL.values()[i % 5].name() : "").append(',')
+					.append(ccf ? (i % 3 == 1 ? " 0.6" : "2") : "").append(i % 7 == 0 ? "\r\n" : "\n");
+		}
+		csv.append("\n")
+				.append("-5,false,false,,\n")
+				.append("2500000,true,false,,\n")
+				.append("2500000,false,true,,1.0\n")
+				.append("2500000,false,false,NIVEL_IX,\n")
+				.append("2500000,false\n")
+				.append(",true,true,NIVEL_I,0.6\n")
+				.append("1.5e6,false,false,,\n")
+				.append("abc,false,false,,\n")
+				.append("3000000,false,false,,");
+		return csv.toString();
+	}
+
+	@Test
+	void anchoFijoCoincideConLaLiquidacionIndividual() throws IOException {
+		StringBuilder texto = new StringBuilder();
+		double salud = 0;
+		double total = 0;
+		for (int i = 0; i < 200; i++) {
+			long ingreso = 900_000 + i * 311_111L;
+			int nivel = i % 6;
+			String ccf = i % 3 == 0 ? "000" : i % 3 == 1 ? "006" : "020";
+			texto.append(String.format("%15d%d%s%s%n", ingreso, nivel, ccf, i % 2 == 0 ? "  CC123" : ""));
+			LiquidacionResponse liquidacion = slas.calculoSlas(new LiquidacionRequest((double) ingreso, nivel > 0,
+					i % 3 != 0, nivel > 0 ? RiesgoLaboralARL.values()[nivel - 1] : null,
+					i % 3 == 0 ? null : i % 3 == 1 ? 0.6 : 2.0, YearMonth.of(2026, 3)));
+			salud += liquidacion.salud();
+			total += liquidacion.total();
+		}
+		texto.append("000000001500000" + "7" + "000\n")
+				.append("000000001500000" + "0" + "010\n")
+				.append("000000001500000" + "0\n")
+				.append("              0" + "0" + "000\n");
+
+		ImportacionNominaResponse importada = importacion.importar(archivo(texto.toString()),
+				FormatoNomina.ANCHO_FIJO, YearMonth.of(2026, 3));
+
+		assertEquals(204, importada.totales().filas());
+		assertEquals(4, importada.totales().filasConError());
+		assertEquals(salud, importada.totales().salud());
+		assertEquals(total, importada.totales().total());
+	}
+
+	@Test
+	void unArchivoVacioNoTieneFilas() throws IOException {
+		ImportacionNominaResponse importada = importacion.importar(archivo(""), FormatoNomina.CSV, null);
+
+		assertEquals(0, importada.totales().filas());
+		assertEquals(0, importada.bytes());
+	}
+
+	@Test
+	void rechazaUnPeriodoSinParametros() {
+		assertThrows(datosInvalidosException.class,
+				() -> importacion.importar(archivo("1000000,false,false,,\n"), FormatoNomina.CSV,
+						YearMonth.of(1990, 1)));
+	}
+
+	private static final String ENCABEZADO = LiquidacionStreamServiceImpl.ENCABEZADO_CSV_ENTRADA + "\n";
+
+	private Path archivo(String contenido) throws IOException {
+		return Files.writeString(Files.createTempFile(directorio, "nomina", ".txt"), contenido,
+				StandardCharsets.US_ASCII);
+	}
+}
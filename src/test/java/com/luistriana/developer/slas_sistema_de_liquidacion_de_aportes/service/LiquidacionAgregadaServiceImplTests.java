@@ -0,0 +1,150 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+class LiquidacionAgregadaServiceImplTests {
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of());
+
+	private final LiquidacionAgregadaServiceImpl agregada = new LiquidacionAgregadaServiceImpl(slas, mapper,
+			RelojConfig.relojPredeterminado());
+
+	@Test
+	void aplicaElTopeUnaVezSobreElIngresoSumado() throws IOException {
+		String entrada = """
+				{"ingresosMensual": 60000000, "aporteARL": true, "nivelRiesgo": "NIVEL_I", "aportaCCF": false, "periodo": "2026-03", "usuario": {"tipoDocumento": "CC", "numeroDocumento": "123"}}
+				{"ingresosMensual": 70000000, "aporteARL": true, "nivelRiesgo": "NIVEL_IV", "aportaCCF": false, "periodo": "2026-03", "usuario": {"tipoDocumento": "CC", "numeroDocumento": "123"}}
+				""";
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		TotalesLiquidacionResponse totales = agregada.procesarNdjson(entrada(entrada), salida);
+
+		LiquidacionResponse esperada = slas.calculoSlas(new LiquidacionRequest(130_000_000.0, true, false,
+				RiesgoLaboralARL.NIVEL_IV, null, YearMonth.of(2026, 3)));
+		List<JsonNode> lineas = lineas(salida);
+		assertEquals(2, lineas.size());
+		JsonNode trabajador = lineas.get(0);
+		assertEquals("NIVEL_IV", trabajador.get("nivelRiesgo").asText());
+		assertEquals(esperada.ibc(), trabajador.get("liquidacion").get("ibc").asDouble());
+		assertEquals(esperada.total(), trabajador.get("liquidacion").get("total").asDouble());
+
+		JsonNode contratos = trabajador.get("contratos");
+		assertEquals(2, contratos.size());
+		assertEquals(0, contratos.get(0).get("indice").asInt());
+		assertEquals(1, contratos.get(1).get("indice").asInt());
+		for (String concepto : List.of("ibc", "salud", "pension", "fsp", "arl", "total")) {
+			assertEquals(trabajador.get("liquidacion").get(concepto).asDouble(),
+					contratos.get(0).get("liquidacion").get(concepto).asDouble()
+							+ contratos.get(1).get("liquidacion").get(concepto).asDouble(), 1e-6, concepto);
+		}
+		assertEquals(2, totales.filas());
+		assertEquals(esperada.total(), totales.total(), 1e-6);
+	}
+
+	@Test
+	void reportaContratosInvalidosYSinUsuario() throws IOException {
+		String entrada = """
+				{"ingresosMensual": 5000000, "aporteARL": false, "aportaCCF": false}
+				no es json
+				{"ingresosMensual": 5000000, "aporteARL": false, "aportaCCF": true, "porcentajeCCF": 2.0, "usuario": {"tipoDocumento": "CE", "numeroDocumento": "9"}}
+				""";
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		TotalesLiquidacionResponse totales = agregada.procesarNdjson(entrada(entrada), salida);
+
+		List<JsonNode> lineas = lineas(salida);
+		assertEquals(4, lineas.size());
+		assertEquals(0, lineas.get(0).get("indice").asInt());
+		assertTrue(lineas.get(0).get("error").asText().contains("usuario"));
+		assertEquals(1, lineas.get(1).get("indice").asInt());
+		assertEquals(2.0, lineas.get(2).get("porcentajeCCF").asDouble());
+		assertEquals(3, totales.filas());
+		assertEquals(2, totales.filasConError());
+	}
+
+	@Test
+	void agrupaMuchosTrabajadoresEnOrdenDeAparicion() throws IOException {
+		int trabajadores = 5_000;
+		StringBuilder entrada = new StringBuilder();
+		for (int contrato = 0; contrato < 3; contrato++) {
+			for (int t = 0; t < trabajadores; t++) {
+				entrada.append("{\"ingresosMensual\": ").append(2_000_000 + t * 1_000 + contrato * 500_000)
+						.append(", \"aporteARL\": false, \"aportaCCF\": false, \"periodo\": \"2026-01\"")
+						.append(", \"usuario\": {\"tipoDocumento\": \"CC\", \"numeroDocumento\": \"").append(t)
+						.append("\"}}\n");
+			}
+		}
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		TotalesLiquidacionResponse totales = agregada.procesarNdjson(entrada(entrada.toString()), salida);
+
+		List<JsonNode> lineas = lineas(salida);
+		assertEquals(trabajadores + 1, lineas.size());
+		double total = 0;
+		for (int t = 0; t < trabajadores; t++) {
+			JsonNode trabajador = lineas.get(t);
+			assertEquals(Integer.toString(t), trabajador.get("usuario").get("numeroDocumento").asText());
+			assertEquals(3 * (2_000_000 + t * 1_000) + 1_500_000, trabajador.get("ingresosMensual").asDouble());
+			assertEquals(t + 2 * trabajadores, trabajador.get("contratos").get(2).get("indice").asInt());
+			total += trabajador.get("liquidacion").get("total").asDouble();
+		}
+		assertEquals(3 * trabajadores, totales.filas());
+		assertEquals(total, totales.total(), 1e-3);
+	}
+
+	@Test
+	void repartirAsignaLosCentavosSobrantesPorResiduoMayor() {
+		LiquidacionResponse liquidacion = new LiquidacionResponse(1_000_000, 125_000, 160_000, 0, 5_220, 0,
+				290_220);
+
+		LiquidacionResponse[] partes = LiquidacionAgregadaServiceImpl.repartir(liquidacion, new double[] { 1, 1, 1 });
+
+		assertEquals(333_333.34, partes[0].ibc());
+		assertEquals(333_333.33, partes[1].ibc());
+		assertEquals(333_333.33, partes[2].ibc());
+		double ibc = 0;
+		double total = 0;
+		for (LiquidacionResponse parte : partes) {
+			ibc += parte.ibc();
+			total += parte.total();
+			assertEquals(parte.salud() + parte.pension() + parte.fsp() + parte.arl() + parte.ccf(), parte.total(),
+					1e-6);
+		}
+		assertEquals(1_000_000, ibc, 1e-6);
+		assertEquals(290_220, total, 1e-6);
+	}
+
+	private static ByteArrayInputStream entrada(String texto) {
+		return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private List<JsonNode> lineas(ByteArrayOutputStream salida) throws IOException {
+		return mapper.readerFor(JsonNode.class)
+				.<JsonNode>readValues(salida.toString(StandardCharsets.UTF_8))
+				.readAll();
+	}
+}
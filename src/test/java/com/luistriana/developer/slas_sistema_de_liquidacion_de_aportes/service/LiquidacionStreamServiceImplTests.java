@@ -0,0 +1,67 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+
+class LiquidacionStreamServiceImplTests {
+
+	private final LiquidacionStreamServiceImpl stream = new LiquidacionStreamServiceImpl(
+			new SlasServiceImpl(RegistroParametros.predeterminado(),
+					MetricasLiquidacion.sinRegistro(), List.of()),
+			new ObjectMapper());
+
+	@Test
+	void procesarNdjsonEscribeUnaLineaPorFilaYTotales() throws Exception {
+		String entrada = """
+				{"ingresosMensual": 8000000, "aporteARL": true, "nivelRiesgo": "NIVEL_III", "aportaCCF": true, "porcentajeCCF": 2.0}
+				{"ingresosMensual": 3000000, "aporteARL": true, "aportaCCF": false}
+				no es json
+
+				{"ingresosMensual": 8000000, "aporteARL": false, "aportaCCF": false}
+				""";
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		TotalesLiquidacionResponse totales = stream.procesarNdjson(
+				new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)), salida);
+
+		String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(5, lineas.length);
+		assertTrue(lineas[1].contains("\"error\""));
+		assertTrue(lineas[4].startsWith("{\"totales\""));
+		assertEquals(4, totales.filas());
+		assertEquals(2, totales.filasConError());
+		assertEquals(800_000, totales.salud());
+		assertEquals(1_053_952 + 912_000, totales.total());
+	}
+
+	@Test
+	void procesarCsvIgnoraEncabezadoYEmiteFilaTotal() throws Exception {
+		String entrada = """
+				ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF
+				8000000,true,true,NIVEL_III,2.0
+				3000000,false,true,,5.0
+				""";
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		TotalesLiquidacionResponse totales = stream.procesarCsv(
+				new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)), salida);
+
+		String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(LiquidacionStreamServiceImpl.ENCABEZADO_CSV_SALIDA, lineas[0]);
+		assertEquals("0,3200000,400000,512000,0,77952,64000,1053952,", lineas[1]);
+		assertTrue(lineas[2].startsWith("1,,,,,,,,\""));
+		assertTrue(lineas[3].startsWith("TOTAL,,400000,512000,0,77952,64000,1053952"));
+		assertEquals(1, totales.filasConError());
+	}
+
+}
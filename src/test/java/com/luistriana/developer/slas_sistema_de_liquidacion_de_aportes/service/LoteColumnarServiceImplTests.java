@@ -0,0 +1,250 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoColumnar;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosFueraDelHeap;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+
+class LoteColumnarServiceImplTests {
+
+	private static final YearMonth PERIODO = YearMonth.of(2026, 2);
+
+	private final RegistroParametros registro = RegistroParametros.predeterminado();
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of());
+
+	private final LoteColumnarServiceImpl columnar = new LoteColumnarServiceImpl(registro,
+			MetricasLiquidacion.sinRegistro(), 1 << 24, 1 << 28, 1_000_000, true);
+
+	private final LoteColumnarServiceImpl escalar = new LoteColumnarServiceImpl(registro,
+			MetricasLiquidacion.sinRegistro(), 1 << 24, 1 << 28, 1_000_000, false);
+
+	@Test
+	void cadaFilaCoincideConLaLiquidacionJson() {
+		RiesgoLaboralARL[] riesgos = RiesgoLaboralARL.values();
+		int filas = 3_000;
+		double[] ingresos = new double[filas];
+		byte[] niveles = new byte[filas];
+		byte[] ccf = new byte[filas];
+		for (int i = 0; i < filas; i++) {
+			ingresos[i] = 700_000 + i * 37_123.45;
+			niveles[i] = (byte) (i % (riesgos.length + 1));
+			ccf[i] = (byte) (i % FormatoColumnar.codigosCcf());
+		}
+
+		ByteBuffer resultado = resultado(columnar.liquidar(ByteBuffer.wrap(
+				FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, PERIODO))));
+
+		assertEquals(FormatoColumnar.MAGIA_RESULTADO, resultado.getInt(0));
+		assertEquals(filas, resultado.getInt(4));
+		assertEquals(2026, resultado.getInt(8));
+		for (int i = 0; i < filas; i++) {
+			RiesgoLaboralARL riesgo = niveles[i] == 0 ? null : riesgos[niveles[i] - 1];
+			Double porcentaje = ccf[i] == 0 ? null : FormatoColumnar.porcentajeCcf(ccf[i]);
+			LiquidacionResponse esperada = slas.calculoSlas(new LiquidacionRequest(ingresos[i], riesgo != null,
+					porcentaje != null, riesgo, porcentaje, PERIODO));
+			assertEquals(esperada, fila(resultado, filas, i), "fila " + i);
+			assertEquals(0, motivos(resultado, filas, i));
+		}
+	}
+
+	@Test
+	void lasFilasInvalidasSeMarcanSinAfectarAlResto() {
+		double[] ingresos = { 5_000_000, -1, 5_000_000, 5_000_000 };
+		byte[] niveles = { 1, 0, 9, 0 };
+		byte[] ccf = { 0, 0, 3, 2 };
+
+		ByteBuffer resultado = resultado(columnar.liquidar(ByteBuffer.wrap(
+				FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, null))));
+
+		assertEquals(0, motivos(resultado, 4, 0));
+		assertEquals(List.of(MotivoRechazo.INGRESO_NO_POSITIVO),
+				ResultadoValidacion.de(motivos(resultado, 4, 1)).getMotivos());
+		assertEquals(List.of(MotivoRechazo.CCF_PORCENTAJE_INVALIDO, MotivoRechazo.ARL_NIVEL_INVALIDO),
+				ResultadoValidacion.de(motivos(resultado, 4, 2)).getMotivos());
+		assertEquals(0.0, fila(resultado, 4, 2).total());
+		assertEquals(0, motivos(resultado, 4, 3));
+		assertEquals(2_000_000.0, fila(resultado, 4, 3).ibc());
+	}
+
+	@Test
+	void elNucleoVectorialDaLosMismosBytesQueElCicloEscalar() {
+		int filas = 10_000;
+		double[] ingresos = new double[filas];
+		byte[] niveles = new byte[filas];
+		byte[] ccf = new byte[filas];
+		for (int i = 0; i < filas; i++) {
+			ingresos[i] = i % 89 == 0 ? 0 : 400_000 + i * 9_876.54;
+			niveles[i] = (byte) (i % 131 == 0 ? -1 : i % 6);
+			ccf[i] = (byte) (i % FormatoColumnar.codigosCcf());
+		}
+		byte[] cuerpo = FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, PERIODO);
+
+		assertArrayEquals(escalar.liquidar(ByteBuffer.wrap(cuerpo)), columnar.liquidar(ByteBuffer.wrap(cuerpo)));
+	}
+
+	@Test
+	void rechazaCuerposFueraDeFormato() {
+		byte[] valida = FormatoColumnar.codificarSolicitud(new double[] { 1_000_000 }, new byte[1], new byte[1], null);
+		byte[] truncada = Arrays.copyOf(valida, valida.length - 1);
+		byte[] sinMagia = valida.clone();
+		sinMagia[0] = 0;
+		byte[] mesInvalido = valida.clone();
+		ByteBuffer.wrap(mesInvalido).order(FormatoColumnar.ORDEN).putInt(8, 202613);
+
+		for (byte[] cuerpo : new byte[][] { new byte[3], truncada, sinMagia, mesInvalido }) {
+			datosInvalidosException error = assertThrows(datosInvalidosException.class,
+					() -> columnar.liquidar(ByteBuffer.wrap(cuerpo)));
+			assertEquals(List.of(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO), error.getValidacion().getMotivos());
+		}
+	}
+
+	@Test
+	void elLoteLeidoDeUnFlujoQuedaFueraDelHeapConLosMismosBytes() throws IOException {
+		int filas = 10_000;
+		double[] ingresos = new double[filas];
+		byte[] niveles = new byte[filas];
+		byte[] ccf = new byte[filas];
+		for (int i = 0; i < filas; i++) {
+			ingresos[i] = i % 97 == 0 ? -i : 650_000 + i * 4_321.07;
+			niveles[i] = (byte) (i % 7);
+			ccf[i] = (byte) (i % FormatoColumnar.codigosCcf());
+		}
+		byte[] cuerpo = FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, PERIODO);
+
+		ResultadosFueraDelHeap resultados = columnar.liquidar(new ByteArrayInputStream(cuerpo));
+		ByteArrayOutputStream transferido = new ByteArrayOutputStream();
+		resultados.transferirA(Channels.newChannel(transferido));
+
+		byte[] esperado = columnar.liquidar(ByteBuffer.wrap(cuerpo));
+		assertEquals(filas, resultados.filas());
+		assertEquals(esperado.length, resultados.tamanoColumnar());
+		assertArrayEquals(esperado, transferido.toByteArray());
+		ByteBuffer resultado = resultado(esperado);
+		for (int i = 0; i < filas; i++) {
+			assertEquals(fila(resultado, filas, i), resultados.aResponse(i), "fila " + i);
+			assertEquals(motivos(resultado, filas, i), resultados.motivos(i));
+		}
+	}
+
+	@Test
+	void lasColumnasReutilizadasNoArrastranValoresDelLoteAnterior() throws IOException {
+		int filas = 1_000;
+		double[] ingresos = new double[filas];
+		Arrays.fill(ingresos, 3_000_000);
+		byte[] niveles = new byte[filas];
+		Arrays.fill(niveles, (byte) 1);
+		byte[] ccf = new byte[filas];
+		columnar.liquidar(new ByteArrayInputStream(FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, null)))
+				.close();
+
+		Arrays.fill(ingresos, -1);
+		try (ResultadosFueraDelHeap rechazados = columnar.liquidar(
+				new ByteArrayInputStream(FormatoColumnar.codificarSolicitud(ingresos, niveles, ccf, null)))) {
+			for (int i = 0; i < filas; i++) {
+				assertEquals(new LiquidacionResponse(0, 0, 0, 0, 0, 0, 0), rechazados.aResponse(i), "fila " + i);
+				assertEquals(ResultadoValidacion.bit(MotivoRechazo.INGRESO_NO_POSITIVO), rechazados.motivos(i));
+			}
+		}
+	}
+
+	@Test
+	void rechazaFlujosTruncadosOConBytesDeSobra() {
+		byte[] valida = FormatoColumnar.codificarSolicitud(new double[] { 1_000_000, 2_000_000 }, new byte[2],
+				new byte[2], null);
+		byte[] grande = FormatoColumnar.codificarSolicitud(new double[] { 1_000_000 }, new byte[1], new byte[1], null);
+		ByteBuffer.wrap(grande).order(FormatoColumnar.ORDEN).putInt(4, Integer.MAX_VALUE);
+
+		for (byte[] cuerpo : new byte[][] { new byte[7], Arrays.copyOf(valida, valida.length - 1),
+				Arrays.copyOf(valida, valida.length + 1), grande }) {
+			datosInvalidosException error = assertThrows(datosInvalidosException.class,
+					() -> columnar.liquidar(new ByteArrayInputStream(cuerpo)));
+			assertEquals(List.of(MotivoRechazo.FORMATO_COLUMNAR_INVALIDO), error.getValidacion().getMotivos());
+		}
+	}
+
+	@Test
+	void rechazaLotesConMasFilasQueElMaximoAntesDeLeerlos() {
+		LoteColumnarServiceImpl limitado = new LoteColumnarServiceImpl(registro, MetricasLiquidacion.sinRegistro(),
+				0, 1 << 20, 100, true);
+		byte[] cuerpo = FormatoColumnar.codificarSolicitud(new double[101], new byte[101], new byte[101], null);
+
+		datosInvalidosException error = assertThrows(datosInvalidosException.class,
+				() -> limitado.liquidar(new ByteArrayInputStream(Arrays.copyOf(cuerpo, FormatoColumnar.ENCABEZADO))));
+
+		assertEquals(List.of(MotivoRechazo.LOTE_DEMASIADO_GRANDE), error.getValidacion().getMotivos());
+	}
+
+	@Test
+	void rechazaLotesQueNoCabenEnLaMemoriaDirectaHastaQueSeLibere() throws IOException {
+		// 1.000 filas: solicitud de 16 KB y resultado de 64 KB; caben las de un solo lote
+		LoteColumnarServiceImpl limitado = new LoteColumnarServiceImpl(registro, MetricasLiquidacion.sinRegistro(),
+				0, 80 * 1024, 1_000, true);
+		double[] ingresos = new double[1_000];
+		Arrays.fill(ingresos, 2_000_000);
+		byte[] cuerpo = FormatoColumnar.codificarSolicitud(ingresos, new byte[1_000], new byte[1_000], null);
+
+		ResultadosFueraDelHeap primero = limitado.liquidar(new ByteArrayInputStream(cuerpo));
+		LiquidacionResponse esperada = primero.aResponse(999);
+		servicioSaturadoException error = assertThrows(servicioSaturadoException.class,
+				() -> limitado.liquidar(new ByteArrayInputStream(cuerpo)));
+		assertEquals(MotivoSaturacion.MEMORIA_SATURADA, error.getMotivo());
+
+		primero.close();
+		try (ResultadosFueraDelHeap segundo = limitado.liquidar(new ByteArrayInputStream(cuerpo))) {
+			assertEquals(esperada, segundo.aResponse(999));
+		}
+	}
+
+	@Test
+	void rechazaPeriodosSinParametros() {
+		byte[] cuerpo = FormatoColumnar.codificarSolicitud(new double[] { 1_000_000 }, new byte[1], new byte[1],
+				YearMonth.of(1990, 1));
+
+		datosInvalidosException error = assertThrows(datosInvalidosException.class,
+				() -> columnar.liquidar(ByteBuffer.wrap(cuerpo)));
+
+		assertEquals(List.of(MotivoRechazo.PERIODO_SIN_PARAMETROS), error.getValidacion().getMotivos());
+	}
+
+	private static ByteBuffer resultado(byte[] bytes) {
+		assertEquals(FormatoColumnar.tamanoResultado(ByteBuffer.wrap(bytes).order(FormatoColumnar.ORDEN).getInt(4)),
+				bytes.length);
+		return ByteBuffer.wrap(bytes).order(FormatoColumnar.ORDEN);
+	}
+
+	private static LiquidacionResponse fila(ByteBuffer resultado, int filas, int i) {
+		double[] valores = new double[FormatoColumnar.COLUMNAS_RESULTADO];
+		for (int c = 0; c < valores.length; c++) {
+			valores[c] = resultado.getLong(FormatoColumnar.ENCABEZADO + Long.BYTES * (c * filas + i));
+		}
+		return new LiquidacionResponse(valores[0], valores[1], valores[2], valores[3], valores[4], valores[5],
+				valores[6]);
+	}
+
+	private static int motivos(ByteBuffer resultado, int filas, int i) {
+		return resultado.getInt(FormatoColumnar.ENCABEZADO
+				+ Long.BYTES * FormatoColumnar.COLUMNAS_RESULTADO * filas + Integer.BYTES * i);
+	}
+}
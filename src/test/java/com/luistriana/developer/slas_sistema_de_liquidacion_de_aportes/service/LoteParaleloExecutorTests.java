@@ -0,0 +1,41 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoEjecucionLote;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+class LoteParaleloExecutorTests {
+
+	@Test
+	void ejecutarConservaOrdenYCoincideConLoteSecuencial() {
+		SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of());
+		LoteParaleloExecutor executor = new LoteParaleloExecutor(service, 4, 16);
+		List<LiquidacionRequest> lote = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			// cada 7 filas se envía un ingreso inválido
+			double ingreso = i % 7 == 0 ? -1 : 1_000_000.0 + i * 97_531;
+			lote.add(new LiquidacionRequest(ingreso, false, false, null, null));
+		}
+
+		try {
+			ResultadoEjecucionLote ejecucion = executor.ejecutar(lote);
+			List<ResultadoLoteResponse> secuencial = service.calculoSlasLote(lote);
+
+			assertEquals(secuencial, ejecucion.resultados());
+			assertEquals(4, ejecucion.paralelismo());
+			assertNotNull(ejecucion.resultados().get(7).error());
+		} finally {
+			executor.cerrar();
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MetricasLiquidacionTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			new MetricasLiquidacion(registry), List.of());
+
+	@Test
+	void calculoSlasRegistraTiemposNivelArlYRangoFsp() {
+		service.calculoSlas(new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0));
+		service.calculoSlas(new LiquidacionRequest(50_000_000.0, false, false, null, null));
+
+		assertEquals(2, registry.get("slas.validacion").timer().count());
+		assertEquals(2, registry.get("slas.calculo").timer().count());
+		assertEquals(1, registry.get("slas.liquidaciones.arl").tag("nivel", "NIVEL_III").functionCounter().count());
+		assertEquals(1, registry.get("slas.liquidaciones.arl").tag("nivel", "SIN_ARL").functionCounter().count());
+		assertEquals(1, registry.get("slas.liquidaciones.fsp").tag("rango", "HASTA_4_SMMLV").functionCounter().count());
+		assertEquals(1, registry.get("slas.liquidaciones.fsp").tag("rango", "MAS_DE_4_HASTA_16SMMLV").functionCounter().count());
+	}
+
+	@Test
+	void rechazoSeCuentaPorMotivo() {
+		assertThrows(datosInvalidosException.class,
+				() -> service.calculoSlas(new LiquidacionRequest(1_000_000.0, false, true, null, 1.0)));
+
+		assertEquals(1, registry.get("slas.rechazos").tag("motivo", "CCF_PORCENTAJE_INVALIDO").functionCounter().count());
+		assertEquals(0, registry.get("slas.calculo").timer().count());
+	}
+}
@@ -0,0 +1,123 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+class MotorCalculoExactoTests {
+
+	private final ParametrosAnuales parametros = ParametrosAnuales.desdeConstantes();
+
+	@Test
+	void calcularLoteCoincideConCalculoSlas() {
+		SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of());
+		SplittableRandom aleatorio = new SplittableRandom(11);
+		RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+		int filas = 20_000;
+
+		double[] ingresos = new double[filas];
+		byte[] nivelesArl = new byte[filas];
+		double[] porcentajesCcf = new double[filas];
+		LiquidacionRequest[] solicitudes = new LiquidacionRequest[filas];
+		for (int i = 0; i < filas; i++) {
+			ingresos[i] = aleatorio.nextDouble(1, 150_000_000);
+			RiesgoLaboralARL nivel = i % 6 == 5 ? null : niveles[i % 6];
+			Double ccf = i % 3 == 0 ? null : i % 3 == 1 ? 0.6 : 2.0;
+			nivelesArl[i] = (byte) MotorCalculoExacto.codigoNivel(nivel);
+			porcentajesCcf[i] = ccf == null ? 0.0 : ccf;
+			solicitudes[i] = new LiquidacionRequest(ingresos[i], nivel != null, ccf != null, nivel, ccf);
+		}
+
+		ResultadosLiquidacion resultados = new ResultadosLiquidacion(filas);
+		MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, filas, parametros, resultados);
+
+		for (int i = 0; i < filas; i++) {
+			assertEquals(service.calculoSlas(solicitudes[i]), resultados.aResponse(i), "fila " + i);
+		}
+	}
+
+	@Test
+	void redondeaLaMitadHaciaArribaSinErrorDePuntoFlotante() {
+		// 2.429.000 × 4,35 % = 105.661,5 exacto; en double el producto queda en 105.661,49999999999
+		assertEquals(105_662, MotorCalculoExacto.arl(2_429_000,
+				MotorCalculoExacto.codigoNivel(RiesgoLaboralARL.NIVEL_IV)));
+		// el FSP se liquida en pesos enteros: 18.974.664 × 1 % = 189.746,64
+		assertEquals(189_747, MotorCalculoExacto.fsp(18_974_664, parametros));
+	}
+
+	@Test
+	void ingresosExtremosRespetanPisoYTopeSinDesbordar() {
+		assertEquals(1_750_905, MotorCalculoExacto.ibc(1, parametros.getTarifasExactas()));
+		assertEquals(43_772_625, MotorCalculoExacto.ibc(Long.MAX_VALUE / 10, parametros.getTarifasExactas()));
+		assertEquals(3_200_000, MotorCalculoExacto.ibc(MotorCalculoExacto.centavos(8_000_000),
+				parametros.getTarifasExactas()));
+	}
+
+	@Test
+	void totalesDeUnMillonDeFilasCoincidenAlPesoConBigDecimal() {
+		SplittableRandom aleatorio = new SplittableRandom(7);
+		RiesgoLaboralARL[] niveles = RiesgoLaboralARL.values();
+		int filas = 1_000_000;
+		int tamanoBloque = 10_000;
+		double[] ingresos = new double[tamanoBloque];
+		byte[] nivelesArl = new byte[tamanoBloque];
+		double[] porcentajesCcf = new double[tamanoBloque];
+		ResultadosLiquidacion resultados = new ResultadosLiquidacion(tamanoBloque);
+
+		long total = 0;
+		BigDecimal referencia = BigDecimal.ZERO;
+		for (int inicio = 0; inicio < filas; inicio += tamanoBloque) {
+			for (int i = 0; i < tamanoBloque; i++) {
+				// ingresos con centavos entre medio SMMLV y 300 millones
+				ingresos[i] = aleatorio.nextLong(87_500_000L, 30_000_000_000L) / 100.0;
+				nivelesArl[i] = (byte) (i % (niveles.length + 1));
+				porcentajesCcf[i] = i % 3 == 0 ? 0.0 : i % 3 == 1 ? 0.6 : 2.0;
+			}
+			MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, tamanoBloque, parametros,
+					resultados);
+			for (int i = 0; i < tamanoBloque; i++) {
+				total += (long) resultados.getTotal()[i];
+				referencia = referencia.add(referencia(ingresos[i], nivelesArl[i], porcentajesCcf[i]));
+			}
+		}
+
+		assertEquals(referencia.longValueExact(), total);
+	}
+
+	/** Liquidación de referencia en {@link BigDecimal} con las mismas reglas de redondeo. */
+	private BigDecimal referencia(double ingreso, int nivelArl, double porcentajeCcf) {
+		BigDecimal smmlv = BigDecimal.valueOf(parametros.getSmmlv());
+		BigDecimal base = BigDecimal.valueOf(ingreso).multiply(BigDecimal.valueOf(parametros.getPorcentajeIbc()));
+		BigDecimal ibc;
+		if (base.compareTo(BigDecimal.valueOf(parametros.getMinCalculoIbc())) < 0) {
+			ibc = smmlv;
+		} else if (base.compareTo(BigDecimal.valueOf(parametros.getMaxCalculoIbc())) > 0) {
+			ibc = BigDecimal.valueOf(parametros.getMaxCalculoIbc());
+		} else {
+			ibc = base.setScale(0, RoundingMode.HALF_UP);
+		}
+		BigDecimal arl = nivelArl == MotorCalculoExacto.SIN_ARL ? BigDecimal.ZERO
+				: BigDecimal.valueOf(RiesgoLaboralARL.values()[nivelArl - 1].getPorcentaje()).movePointLeft(2);
+		BigDecimal fsp = BigDecimal.valueOf(parametros.getTablaFsp().porcentaje(ibc.doubleValue()));
+		return aporte(ibc, BigDecimal.valueOf(parametros.getSalud()))
+				.add(aporte(ibc, BigDecimal.valueOf(parametros.getPension())))
+				.add(aporte(ibc, fsp))
+				.add(aporte(ibc, arl))
+				.add(aporte(ibc, BigDecimal.valueOf(porcentajeCcf).movePointLeft(2)));
+	}
+
+	private static BigDecimal aporte(BigDecimal ibc, BigDecimal tarifa) {
+		return ibc.multiply(tarifa).setScale(0, RoundingMode.HALF_UP);
+	}
+}
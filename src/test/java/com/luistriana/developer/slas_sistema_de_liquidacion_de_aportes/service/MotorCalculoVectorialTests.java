@@ -0,0 +1,150 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.AportesFondoSolidarioPensionesFSP;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadosLiquidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+class MotorCalculoVectorialTests {
+
+	private final ParametrosAnuales parametros = ParametrosAnuales.desdeConstantes();
+
+	@Test
+	void lasPruebasCorrenConElNucleoVectorial() {
+		// surefire agrega --add-modules jdk.incubator.vector
+		assertTrue(MotorCalculoVectorial.disponible());
+		assertTrue(MotorCalculoVectorial.carriles() >= 2);
+	}
+
+	@Test
+	void coincideConElMotorExactoEnLosBordesDeCadaRango() {
+		double smmlv = parametros.getSmmlv();
+		double porcentajeIbc = parametros.getPorcentajeIbc();
+		SplittableRandom aleatorio = new SplittableRandom(5);
+		double[] ingresos = new double[4_000];
+		int fila = 0;
+		// piso, tope y cada límite FSP, justo en el borde y a un centavo de cada lado
+		double[] ibcs = new double[AportesFondoSolidarioPensionesFSP.values().length + 1];
+		ibcs[0] = smmlv;
+		ibcs[1] = parametros.getMaxCalculoIbc();
+		for (int rango = 0; rango < ibcs.length - 2; rango++) {
+			ibcs[rango + 2] = AportesFondoSolidarioPensionesFSP.values()[rango].getLimiteSuperiorSmmlv() * smmlv;
+		}
+		for (double ibc : ibcs) {
+			double ingreso = ibc / porcentajeIbc;
+			for (int centavos = -3; centavos <= 3; centavos++) {
+				ingresos[fila++] = ingreso + centavos / 100.0;
+				ingresos[fila++] = Math.nextUp(ingreso + centavos / 100.0);
+				ingresos[fila++] = Math.nextDown(ingreso + centavos / 100.0);
+			}
+		}
+		// IBC terminados en ,5 peso y medios centavos del ingreso
+		while (fila < 2_000) {
+			long pesos = aleatorio.nextLong(1_000_000, 30_000_000);
+			ingresos[fila++] = pesos + 0.25;
+			ingresos[fila++] = pesos + 0.005;
+			ingresos[fila++] = pesos + 1.25;
+		}
+		while (fila < ingresos.length) {
+			ingresos[fila++] = aleatorio.nextDouble(0.001, 1e12);
+		}
+		ingresos[0] = Double.MIN_VALUE;
+		ingresos[1] = 1e300;
+
+		compararConMotorExacto(ingresos);
+	}
+
+	@Test
+	void coincideConElMotorExactoConBloquesIncompletos() {
+		SplittableRandom aleatorio = new SplittableRandom(17);
+		double[] ingresos = new double[1_000];
+		for (int i = 0; i < ingresos.length; i++) {
+			ingresos[i] = aleatorio.nextLong(50_000_000L, 20_000_000_000L) / 100.0;
+		}
+		int filas = ingresos.length;
+		byte[] nivelesArl = niveles(filas);
+		double[] porcentajesCcf = porcentajesCcf(filas);
+
+		for (int desde = 0; desde < 20; desde++) {
+			for (int hasta = filas - 20; hasta <= filas; hasta += 7) {
+				ResultadosLiquidacion escalar = new ResultadosLiquidacion(filas);
+				ResultadosLiquidacion vectorial = new ResultadosLiquidacion(filas);
+				MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, desde, hasta, parametros,
+						escalar);
+				MotorCalculoVectorial.calcularLote(ingresos, nivelesArl, porcentajesCcf, desde, hasta, parametros,
+						vectorial);
+				assertArrayEquals(escalar.getTotal(), vectorial.getTotal(), desde + ".." + hasta);
+				assertArrayEquals(escalar.getIbc(), vectorial.getIbc(), desde + ".." + hasta);
+			}
+		}
+	}
+
+	@Test
+	void coincideConCalculoSlas() {
+		SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of());
+		SplittableRandom aleatorio = new SplittableRandom(23);
+		int filas = 5_000;
+		double[] ingresos = new double[filas];
+		for (int i = 0; i < filas; i++) {
+			ingresos[i] = aleatorio.nextDouble(1, 150_000_000);
+		}
+		byte[] nivelesArl = niveles(filas);
+		double[] porcentajesCcf = porcentajesCcf(filas);
+
+		ResultadosLiquidacion resultados = new ResultadosLiquidacion(filas);
+		MotorCalculoVectorial.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, filas, parametros, resultados);
+
+		RiesgoLaboralARL[] riesgos = RiesgoLaboralARL.values();
+		for (int i = 0; i < filas; i++) {
+			RiesgoLaboralARL nivel = nivelesArl[i] == MotorCalculoExacto.SIN_ARL ? null : riesgos[nivelesArl[i] - 1];
+			Double ccf = porcentajesCcf[i] == 0 ? null : porcentajesCcf[i];
+			LiquidacionRequest request = new LiquidacionRequest(ingresos[i], nivel != null, ccf != null, nivel, ccf);
+			assertEquals(service.calculoSlas(request), resultados.aResponse(i), "fila " + i);
+		}
+	}
+
+	private void compararConMotorExacto(double[] ingresos) {
+		int filas = ingresos.length;
+		byte[] nivelesArl = niveles(filas);
+		double[] porcentajesCcf = porcentajesCcf(filas);
+		ResultadosLiquidacion escalar = new ResultadosLiquidacion(filas);
+		ResultadosLiquidacion vectorial = new ResultadosLiquidacion(filas);
+
+		MotorCalculoExacto.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, filas, parametros, escalar);
+		// suficientes repeticiones para comparar también el código compilado por C2 con intrínsecos
+		for (int repeticion = 0; repeticion < 500; repeticion++) {
+			MotorCalculoVectorial.calcularLote(ingresos, nivelesArl, porcentajesCcf, 0, filas, parametros, vectorial);
+		}
+
+		for (int i = 0; i < filas; i++) {
+			assertEquals(escalar.aResponse(i), vectorial.aResponse(i), "fila " + i + ", ingreso " + ingresos[i]);
+		}
+	}
+
+	private static byte[] niveles(int filas) {
+		byte[] niveles = new byte[filas];
+		for (int i = 0; i < filas; i++) {
+			niveles[i] = (byte) (i % (RiesgoLaboralARL.values().length + 1));
+		}
+		return niveles;
+	}
+
+	private static double[] porcentajesCcf(int filas) {
+		double[] porcentajes = new double[filas];
+		for (int i = 0; i < filas; i++) {
+			porcentajes[i] = i % 3 == 0 ? 0.0 : i % 3 == 1 ? 0.6 : 2.0;
+		}
+		return porcentajes;
+	}
+}
@@ -0,0 +1,229 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+class PilaServiceImplTests {
+
+	private static final YearMonth MARZO = YearMonth.of(2026, 3);
+
+	@TempDir
+	Path directorio;
+
+	private DiarioLiquidaciones diario;
+
+	private final List<LiquidacionResponse> liquidacionesMarzo = new ArrayList<>();
+
+	@BeforeEach
+	void registrarHistorial() {
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(diario));
+		for (int i = 0; i < 30; i++) {
+			YearMonth periodo = i % 3 == 0 ? YearMonth.of(2026, 2) : MARZO;
+			LiquidacionRequest request = new LiquidacionRequest(1_000_000.0 + i * 1_234_567, i % 2 == 0, true,
+					i % 2 == 0 ? RiesgoLaboralARL.NIVEL_IV : null, 2.0, periodo);
+			request.setUsuario(new Usuario(TipoDocumento.CE, "9" + i));
+			LiquidacionResponse liquidacion = slas.calculoSlas(request);
+			if (periodo.equals(MARZO)) {
+				liquidacionesMarzo.add(liquidacion);
+			}
+		}
+		// cierra y reabre para confirmar todos los grupos pendientes
+		diario.cerrar();
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+	}
+
+	@AfterEach
+	void cerrar() {
+		diario.cerrar();
+	}
+
+	@Test
+	void escribeEncabezadoDetallesDelPeriodoYTotales() throws IOException {
+		Path archivo = directorio.resolve("pila-202603.txt");
+
+		long detalles = new PilaServiceImpl(diario, 300).exportar(MARZO, archivo);
+
+		List<String> lineas = List.of(Files.readString(archivo, StandardCharsets.US_ASCII).split("\r\n"));
+		assertEquals(20, detalles);
+		assertEquals(22, lineas.size());
+		for (String linea : lineas) {
+			assertEquals(EscritorPila.ANCHO_LINEA, linea.length());
+		}
+		assertEquals("01I202603", lineas.get(0).substring(0, 9));
+
+		long total = 0;
+		for (int i = 0; i < liquidacionesMarzo.size(); i++) {
+			String linea = lineas.get(i + 1);
+			LiquidacionResponse liquidacion = liquidacionesMarzo.get(i);
+			assertEquals("02", linea.substring(0, 2));
+			assertEquals(i + 1, Integer.parseInt(linea.substring(2, 10)));
+			assertEquals("CE", linea.substring(10, 12));
+			assertTrue(linea.substring(12, 28).matches("9\\d+ +"));
+			assertEquals("202603", linea.substring(28, 34));
+			assertEquals((long) liquidacion.ibc(), Long.parseLong(linea.substring(46, 58)));
+			assertEquals((long) liquidacion.pension(), Long.parseLong(linea.substring(58, 70)));
+			assertEquals((long) liquidacion.salud(), Long.parseLong(linea.substring(70, 82)));
+			assertEquals((long) liquidacion.arl(), Long.parseLong(linea.substring(102, 114)));
+			assertEquals("0.02000", linea.substring(114, 121));
+			assertEquals((long) liquidacion.total(), Long.parseLong(linea.substring(133, 145)));
+			total += (long) liquidacion.total();
+		}
+		assertEquals("0", lineas.get(1).substring(94, 95));
+		assertEquals("4", lineas.get(2).substring(94, 95));
+		assertEquals("0.04350", lineas.get(2).substring(95, 102));
+
+		String totales = lineas.get(21);
+		assertEquals("03", totales.substring(0, 2));
+		assertEquals(20, Integer.parseInt(totales.substring(2, 10)));
+		assertEquals(total, Long.parseLong(totales.substring(100, 115)));
+		assertTrue(Files.notExists(directorio.resolve("pila-202603.txt.tmp")));
+	}
+
+	@Test
+	void unTrabajadorLiquidadoVariasVecesSoloLlevaSuUltimaLiquidacion() throws IOException {
+		YearMonth abril = YearMonth.of(2026, 4);
+		SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(diario));
+		LiquidacionResponse ultima = null;
+		for (double ingreso : new double[] { 2_000_000, 3_000_000, 5_000_000 }) {
+			LiquidacionRequest request = new LiquidacionRequest(ingreso, false, false, null, null, abril);
+			request.setUsuario(new Usuario(TipoDocumento.CC, "100"));
+			ultima = slas.calculoSlas(request);
+			// otro trabajador entre las liquidaciones repetidas; el mismo número con otro tipo de documento
+			LiquidacionRequest otro = new LiquidacionRequest(1_800_000.0, false, false, null, null, abril);
+			otro.setUsuario(new Usuario(ingreso == 2_000_000 ? TipoDocumento.CE : TipoDocumento.CC, "200"));
+			slas.calculoSlas(otro);
+		}
+		LiquidacionRequest cedulaExtranjeria = new LiquidacionRequest(1_800_000.0, false, false, null, null, abril);
+		cedulaExtranjeria.setUsuario(new Usuario(TipoDocumento.CE, "100"));
+		slas.calculoSlas(cedulaExtranjeria);
+		diario.cerrar();
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		long detalles = new PilaServiceImpl(diario, 4096).exportar(abril, Channels.newChannel(salida));
+
+		List<String> lineas = List.of(salida.toString(StandardCharsets.US_ASCII).split("\r\n"));
+		assertEquals(4, detalles);
+		assertEquals(6, lineas.size());
+		assertEquals("CE200", lineas.get(1).substring(10, 28).strip());
+		assertEquals("CC100", lineas.get(2).substring(10, 28).strip());
+		assertEquals("CC200", lineas.get(3).substring(10, 28).strip());
+		assertEquals("CE100", lineas.get(4).substring(10, 28).strip());
+		assertEquals((long) ultima.ibc(), Long.parseLong(lineas.get(2).substring(46, 58)));
+		assertEquals((long) ultima.total(), Long.parseLong(lineas.get(2).substring(133, 145)));
+		assertEquals(4, Integer.parseInt(lineas.get(5).substring(2, 10)));
+	}
+
+	@Test
+	void muchosTrabajadoresConDocumentosDeIgualPrefijoNoSeConfunden() throws IOException {
+		YearMonth mayo = YearMonth.of(2026, 5);
+		SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(diario));
+		// 200 documentos de 16 dígitos que solo difieren en los últimos, liquidados dos veces cada uno
+		LiquidacionResponse ultima = null;
+		for (int vuelta = 0; vuelta < 2; vuelta++) {
+			for (int i = 0; i < 200; i++) {
+				LiquidacionRequest request = new LiquidacionRequest(1_500_000.0 + vuelta * 500_000, false, false,
+						null, null, mayo);
+				request.setUsuario(new Usuario(TipoDocumento.CC, String.format("1234567890%06d", i)));
+				ultima = slas.calculoSlas(request);
+			}
+		}
+		diario.cerrar();
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		long detalles = new PilaServiceImpl(diario, 4096).exportar(mayo, Channels.newChannel(salida));
+
+		List<String> lineas = List.of(salida.toString(StandardCharsets.US_ASCII).split("\r\n"));
+		assertEquals(200, detalles);
+		for (int i = 0; i < 200; i++) {
+			String linea = lineas.get(i + 1);
+			assertEquals(String.format("CC1234567890%06d", i), linea.substring(10, 28));
+			assertEquals((long) ultima.ibc(), Long.parseLong(linea.substring(46, 58)));
+		}
+	}
+
+	@Test
+	void unaLiquidacionQueNoCabeEnLaPlanillaSeOmiteSinAbortarLaExportacion() throws IOException {
+		YearMonth junio = YearMonth.of(2026, 6);
+		SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(diario));
+		long total = 0;
+		for (double ingreso : new double[] { 1_800_000, 2e12, 2_500_000 }) {
+			LiquidacionRequest request = new LiquidacionRequest(ingreso, false, false, null, null, junio);
+			request.setUsuario(new Usuario(TipoDocumento.CC, String.valueOf((long) ingreso)));
+			LiquidacionResponse liquidacion = slas.calculoSlas(request);
+			if (ingreso < 2e12) {
+				total += (long) liquidacion.total();
+			}
+		}
+		diario.cerrar();
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		long detalles = new PilaServiceImpl(diario, 4096).exportar(junio, Channels.newChannel(salida));
+
+		List<String> lineas = List.of(salida.toString(StandardCharsets.US_ASCII).split("\r\n"));
+		assertEquals(2, detalles);
+		assertEquals(4, lineas.size());
+		assertEquals("CC1800000", lineas.get(1).substring(10, 28).strip());
+		assertEquals(2, Integer.parseInt(lineas.get(2).substring(2, 10)));
+		assertEquals("CC2500000", lineas.get(2).substring(10, 28).strip());
+		assertEquals("03", lineas.get(3).substring(0, 2));
+		assertEquals(2, Integer.parseInt(lineas.get(3).substring(2, 10)));
+		assertEquals(total, Long.parseLong(lineas.get(3).substring(100, 115)));
+	}
+
+	@Test
+	void unPeriodoSinLiquidacionesSoloTieneEncabezadoYTotales() throws IOException {
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		long detalles = new PilaServiceImpl(diario, 1 << 20).exportar(YearMonth.of(2024, 1),
+				Channels.newChannel(salida));
+
+		assertEquals(0, detalles);
+		assertEquals(2 * (EscritorPila.ANCHO_LINEA + 2), salida.size());
+	}
+
+	@Test
+	void rechazaValoresQueNoCabenEnSuCampo() throws IOException {
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+		EscritorPila escritor = new EscritorPila(Channels.newChannel(salida), MARZO, 4096);
+		LiquidacionRequest request = new LiquidacionRequest(1e13, false, false, null, null, MARZO);
+		request.setUsuario(new Usuario(TipoDocumento.CC, "123"));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> escritor.detalle(request, new LiquidacionResponse(1e13, 0, 0, 0, 0, 0, 0)));
+		escritor.close();
+
+		assertEquals(0, escritor.detalles());
+		assertEquals(2 * (EscritorPila.ANCHO_LINEA + 2), salida.size());
+	}
+}
@@ -0,0 +1,110 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.config.RelojConfig;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.constants.ConstantesSeguridadSocial;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+
+class RegistroParametrosTests {
+
+	private static final String ANIO_2025 = """
+			[{"anio": 2025, "smmlv": 1423500, "minCalculoIbc": 1423500, "maxCalculoIbc": 35587500,
+			  "porcentajeIbc": 0.40, "salud": 0.125, "pension": 0.16}]
+			""";
+
+	private static final String ANIOS_2025_2026 = """
+			[{"anio": 2025, "smmlv": 1423500, "minCalculoIbc": 1423500, "maxCalculoIbc": 35587500,
+			  "porcentajeIbc": 0.40, "salud": 0.125, "pension": 0.16},
+			 {"anio": 2026, "smmlv": 1750905, "minCalculoIbc": 1750905, "maxCalculoIbc": 43772625,
+			  "porcentajeIbc": 0.40, "salud": 0.125, "pension": 0.16}]
+			""";
+
+	@TempDir
+	Path directorio;
+
+	@Test
+	void predeterminadoCoincideConConstantes() {
+		ParametrosAnuales parametros = RegistroParametros.predeterminado().para(2026);
+
+		assertEquals(ConstantesSeguridadSocial.SMMLV, parametros.getSmmlv());
+		assertEquals(ConstantesSeguridadSocial.MAX_CALCULO_IBC, parametros.getMaxCalculoIbc());
+		assertEquals(ConstantesSeguridadSocial.SALUD, parametros.getSalud());
+		assertEquals(ConstantesSeguridadSocial.PENSION, parametros.getPension());
+	}
+
+	@Test
+	void paraRechazaAnioSinParametros() {
+		assertThrows(datosInvalidosException.class, () -> RegistroParametros.predeterminado().para(1999));
+	}
+
+	@Test
+	void vigentesUsaElAnioEnCursoDeLaZonaDelReloj() throws IOException {
+		// 1 de enero de 2026 a las 3:00 UTC: todavía es 31 de diciembre de 2025 en Bogotá
+		Instant instante = ZonedDateTime.of(2026, 1, 1, 3, 0, 0, 0, ZoneOffset.UTC).toInstant();
+		Path archivo = escribir(ANIOS_2025_2026, 1);
+
+		RegistroParametros bogota = new RegistroParametros(new ObjectMapper(), archivo.toString(),
+				Clock.fixed(instante, ZoneId.of("America/Bogota")));
+		RegistroParametros utc = new RegistroParametros(new ObjectMapper(), archivo.toString(),
+				Clock.fixed(instante, ZoneOffset.UTC));
+
+		assertEquals(2025, bogota.vigentes().getAnio());
+		assertEquals(2025, bogota.paraPeriodo(null).getAnio());
+		assertEquals(2026, utc.vigentes().getAnio());
+	}
+
+	@Test
+	void recargaCuandoCambiaElArchivo() throws IOException {
+		Path archivo = escribir(ANIO_2025, 1);
+		RegistroParametros registro = new RegistroParametros(new ObjectMapper(), archivo.toString(),
+				RelojConfig.relojPredeterminado());
+		ParametrosAnuales anterior = registro.para(2025);
+		assertThrows(datosInvalidosException.class, () -> registro.para(2026));
+
+		escribir(ANIOS_2025_2026, 2);
+		registro.recargarSiCambio();
+
+		assertEquals(1_750_905, registro.para(2026).getSmmlv());
+		assertEquals(2, registro.disponibles().size());
+		// la instancia obtenida antes de la recarga no se modifica
+		assertEquals(1_423_500, anterior.getSmmlv());
+	}
+
+	@Test
+	void conservaParametrosSiLaRecargaFalla() throws IOException {
+		Path archivo = escribir(ANIO_2025, 1);
+		RegistroParametros registro = new RegistroParametros(new ObjectMapper(), archivo.toString(),
+				RelojConfig.relojPredeterminado());
+		ParametrosAnuales anterior = registro.para(2025);
+
+		escribir("[{\"anio\": 2025, \"smmlv\": -1}]", 2);
+		registro.recargarSiCambio();
+
+		assertSame(anterior, registro.para(2025));
+	}
+
+	private Path escribir(String contenido, long segundo) throws IOException {
+		Path archivo = directorio.resolve("parametros.json");
+		Files.writeString(archivo, contenido);
+		Files.setLastModifiedTime(archivo, FileTime.from(Instant.ofEpochSecond(segundo)));
+		return archivo;
+	}
+}
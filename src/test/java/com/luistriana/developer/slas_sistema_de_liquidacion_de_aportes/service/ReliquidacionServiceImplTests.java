@@ -0,0 +1,186 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ParametrosAnuales;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.ReliquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResumenReliquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+class ReliquidacionServiceImplTests {
+
+	/** SMMLV 2026 corregido: sube el piso del IBC y desplaza los rangos del FSP. */
+	private static final ParametrosAnuales CORREGIDO_2026 = new ParametrosAnuales(2026, 1_800_000, 1_800_000,
+			45_000_000, 0.40, 0.125, 0.16);
+
+	private static final double[] INGRESOS = { 1_000_000, 4_000_000, 8_000_000, 20_000_000 };
+
+	@TempDir
+	Path directorio;
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private DiarioLiquidaciones diario;
+
+	private ReliquidacionServiceImpl reliquidacion;
+
+	@BeforeEach
+	void registrarHistorial() {
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		RegistroParametros registro = RegistroParametros.predeterminado();
+		SlasServiceImpl slas = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(), List.of(diario));
+		for (int i = 0; i < 10; i++) {
+			for (double ingreso : INGRESOS) {
+				LiquidacionRequest request = new LiquidacionRequest(ingreso, true, true, RiesgoLaboralARL.NIVEL_I,
+						0.6, i % 2 == 0 ? YearMonth.of(2026, 3) : YearMonth.of(2025, 5));
+				request.setUsuario(new Usuario(TipoDocumento.CC, "T" + i));
+				slas.calculoSlas(request);
+			}
+		}
+		// cierra y reabre para confirmar todos los grupos pendientes
+		diario.cerrar();
+		diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(), 1024, 64);
+		reliquidacion = new ReliquidacionServiceImpl(diario, registro, mapper, 2, 3, true);
+	}
+
+	@AfterEach
+	void cerrar() {
+		reliquidacion.cerrar();
+		diario.cerrar();
+	}
+
+	@Test
+	void sinCambiosDeParametrosNoHayDiferencias() throws IOException {
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		ResumenReliquidacionResponse resumen = reliquidacion.reliquidar(new ReliquidacionRequest(), salida);
+
+		assertEquals(40, resumen.filas());
+		assertEquals(0, resumen.filasCambiadas());
+		assertEquals(0.0, resumen.diferencia().total());
+		assertEquals(1, lineas(salida).size());
+	}
+
+	@Test
+	void emiteSoloLasFilasCambiadasEnOrdenDeRegistro() throws IOException {
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		ResumenReliquidacionResponse resumen = reliquidacion.reliquidar(
+				new ReliquidacionRequest(null, null, List.of(CORREGIDO_2026)), salida);
+
+		// 2025 no cambia; en 2026 cambian los ingresos cuyo IBC queda bajo el nuevo piso (1M y 4M)
+		assertEquals(40, resumen.filas());
+		assertEquals(10, resumen.filasCambiadas());
+		List<JsonNode> lineas = lineas(salida);
+		assertEquals(resumen.filasCambiadas() + 1, lineas.size());
+		int anterior = -1;
+		double diferenciaTotal = 0;
+		for (JsonNode fila : lineas.subList(0, lineas.size() - 1)) {
+			assertEquals("2026-03", fila.get("periodo").asText());
+			int registro = fila.get("registro").asInt();
+			assertTrue(registro > anterior);
+			anterior = registro;
+			diferenciaTotal += fila.get("nueva").get("total").asDouble() - fila.get("anterior").get("total").asDouble();
+		}
+		assertEquals(diferenciaTotal, resumen.diferencia().total());
+		assertEquals(resumen.nueva().total() - resumen.anterior().total(), resumen.diferencia().total());
+		assertEquals(resumen.filasCambiadas(), lineas.get(lineas.size() - 1).get("resumen").get("filasCambiadas")
+				.asLong());
+	}
+
+	@Test
+	void respetaElRangoDePeriodos() throws IOException {
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		ResumenReliquidacionResponse resumen = reliquidacion.reliquidar(new ReliquidacionRequest(
+				YearMonth.of(2025, 1), YearMonth.of(2025, 12), List.of(CORREGIDO_2026)), salida);
+
+		assertEquals(20, resumen.filas());
+		assertEquals(0, resumen.filasCambiadas());
+	}
+
+	@Test
+	void unAnioLejanoNoReservaUnaTablaPorCadaAnioIntermedio() throws IOException {
+		ParametrosAnuales lejano = new ParametrosAnuales(2_000_000_000, 1_800_000, 1_800_000, 45_000_000, 0.40, 0.125,
+				0.16);
+		ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+		ResumenReliquidacionResponse resumen = reliquidacion.reliquidar(
+				new ReliquidacionRequest(null, null, List.of(lejano, CORREGIDO_2026)), salida);
+
+		assertEquals(40, resumen.filas());
+		assertEquals(10, resumen.filasCambiadas());
+	}
+
+	@Test
+	void elNucleoVectorialEmiteLoMismoQueElCicloEscalar() throws IOException {
+		YearMonth[] periodos = { YearMonth.of(2026, 3), YearMonth.of(2025, 5), YearMonth.of(2025, 8) };
+		RiesgoLaboralARL[] riesgos = RiesgoLaboralARL.values();
+		DiarioLiquidaciones largo = new DiarioLiquidaciones(directorio.resolve("largo.diario").toString(), 1024, 64);
+		SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+				MetricasLiquidacion.sinRegistro(), List.of(largo));
+		for (int i = 0; i < 600; i++) {
+			RiesgoLaboralARL riesgo = riesgos[i % riesgos.length];
+			LiquidacionRequest request = new LiquidacionRequest(900_000 + i * 51_337.5, true, i % 3 != 0, riesgo,
+					i % 3 == 0 ? null : i % 3 == 1 ? 0.6 : 2.0, periodos[i / 50 % periodos.length]);
+			request.setUsuario(new Usuario(TipoDocumento.CC, "L" + i));
+			slas.calculoSlas(request);
+		}
+		largo.cerrar();
+		largo = new DiarioLiquidaciones(directorio.resolve("largo.diario").toString(), 1024, 64);
+		// 2025-05 queda fuera del rango: corta los tramos de 2025-08 y 2026-03
+		ReliquidacionRequest solicitud = new ReliquidacionRequest(YearMonth.of(2025, 6), null,
+				List.of(CORREGIDO_2026));
+		RegistroParametros registro = RegistroParametros.predeterminado();
+		ReliquidacionServiceImpl vectorial = new ReliquidacionServiceImpl(largo, registro, mapper, 2, 256, true);
+		ReliquidacionServiceImpl escalar = new ReliquidacionServiceImpl(largo, registro, mapper, 2, 256, false);
+		try {
+			ByteArrayOutputStream salidaVectorial = new ByteArrayOutputStream();
+			ByteArrayOutputStream salidaEscalar = new ByteArrayOutputStream();
+
+			ResumenReliquidacionResponse resumen = vectorial.reliquidar(solicitud, salidaVectorial);
+			ResumenReliquidacionResponse esperado = escalar.reliquidar(solicitud, salidaEscalar);
+
+			assertEquals(400, resumen.filas());
+			assertTrue(resumen.filasCambiadas() > 0);
+			assertEquals(esperado.filasCambiadas(), resumen.filasCambiadas());
+			assertEquals(esperado.nueva(), resumen.nueva());
+			assertEquals(esperado.anterior(), resumen.anterior());
+			List<JsonNode> lineas = lineas(salidaVectorial);
+			List<JsonNode> lineasEsperadas = lineas(salidaEscalar);
+			assertEquals(lineasEsperadas.subList(0, lineasEsperadas.size() - 1), lineas.subList(0, lineas.size() - 1));
+		} finally {
+			vectorial.cerrar();
+			escalar.cerrar();
+			largo.cerrar();
+		}
+	}
+
+	private List<JsonNode> lineas(ByteArrayOutputStream salida) throws IOException {
+		return mapper.readerFor(JsonNode.class)
+				.<JsonNode>readValues(salida.toString(StandardCharsets.UTF_8))
+				.readAll();
+	}
+}
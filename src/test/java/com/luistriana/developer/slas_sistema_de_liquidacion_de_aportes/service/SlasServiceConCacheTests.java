@@ -0,0 +1,89 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.EstadisticasCacheResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SlasServiceConCacheTests {
+
+	private final RegistroParametros registro = RegistroParametros.predeterminado();
+	private final SlasServiceImpl delegado = new SlasServiceImpl(registro,
+			MetricasLiquidacion.sinRegistro(), List.of());
+	private final SimpleMeterRegistry metricas = new SimpleMeterRegistry();
+	private final SlasServiceConCache service = new SlasServiceConCache(delegado, registro, 1_000,
+			Duration.ofMinutes(10), metricas);
+
+	@Test
+	void solicitudRepetidaSeResuelveDesdeLaCache() {
+		LiquidacionRequest request = new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0);
+
+		assertEquals(delegado.calculoSlas(request), service.calculoSlas(request));
+		assertEquals(delegado.calculoSlas(request), service.calculoSlas(request));
+
+		EstadisticasCacheResponse estadisticas = service.estadisticas();
+		assertEquals(1, estadisticas.aciertos());
+		assertEquals(1, estadisticas.fallos());
+		assertEquals(1, metricas.get("cache.gets").tags("cache", "slas.cache", "result", "hit").functionCounter()
+				.count());
+		assertEquals(1, metricas.get("cache.gets").tags("cache", "slas.cache", "result", "miss").functionCounter()
+				.count());
+	}
+
+	@Test
+	void losObservadoresSeNotificanEnAciertosYFallos() {
+		AtomicInteger notificadas = new AtomicInteger();
+		SlasServiceImpl observado = new SlasServiceImpl(registro, MetricasLiquidacion.sinRegistro(),
+				List.of((request, parametros, liquidacion) -> notificadas.incrementAndGet()));
+		SlasServiceConCache conCache = new SlasServiceConCache(observado, registro, 1_000, Duration.ofMinutes(10),
+				new SimpleMeterRegistry());
+		LiquidacionRequest request = new LiquidacionRequest(3_000_000.0, false, false, null, null);
+
+		conCache.calculoSlas(request);
+		conCache.calculoSlas(request);
+		conCache.calculoSlasFila(0, request, false);
+
+		assertEquals(2, notificadas.get());
+	}
+
+	@Test
+	void ingresosBajoElPisoYSobreElTopeCompartenEntrada() {
+		for (double ingreso : new double[] { 100_000, 1_000_000, 3_000_000, 200_000_000, 500_000_000 }) {
+			LiquidacionRequest request = new LiquidacionRequest(ingreso, false, false, null, null);
+			assertEquals(delegado.calculoSlas(request), service.calculoSlas(request));
+		}
+
+		assertEquals(2, service.estadisticas().tamano());
+		assertEquals(3, service.estadisticas().aciertos());
+	}
+
+	@Test
+	void elAnioDelPeriodoFormaParteDeLaClave() {
+		LiquidacionRequest actual = new LiquidacionRequest(2_000_000.0, false, false, null, null, YearMonth.of(2026, 1));
+		LiquidacionRequest anterior = new LiquidacionRequest(2_000_000.0, false, false, null, null, YearMonth.of(2024, 1));
+
+		assertEquals(delegado.calculoSlas(actual), service.calculoSlas(actual));
+		assertEquals(delegado.calculoSlas(anterior), service.calculoSlas(anterior));
+		assertEquals(0, service.estadisticas().aciertos());
+	}
+
+	@Test
+	void solicitudInvalidaNoSeAlmacena() {
+		assertThrows(datosInvalidosException.class,
+				() -> service.calculoSlas(new LiquidacionRequest(2_000_000.0, true, false, null, null)));
+
+		assertEquals(0, service.estadisticas().tamano());
+	}
+}
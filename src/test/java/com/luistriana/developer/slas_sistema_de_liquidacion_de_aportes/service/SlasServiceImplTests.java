@@ -0,0 +1,93 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.datosInvalidosException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+
+class SlasServiceImplTests {
+
+	private final SlasServiceImpl service = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of());
+
+	@Test
+	void calculoSlasCasoCompleto() {
+		LiquidacionResponse response = service.calculoSlas(
+				new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0));
+
+		assertEquals(new LiquidacionResponse(3_200_000, 400_000, 512_000, 0, 77_952, 64_000, 1_053_952), response);
+	}
+
+	@Test
+	void calculoSlasRechazaIngresoNoPositivo() {
+		assertThrows(datosInvalidosException.class,
+				() -> service.calculoSlas(new LiquidacionRequest(0.0, false, false, null, null)));
+	}
+
+	@Test
+	void calculoSlasLanzaExcepcionSinTrazaConTodasLasViolaciones() {
+		datosInvalidosException e = assertThrows(datosInvalidosException.class,
+				() -> service.calculoSlas(new LiquidacionRequest(0.0, true, false, null, null)));
+
+		assertEquals(0, e.getStackTrace().length);
+		assertEquals(List.of(MotivoRechazo.INGRESO_NO_POSITIVO, MotivoRechazo.ARL_SIN_NIVEL),
+				e.getValidacion().getMotivos());
+	}
+
+	@Test
+	void calculoSlasFilaReportaRechazoSinExcepcion() {
+		ResultadoLoteResponse resultado = service.calculoSlasFila(4,
+				new LiquidacionRequest(2_000_000.0, false, false, null, null, YearMonth.of(2019, 1)));
+
+		assertEquals(4, resultado.indice());
+		assertNull(resultado.liquidacion());
+		assertEquals(MotivoRechazo.PERIODO_SIN_PARAMETROS.getMensaje(), resultado.error());
+	}
+
+	@Test
+	void calculoSlasUsaParametrosDelPeriodo() {
+		LiquidacionResponse response = service.calculoSlas(
+				new LiquidacionRequest(2_000_000.0, false, false, null, null, YearMonth.of(2024, 6)));
+
+		assertEquals(new LiquidacionResponse(1_300_000, 162_500, 208_000, 0, 0, 0, 370_500), response);
+	}
+
+	@Test
+	void calculoSlasRechazaPeriodoSinParametros() {
+		assertThrows(datosInvalidosException.class, () -> service.calculoSlas(
+				new LiquidacionRequest(2_000_000.0, false, false, null, null, YearMonth.of(2019, 1))));
+	}
+
+	@Test
+	void calculoSlasLoteContinuaTrasFilaInvalida() {
+		List<LiquidacionRequest> lote = Arrays.asList(
+				new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0),
+				new LiquidacionRequest(3_000_000.0, true, false, null, null),
+				null,
+				new LiquidacionRequest(2_000_000.0, false, false, null, null));
+
+		List<ResultadoLoteResponse> resultados = service.calculoSlasLote(lote);
+
+		assertEquals(4, resultados.size());
+		assertNotNull(resultados.get(0).liquidacion());
+		assertNull(resultados.get(0).error());
+		assertNotNull(resultados.get(1).error());
+		assertNotNull(resultados.get(2).error());
+		assertEquals(3, resultados.get(3).indice());
+		assertNotNull(resultados.get(3).liquidacion());
+	}
+
+}
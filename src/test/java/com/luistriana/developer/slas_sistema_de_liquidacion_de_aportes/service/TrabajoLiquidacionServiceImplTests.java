@@ -0,0 +1,287 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoSaturacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.servicioSaturadoException;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.EstadoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.FormatoTrabajo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.LiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.ResultadoLoteResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TotalesLiquidacionResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.response.TrabajoResponse;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.repository.DiarioLiquidaciones;
+
+class TrabajoLiquidacionServiceImplTests {
+
+	private static final String NDJSON = """
+			{"ingresosMensual": 8000000, "aporteARL": true, "nivelRiesgo": "NIVEL_III", "aportaCCF": true, "porcentajeCCF": 2.0}
+			{"ingresosMensual": 3000000, "aporteARL": false, "aportaCCF": false}
+			no es json
+			{"ingresosMensual": 1200000, "aporteARL": false, "aportaCCF": false}
+
+			{"ingresosMensual": 25000000, "aporteARL": true, "nivelRiesgo": "NIVEL_I", "aportaCCF": true, "porcentajeCCF": 0.6}
+			{"ingresosMensual": 8000000, "aporteARL": false, "aportaCCF": false}
+			{"ingresosMensual": 90000000, "aporteARL": false, "aportaCCF": true, "porcentajeCCF": 2.0}
+			""";
+
+	@TempDir
+	Path directorio;
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private final SlasServiceImpl slas = new SlasServiceImpl(RegistroParametros.predeterminado(),
+			MetricasLiquidacion.sinRegistro(), List.of());
+
+	private TrabajoLiquidacionServiceImpl trabajos;
+
+	@AfterEach
+	void cerrar() {
+		if (trabajos != null) {
+			trabajos.cerrar();
+		}
+	}
+
+	@Test
+	void liquidaPorPartesYUneElResultadoEnOrden() throws Exception {
+		trabajos = new TrabajoLiquidacionServiceImpl(slas, Optional.empty(), mapper, directorio.toString(), 2, 3, 1, 4);
+
+		TrabajoResponse enviado = trabajos.enviar(entrada(NDJSON), FormatoTrabajo.NDJSON);
+		TrabajoResponse terminado = esperar(enviado.id());
+
+		assertEquals(EstadoTrabajo.COMPLETADO, terminado.estado());
+		assertEquals(7, terminado.filasProcesadas());
+		assertEquals(1, terminado.filasConError());
+		assertEquals(3, terminado.partesCompletas());
+		TotalesLiquidacionResponse esperados = new LiquidacionStreamServiceImpl(slas, mapper)
+				.procesarNdjson(entrada(NDJSON), OutputStream.nullOutputStream());
+		assertEquals(esperados, terminado.totales());
+
+		List<JsonNode> lineas = lineas(trabajos.resultado(enviado.id()).orElseThrow());
+		assertEquals(8, lineas.size());
+		for (int i = 0; i < 7; i++) {
+			assertEquals(i, lineas.get(i).get("indice").asInt());
+		}
+		assertTrue(lineas.get(2).has("error"));
+		assertEquals(esperados.total(), lineas.get(7).get("totales").get("total").asDouble());
+		try (var archivos = Files.list(directorio.resolve(enviado.id()))) {
+			assertFalse(archivos.anyMatch(archivo -> archivo.getFileName().toString().startsWith("parte-")));
+		}
+	}
+
+	@Test
+	void liquidaArchivosCsvConEncabezado() throws Exception {
+		trabajos = new TrabajoLiquidacionServiceImpl(slas, Optional.empty(), mapper, directorio.toString(), 1, 2, 0, 4);
+		String csv = """
+				ingresosMensual,aporteARL,aportaCCF,nivelRiesgo,porcentajeCCF
+				8000000,true,true,NIVEL_III,2.0
+				3000000,false,false,,
+				-1,false,false,,
+				""";
+
+		TrabajoResponse terminado = esperar(trabajos.enviar(entrada(csv), FormatoTrabajo.CSV).id());
+
+		assertEquals(EstadoTrabajo.COMPLETADO, terminado.estado());
+		assertEquals(3, terminado.filasProcesadas());
+		assertEquals(1, terminado.filasConError());
+		assertEquals(new LiquidacionStreamServiceImpl(slas, mapper).procesarCsv(entrada(csv),
+				OutputStream.nullOutputStream()), terminado.totales());
+	}
+
+	@Test
+	void reanudaSinRecalcularLasPartesYaEscritas() throws Exception {
+		// una ejecución anterior alcanzó a escribir la primera parte (filas 0 a 2)
+		Path carpeta = Files.createDirectories(directorio.resolve("previo"));
+		Files.writeString(carpeta.resolve(FormatoTrabajo.NDJSON.getArchivo()), NDJSON);
+		Files.writeString(carpeta.resolve("parte-000000.ndjson"), "{\"marca\":0}\n{\"marca\":1}\n{\"marca\":2}\n");
+		Files.write(carpeta.resolve("parte-000000.totales.json"),
+				mapper.writeValueAsBytes(new TotalesLiquidacionResponse(3, 0, 1, 1, 1, 1, 1, 5)));
+
+		trabajos = new TrabajoLiquidacionServiceImpl(slas, Optional.empty(), mapper, directorio.toString(), 2, 3, 1, 4);
+		TrabajoResponse terminado = esperar("previo");
+
+		assertEquals(EstadoTrabajo.COMPLETADO, terminado.estado());
+		assertEquals(7, terminado.filasProcesadas());
+		List<JsonNode> lineas = lineas(trabajos.resultado("previo").orElseThrow());
+		assertEquals(8, lineas.size());
+		assertEquals(2, lineas.get(2).get("marca").asInt());
+		assertEquals(3, lineas.get(3).get("indice").asInt());
+		LiquidacionRequest cuarta = mapper.readValue(NDJSON.lines().filter(linea -> !linea.isBlank()).toList().get(3),
+				LiquidacionRequest.class);
+		assertEquals(slas.calculoSlasFila(3, cuarta), mapper.treeToValue(lineas.get(3), ResultadoLoteResponse.class));
+
+		// al reiniciar de nuevo el trabajo aparece completado sin volver a ejecutarse
+		trabajos.cerrar();
+		trabajos = new TrabajoLiquidacionServiceImpl(slas, Optional.empty(), mapper, directorio.toString(), 2, 3, 1, 4);
+		assertEquals(terminado.totales(), trabajos.consultar("previo").orElseThrow().totales());
+	}
+
+	@Test
+	void noRegistraDosVecesEnElDiarioLasFilasDeUnaParteInterrumpida() throws Exception {
+		String ndjson = """
+				{"ingresosMensual": 8000000, "aporteARL": false, "aportaCCF": false, "usuario": {"tipoDocumento": "CC", "numeroDocumento": "1"}}
+				{"ingresosMensual": -1, "aporteARL": false, "aportaCCF": false, "usuario": {"tipoDocumento": "CC", "numeroDocumento": "2"}}
+				{"ingresosMensual": 3000000, "aporteARL": false, "aportaCCF": false, "usuario": {"tipoDocumento": "CC", "numeroDocumento": "3"}}
+				{"ingresosMensual": 5000000, "aporteARL": false, "aportaCCF": false}
+				{"ingresosMensual": 8000000, "aporteARL": false, "aportaCCF": false, "usuario": {"tipoDocumento": "CC", "numeroDocumento": "1"}}
+				""";
+		List<String> filas = ndjson.lines().toList();
+		DiarioLiquidaciones diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(),
+				64, 16);
+		try {
+			SlasServiceImpl conDiario = new SlasServiceImpl(RegistroParametros.predeterminado(),
+					MetricasLiquidacion.sinRegistro(), List.of(diario));
+			// una liquidación ajena a la parte y, después, la primera fila de la parte antes de la caída
+			conDiario.calculoSlas(mapper.readValue(filas.get(2), LiquidacionRequest.class));
+			Path carpeta = Files.createDirectories(directorio.resolve("trabajos").resolve("previo"));
+			Files.writeString(carpeta.resolve(FormatoTrabajo.NDJSON.getArchivo()), ndjson);
+			Files.writeString(carpeta.resolve("parte-000000.diario"), "1");
+			conDiario.calculoSlasFila(0, mapper.readValue(filas.get(0), LiquidacionRequest.class));
+			esperarRegistros(diario, 2);
+
+			trabajos = new TrabajoLiquidacionServiceImpl(conDiario, Optional.of(diario), mapper,
+					directorio.resolve("trabajos").toString(), 1, 10, 0, 4);
+			TrabajoResponse terminado = esperar("previo");
+
+			assertEquals(EstadoTrabajo.COMPLETADO, terminado.estado());
+			assertEquals(1, terminado.filasConError());
+			// la fila 0 ya estaba registrada; se agregan la 2 y la 4 (mismo trabajador e ingreso que la 0)
+			// espera un registro de más, que no debe llegar
+			esperarRegistros(diario, 5);
+			assertEquals(4, diario.registros());
+			assertEquals(2, diario.porTrabajador(TipoDocumento.CC, "1").size());
+			assertEquals(2, diario.porTrabajador(TipoDocumento.CC, "3").size());
+		} finally {
+			diario.cerrar();
+		}
+	}
+
+	@Test
+	void unaLiquidacionAjenaDelMismoTrabajadorEIngresoNoOcultaUnaFilaSinRegistrar() throws Exception {
+		String fila = """
+				{"ingresosMensual": 4000000, "aporteARL": false, "aportaCCF": false, "periodo": "2026-03", "usuario": {"tipoDocumento": "CC", "numeroDocumento": "7"}}
+				""";
+		DiarioLiquidaciones diario = new DiarioLiquidaciones(directorio.resolve("liquidaciones.diario").toString(),
+				64, 16);
+		try {
+			SlasServiceImpl conDiario = new SlasServiceImpl(RegistroParametros.predeterminado(),
+					MetricasLiquidacion.sinRegistro(), List.of(diario));
+			Path carpeta = Files.createDirectories(directorio.resolve("trabajos").resolve("previo"));
+			Files.writeString(carpeta.resolve(FormatoTrabajo.NDJSON.getArchivo()), fila);
+			Files.writeString(carpeta.resolve("parte-000000.diario"), "0");
+			// después de la marca, el API registra al mismo trabajador con el mismo ingreso en otro
+			// periodo y con ARL; la fila de la parte no alcanzó a registrarse
+			LiquidacionRequest otroPeriodo = mapper.readValue(fila, LiquidacionRequest.class);
+			otroPeriodo.setPeriodo(YearMonth.of(2025, 5));
+			conDiario.calculoSlas(otroPeriodo);
+			LiquidacionRequest conArl = mapper.readValue(fila, LiquidacionRequest.class);
+			conArl.setAporteARL(true);
+			conArl.setNivelRiesgo(RiesgoLaboralARL.NIVEL_I);
+			conDiario.calculoSlas(conArl);
+			esperarRegistros(diario, 2);
+
+			trabajos = new TrabajoLiquidacionServiceImpl(conDiario, Optional.of(diario), mapper,
+					directorio.resolve("trabajos").toString(), 1, 10, 0, 4);
+			TrabajoResponse terminado = esperar("previo");
+
+			assertEquals(EstadoTrabajo.COMPLETADO, terminado.estado());
+			esperarRegistros(diario, 3);
+			assertEquals(3, diario.registros());
+			assertEquals(2, diario.porPeriodo(YearMonth.of(2026, 3)).size());
+		} finally {
+			diario.cerrar();
+		}
+	}
+
+	@Test
+	void rechazaTrabajosCuandoHayDemasiadosPendientes() throws Exception {
+		CountDownLatch liberar = new CountDownLatch(1);
+		SlasService bloqueado = new SlasService() {
+			@Override
+			public LiquidacionResponse calculoSlas(LiquidacionRequest request) {
+				return slas.calculoSlas(request);
+			}
+
+			@Override
+			public List<ResultadoLoteResponse> calculoSlasLote(List<LiquidacionRequest> requests) {
+				return slas.calculoSlasLote(requests);
+			}
+
+			@Override
+			public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request) {
+				try {
+					liberar.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return slas.calculoSlasFila(indice, request);
+			}
+
+			@Override
+			public ResultadoLoteResponse calculoSlasFila(int indice, LiquidacionRequest request, boolean notificar) {
+				return calculoSlasFila(indice, request);
+			}
+		};
+		trabajos = new TrabajoLiquidacionServiceImpl(bloqueado, Optional.empty(), mapper, directorio.toString(), 1, 3, 0, 1);
+
+		String id = trabajos.enviar(entrada(NDJSON), FormatoTrabajo.NDJSON).id();
+		servicioSaturadoException saturado = assertThrows(servicioSaturadoException.class,
+				() -> trabajos.enviar(entrada(NDJSON), FormatoTrabajo.NDJSON));
+		assertEquals(MotivoSaturacion.TRABAJOS_SATURADOS, saturado.getMotivo());
+
+		liberar.countDown();
+		assertEquals(EstadoTrabajo.COMPLETADO, esperar(id).estado());
+		assertEquals(EstadoTrabajo.COMPLETADO,
+				esperar(trabajos.enviar(entrada(NDJSON), FormatoTrabajo.NDJSON).id()).estado());
+	}
+
+	private TrabajoResponse esperar(String id) throws InterruptedException {
+		for (int intento = 0; intento < 1_000; intento++) {
+			TrabajoResponse trabajo = trabajos.consultar(id).orElseThrow();
+			if (trabajo.estado() == EstadoTrabajo.COMPLETADO || trabajo.estado() == EstadoTrabajo.FALLIDO) {
+				return trabajo;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError("El trabajo " + id + " no terminó");
+	}
+
+	private static void esperarRegistros(DiarioLiquidaciones diario, int registros) throws InterruptedException {
+		for (int intento = 0; intento < 100 && diario.registros() < registros; intento++) {
+			Thread.sleep(10);
+		}
+	}
+
+	private List<JsonNode> lineas(Path archivo) throws IOException {
+		return mapper.readerFor(JsonNode.class).<JsonNode>readValues(archivo.toFile()).readAll();
+	}
+
+	private static InputStream entrada(String contenido) {
+		return new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8));
+	}
+}
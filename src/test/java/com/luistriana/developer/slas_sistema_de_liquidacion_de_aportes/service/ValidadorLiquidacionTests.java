@@ -0,0 +1,62 @@
+package com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.exception.MotivoRechazo;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.ResultadoValidacion;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.RiesgoLaboralARL;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.TipoDocumento;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.Usuario;
+import com.luistriana.developer.slas_sistema_de_liquidacion_de_aportes.model.dtos.request.LiquidacionRequest;
+
+class ValidadorLiquidacionTests {
+
+	@Test
+	void solicitudValidaRetornaInstanciaCompartida() {
+		assertSame(ResultadoValidacion.VALIDO, ValidadorLiquidacion.validar(
+				new LiquidacionRequest(8_000_000.0, true, true, RiesgoLaboralARL.NIVEL_III, 2.0)));
+	}
+
+	@Test
+	void reportaTodasLasViolacionesEnUnaPasada() {
+		ResultadoValidacion validacion = ValidadorLiquidacion.validar(
+				new LiquidacionRequest(-5.0, true, false, null, 2.0));
+
+		assertEquals(List.of(MotivoRechazo.INGRESO_NO_POSITIVO, MotivoRechazo.CCF_PORCENTAJE_SIN_APORTE,
+				MotivoRechazo.ARL_SIN_NIVEL), validacion.getMotivos());
+		assertEquals("El ingreso debe ser mayor a cero; No puede enviar porcentaje si aportaCCF es false; "
+				+ "Si aporta a ARL, debe especificar nivel de riesgo", validacion.mensaje());
+	}
+
+	@Test
+	void camposObligatoriosNoImpidenLasDemasReglas() {
+		ResultadoValidacion validacion = ValidadorLiquidacion.validar(
+				new LiquidacionRequest(null, false, true, RiesgoLaboralARL.NIVEL_I, 1.0));
+
+		assertEquals(List.of(MotivoRechazo.CAMPOS_OBLIGATORIOS, MotivoRechazo.CCF_PORCENTAJE_INVALIDO,
+				MotivoRechazo.ARL_NIVEL_SIN_APORTE), validacion.getMotivos());
+	}
+
+	@Test
+	void solicitudNulaEsCampoObligatorio() {
+		assertEquals(List.of(MotivoRechazo.CAMPOS_OBLIGATORIOS), ValidadorLiquidacion.validar(null).getMotivos());
+	}
+
+	@Test
+	void usuarioRequiereDocumentoAlfanumericoDeHasta16Caracteres() {
+		LiquidacionRequest request = new LiquidacionRequest(8_000_000.0, false, false, null, null);
+		request.setUsuario(new Usuario(TipoDocumento.CC, "1020304050"));
+		assertSame(ResultadoValidacion.VALIDO, ValidadorLiquidacion.validar(request));
+
+		for (Usuario invalido : new Usuario[] { new Usuario(null, "1"), new Usuario(TipoDocumento.CC, ""),
+				new Usuario(TipoDocumento.CE, "12345678901234567"), new Usuario(TipoDocumento.PA, "AB-12") }) {
+			request.setUsuario(invalido);
+			assertEquals(List.of(MotivoRechazo.USUARIO_INVALIDO), ValidadorLiquidacion.validar(request).getMotivos());
+		}
+	}
+}